@@ -0,0 +1,32 @@
+package com.pragma.franchise.benchmark;
+
+import com.pragma.franchise.domain.model.TopStockProduct;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos de prueba con el tamaño de una respuesta real del top de stock de una franquicia grande.
+ */
+final class BenchmarkData {
+
+    static final int TOP_STOCK_ROWS = 10_000;
+
+    private BenchmarkData() {
+    }
+
+    static List<TopStockProduct> topStockProducts() {
+        List<TopStockProduct> products = new ArrayList<>(TOP_STOCK_ROWS);
+        for (int i = 0; i < TOP_STOCK_ROWS; i++) {
+            long branchId = i / 5 + 1L;
+            products.add(TopStockProduct.builder()
+                    .branchId(branchId)
+                    .branchName("Sucursal " + branchId)
+                    .productId(i + 1L)
+                    .productName("Producto " + (i + 1))
+                    .stock(10_000 - i)
+                    .build());
+        }
+        return products;
+    }
+}
@@ -0,0 +1,148 @@
+package com.pragma.franchise.benchmark;
+
+import com.pragma.franchise.domain.model.Branch;
+import com.pragma.franchise.domain.model.Franchise;
+import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.model.TopStockProduct;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity.BranchEntity;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity.FranchiseEntity;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity.ProductEntity;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.mapper.BranchEntityMapper;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.mapper.FranchiseEntityMapper;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.mapper.ProductEntityMapper;
+import com.pragma.franchise.infrastructure.entrypoints.branch.dto.BranchRequestDTO;
+import com.pragma.franchise.infrastructure.entrypoints.branch.dto.BranchResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.branch.mapper.BranchMapper;
+import com.pragma.franchise.infrastructure.entrypoints.franchise.dto.FranchiseRequestDTO;
+import com.pragma.franchise.infrastructure.entrypoints.franchise.dto.FranchiseResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.franchise.mapper.FranchiseMapper;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductRequestDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.TopStockProductResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.mapper.ProductMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de los mappers de MapStruct en el camino de cada petición: DTO -> modelo -> entidad y vuelta.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final ProductMapper productMapper = Mappers.getMapper(ProductMapper.class);
+    private final BranchMapper branchMapper = Mappers.getMapper(BranchMapper.class);
+    private final FranchiseMapper franchiseMapper = Mappers.getMapper(FranchiseMapper.class);
+    private final ProductEntityMapper productEntityMapper = Mappers.getMapper(ProductEntityMapper.class);
+    private final BranchEntityMapper branchEntityMapper = Mappers.getMapper(BranchEntityMapper.class);
+    private final FranchiseEntityMapper franchiseEntityMapper = Mappers.getMapper(FranchiseEntityMapper.class);
+
+    private ProductRequestDTO productRequest;
+    private BranchRequestDTO branchRequest;
+    private FranchiseRequestDTO franchiseRequest;
+    private Product product;
+    private Branch branch;
+    private Franchise franchise;
+    private ProductEntity productEntity;
+    private BranchEntity branchEntity;
+    private FranchiseEntity franchiseEntity;
+    private List<TopStockProduct> topStockProducts;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        productRequest = new ProductRequestDTO("Producto 1", 120, 7L);
+        branchRequest = new BranchRequestDTO("Sucursal Centro", 3L);
+        franchiseRequest = new FranchiseRequestDTO("Franquicia Norte");
+        product = new Product(1L, "Producto 1", 120, 7L, now, now, 0L);
+        branch = new Branch(7L, "Sucursal Centro", 3L, now, now, 0L);
+        franchise = new Franchise(3L, "Franquicia Norte", now, now, 0L);
+        productEntity = productEntityMapper.toEntity(product);
+        branchEntity = branchEntityMapper.toEntity(branch);
+        franchiseEntity = franchiseEntityMapper.toEntity(franchise);
+        topStockProducts = BenchmarkData.topStockProducts();
+    }
+
+    @Benchmark
+    public Product productRequestToModel() {
+        return productMapper.toModel(productRequest);
+    }
+
+    @Benchmark
+    public ProductResponseDTO productToResponse() {
+        return productMapper.toResponseDto(product);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<TopStockProductResponseDTO> topStockToResponse() {
+        return productMapper.toResponseDto(topStockProducts);
+    }
+
+    @Benchmark
+    public Branch branchRequestToModel() {
+        return branchMapper.toModel(branchRequest);
+    }
+
+    @Benchmark
+    public BranchResponseDTO branchToResponse() {
+        return branchMapper.toResponseDto(branch);
+    }
+
+    @Benchmark
+    public Franchise franchiseRequestToModel() {
+        return franchiseMapper.toModel(franchiseRequest);
+    }
+
+    @Benchmark
+    public FranchiseResponseDTO franchiseToResponse() {
+        return franchiseMapper.toResponseDto(franchise);
+    }
+
+    @Benchmark
+    public ProductEntity productToEntity() {
+        return productEntityMapper.toEntity(product);
+    }
+
+    @Benchmark
+    public Product productEntityToModel() {
+        return productEntityMapper.toModel(productEntity);
+    }
+
+    @Benchmark
+    public BranchEntity branchToEntity() {
+        return branchEntityMapper.toEntity(branch);
+    }
+
+    @Benchmark
+    public Branch branchEntityToModel() {
+        return branchEntityMapper.toModel(branchEntity);
+    }
+
+    @Benchmark
+    public FranchiseEntity franchiseToEntity() {
+        return franchiseEntityMapper.toEntity(franchise);
+    }
+
+    @Benchmark
+    public Franchise franchiseEntityToModel() {
+        return franchiseEntityMapper.toModel(franchiseEntity);
+    }
+}
@@ -0,0 +1,84 @@
+package com.pragma.franchise.benchmark;
+
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductRequestDTO;
+import com.pragma.franchise.infrastructure.utils.RequestParamExtractor;
+import com.pragma.franchise.infrastructure.utils.ValidatorHelper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validación de los cuerpos de petición y extracción de parámetros de ruta y query. Los casos inválidos
+ * miden también el coste de construir la excepción que acaba en un 400.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private ValidatorHelper validatorHelper;
+    private ProductRequestDTO validRequest;
+    private ProductRequestDTO invalidRequest;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validatorHelper = new ValidatorHelper(validatorFactory.getValidator());
+        validRequest = new ProductRequestDTO("Producto 1", 120, 7L);
+        invalidRequest = new ProductRequestDTO(" ", null, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public ProductRequestDTO validateValidRequest() {
+        return validatorHelper.validate(validRequest).block();
+    }
+
+    @Benchmark
+    public Throwable validateInvalidRequest() {
+        return validatorHelper.validate(invalidRequest)
+                .then(Mono.<Throwable>empty())
+                .onErrorResume(Mono::just)
+                .block();
+    }
+
+    @Benchmark
+    public Long extractLongPathVariable() {
+        return RequestParamExtractor.extractLongPathVariable("4200", "id").block();
+    }
+
+    @Benchmark
+    public Throwable extractInvalidLongPathVariable() {
+        return RequestParamExtractor.extractLongPathVariable("abc", "id")
+                .then(Mono.<Throwable>empty())
+                .onErrorResume(Mono::just)
+                .block();
+    }
+
+    @Benchmark
+    public Optional<Integer> extractOptionalIntQueryParam() {
+        return RequestParamExtractor.extractOptionalIntQueryParam(Optional.of("5"), "limit").block();
+    }
+}
@@ -0,0 +1,111 @@
+package com.pragma.franchise.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.franchise.infrastructure.entrypoints.dto.GenericResponse;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.TopStockProductResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.mapper.ProductMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construcción del envelope {@link GenericResponse} y su serialización con Jackson, tanto como documento
+ * JSON completo como en streaming NDJSON fila a fila (el camino de {@code GET /top-stock} con Accept NDJSON).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseEncodingBenchmark {
+
+    private static final ResolvableType ROW_TYPE = ResolvableType.forClass(TopStockProductResponseDTO.class);
+
+    private ObjectMapper objectMapper;
+    private Jackson2JsonEncoder encoder;
+    private ProductResponseDTO product;
+    private List<TopStockProductResponseDTO> topStock;
+    private GenericResponse<List<TopStockProductResponseDTO>> topStockResponse;
+
+    @Setup
+    public void setUp() {
+        // Misma configuración por defecto que aplica Spring Boot al ObjectMapper de WebFlux
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        encoder = new Jackson2JsonEncoder(objectMapper);
+        product = new ProductResponseDTO(1L, "Producto 1", 120, 7L);
+        topStock = Mappers.getMapper(ProductMapper.class).toResponseDto(BenchmarkData.topStockProducts());
+        topStockResponse = topStockEnvelope();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public GenericResponse<ProductResponseDTO> buildProductEnvelope() {
+        return GenericResponse.<ProductResponseDTO>builder()
+                .statusCode(201)
+                .message("Product created successfully")
+                .data(product)
+                .isSuccess(true)
+                .build();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public byte[] encodeProductEnvelope() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(buildProductEnvelope());
+    }
+
+    @Benchmark
+    public GenericResponse<List<TopStockProductResponseDTO>> buildTopStockEnvelope() {
+        return topStockEnvelope();
+    }
+
+    @Benchmark
+    public byte[] encodeTopStockEnvelope() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(topStockResponse);
+    }
+
+    @Benchmark
+    public long encodeTopStockNdjson() {
+        Long bytes = encoder.encode(Flux.fromIterable(topStock), DefaultDataBufferFactory.sharedInstance,
+                        ROW_TYPE, MediaType.APPLICATION_NDJSON, null)
+                .map(buffer -> {
+                    int readable = buffer.readableByteCount();
+                    DataBufferUtils.release(buffer);
+                    return (long) readable;
+                })
+                .reduce(0L, Long::sum)
+                .block();
+        return bytes == null ? 0 : bytes;
+    }
+
+    private GenericResponse<List<TopStockProductResponseDTO>> topStockEnvelope() {
+        return GenericResponse.<List<TopStockProductResponseDTO>>builder()
+                .statusCode(200)
+                .message("Top stock products by branch")
+                .data(topStock)
+                .isSuccess(true)
+                .build();
+    }
+}
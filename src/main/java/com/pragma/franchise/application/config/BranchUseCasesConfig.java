@@ -1,34 +1,62 @@
 package com.pragma.franchise.application.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.pragma.franchise.domain.api.branch.CreateBranchServicePort;
+import com.pragma.franchise.domain.api.branch.DeleteBranchServicePort;
+import com.pragma.franchise.domain.api.branch.GetBranchServicePort;
 import com.pragma.franchise.domain.api.branch.UpdateBranchServicePort;
+import com.pragma.franchise.domain.model.Branch;
 import com.pragma.franchise.domain.spi.BranchPersistencePort;
-import com.pragma.franchise.domain.spi.FranchisePersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
 import com.pragma.franchise.domain.usecase.branch.CreateBranchUseCase;
+import com.pragma.franchise.domain.usecase.branch.DeleteBranchUseCase;
+import com.pragma.franchise.domain.usecase.branch.GetBranchUseCase;
 import com.pragma.franchise.domain.usecase.branch.UpdateBranchUseCase;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.BranchPersistenceAdapter;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.cache.CachedBranchPersistenceAdapter;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.cache.ReferenceCaches;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.mapper.BranchEntityMapper;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.BranchRepository;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.resilience.ResilienceHelper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.Optional;
+
 @Configuration
 public class BranchUseCasesConfig {
 
+    private static final String BRANCH_CACHE_NAME = "branches";
+
+    @Bean
+    public Cache<Long, Optional<Branch>> branchCache(
+            MeterRegistry meterRegistry,
+            @Value("${franchise.cache.references.max-size:10000}") long maxSize,
+            @Value("${franchise.cache.references.ttl:10m}") Duration ttl,
+            @Value("${franchise.cache.references.negative-ttl:5s}") Duration negativeTtl) {
+        Cache<Long, Optional<Branch>> branchCache = ReferenceCaches.build(maxSize, ttl, negativeTtl);
+        CaffeineCacheMetrics.monitor(meterRegistry, branchCache, BRANCH_CACHE_NAME);
+        return branchCache;
+    }
+
     @Bean
     public BranchPersistencePort branchPersistencePort(
             BranchRepository repository,
             BranchEntityMapper mapper,
-            ResilienceHelper resilienceHelper) {
-        return new BranchPersistenceAdapter(repository, mapper, resilienceHelper);
+            ResilienceHelper resilienceHelper,
+            Cache<Long, Optional<Branch>> branchCache) {
+        return new CachedBranchPersistenceAdapter(
+                new BranchPersistenceAdapter(repository, mapper, resilienceHelper), branchCache);
     }
 
     @Bean
     public CreateBranchServicePort createBranchServicePort(
-            BranchPersistencePort branchPersistencePort,
-            FranchisePersistencePort franchisePersistencePort) {
-        return new CreateBranchUseCase(branchPersistencePort, franchisePersistencePort);
+            BranchPersistencePort branchPersistencePort) {
+        return new CreateBranchUseCase(branchPersistencePort);
     }
 
     @Bean
@@ -36,4 +64,16 @@ public class BranchUseCasesConfig {
             BranchPersistencePort branchPersistencePort) {
         return new UpdateBranchUseCase(branchPersistencePort);
     }
+
+    @Bean
+    public DeleteBranchServicePort deleteBranchServicePort(
+            BranchPersistencePort branchPersistencePort,
+            TransactionPort transactionPort) {
+        return new DeleteBranchUseCase(branchPersistencePort, transactionPort);
+    }
+
+    @Bean
+    public GetBranchServicePort getBranchServicePort(BranchPersistencePort branchPersistencePort) {
+        return new GetBranchUseCase(branchPersistencePort);
+    }
 }
@@ -1,26 +1,63 @@
 package com.pragma.franchise.application.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.pragma.franchise.domain.api.franchise.CreateFranchiseServicePort;
+import com.pragma.franchise.domain.api.franchise.DeleteFranchiseServicePort;
+import com.pragma.franchise.domain.api.franchise.FranchiseTreeServicePort;
+import com.pragma.franchise.domain.api.franchise.GetFranchiseServicePort;
+import com.pragma.franchise.domain.api.franchise.InventoryStatsServicePort;
 import com.pragma.franchise.domain.api.franchise.UpdateFranchiseServicePort;
+import com.pragma.franchise.domain.model.Branch;
+import com.pragma.franchise.domain.model.Franchise;
 import com.pragma.franchise.domain.spi.FranchisePersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
 import com.pragma.franchise.domain.usecase.franchise.CreateFranchiseUseCase;
+import com.pragma.franchise.domain.usecase.franchise.DeleteFranchiseUseCase;
+import com.pragma.franchise.domain.usecase.franchise.FranchiseTreeUseCase;
+import com.pragma.franchise.domain.usecase.franchise.GetFranchiseUseCase;
+import com.pragma.franchise.domain.usecase.franchise.InventoryStatsUseCase;
 import com.pragma.franchise.domain.usecase.franchise.UpdateFranchiseUseCase;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.FranchisePersistenceAdapter;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.InventoryStatsPersistenceAdapter;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.cache.CachedFranchisePersistenceAdapter;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.cache.ReferenceCaches;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.mapper.FranchiseEntityMapper;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.mapper.InventoryStatsEntityMapper;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.BranchInventoryStatsRepository;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.FranchiseRepository;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.resilience.ResilienceHelper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.Optional;
+
 @Configuration
 public class FranchiseUseCasesConfig {
 
+    private static final String FRANCHISE_CACHE_NAME = "franchises";
+
     @Bean
     public FranchisePersistencePort franchisePersistencePort(
             FranchiseRepository repository,
             FranchiseEntityMapper mapper,
-            ResilienceHelper resilienceHelper) {
-        return new FranchisePersistenceAdapter(repository, mapper, resilienceHelper);
+            ResilienceHelper resilienceHelper,
+            Cache<Long, Optional<Branch>> branchCache,
+            MeterRegistry meterRegistry,
+            @Value("${franchise.cache.references.max-size:10000}") long maxSize,
+            @Value("${franchise.cache.references.ttl:10m}") Duration ttl,
+            @Value("${franchise.cache.references.negative-ttl:5s}") Duration negativeTtl,
+            @Value("${franchise.tree.fetch-size:500}") int treeFetchSize,
+            @Value("${franchise.tree.max-duration:120s}") Duration treeMaxDuration) {
+        Cache<Long, Optional<Franchise>> franchiseCache = ReferenceCaches.build(maxSize, ttl, negativeTtl);
+        CaffeineCacheMetrics.monitor(meterRegistry, franchiseCache, FRANCHISE_CACHE_NAME);
+        return new CachedFranchisePersistenceAdapter(
+                new FranchisePersistenceAdapter(repository, mapper, resilienceHelper, treeFetchSize, treeMaxDuration),
+                franchiseCache, branchCache);
     }
 
     @Bean
@@ -34,4 +71,36 @@ public class FranchiseUseCasesConfig {
             FranchisePersistencePort franchisePersistencePort){
         return new UpdateFranchiseUseCase(franchisePersistencePort);
     }
+
+    @Bean
+    public DeleteFranchiseServicePort deleteFranchiseServicePort(
+            FranchisePersistencePort franchisePersistencePort,
+            TransactionPort transactionPort) {
+        return new DeleteFranchiseUseCase(franchisePersistencePort, transactionPort);
+    }
+
+    @Bean
+    public GetFranchiseServicePort getFranchiseServicePort(FranchisePersistencePort franchisePersistencePort) {
+        return new GetFranchiseUseCase(franchisePersistencePort);
+    }
+
+    @Bean
+    public FranchiseTreeServicePort franchiseTreeServicePort(FranchisePersistencePort franchisePersistencePort) {
+        return new FranchiseTreeUseCase(franchisePersistencePort);
+    }
+
+    @Bean
+    public InventoryStatsPersistencePort inventoryStatsPersistencePort(
+            BranchInventoryStatsRepository branchInventoryStatsRepository,
+            InventoryStatsEntityMapper mapper,
+            ResilienceHelper resilienceHelper) {
+        return new InventoryStatsPersistenceAdapter(branchInventoryStatsRepository, mapper, resilienceHelper);
+    }
+
+    @Bean
+    public InventoryStatsServicePort inventoryStatsServicePort(
+            InventoryStatsPersistencePort inventoryStatsPersistencePort,
+            FranchisePersistencePort franchisePersistencePort) {
+        return new InventoryStatsUseCase(inventoryStatsPersistencePort, franchisePersistencePort);
+    }
 }
@@ -0,0 +1,64 @@
+package com.pragma.franchise.application.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.franchise.infrastructure.adapters.idempotency.IdempotencyKey;
+import com.pragma.franchise.infrastructure.adapters.idempotency.IdempotencyStore;
+import com.pragma.franchise.infrastructure.adapters.idempotency.IdempotentResponse;
+import com.pragma.franchise.infrastructure.adapters.idempotency.InMemoryIdempotencyStore;
+import com.pragma.franchise.infrastructure.adapters.idempotency.TieredIdempotencyStore;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.IdempotencyPersistenceAdapter;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.IdempotentResponseRepository;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.resilience.ResilienceHelper;
+import com.pragma.franchise.infrastructure.entrypoints.filter.IdempotencyKeyFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Configuration
+public class IdempotencyConfig {
+
+    private static final String IDEMPOTENCY_CACHE_NAME = "idempotency";
+
+    @Bean
+    @ConditionalOnProperty(name = "franchise.idempotency.shared-store.enabled", havingValue = "true")
+    public IdempotencyPersistenceAdapter idempotencyPersistenceAdapter(
+            IdempotentResponseRepository repository,
+            ResilienceHelper resilienceHelper,
+            @Value("${franchise.idempotency.ttl:24h}") Duration ttl,
+            @Value("${franchise.idempotency.shared-store.purge-interval:1h}") Duration purgeInterval) {
+        return new IdempotencyPersistenceAdapter(repository, resilienceHelper, ttl, purgeInterval);
+    }
+
+    @Bean
+    public IdempotencyStore idempotencyStore(
+            ObjectProvider<IdempotencyPersistenceAdapter> sharedStore,
+            MeterRegistry meterRegistry,
+            @Value("${franchise.idempotency.max-size:10000}") long maxSize,
+            @Value("${franchise.idempotency.ttl:24h}") Duration ttl) {
+        Cache<IdempotencyKey, IdempotentResponse> responses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, IDEMPOTENCY_CACHE_NAME);
+        IdempotencyStore local = new InMemoryIdempotencyStore(responses);
+        IdempotencyPersistenceAdapter shared = sharedStore.getIfAvailable();
+        return shared != null ? new TieredIdempotencyStore(local, shared) : local;
+    }
+
+    @Bean
+    public IdempotencyKeyFilter idempotencyKeyFilter(
+            IdempotencyStore idempotencyStore,
+            @Value("${franchise.idempotency.max-body-size:64KB}") DataSize maxBodySize,
+            @Value("${franchise.idempotency.client-header:X-Client-Id}") String clientHeader) {
+        return new IdempotencyKeyFilter(idempotencyStore, (int) maxBodySize.toBytes(), clientHeader);
+    }
+}
@@ -1,55 +1,200 @@
 package com.pragma.franchise.application.config;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.franchise.domain.api.product.BulkUpdateStockServicePort;
 import com.pragma.franchise.domain.api.product.CreateProductServicePort;
 import com.pragma.franchise.domain.api.product.DeleteProductServicePort;
+import com.pragma.franchise.domain.api.product.GetProductServicePort;
+import com.pragma.franchise.domain.api.product.ImportProductsServicePort;
+import com.pragma.franchise.domain.api.product.RebuildReadModelsServicePort;
 import com.pragma.franchise.domain.api.product.TopProductServicePort;
 import com.pragma.franchise.domain.api.product.UpdateProductServicePort;
 import com.pragma.franchise.domain.spi.BranchPersistencePort;
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
 import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.domain.model.TopStockProduct;
+import com.pragma.franchise.domain.spi.TopStockChangePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
+import com.pragma.franchise.domain.usecase.product.BulkUpdateStockUseCase;
+import com.pragma.franchise.domain.usecase.product.CoalescingUpdateProductUseCase;
 import com.pragma.franchise.domain.usecase.product.CreateProductUseCase;
 import com.pragma.franchise.domain.usecase.product.DeleteProductUseCase;
+import com.pragma.franchise.domain.usecase.product.GetProductUseCase;
+import com.pragma.franchise.domain.usecase.product.GroupCommitUpdateProductUseCase;
+import com.pragma.franchise.domain.usecase.product.ImportProductsUseCase;
+import com.pragma.franchise.domain.usecase.product.RebuildReadModelsUseCase;
 import com.pragma.franchise.domain.usecase.product.TopProductUseCase;
 import com.pragma.franchise.domain.usecase.product.UpdateProductUseCase;
+import com.pragma.franchise.infrastructure.adapters.metrics.StockWriteCoalescingMetricsAdapter;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.BranchTopStockPersistenceAdapter;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.ProductPersistenceAdapter;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.cache.CachedProductPersistenceAdapter;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.mapper.ProductEntityMapper;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.notification.TopStockChangeAdapter;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.BranchTopStockRepository;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ProductRepository;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.resilience.ResilienceHelper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.List;
+
 @Configuration
 public class ProductUseCasesConfig {
 
+    private static final String TOP_STOCK_CACHE_NAME = "topStock";
+
     @Bean
     public ProductPersistencePort productPersistencePort(
             ProductRepository repository,
             ProductEntityMapper mapper,
+            ResilienceHelper resilienceHelper,
+            BranchPersistencePort branchPersistencePort,
+            MeterRegistry meterRegistry,
+            @Value("${franchise.cache.top-stock.max-size:1000}") long maxSize,
+            @Value("${franchise.cache.top-stock.ttl:30s}") Duration ttl,
+            @Value("${franchise.cache.top-stock.id-map-size:100000}") long idMapSize,
+            @Value("${franchise.top-stock.stream.fetch-size:500}") int streamFetchSize) {
+        AsyncCache<Long, List<TopStockProduct>> topStockCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, topStockCache, TOP_STOCK_CACHE_NAME);
+        Cache<Long, Long> productBranchIds = Caffeine.newBuilder().maximumSize(idMapSize).build();
+        Cache<Long, Long> branchFranchiseIds = Caffeine.newBuilder().maximumSize(idMapSize).build();
+        return new CachedProductPersistenceAdapter(
+                new ProductPersistenceAdapter(repository, mapper, resilienceHelper, streamFetchSize),
+                branchPersistencePort, topStockCache, productBranchIds, branchFranchiseIds);
+    }
+
+    @Bean
+    public BranchTopStockPersistencePort branchTopStockPersistencePort(
+            BranchTopStockRepository repository,
             ResilienceHelper resilienceHelper) {
-        return new ProductPersistenceAdapter(repository, mapper, resilienceHelper);
+        return new BranchTopStockPersistenceAdapter(repository, resilienceHelper);
+    }
+
+    /**
+     * LISTEN ocupa la conexión de forma permanente, por eso el listener usa una conexión propia
+     * creada fuera del pool en lugar de restarle una al resto de la aplicación.
+     */
+    @Bean
+    public TopStockChangePort topStockChangePort(
+            R2dbcProperties r2dbcProperties,
+            ProductRepository repository,
+            ResilienceHelper resilienceHelper,
+            @Value("${franchise.top-stock.changes.reconnect-delay:1s}") Duration reconnectDelay) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(r2dbcProperties.getUrl()).mutate();
+        if (r2dbcProperties.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, r2dbcProperties.getUsername());
+        }
+        if (r2dbcProperties.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, r2dbcProperties.getPassword());
+        }
+        return new TopStockChangeAdapter(ConnectionFactories.get(options.build()), repository, resilienceHelper,
+                reconnectDelay);
     }
 
     @Bean
     public CreateProductServicePort createProductServicePort(
             ProductPersistencePort productPersistencePort,
-            BranchPersistencePort branchPersistencePort) {
-        return new CreateProductUseCase(productPersistencePort, branchPersistencePort);
+            BranchTopStockPersistencePort branchTopStockPersistencePort,
+            InventoryStatsPersistencePort inventoryStatsPersistencePort,
+            TransactionPort transactionPort) {
+        return new CreateProductUseCase(productPersistencePort, branchTopStockPersistencePort,
+                inventoryStatsPersistencePort, transactionPort);
+    }
+
+    @Bean
+    public GetProductServicePort getProductServicePort(ProductPersistencePort productPersistencePort) {
+        return new GetProductUseCase(productPersistencePort);
     }
 
     @Bean
     public DeleteProductServicePort deleteProductServicePort(
-            ProductPersistencePort productPersistencePort) {
-        return new DeleteProductUseCase(productPersistencePort);
+            ProductPersistencePort productPersistencePort,
+            BranchTopStockPersistencePort branchTopStockPersistencePort,
+            InventoryStatsPersistencePort inventoryStatsPersistencePort,
+            TransactionPort transactionPort) {
+        return new DeleteProductUseCase(productPersistencePort, branchTopStockPersistencePort,
+                inventoryStatsPersistencePort, transactionPort);
     }
 
     @Bean
     public UpdateProductServicePort updateProductServicePort(
-            ProductPersistencePort productPersistencePort) {
-        return new UpdateProductUseCase(productPersistencePort);
+            ProductPersistencePort productPersistencePort,
+            BranchTopStockPersistencePort branchTopStockPersistencePort,
+            InventoryStatsPersistencePort inventoryStatsPersistencePort,
+            TransactionPort transactionPort,
+            MeterRegistry meterRegistry,
+            @Value("${franchise.group-commit.enabled:false}") boolean groupCommitEnabled,
+            @Value("${franchise.group-commit.max-batch-size:64}") int groupCommitMaxBatchSize,
+            @Value("${franchise.group-commit.max-delay:500us}") Duration groupCommitMaxDelay,
+            @Value("${franchise.group-commit.parallelism:2}") int groupCommitParallelism,
+            @Value("${franchise.stock-coalescing.enabled:false}") boolean coalescingEnabled,
+            @Value("${franchise.stock-coalescing.window:10ms}") Duration coalescingWindow) {
+        UpdateProductServicePort updateProductUseCase = new UpdateProductUseCase(productPersistencePort,
+                branchTopStockPersistencePort, inventoryStatsPersistencePort, transactionPort);
+        if (groupCommitEnabled) {
+            updateProductUseCase = new GroupCommitUpdateProductUseCase(updateProductUseCase, productPersistencePort,
+                    branchTopStockPersistencePort, inventoryStatsPersistencePort, transactionPort,
+                    groupCommitMaxBatchSize, groupCommitMaxDelay, groupCommitParallelism);
+        }
+        if (coalescingEnabled) {
+            updateProductUseCase = new CoalescingUpdateProductUseCase(updateProductUseCase,
+                    new StockWriteCoalescingMetricsAdapter(meterRegistry), coalescingWindow);
+        }
+        return updateProductUseCase;
+    }
+
+    @Bean
+    public BulkUpdateStockServicePort bulkUpdateStockServicePort(
+            ProductPersistencePort productPersistencePort,
+            BranchTopStockPersistencePort branchTopStockPersistencePort,
+            InventoryStatsPersistencePort inventoryStatsPersistencePort,
+            TransactionPort transactionPort,
+            @Value("${franchise.bulk-stock.chunk-size:1000}") int chunkSize,
+            @Value("${franchise.bulk-stock.parallelism:2}") int parallelism) {
+        return new BulkUpdateStockUseCase(productPersistencePort, branchTopStockPersistencePort,
+                inventoryStatsPersistencePort, transactionPort, chunkSize, parallelism);
+    }
+
+    @Bean
+    public ImportProductsServicePort importProductsServicePort(
+            ProductPersistencePort productPersistencePort,
+            BranchPersistencePort branchPersistencePort,
+            BranchTopStockPersistencePort branchTopStockPersistencePort,
+            InventoryStatsPersistencePort inventoryStatsPersistencePort,
+            TransactionPort transactionPort,
+            @Value("${franchise.product-import.batch-size:500}") int batchSize) {
+        return new ImportProductsUseCase(productPersistencePort, branchPersistencePort,
+                branchTopStockPersistencePort, inventoryStatsPersistencePort, transactionPort, batchSize);
     }
 
     @Bean
     public TopProductServicePort topProductServicePort(
-            ProductPersistencePort productPersistencePort) {
-        return new TopProductUseCase(productPersistencePort);
+            ProductPersistencePort productPersistencePort,
+            TopStockChangePort topStockChangePort) {
+        return new TopProductUseCase(productPersistencePort, topStockChangePort);
+    }
+
+    @Bean
+    public RebuildReadModelsServicePort rebuildReadModelsServicePort(
+            BranchTopStockPersistencePort branchTopStockPersistencePort,
+            InventoryStatsPersistencePort inventoryStatsPersistencePort,
+            TransactionPort transactionPort) {
+        return new RebuildReadModelsUseCase(branchTopStockPersistencePort, inventoryStatsPersistencePort,
+                transactionPort);
     }
 }
@@ -0,0 +1,99 @@
+package com.pragma.franchise.application.config;
+
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.routing.ReadReplicaRoutingConnectionFactory;
+import com.pragma.franchise.infrastructure.entrypoints.filter.ReadRoutingFilter;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Con una réplica de lectura configurada, el ConnectionFactory de la aplicación pasa a ser uno que enruta
+ * entre dos pools: el de la primaria, con la configuración de spring.r2dbc, y el de la réplica. Al declararlo
+ * aquí Spring Boot no crea el suyo, y el gestor de transacciones y los repositorios usan este.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "franchise.read-replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private static final String REPLICA_CIRCUIT_BREAKER_NAME = "replicaCB";
+
+    @Bean
+    public ReadReplicaRoutingConnectionFactory connectionFactory(
+            R2dbcProperties r2dbcProperties,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            @Value("${franchise.read-replica.url}") String replicaUrl,
+            @Value("${franchise.read-replica.username:${spring.r2dbc.username:}}") String replicaUsername,
+            @Value("${franchise.read-replica.password:${spring.r2dbc.password:}}") String replicaPassword,
+            @Value("${franchise.read-replica.pool.max-size:10}") int replicaMaxSize,
+            @Value("${franchise.read-replica.acquire-timeout:500ms}") Duration replicaAcquireTimeout) {
+        ConnectionPool primary = new ConnectionPool(pool(
+                options(r2dbcProperties.getUrl(), r2dbcProperties.getUsername(), r2dbcProperties.getPassword()),
+                r2dbcProperties.getPool())
+                .name("primary")
+                .build());
+
+        // Una réplica caída debe fallar antes del timeout de ResilienceHelper para que quede tiempo de usar la primaria
+        ConnectionFactoryOptions replicaOptions = options(replicaUrl, replicaUsername, replicaPassword).mutate()
+                .option(ConnectionFactoryOptions.CONNECT_TIMEOUT, replicaAcquireTimeout)
+                .build();
+        ConnectionPool replica = new ConnectionPool(pool(replicaOptions, r2dbcProperties.getPool())
+                .name("replica")
+                .initialSize(Math.min(r2dbcProperties.getPool().getInitialSize(), replicaMaxSize))
+                .maxSize(replicaMaxSize)
+                .maxAcquireTime(replicaAcquireTimeout)
+                .build());
+
+        CircuitBreaker replicaCircuitBreaker = circuitBreakerRegistry.circuitBreaker(REPLICA_CIRCUIT_BREAKER_NAME);
+        replicaCircuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Read replica circuit breaker: {}", event.getStateTransition()));
+        return new ReadReplicaRoutingConnectionFactory(primary, replica, replicaCircuitBreaker);
+    }
+
+    @Bean
+    public ReadRoutingFilter readRoutingFilter(
+            @Value("${franchise.read-replica.sticky-window:5s}") Duration stickyWindow) {
+        return new ReadRoutingFilter(stickyWindow, Clock.systemUTC());
+    }
+
+    private static ConnectionFactoryOptions options(String url, String username, String password) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (username != null && !username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (password != null && !password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        return options.build();
+    }
+
+    private static ConnectionPoolConfiguration.Builder pool(ConnectionFactoryOptions options,
+                                                            R2dbcProperties.Pool settings) {
+        ConnectionPoolConfiguration.Builder pool = ConnectionPoolConfiguration.builder(ConnectionFactories.get(options));
+        PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+        map.from(settings.getInitialSize()).to(pool::initialSize);
+        map.from(settings.getMaxSize()).to(pool::maxSize);
+        map.from(settings.getMinIdle()).to(pool::minIdle);
+        map.from(settings.getMaxIdleTime()).to(pool::maxIdleTime);
+        map.from(settings.getMaxLifeTime()).to(pool::maxLifeTime);
+        map.from(settings.getMaxAcquireTime()).to(pool::maxAcquireTime);
+        map.from(settings.getMaxCreateConnectionTime()).to(pool::maxCreateConnectionTime);
+        map.from(settings.getMaxValidationTime()).to(pool::maxValidationTime);
+        map.from(settings.getValidationQuery()).to(pool::validationQuery);
+        map.from(settings.getValidationDepth()).to(pool::validationDepth);
+        return pool;
+    }
+}
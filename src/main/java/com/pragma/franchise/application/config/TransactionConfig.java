@@ -0,0 +1,17 @@
+package com.pragma.franchise.application.config;
+
+import com.pragma.franchise.domain.spi.TransactionPort;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.TransactionAdapter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    public TransactionPort transactionPort(ReactiveTransactionManager transactionManager) {
+        return new TransactionAdapter(TransactionalOperator.create(transactionManager));
+    }
+}
@@ -0,0 +1,8 @@
+package com.pragma.franchise.domain.api.branch;
+
+import reactor.core.publisher.Mono;
+
+public interface DeleteBranchServicePort {
+
+    Mono<Void> deleteBranchById(Long branchId);
+}
@@ -0,0 +1,11 @@
+package com.pragma.franchise.domain.api.branch;
+
+import com.pragma.franchise.domain.model.Branch;
+import reactor.core.publisher.Mono;
+
+public interface GetBranchServicePort {
+
+    Mono<Branch> getBranchById(Long branchId);
+
+    Mono<Long> getBranchVersion(Long branchId);
+}
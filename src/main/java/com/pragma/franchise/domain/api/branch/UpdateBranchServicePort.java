@@ -5,5 +5,8 @@ import reactor.core.publisher.Mono;
 
 public interface UpdateBranchServicePort {
 
-    Mono<Branch> updateNameBranch(Long id, String name);
+    /**
+     * Con {@code expectedVersion} el cambio solo se aplica si la sucursal sigue en esa versión.
+     */
+    Mono<Branch> updateNameBranch(Long id, String name, Long expectedVersion);
 }
@@ -0,0 +1,8 @@
+package com.pragma.franchise.domain.api.franchise;
+
+import reactor.core.publisher.Mono;
+
+public interface DeleteFranchiseServicePort {
+
+    Mono<Void> deleteFranchiseById(Long franchiseId);
+}
@@ -0,0 +1,9 @@
+package com.pragma.franchise.domain.api.franchise;
+
+import com.pragma.franchise.domain.model.FranchiseTreeRow;
+import reactor.core.publisher.Flux;
+
+public interface FranchiseTreeServicePort {
+
+    Flux<FranchiseTreeRow> getFranchiseTree(Long franchiseId);
+}
@@ -0,0 +1,11 @@
+package com.pragma.franchise.domain.api.franchise;
+
+import com.pragma.franchise.domain.model.Franchise;
+import reactor.core.publisher.Mono;
+
+public interface GetFranchiseServicePort {
+
+    Mono<Franchise> getFranchiseById(Long franchiseId);
+
+    Mono<Long> getFranchiseVersion(Long franchiseId);
+}
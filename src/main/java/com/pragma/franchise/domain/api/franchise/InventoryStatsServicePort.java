@@ -0,0 +1,9 @@
+package com.pragma.franchise.domain.api.franchise;
+
+import com.pragma.franchise.domain.model.FranchiseInventoryStats;
+import reactor.core.publisher.Mono;
+
+public interface InventoryStatsServicePort {
+
+    Mono<FranchiseInventoryStats> getInventoryStats(Long franchiseId);
+}
@@ -5,5 +5,8 @@ import reactor.core.publisher.Mono;
 
 public interface UpdateFranchiseServicePort {
 
-    Mono<Franchise> updateNameFranchise(Long id, String name);
+    /**
+     * Con {@code expectedVersion} el cambio solo se aplica si la franquicia sigue en esa versión.
+     */
+    Mono<Franchise> updateNameFranchise(Long id, String name, Long expectedVersion);
 }
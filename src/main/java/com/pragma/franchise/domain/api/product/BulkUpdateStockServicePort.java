@@ -0,0 +1,11 @@
+package com.pragma.franchise.domain.api.product;
+
+import com.pragma.franchise.domain.model.BulkStockUpdateResult;
+import com.pragma.franchise.domain.model.StockLevel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface BulkUpdateStockServicePort {
+
+    Mono<BulkStockUpdateResult> updateStockProducts(Flux<StockLevel> stockLevels);
+}
@@ -0,0 +1,11 @@
+package com.pragma.franchise.domain.api.product;
+
+import com.pragma.franchise.domain.model.Product;
+import reactor.core.publisher.Mono;
+
+public interface GetProductServicePort {
+
+    Mono<Product> getProductById(Long productId);
+
+    Mono<Long> getProductVersion(Long productId);
+}
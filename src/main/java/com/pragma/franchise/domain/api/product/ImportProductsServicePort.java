@@ -0,0 +1,11 @@
+package com.pragma.franchise.domain.api.product;
+
+import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.model.ProductImportResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ImportProductsServicePort {
+
+    Mono<ProductImportResult> importProducts(Long branchId, Flux<Product> products);
+}
@@ -0,0 +1,8 @@
+package com.pragma.franchise.domain.api.product;
+
+import reactor.core.publisher.Mono;
+
+public interface RebuildReadModelsServicePort {
+
+    Mono<Long> rebuildReadModels();
+}
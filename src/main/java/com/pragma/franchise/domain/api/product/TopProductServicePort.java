@@ -1,9 +1,16 @@
 package com.pragma.franchise.domain.api.product;
 
+import com.pragma.franchise.domain.model.TopStockChange;
 import com.pragma.franchise.domain.model.TopStockProduct;
 import reactor.core.publisher.Flux;
 
 public interface TopProductServicePort {
 
     Flux<TopStockProduct> getTopStockProducts(Long franchiseId);
+
+    Flux<TopStockProduct> streamTopStockProducts(Long franchiseId);
+
+    Flux<TopStockProduct> getTopStockProducts(Long franchiseId, Integer perBranch, Integer limit);
+
+    Flux<TopStockChange> streamTopStockChanges(Long franchiseId);
 }
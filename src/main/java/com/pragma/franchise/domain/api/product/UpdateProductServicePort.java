@@ -5,8 +5,13 @@ import reactor.core.publisher.Mono;
 
 public interface UpdateProductServicePort {
 
-    Mono<Product> updateStockProduct(Long productId, Integer stock);
+    /**
+     * Con {@code expectedVersion} la escritura solo se aplica si el producto sigue en esa versión.
+     */
+    Mono<Product> updateStockProduct(Long productId, Integer stock, Long expectedVersion);
 
-    Mono<Product> updateNameProduct(Long productId, String name);
+    Mono<Product> updateNameProduct(Long productId, String name, Long expectedVersion);
+
+    Mono<Product> adjustStockProduct(Long productId, Integer delta);
 
 }
@@ -10,14 +10,20 @@ public enum TechnicalMessage {
     INTERNAL_ERROR(500,"Something went wrong, please try again", ""),
     INVALID_REQUEST(400, "Bad Request, please verify data", ""),
     INVALID_PARAMETERS(400, "Bad Parameters, please verify data", ""),
+    VERSION_MISMATCH(412, "The resource was modified by another request, reload it and try again", ""),
 
     FRANCHISE_CREATED(201, "Franchise created successfully", ""),
     FRANCHISE_NOT_FOUND(404, "Franchise not found", ""),
     FRANCHISE_UPDATED(200, "Franchise updated successfully", ""),
+    FRANCHISE_FOUND(200, "Franchise found", ""),
+    FRANCHISE_INVENTORY_STATS(200, "Franchise inventory stats", ""),
+    FRANCHISE_TREE(200, "Franchise tree", ""),
 
     BRANCH_CREATED(201, "Branch created successfully", ""),
     BRANCH_NOT_FOUND(404, "Branch not found", ""),
+    BRANCH_ALREADY_EXISTS(409, "Branch already exists.", ""),
     BRANCH_UPDATED(200, "Branch updated successfully", ""),
+    BRANCH_FOUND(200, "Branch found", ""),
 
     PRODUCT_CREATED(201, "Product created successfully", ""),
     PRODUCT_ALREADY_EXISTS(409, "Product already exists." , ""),
@@ -25,6 +31,12 @@ public enum TechnicalMessage {
     PRODUCT_DELETED(204, "Product deleted successfully", ""),
     PRODUCT_NOT_BRANCH(404, "Product not found in branch", ""),
     PRODUCT_UPDATED(200, "Product updated successfully", ""),
+    PRODUCT_FOUND(200, "Product found", ""),
+    PRODUCT_STOCK_ADJUSTED(200, "Product stock adjusted successfully", ""),
+    PRODUCTS_STOCK_UPDATED(200, "Products stock updated", ""),
+    PRODUCTS_IMPORTED(200, "Products imported", ""),
+    PRODUCT_INSUFFICIENT_STOCK(409, "Insufficient stock for the adjustment", ""),
+    PRODUCT_STOCK_OUT_OF_RANGE(400, "The adjustment would exceed the maximum stock", ""),
     TOP_STOCK_PRODUCTS(200, "Top stock products by branches", ""),
 
     UNSUPPORTED_OPERATION(501, "Method not supported, please try again", ""),
@@ -0,0 +1,19 @@
+package com.pragma.franchise.domain.exceptions;
+
+import com.pragma.franchise.domain.model.BulkStockUpdateResult;
+import lombok.Getter;
+
+/**
+ * Una actualización masiva que falló a mitad: conserva el resumen de lo que ya se había confirmado y el error
+ * que la detuvo.
+ */
+@Getter
+public class BulkStockUpdateException extends RuntimeException {
+
+    private final transient BulkStockUpdateResult appliedResult;
+
+    public BulkStockUpdateException(BulkStockUpdateResult appliedResult, Throwable cause) {
+        super(cause.getMessage(), cause);
+        this.appliedResult = appliedResult;
+    }
+}
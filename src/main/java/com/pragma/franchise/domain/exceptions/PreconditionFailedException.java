@@ -0,0 +1,7 @@
+package com.pragma.franchise.domain.exceptions;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
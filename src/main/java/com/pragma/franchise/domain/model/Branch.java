@@ -19,4 +19,5 @@ public class Branch {
     private Long franchiseId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
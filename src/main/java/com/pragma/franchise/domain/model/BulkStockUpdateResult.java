@@ -0,0 +1,42 @@
+package com.pragma.franchise.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resumen de una actualización masiva de stock: productos actualizados, ids que no existen, elementos
+ * descartados por no tener id o tener un stock nulo o negativo y elementos leídos que no se aplicaron porque
+ * el trabajo se detuvo tras un error.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStockUpdateResult {
+    private long updatedCount;
+    private List<Long> notFoundIds;
+    private long invalidCount;
+    private long notAppliedCount;
+
+    public BulkStockUpdateResult(long updatedCount, List<Long> notFoundIds, long invalidCount) {
+        this(updatedCount, notFoundIds, invalidCount, 0);
+    }
+
+    public static BulkStockUpdateResult empty() {
+        return new BulkStockUpdateResult(0, List.of(), 0);
+    }
+
+    public BulkStockUpdateResult plus(BulkStockUpdateResult other) {
+        List<Long> notFound = new ArrayList<>(notFoundIds);
+        notFound.addAll(other.getNotFoundIds());
+        return new BulkStockUpdateResult(updatedCount + other.getUpdatedCount(), notFound,
+                invalidCount + other.getInvalidCount(), notAppliedCount + other.getNotAppliedCount());
+    }
+}
@@ -16,4 +16,5 @@ public class Franchise {
     private String name;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
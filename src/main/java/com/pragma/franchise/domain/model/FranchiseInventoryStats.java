@@ -0,0 +1,20 @@
+package com.pragma.franchise.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FranchiseInventoryStats {
+    private Long franchiseId;
+    private InventoryStats totals;
+    private List<InventoryStats> branches;
+}
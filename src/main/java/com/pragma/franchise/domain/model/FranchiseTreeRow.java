@@ -0,0 +1,26 @@
+package com.pragma.franchise.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Una fila del árbol de una franquicia: la franquicia con una de sus sucursales y uno de sus productos. La
+ * sucursal es nula si la franquicia no tiene ninguna y el producto si la sucursal no tiene productos.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class FranchiseTreeRow {
+    private Long franchiseId;
+    private String franchiseName;
+    private Long branchId;
+    private String branchName;
+    private Long productId;
+    private String productName;
+    private Integer stock;
+}
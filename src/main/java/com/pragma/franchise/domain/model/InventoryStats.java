@@ -0,0 +1,79 @@
+package com.pragma.franchise.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Agregados de inventario de una sucursal (branchId informado) o de una franquicia completa. El histograma
+ * agrupa los productos por nivel de stock: 0, 1-9, 10-99, 100-999 y 1000 o más.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class InventoryStats {
+    private Long franchiseId;
+    private Long branchId;
+    private long totalStock;
+    private long skuCount;
+    private long zeroStockCount;
+    private long stock1To9Count;
+    private long stock10To99Count;
+    private long stock100To999Count;
+    private long stock1000PlusCount;
+
+    /**
+     * Diferencia que produce en los agregados el paso de un producto de {@code previousStock} a {@code newStock}.
+     * Un valor nulo indica que el producto no existía (alta) o deja de existir (baja).
+     */
+    public static InventoryStats delta(Integer previousStock, Integer newStock) {
+        InventoryStats delta = new InventoryStats();
+        delta.add(newStock, 1);
+        delta.add(previousStock, -1);
+        return delta;
+    }
+
+    public InventoryStats plus(InventoryStats other) {
+        InventoryStats sum = new InventoryStats();
+        sum.setFranchiseId(franchiseId);
+        sum.setBranchId(branchId);
+        sum.setTotalStock(totalStock + other.getTotalStock());
+        sum.setSkuCount(skuCount + other.getSkuCount());
+        sum.setZeroStockCount(zeroStockCount + other.getZeroStockCount());
+        sum.setStock1To9Count(stock1To9Count + other.getStock1To9Count());
+        sum.setStock10To99Count(stock10To99Count + other.getStock10To99Count());
+        sum.setStock100To999Count(stock100To999Count + other.getStock100To999Count());
+        sum.setStock1000PlusCount(stock1000PlusCount + other.getStock1000PlusCount());
+        return sum;
+    }
+
+    public boolean isEmpty() {
+        return totalStock == 0 && skuCount == 0 && zeroStockCount == 0 && stock1To9Count == 0
+                && stock10To99Count == 0 && stock100To999Count == 0 && stock1000PlusCount == 0;
+    }
+
+    private void add(Integer stock, int sign) {
+        if (stock == null) {
+            return;
+        }
+        totalStock += (long) sign * stock;
+        skuCount += sign;
+        if (stock == 0) {
+            zeroStockCount += sign;
+        } else if (stock < 10) {
+            stock1To9Count += sign;
+        } else if (stock < 100) {
+            stock10To99Count += sign;
+        } else if (stock < 1000) {
+            stock100To999Count += sign;
+        } else {
+            stock1000PlusCount += sign;
+        }
+    }
+}
@@ -20,4 +20,5 @@ public class Product {
     private Long branchId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
@@ -0,0 +1,31 @@
+package com.pragma.franchise.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Resumen de una importación de productos: filas insertadas, filas cuyo nombre ya existía en la sucursal
+ * (o se repetía en el fichero) y filas descartadas por no superar la validación.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImportResult {
+    private long insertedCount;
+    private long duplicateCount;
+    private long invalidCount;
+
+    public static ProductImportResult empty() {
+        return new ProductImportResult(0, 0, 0);
+    }
+
+    public ProductImportResult plus(ProductImportResult other) {
+        return new ProductImportResult(insertedCount + other.getInsertedCount(),
+                duplicateCount + other.getDuplicateCount(), invalidCount + other.getInvalidCount());
+    }
+}
@@ -0,0 +1,24 @@
+package com.pragma.franchise.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Stock absoluto de un producto dentro de una actualización masiva.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockLevel {
+    private Long productId;
+    private Integer stock;
+
+    public boolean isValid() {
+        return productId != null && stock != null && stock >= 0;
+    }
+}
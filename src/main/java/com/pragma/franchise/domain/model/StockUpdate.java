@@ -0,0 +1,21 @@
+package com.pragma.franchise.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Resultado de actualizar el stock de un producto: el producto ya actualizado y el stock que tenía antes,
+ * leído en la misma sentencia para calcular el delta del inventario sin otra consulta.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockUpdate {
+    private Product product;
+    private Integer previousStock;
+}
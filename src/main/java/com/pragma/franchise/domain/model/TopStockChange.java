@@ -0,0 +1,25 @@
+package com.pragma.franchise.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Estado actual del top de stock de una sucursal. Una lista vacía indica que la sucursal ya no tiene productos.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class TopStockChange {
+    private Long franchiseId;
+    private Long branchId;
+    private List<TopStockProduct> products;
+}
@@ -5,7 +5,34 @@ import reactor.core.publisher.Mono;
 
 public interface BranchPersistencePort {
 
-    Mono<Branch> save(Branch branch);
+    /**
+     * Inserta la sucursal en un solo viaje. Devuelve vacío si la franquicia ya tiene una sucursal con ese
+     * nombre y falla con NotFoundException si la franquicia no existe.
+     */
+    Mono<Branch> insertIfAbsent(Branch branch);
 
     Mono<Branch> findById(Long id);
+
+    /**
+     * Lee solo la versión de la sucursal, siempre contra la base. Devuelve vacío si no existe.
+     */
+    Mono<Long> findVersionById(Long id);
+
+    /**
+     * Renombra la sucursal sin leerla antes. Devuelve vacío si no existe o, con {@code expectedVersion},
+     * si ya no está en esa versión.
+     */
+    Mono<Branch> updateName(Long id, String name, Long expectedVersion);
+
+    /**
+     * Bloquea los productos de la sucursal y después la sucursal, en el orden en que los bloquean las escrituras
+     * de stock. Debe ejecutarse en la misma transacción que {@link #deleteByIdReturning(Long)}.
+     */
+    Mono<Void> lockForDelete(Long id);
+
+    /**
+     * Borra la sucursal en una sola sentencia y devuelve la fila borrada, o vacío si no existía. Sus
+     * productos se borran en cascada.
+     */
+    Mono<Branch> deleteByIdReturning(Long id);
 }
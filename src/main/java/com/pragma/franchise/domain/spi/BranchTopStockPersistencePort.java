@@ -0,0 +1,14 @@
+package com.pragma.franchise.domain.spi;
+
+import reactor.core.publisher.Mono;
+
+public interface BranchTopStockPersistencePort {
+
+    /**
+     * Bloquea la sucursal hasta el final de la transacción, recalcula su máximo de stock, avisa del cambio
+     * solo si el máximo se movió y devuelve el id de su franquicia; vacío si la sucursal no existe.
+     */
+    Mono<Long> refresh(Long branchId);
+
+    Mono<Long> rebuild();
+}
@@ -1,11 +1,45 @@
 package com.pragma.franchise.domain.spi;
 
 import com.pragma.franchise.domain.model.Franchise;
+import com.pragma.franchise.domain.model.FranchiseTreeRow;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface FranchisePersistencePort {
 
-    Mono<Franchise> save(Franchise franchise);
-    Mono<Boolean> existByName(String name);
+    /**
+     * Inserta la franquicia en un solo viaje. Devuelve vacío si ya existe una con ese nombre.
+     */
+    Mono<Franchise> insertIfAbsent(Franchise franchise);
+
     Mono<Franchise> findById(Long id);
+
+    /**
+     * Lee solo la versión de la franquicia, siempre contra la base. Devuelve vacío si no existe.
+     */
+    Mono<Long> findVersionById(Long id);
+
+    /**
+     * Renombra la franquicia sin leerla antes. Devuelve vacío si no existe o, con {@code expectedVersion},
+     * si ya no está en esa versión.
+     */
+    Mono<Franchise> updateName(Long id, String name, Long expectedVersion);
+
+    /**
+     * Bloquea los productos y después las sucursales de la franquicia, en el orden en que los bloquean las
+     * escrituras de stock. Debe ejecutarse en la misma transacción que {@link #deleteByIdReturning(Long)}.
+     */
+    Mono<Void> lockForDelete(Long id);
+
+    /**
+     * Borra la franquicia en una sola sentencia y devuelve la fila borrada, o vacío si no existía. Sus
+     * sucursales y productos se borran en cascada.
+     */
+    Mono<Franchise> deleteByIdReturning(Long id);
+
+    /**
+     * Emite la franquicia con sus sucursales y productos, agrupados por sucursal, a medida que se leen de la
+     * base. No emite nada si la franquicia no existe.
+     */
+    Flux<FranchiseTreeRow> streamTree(Long franchiseId);
 }
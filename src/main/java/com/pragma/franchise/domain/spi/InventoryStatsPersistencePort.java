@@ -0,0 +1,14 @@
+package com.pragma.franchise.domain.spi;
+
+import com.pragma.franchise.domain.model.InventoryStats;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface InventoryStatsPersistencePort {
+
+    Mono<Void> apply(Long branchId, InventoryStats delta);
+
+    Flux<InventoryStats> findBranchStatsByFranchiseId(Long franchiseId);
+
+    Mono<Long> rebuild();
+}
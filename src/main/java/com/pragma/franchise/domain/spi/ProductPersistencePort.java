@@ -1,19 +1,66 @@
 package com.pragma.franchise.domain.spi;
 
 import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.model.StockLevel;
+import com.pragma.franchise.domain.model.StockUpdate;
 import com.pragma.franchise.domain.model.TopStockProduct;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface ProductPersistencePort {
 
+    /**
+     * Inserta el producto confiando en las restricciones del esquema: falla con NotFoundException si la
+     * sucursal no existe y con BusinessException si ya hay un producto con ese nombre en la sucursal.
+     */
     Mono<Product> save(Product product);
 
-    Mono<Boolean> existsByNameAndBranchId(String name, Long branchId);
-
     Mono<Product> findById(Long id);
 
-    Mono<Void> deleteById(Long productId);
+    /**
+     * Lee solo la versión del producto, sin la fila completa. Devuelve vacío si no existe.
+     */
+    Mono<Long> findVersionById(Long id);
+
+    /**
+     * Actualiza el stock de forma atómica. Devuelve vacío si el producto no existe o, con
+     * {@code expectedVersion}, si ya no está en esa versión.
+     */
+    Mono<StockUpdate> updateStock(Long id, Integer stock, Long expectedVersion);
+
+    /**
+     * Renombra el producto sin leerlo antes. Devuelve vacío si no existe o, con {@code expectedVersion},
+     * si ya no está en esa versión.
+     */
+    Mono<Product> updateName(Long id, String name, Long expectedVersion);
+
+    /**
+     * Suma el delta al stock de forma atómica. Devuelve vacío si el producto no existe o si el stock
+     * quedaría negativo.
+     */
+    Mono<StockUpdate> adjustStock(Long id, Integer delta);
+
+    /**
+     * Actualiza el stock de varios productos en una sola sentencia. Solo emite los productos que existen.
+     */
+    Flux<StockUpdate> updateStocks(List<StockLevel> stockLevels);
+
+    /**
+     * Inserta varios productos de una sucursal en una sola sentencia, omitiendo los nombres que ya existen.
+     * Solo emite los productos insertados.
+     */
+    Flux<Product> insertIgnoringDuplicates(Long branchId, List<Product> products);
+
+    /**
+     * Borra el producto en una sola sentencia y devuelve la fila borrada, o vacío si no existía.
+     */
+    Mono<Product> deleteByIdReturning(Long id);
 
     Flux<TopStockProduct> getTopStockProducts(Long franchiseId);
+
+    Flux<TopStockProduct> streamTopStockProducts(Long franchiseId);
+
+    Flux<TopStockProduct> getTopStockProductsPerBranch(Long franchiseId, int perBranch);
 }
@@ -0,0 +1,16 @@
+package com.pragma.franchise.domain.spi;
+
+import java.time.Duration;
+
+public interface StockWriteCoalescingMetricsPort {
+
+    /**
+     * Registra una escritura en base de datos y cuántas peticiones se resolvieron con ella.
+     */
+    void recordWrite(int coalescedRequests);
+
+    /**
+     * Registra lo que una petición esperó en la ventana de agrupación antes de que empezara su escritura.
+     */
+    void recordDelay(Duration delay);
+}
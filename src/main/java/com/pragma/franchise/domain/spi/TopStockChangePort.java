@@ -0,0 +1,9 @@
+package com.pragma.franchise.domain.spi;
+
+import com.pragma.franchise.domain.model.TopStockChange;
+import reactor.core.publisher.Flux;
+
+public interface TopStockChangePort {
+
+    Flux<TopStockChange> listen(Long franchiseId);
+}
@@ -0,0 +1,11 @@
+package com.pragma.franchise.domain.spi;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface TransactionPort {
+
+    <T> Mono<T> transactional(Mono<T> mono);
+
+    <T> Flux<T> transactional(Flux<T> flux);
+}
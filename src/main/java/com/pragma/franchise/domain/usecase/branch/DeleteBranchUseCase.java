@@ -0,0 +1,33 @@
+package com.pragma.franchise.domain.usecase.branch;
+
+import com.pragma.franchise.domain.api.branch.DeleteBranchServicePort;
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.spi.BranchPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
+import reactor.core.publisher.Mono;
+
+public class DeleteBranchUseCase implements DeleteBranchServicePort {
+
+    private final BranchPersistencePort branchPersistencePort;
+    private final TransactionPort transactionPort;
+
+    public DeleteBranchUseCase(BranchPersistencePort branchPersistencePort, TransactionPort transactionPort) {
+        this.branchPersistencePort = branchPersistencePort;
+        this.transactionPort = transactionPort;
+    }
+
+    /**
+     * Los agregados de la sucursal se borran con ella por ON DELETE CASCADE y los totales de la franquicia se
+     * suman al leerlos, así que no hay nada que descontar. Antes del borrado se bloquean sus productos y la
+     * sucursal en el orden de las escrituras de stock, para que la cascada no se cruce con ellas.
+     */
+    @Override
+    public Mono<Void> deleteBranchById(Long branchId) {
+        return transactionPort.transactional(
+                branchPersistencePort.lockForDelete(branchId)
+                        .then(branchPersistencePort.deleteByIdReturning(branchId))
+                        .switchIfEmpty(Mono.error(new NotFoundException(TechnicalMessage.BRANCH_NOT_FOUND.getMessage())))
+                        .then());
+    }
+}
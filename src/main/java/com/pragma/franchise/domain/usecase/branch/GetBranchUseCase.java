@@ -0,0 +1,38 @@
+package com.pragma.franchise.domain.usecase.branch;
+
+import com.pragma.franchise.domain.api.branch.GetBranchServicePort;
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.Branch;
+import com.pragma.franchise.domain.spi.BranchPersistencePort;
+import reactor.core.publisher.Mono;
+
+public class GetBranchUseCase implements GetBranchServicePort {
+
+    private final BranchPersistencePort branchPersistencePort;
+
+    public GetBranchUseCase(BranchPersistencePort branchPersistencePort) {
+        this.branchPersistencePort = branchPersistencePort;
+    }
+
+    /**
+     * El findById de sucursales puede resolverse en la caché de referencias; leer antes la versión de la base
+     * descarta una entrada que otra instancia haya dejado obsoleta.
+     */
+    @Override
+    public Mono<Branch> getBranchById(Long branchId) {
+        return getBranchVersion(branchId)
+                .flatMap(version -> branchPersistencePort.findById(branchId))
+                .switchIfEmpty(notFound());
+    }
+
+    @Override
+    public Mono<Long> getBranchVersion(Long branchId) {
+        return branchPersistencePort.findVersionById(branchId)
+                .switchIfEmpty(notFound());
+    }
+
+    private static <T> Mono<T> notFound() {
+        return Mono.error(new NotFoundException(TechnicalMessage.BRANCH_NOT_FOUND.getMessage()));
+    }
+}
@@ -4,12 +4,11 @@ import com.pragma.franchise.domain.api.branch.UpdateBranchServicePort;
 import com.pragma.franchise.domain.enums.TechnicalMessage;
 import com.pragma.franchise.domain.exceptions.BadRequestException;
 import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.exceptions.PreconditionFailedException;
 import com.pragma.franchise.domain.model.Branch;
 import com.pragma.franchise.domain.spi.BranchPersistencePort;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
-
 public class UpdateBranchUseCase implements UpdateBranchServicePort {
 
     private final BranchPersistencePort branchPersistencePort;
@@ -19,19 +18,16 @@ public class UpdateBranchUseCase implements UpdateBranchServicePort {
     }
 
     @Override
-    public Mono<Branch> updateNameBranch(Long id, String name) {
+    public Mono<Branch> updateNameBranch(Long id, String name, Long expectedVersion) {
         if(name == null || name.isEmpty()) {
             return Mono.error(new BadRequestException(TechnicalMessage.INVALID_REQUEST.getMessage()));
         }
-        return branchPersistencePort.findById(id)
-                .switchIfEmpty(Mono.error(new NotFoundException(TechnicalMessage.BRANCH_NOT_FOUND.getMessage())))
-                .map(branch -> modifyName(branch, name))
-                .flatMap(branchPersistencePort::save);
-    }
-
-    private Branch modifyName(Branch branch, String name) {
-        branch.setName(name.trim());
-        branch.setUpdatedAt(LocalDateTime.now());
-        return branch;
+        // Sin versión esperada, que no haya fila solo puede significar que la sucursal no existe
+        return branchPersistencePort.updateName(id, name.trim(), expectedVersion)
+                .switchIfEmpty(Mono.defer(() -> expectedVersion == null
+                        ? Mono.error(new NotFoundException(TechnicalMessage.BRANCH_NOT_FOUND.getMessage()))
+                        : branchPersistencePort.findById(id)
+                                .flatMap(branch -> Mono.<Branch>error(new PreconditionFailedException(TechnicalMessage.VERSION_MISMATCH.getMessage())))
+                                .switchIfEmpty(Mono.error(new NotFoundException(TechnicalMessage.BRANCH_NOT_FOUND.getMessage())))));
     }
 }
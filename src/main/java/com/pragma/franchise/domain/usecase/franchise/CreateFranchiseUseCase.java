@@ -15,11 +15,13 @@ public class CreateFranchiseUseCase implements CreateFranchiseServicePort {
         this.franchisePersistencePort = franchisePersistencePort;
     }
 
+    /**
+     * Se inserta directamente: si la fila no se crea es porque el nombre ya existe, también cuando dos altas
+     * con el mismo nombre llegan a la vez.
+     */
     @Override
     public Mono<Franchise> createFranchise(Franchise franchise) {
-        return franchisePersistencePort.existByName(franchise.getName())
-                .flatMap(exist -> Boolean.TRUE.equals(exist)
-                        ? Mono.error(new BusinessException(TechnicalMessage.FRANCHISE_ALREADY_EXISTS))
-                        : franchisePersistencePort.save(franchise));
+        return franchisePersistencePort.insertIfAbsent(franchise)
+                .switchIfEmpty(Mono.error(new BusinessException(TechnicalMessage.FRANCHISE_ALREADY_EXISTS)));
     }
 }
@@ -0,0 +1,32 @@
+package com.pragma.franchise.domain.usecase.franchise;
+
+import com.pragma.franchise.domain.api.franchise.DeleteFranchiseServicePort;
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.spi.FranchisePersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
+import reactor.core.publisher.Mono;
+
+public class DeleteFranchiseUseCase implements DeleteFranchiseServicePort {
+
+    private final FranchisePersistencePort franchisePersistencePort;
+    private final TransactionPort transactionPort;
+
+    public DeleteFranchiseUseCase(FranchisePersistencePort franchisePersistencePort, TransactionPort transactionPort) {
+        this.franchisePersistencePort = franchisePersistencePort;
+        this.transactionPort = transactionPort;
+    }
+
+    /**
+     * Antes del borrado en cascada se bloquean los productos y las sucursales de la franquicia en el orden de
+     * las escrituras de stock, para que la cascada no se cruce con ellas.
+     */
+    @Override
+    public Mono<Void> deleteFranchiseById(Long franchiseId) {
+        return transactionPort.transactional(
+                franchisePersistencePort.lockForDelete(franchiseId)
+                        .then(franchisePersistencePort.deleteByIdReturning(franchiseId))
+                        .switchIfEmpty(Mono.error(new NotFoundException(TechnicalMessage.FRANCHISE_NOT_FOUND.getMessage())))
+                        .then());
+    }
+}
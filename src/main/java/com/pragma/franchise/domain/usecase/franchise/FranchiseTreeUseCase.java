@@ -0,0 +1,27 @@
+package com.pragma.franchise.domain.usecase.franchise;
+
+import com.pragma.franchise.domain.api.franchise.FranchiseTreeServicePort;
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.FranchiseTreeRow;
+import com.pragma.franchise.domain.spi.FranchisePersistencePort;
+import reactor.core.publisher.Flux;
+
+public class FranchiseTreeUseCase implements FranchiseTreeServicePort {
+
+    private final FranchisePersistencePort franchisePersistencePort;
+
+    public FranchiseTreeUseCase(FranchisePersistencePort franchisePersistencePort) {
+        this.franchisePersistencePort = franchisePersistencePort;
+    }
+
+    /**
+     * Una franquicia existente siempre produce al menos una fila, así que un resultado vacío es un 404. El
+     * error llega antes que cualquier fila, cuando la respuesta aún no se ha empezado a escribir.
+     */
+    @Override
+    public Flux<FranchiseTreeRow> getFranchiseTree(Long franchiseId) {
+        return franchisePersistencePort.streamTree(franchiseId)
+                .switchIfEmpty(Flux.error(new NotFoundException(TechnicalMessage.FRANCHISE_NOT_FOUND.getMessage())));
+    }
+}
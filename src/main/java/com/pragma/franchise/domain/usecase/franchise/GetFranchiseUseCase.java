@@ -0,0 +1,38 @@
+package com.pragma.franchise.domain.usecase.franchise;
+
+import com.pragma.franchise.domain.api.franchise.GetFranchiseServicePort;
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.Franchise;
+import com.pragma.franchise.domain.spi.FranchisePersistencePort;
+import reactor.core.publisher.Mono;
+
+public class GetFranchiseUseCase implements GetFranchiseServicePort {
+
+    private final FranchisePersistencePort franchisePersistencePort;
+
+    public GetFranchiseUseCase(FranchisePersistencePort franchisePersistencePort) {
+        this.franchisePersistencePort = franchisePersistencePort;
+    }
+
+    /**
+     * Como en sucursales, la versión se consulta en la base antes de findById para no devolver una franquicia
+     * obsoleta desde la caché de referencias.
+     */
+    @Override
+    public Mono<Franchise> getFranchiseById(Long franchiseId) {
+        return getFranchiseVersion(franchiseId)
+                .flatMap(version -> franchisePersistencePort.findById(franchiseId))
+                .switchIfEmpty(notFound());
+    }
+
+    @Override
+    public Mono<Long> getFranchiseVersion(Long franchiseId) {
+        return franchisePersistencePort.findVersionById(franchiseId)
+                .switchIfEmpty(notFound());
+    }
+
+    private static <T> Mono<T> notFound() {
+        return Mono.error(new NotFoundException(TechnicalMessage.FRANCHISE_NOT_FOUND.getMessage()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.pragma.franchise.domain.usecase.franchise;
+
+import com.pragma.franchise.domain.api.franchise.InventoryStatsServicePort;
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.FranchiseInventoryStats;
+import com.pragma.franchise.domain.model.InventoryStats;
+import com.pragma.franchise.domain.spi.FranchisePersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public class InventoryStatsUseCase implements InventoryStatsServicePort {
+
+    private final InventoryStatsPersistencePort inventoryStatsPersistencePort;
+    private final FranchisePersistencePort franchisePersistencePort;
+
+    public InventoryStatsUseCase(InventoryStatsPersistencePort inventoryStatsPersistencePort,
+                                 FranchisePersistencePort franchisePersistencePort) {
+        this.inventoryStatsPersistencePort = inventoryStatsPersistencePort;
+        this.franchisePersistencePort = franchisePersistencePort;
+    }
+
+    @Override
+    public Mono<FranchiseInventoryStats> getInventoryStats(Long franchiseId) {
+        return inventoryStatsPersistencePort.findBranchStatsByFranchiseId(franchiseId)
+                .collectList()
+                .flatMap(branches -> (branches.isEmpty() ? requireFranchise(franchiseId) : Mono.<Void>empty())
+                        .thenReturn(FranchiseInventoryStats.builder()
+                                .franchiseId(franchiseId)
+                                .totals(totals(franchiseId, branches))
+                                .branches(branches)
+                                .build()));
+    }
+
+    /**
+     * Los totales de la franquicia se suman aquí en lugar de mantenerse en una fila propia, que todas las
+     * escrituras de stock de la franquicia tendrían que bloquear.
+     */
+    private static InventoryStats totals(Long franchiseId, List<InventoryStats> branches) {
+        return branches.stream()
+                .reduce(InventoryStats.builder().franchiseId(franchiseId).build(), InventoryStats::plus);
+    }
+
+    /**
+     * Una franquicia sin productos aún no tiene filas de agregados; se responde con ceros en lugar de 404.
+     */
+    private Mono<Void> requireFranchise(Long franchiseId) {
+        return franchisePersistencePort.findById(franchiseId)
+                .switchIfEmpty(Mono.error(new NotFoundException(TechnicalMessage.FRANCHISE_NOT_FOUND.getMessage())))
+                .then();
+    }
+}
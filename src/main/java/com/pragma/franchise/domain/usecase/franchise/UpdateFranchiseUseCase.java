@@ -3,12 +3,11 @@ package com.pragma.franchise.domain.usecase.franchise;
 import com.pragma.franchise.domain.api.franchise.UpdateFranchiseServicePort;
 import com.pragma.franchise.domain.enums.TechnicalMessage;
 import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.exceptions.PreconditionFailedException;
 import com.pragma.franchise.domain.model.Franchise;
 import com.pragma.franchise.domain.spi.FranchisePersistencePort;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
-
 public class UpdateFranchiseUseCase implements UpdateFranchiseServicePort {
 
     private final FranchisePersistencePort franchisePersistencePort;
@@ -18,16 +17,13 @@ public class UpdateFranchiseUseCase implements UpdateFranchiseServicePort {
     }
 
     @Override
-    public Mono<Franchise> updateNameFranchise(Long id, String name) {
-        return franchisePersistencePort.findById(id)
-                .switchIfEmpty(Mono.error(new NotFoundException(TechnicalMessage.FRANCHISE_NOT_FOUND.getMessage())))
-                .map(franchise -> modifyName(franchise, name))
-                .flatMap(franchisePersistencePort::save);
-    }
-
-    private Franchise modifyName(Franchise franchise, String name) {
-        franchise.setName(name.trim());
-        franchise.setUpdatedAt(LocalDateTime.now());
-        return franchise;
+    public Mono<Franchise> updateNameFranchise(Long id, String name, Long expectedVersion) {
+        // Sin versión esperada, que no haya fila solo puede significar que la franquicia no existe
+        return franchisePersistencePort.updateName(id, name.trim(), expectedVersion)
+                .switchIfEmpty(Mono.defer(() -> expectedVersion == null
+                        ? Mono.error(new NotFoundException(TechnicalMessage.FRANCHISE_NOT_FOUND.getMessage()))
+                        : franchisePersistencePort.findById(id)
+                                .flatMap(franchise -> Mono.<Franchise>error(new PreconditionFailedException(TechnicalMessage.VERSION_MISMATCH.getMessage())))
+                                .switchIfEmpty(Mono.error(new NotFoundException(TechnicalMessage.FRANCHISE_NOT_FOUND.getMessage())))));
     }
 }
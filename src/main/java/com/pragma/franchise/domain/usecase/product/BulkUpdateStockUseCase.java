@@ -0,0 +1,113 @@
+package com.pragma.franchise.domain.usecase.product;
+
+import com.pragma.franchise.domain.api.product.BulkUpdateStockServicePort;
+import com.pragma.franchise.domain.exceptions.BulkStockUpdateException;
+import com.pragma.franchise.domain.model.BulkStockUpdateResult;
+import com.pragma.franchise.domain.model.StockLevel;
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
+import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Aplica actualizaciones masivas de stock por bloques: cada bloque es una sola sentencia y una transacción
+ * que incluye los read models de las sucursales afectadas. Los elementos se reparten por producto en
+ * {@code parallelism} carriles que aplican sus bloques en orden, así que todas las apariciones de un producto
+ * se aplican en el orden de entrada y gana el último valor; como mucho un bloque por carril se ejecuta a la vez,
+ * lo que acota los permisos del bulkhead que puede ocupar un mismo trabajo.
+ * <p>
+ * Si un bloque falla se deja de leer la entrada, los bloques pendientes no se aplican y el error lleva el
+ * resumen de lo que ya se confirmó.
+ */
+public class BulkUpdateStockUseCase implements BulkUpdateStockServicePort {
+
+    private final ProductPersistencePort productPersistencePort;
+    private final StockUpdateReadModels readModels;
+    private final TransactionPort transactionPort;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public BulkUpdateStockUseCase(ProductPersistencePort productPersistencePort,
+                                  BranchTopStockPersistencePort branchTopStockPersistencePort,
+                                  InventoryStatsPersistencePort inventoryStatsPersistencePort,
+                                  TransactionPort transactionPort,
+                                  int chunkSize,
+                                  int parallelism) {
+        this.productPersistencePort = productPersistencePort;
+        this.readModels = new StockUpdateReadModels(branchTopStockPersistencePort, inventoryStatsPersistencePort);
+        this.transactionPort = transactionPort;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public Mono<BulkStockUpdateResult> updateStockProducts(Flux<StockLevel> stockLevels) {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        return stockLevels
+                .takeWhile(level -> failure.get() == null)
+                .groupBy(this::lane)
+                .flatMap(lane -> lane
+                        .buffer(chunkSize)
+                        .concatMap(chunk -> updateChunk(chunk, failure)), parallelism)
+                .reduce(BulkStockUpdateResult.empty(), BulkStockUpdateResult::plus)
+                .flatMap(result -> failure.get() == null
+                        ? Mono.just(result)
+                        : Mono.error(new BulkStockUpdateException(result, failure.get())));
+    }
+
+    private int lane(StockLevel level) {
+        return level.getProductId() != null ? Math.floorMod(level.getProductId(), parallelism) : 0;
+    }
+
+    private Mono<BulkStockUpdateResult> updateChunk(List<StockLevel> chunk, AtomicReference<Throwable> failure) {
+        if (failure.get() != null) {
+            return Mono.just(notApplied(chunk));
+        }
+        return updateChunk(chunk)
+                .onErrorResume(error -> {
+                    failure.compareAndSet(null, error);
+                    return Mono.just(notApplied(chunk));
+                });
+    }
+
+    private static BulkStockUpdateResult notApplied(List<StockLevel> chunk) {
+        long invalidCount = chunk.stream().filter(level -> !level.isValid()).count();
+        return new BulkStockUpdateResult(0, List.of(), invalidCount, chunk.size() - invalidCount);
+    }
+
+    private Mono<BulkStockUpdateResult> updateChunk(List<StockLevel> chunk) {
+        // Si un producto se repite dentro del bloque gana el último valor
+        Map<Long, StockLevel> levels = new LinkedHashMap<>();
+        chunk.stream()
+                .filter(StockLevel::isValid)
+                .forEach(level -> levels.put(level.getProductId(), level));
+        long invalidCount = chunk.stream().filter(level -> !level.isValid()).count();
+        if (levels.isEmpty()) {
+            return Mono.just(new BulkStockUpdateResult(0, List.of(), invalidCount));
+        }
+
+        return transactionPort.transactional(
+                        productPersistencePort.updateStocks(new ArrayList<>(levels.values()))
+                                .collectList()
+                                .flatMap(updates -> readModels.refresh(updates).thenReturn(updates)))
+                .map(updates -> {
+                    Set<Long> updatedIds = updates.stream()
+                            .map(update -> update.getProduct().getId())
+                            .collect(Collectors.toSet());
+                    List<Long> notFoundIds = levels.keySet().stream()
+                            .filter(id -> !updatedIds.contains(id))
+                            .toList();
+                    return new BulkStockUpdateResult(updates.size(), notFoundIds, invalidCount);
+                });
+    }
+}
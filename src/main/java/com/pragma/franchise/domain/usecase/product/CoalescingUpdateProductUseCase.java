@@ -0,0 +1,135 @@
+package com.pragma.franchise.domain.usecase.product;
+
+import com.pragma.franchise.domain.api.product.UpdateProductServicePort;
+import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.spi.StockWriteCoalescingMetricsPort;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Agrupa las actualizaciones de stock de un mismo producto que llegan dentro de una ventana corta en una
+ * sola escritura con el último valor recibido; todas las peticiones agrupadas reciben el producto que quedó
+ * persistido (o el mismo error). Cada escritura es la operación completa del caso de uso delegado, con su
+ * transacción y sus read models.
+ *
+ * <p>Hay como mucho una escritura en curso por producto: lo que llega mientras tanto se acumula en el
+ * siguiente hueco, que se escribe al terminar la anterior, de modo que las escrituras de un producto se
+ * aplican en orden. Los huecos se guardan en un mapa concurrente y se modifican con {@code compute}, que
+ * solo bloquea la entrada del producto. Las escrituras condicionales y el resto de operaciones pasan
+ * directamente al delegado.
+ */
+public class CoalescingUpdateProductUseCase implements UpdateProductServicePort {
+
+    private final UpdateProductServicePort delegate;
+    private final StockWriteCoalescingMetricsPort metricsPort;
+    private final Duration window;
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    public CoalescingUpdateProductUseCase(UpdateProductServicePort delegate,
+                                          StockWriteCoalescingMetricsPort metricsPort,
+                                          Duration window) {
+        this.delegate = delegate;
+        this.metricsPort = metricsPort;
+        this.window = window;
+    }
+
+    @Override
+    public Mono<Product> updateStockProduct(Long productId, Integer stock, Long expectedVersion) {
+        // Una escritura condicional depende de la versión que vio el cliente y no se puede fusionar con otras;
+        // un stock inválido lo rechaza el delegado sin afectar al resto del hueco
+        if (stock == null || stock < 0 || expectedVersion != null) {
+            return delegate.updateStockProduct(productId, stock, expectedVersion);
+        }
+        return Mono.defer(() -> {
+            long arrivedAt = System.nanoTime();
+            Slot[] target = new Slot[1];
+            boolean[] opened = new boolean[1];
+            slots.compute(productId, (id, current) -> {
+                // Solo quien crea el hueco programa su escritura; decidirlo fuera de compute deja huecos sin escribir
+                opened[0] = current == null;
+                Slot slot = current == null ? new Slot() : current;
+                if (slot.flushing) {
+                    if (slot.next == null) {
+                        slot.next = new Slot();
+                    }
+                    target[0] = slot.next;
+                } else {
+                    target[0] = slot;
+                }
+                target[0].stock = stock;
+                target[0].requests++;
+                return slot;
+            });
+            if (opened[0]) {
+                scheduleFlush(productId, window);
+            }
+            Slot slot = target[0];
+            return slot.result.asMono()
+                    .doFinally(signal -> {
+                        if (slot.flushStartedAt != 0) {
+                            metricsPort.recordDelay(Duration.ofNanos(Math.max(0, slot.flushStartedAt - arrivedAt)));
+                        }
+                    });
+        });
+    }
+
+    @Override
+    public Mono<Product> updateNameProduct(Long productId, String name, Long expectedVersion) {
+        return delegate.updateNameProduct(productId, name, expectedVersion);
+    }
+
+    @Override
+    public Mono<Product> adjustStockProduct(Long productId, Integer delta) {
+        return delegate.adjustStockProduct(productId, delta);
+    }
+
+    private void scheduleFlush(Long productId, Duration delay) {
+        Mono.delay(delay).subscribe(tick -> flush(productId));
+    }
+
+    private void flush(Long productId) {
+        Slot[] flushing = new Slot[1];
+        slots.computeIfPresent(productId, (id, slot) -> {
+            slot.flushing = true;
+            flushing[0] = slot;
+            return slot;
+        });
+        Slot slot = flushing[0];
+        slot.flushStartedAt = System.nanoTime();
+        metricsPort.recordWrite(slot.requests);
+        Mono.defer(() -> delegate.updateStockProduct(productId, slot.stock, null))
+                .doFinally(signal -> advance(productId))
+                .subscribe(
+                        product -> slot.result.tryEmitValue(product),
+                        slot.result::tryEmitError,
+                        slot.result::tryEmitEmpty);
+    }
+
+    /**
+     * Libera el producto o, si llegaron peticiones durante la escritura, programa la siguiente respetando
+     * lo que ya llevan esperando.
+     */
+    private void advance(Long productId) {
+        Slot next = slots.computeIfPresent(productId, (id, slot) -> slot.next);
+        if (next != null) {
+            long waited = System.nanoTime() - next.openedAt;
+            scheduleFlush(productId, window.minusNanos(Math.min(waited, window.toNanos())));
+        }
+    }
+
+    // stock, requests, flushing y next solo se modifican dentro de compute sobre la entrada del producto
+    private static final class Slot {
+        private final Sinks.One<Product> result = Sinks.one();
+        private final long openedAt = System.nanoTime();
+        private volatile long flushStartedAt;
+        private Integer stock;
+        private int requests;
+        private boolean flushing;
+        private Slot next;
+    }
+}
@@ -1,42 +1,41 @@
 package com.pragma.franchise.domain.usecase.product;
 
 import com.pragma.franchise.domain.api.product.CreateProductServicePort;
-import com.pragma.franchise.domain.enums.TechnicalMessage;
-import com.pragma.franchise.domain.exceptions.BusinessException;
-import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.InventoryStats;
 import com.pragma.franchise.domain.model.Product;
-import com.pragma.franchise.domain.spi.BranchPersistencePort;
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
 import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
 import reactor.core.publisher.Mono;
 
 public class CreateProductUseCase implements CreateProductServicePort {
     private final ProductPersistencePort productPersistencePort;
-    private final BranchPersistencePort branchPersistencePort;
+    private final BranchTopStockPersistencePort branchTopStockPersistencePort;
+    private final InventoryStatsPersistencePort inventoryStatsPersistencePort;
+    private final TransactionPort transactionPort;
 
-    public CreateProductUseCase(ProductPersistencePort productPersistencePort, BranchPersistencePort branchPersistencePort) {
+    public CreateProductUseCase(ProductPersistencePort productPersistencePort,
+                                BranchTopStockPersistencePort branchTopStockPersistencePort,
+                                InventoryStatsPersistencePort inventoryStatsPersistencePort,
+                                TransactionPort transactionPort) {
         this.productPersistencePort = productPersistencePort;
-        this.branchPersistencePort = branchPersistencePort;
+        this.branchTopStockPersistencePort = branchTopStockPersistencePort;
+        this.inventoryStatsPersistencePort = inventoryStatsPersistencePort;
+        this.transactionPort = transactionPort;
     }
 
+    /**
+     * Un único INSERT: la existencia de la sucursal y la unicidad del nombre las comprueban las restricciones
+     * del esquema, también cuando dos altas del mismo producto llegan a la vez.
+     */
     @Override
     public Mono<Product> createProduct(Product product) {
-        return validateBranchExists(product.getBranchId())
-                .then(validateProductDoesNotExist(product))
-                .then(productPersistencePort.save(product));
-    }
-
-    private Mono<Void> validateBranchExists(Long branchId) {
-        return branchPersistencePort.findById(branchId)
-                .switchIfEmpty(Mono.error(new NotFoundException(TechnicalMessage.BRANCH_NOT_FOUND.getMessage())))
-                .then();
-    }
-
-    private Mono<Void> validateProductDoesNotExist(Product product) {
-        return productPersistencePort
-                .existsByNameAndBranchId(product.getName(), product.getBranchId())
-                .flatMap(exists -> Boolean.TRUE.equals(exists)
-                                ? Mono.error(new BusinessException(TechnicalMessage.PRODUCT_ALREADY_EXISTS))
-                                : Mono.empty()
-                );
+        return transactionPort.transactional(
+                productPersistencePort.save(product)
+                        .flatMap(saved -> branchTopStockPersistencePort.refresh(saved.getBranchId())
+                                .then(inventoryStatsPersistencePort.apply(saved.getBranchId(),
+                                        InventoryStats.delta(null, saved.getStock())))
+                                .thenReturn(saved)));
     }
 }
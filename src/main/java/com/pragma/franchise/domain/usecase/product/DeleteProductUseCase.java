@@ -3,21 +3,46 @@ package com.pragma.franchise.domain.usecase.product;
 import com.pragma.franchise.domain.api.product.DeleteProductServicePort;
 import com.pragma.franchise.domain.enums.TechnicalMessage;
 import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.InventoryStats;
+import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
 import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
 import reactor.core.publisher.Mono;
 
 public class DeleteProductUseCase implements DeleteProductServicePort {
 
     private final ProductPersistencePort productPersistencePort;
+    private final BranchTopStockPersistencePort branchTopStockPersistencePort;
+    private final InventoryStatsPersistencePort inventoryStatsPersistencePort;
+    private final TransactionPort transactionPort;
 
-    public DeleteProductUseCase(ProductPersistencePort productPersistencePort) {
+    public DeleteProductUseCase(ProductPersistencePort productPersistencePort,
+                                BranchTopStockPersistencePort branchTopStockPersistencePort,
+                                InventoryStatsPersistencePort inventoryStatsPersistencePort,
+                                TransactionPort transactionPort) {
         this.productPersistencePort = productPersistencePort;
+        this.branchTopStockPersistencePort = branchTopStockPersistencePort;
+        this.inventoryStatsPersistencePort = inventoryStatsPersistencePort;
+        this.transactionPort = transactionPort;
     }
 
+    /**
+     * El borrado devuelve la fila borrada, así que decide entre borrado y 404 en un solo viaje y aporta la
+     * sucursal y el stock que necesitan los read models.
+     */
     @Override
     public Mono<Void> deleteProductById(Long productId) {
-        return productPersistencePort.findById(productId)
-                .switchIfEmpty(Mono.error(new NotFoundException(TechnicalMessage.PRODUCT_NOT_FOUND.getMessage())))
-                .then(productPersistencePort.deleteById(productId));
+        return transactionPort.transactional(
+                productPersistencePort.deleteByIdReturning(productId)
+                        .switchIfEmpty(Mono.error(new NotFoundException(TechnicalMessage.PRODUCT_NOT_FOUND.getMessage())))
+                        .flatMap(this::refreshReadModels));
+    }
+
+    private Mono<Void> refreshReadModels(Product deleted) {
+        return branchTopStockPersistencePort.refresh(deleted.getBranchId())
+                .then(inventoryStatsPersistencePort.apply(deleted.getBranchId(),
+                        InventoryStats.delta(deleted.getStock(), null)));
     }
 }
@@ -0,0 +1,33 @@
+package com.pragma.franchise.domain.usecase.product;
+
+import com.pragma.franchise.domain.api.product.GetProductServicePort;
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import reactor.core.publisher.Mono;
+
+public class GetProductUseCase implements GetProductServicePort {
+
+    private final ProductPersistencePort productPersistencePort;
+
+    public GetProductUseCase(ProductPersistencePort productPersistencePort) {
+        this.productPersistencePort = productPersistencePort;
+    }
+
+    @Override
+    public Mono<Product> getProductById(Long productId) {
+        return productPersistencePort.findById(productId)
+                .switchIfEmpty(notFound());
+    }
+
+    @Override
+    public Mono<Long> getProductVersion(Long productId) {
+        return productPersistencePort.findVersionById(productId)
+                .switchIfEmpty(notFound());
+    }
+
+    private static <T> Mono<T> notFound() {
+        return Mono.error(new NotFoundException(TechnicalMessage.PRODUCT_NOT_FOUND.getMessage()));
+    }
+}
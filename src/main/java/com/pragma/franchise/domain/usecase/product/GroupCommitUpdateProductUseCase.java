@@ -0,0 +1,220 @@
+package com.pragma.franchise.domain.usecase.product;
+
+import com.pragma.franchise.domain.api.product.UpdateProductServicePort;
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.model.StockLevel;
+import com.pragma.franchise.domain.model.StockUpdate;
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
+import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Agrupa las actualizaciones de stock de peticiones concurrentes (hasta {@code maxBatchSize} o durante
+ * {@code maxDelay}) y las escribe con una sola sentencia y una transacción, en lugar de un viaje de ida y
+ * vuelta por petición. Cada petición se completa por separado con su producto, o con NotFoundException si
+ * el producto no existe. Si el lote entero falla, cada actualización se reintenta por separado con el caso
+ * de uso delegado para que el error de una no afecte al resto. Las escrituras condicionales (con versión
+ * esperada) y el resto de operaciones pasan al delegado.
+ *
+ * <p>Cada producto va siempre al mismo de los {@code parallelism} carriles y cada carril escribe sus lotes
+ * uno tras otro, así que las actualizaciones de un producto se aplican en orden de llegada aunque haya
+ * varios lotes escribiéndose a la vez.
+ *
+ * <p>Las peticiones entran por un FluxSink, que serializa las emisiones concurrentes sin esperas activas en el
+ * hilo de la petición. Si un error escapa del pipeline se registra y se suscribe uno nuevo; las actualizaciones
+ * que el pipeline caído había aceptado terminan con ese error en lugar de quedarse esperando.
+ */
+public class GroupCommitUpdateProductUseCase implements UpdateProductServicePort {
+
+    private static final Logger log = Loggers.getLogger(GroupCommitUpdateProductUseCase.class);
+
+    private final UpdateProductServicePort delegate;
+    private final ProductPersistencePort productPersistencePort;
+    private final StockUpdateReadModels readModels;
+    private final TransactionPort transactionPort;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final int parallelism;
+
+    private volatile Pipeline pipeline;
+
+    public GroupCommitUpdateProductUseCase(UpdateProductServicePort delegate,
+                                           ProductPersistencePort productPersistencePort,
+                                           BranchTopStockPersistencePort branchTopStockPersistencePort,
+                                           InventoryStatsPersistencePort inventoryStatsPersistencePort,
+                                           TransactionPort transactionPort,
+                                           int maxBatchSize,
+                                           Duration maxDelay,
+                                           int parallelism) {
+        this.delegate = delegate;
+        this.productPersistencePort = productPersistencePort;
+        this.readModels = new StockUpdateReadModels(branchTopStockPersistencePort, inventoryStatsPersistencePort);
+        this.transactionPort = transactionPort;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+        this.parallelism = parallelism;
+        this.pipeline = start();
+    }
+
+    @Override
+    public Mono<Product> updateStockProduct(Long productId, Integer stock, Long expectedVersion) {
+        if (stock == null || stock < 0 || expectedVersion != null) {
+            return delegate.updateStockProduct(productId, stock, expectedVersion);
+        }
+        return Mono.defer(() -> {
+            PendingStockUpdate update = new PendingStockUpdate(productId, stock, Sinks.one());
+            Pipeline target;
+            do {
+                target = pipeline;
+            } while (!target.submit(update));
+            Pipeline accepted = target;
+            return update.result().asMono()
+                    .doFinally(signal -> accepted.release(update));
+        });
+    }
+
+    @Override
+    public Mono<Product> updateNameProduct(Long productId, String name, Long expectedVersion) {
+        return delegate.updateNameProduct(productId, name, expectedVersion);
+    }
+
+    @Override
+    public Mono<Product> adjustStockProduct(Long productId, Integer delta) {
+        return delegate.adjustStockProduct(productId, delta);
+    }
+
+    private Pipeline start() {
+        Pipeline started = new Pipeline();
+        // Con backpressure los lotes de un carril siguen creciendo mientras su escritura anterior está en curso
+        Flux.<PendingStockUpdate>create(started::attach)
+                .groupBy(update -> Math.floorMod(update.productId().hashCode(), parallelism))
+                .flatMap(lane -> lane
+                        .bufferTimeout(maxBatchSize, maxDelay, true)
+                        .concatMap(this::commit), parallelism)
+                .subscribe(null, error -> restart(started, error));
+        return started;
+    }
+
+    private void restart(Pipeline failed, Throwable error) {
+        log.error("Group commit pipeline failed, subscribing a new one", error);
+        pipeline = start();
+        failed.close(error);
+    }
+
+    /**
+     * Un producto repetido en la misma sentencia se actualizaría con uno cualquiera de sus valores, así que
+     * cada repetición va en una ronda posterior; las rondas se escriben en orden de llegada.
+     */
+    private Mono<Void> commit(List<PendingStockUpdate> batch) {
+        List<List<PendingStockUpdate>> rounds = new ArrayList<>();
+        Map<Long, Integer> occurrences = new HashMap<>();
+        batch.forEach(update -> {
+            int round = occurrences.merge(update.productId(), 1, Integer::sum) - 1;
+            if (round == rounds.size()) {
+                rounds.add(new ArrayList<>());
+            }
+            rounds.get(round).add(update);
+        });
+        return Flux.fromIterable(rounds)
+                .concatMap(this::commitRound)
+                .then();
+    }
+
+    private Mono<Void> commitRound(List<PendingStockUpdate> round) {
+        List<StockLevel> levels = round.stream()
+                .map(update -> new StockLevel(update.productId(), update.stock()))
+                .toList();
+        return transactionPort.transactional(
+                        productPersistencePort.updateStocks(levels)
+                                .collectList()
+                                .flatMap(updates -> readModels.refresh(updates).thenReturn(updates)))
+                .doOnNext(updates -> complete(round, updates))
+                .then()
+                .onErrorResume(error -> round.size() == 1
+                        ? Mono.fromRunnable(() -> round.get(0).result().tryEmitError(error))
+                        : isolate(round));
+    }
+
+    private void complete(List<PendingStockUpdate> round, List<StockUpdate> updates) {
+        Map<Long, Product> products = updates.stream()
+                .map(StockUpdate::getProduct)
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        round.forEach(update -> {
+            Product product = products.get(update.productId());
+            if (product != null) {
+                update.result().tryEmitValue(product);
+            } else {
+                update.result().tryEmitError(new NotFoundException(TechnicalMessage.PRODUCT_NOT_FOUND.getMessage()));
+            }
+        });
+    }
+
+    private Mono<Void> isolate(List<PendingStockUpdate> round) {
+        return Flux.fromIterable(round)
+                .flatMap(update -> delegate.updateStockProduct(update.productId(), update.stock(), null)
+                        .doOnNext(product -> update.result().tryEmitValue(product))
+                        .doOnError(error -> update.result().tryEmitError(error))
+                        .onErrorResume(error -> Mono.empty()))
+                .then();
+    }
+
+    private record PendingStockUpdate(Long productId, Integer stock, Sinks.One<Product> result) {
+    }
+
+    /**
+     * Una suscripción del pipeline y las actualizaciones que aceptó y aún no se completaron. Una vez cerrado no
+     * acepta más: quien llega tarde vuelve a intentarlo con el pipeline nuevo.
+     */
+    private static final class Pipeline {
+
+        private final Set<PendingStockUpdate> accepted = ConcurrentHashMap.newKeySet();
+        private volatile FluxSink<PendingStockUpdate> sink;
+        private boolean closed;
+
+        private void attach(FluxSink<PendingStockUpdate> sink) {
+            this.sink = sink;
+        }
+
+        // El bloqueo solo cubre la aceptación; la emisión al sink queda fuera para no serializar a los llamantes
+        private boolean submit(PendingStockUpdate update) {
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                accepted.add(update);
+            }
+            sink.next(update);
+            return true;
+        }
+
+        private void release(PendingStockUpdate update) {
+            accepted.remove(update);
+        }
+
+        private void close(Throwable error) {
+            synchronized (this) {
+                closed = true;
+            }
+            accepted.forEach(update -> update.result().tryEmitError(error));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.pragma.franchise.domain.usecase.product;
+
+import com.pragma.franchise.domain.api.product.ImportProductsServicePort;
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.InventoryStats;
+import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.model.ProductImportResult;
+import com.pragma.franchise.domain.spi.BranchPersistencePort;
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
+import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Importa los productos de una sucursal por lotes: la sucursal se valida una sola vez y cada lote es una
+ * sentencia INSERT que omite los nombres existentes, en una transacción junto con los read models. Los
+ * lotes se procesan de uno en uno, de modo que solo se pide al cliente el siguiente lote cuando el anterior
+ * está confirmado y la memoria queda acotada al tamaño de lote.
+ */
+public class ImportProductsUseCase implements ImportProductsServicePort {
+
+    private final ProductPersistencePort productPersistencePort;
+    private final BranchPersistencePort branchPersistencePort;
+    private final BranchTopStockPersistencePort branchTopStockPersistencePort;
+    private final InventoryStatsPersistencePort inventoryStatsPersistencePort;
+    private final TransactionPort transactionPort;
+    private final int batchSize;
+
+    public ImportProductsUseCase(ProductPersistencePort productPersistencePort,
+                                 BranchPersistencePort branchPersistencePort,
+                                 BranchTopStockPersistencePort branchTopStockPersistencePort,
+                                 InventoryStatsPersistencePort inventoryStatsPersistencePort,
+                                 TransactionPort transactionPort,
+                                 int batchSize) {
+        this.productPersistencePort = productPersistencePort;
+        this.branchPersistencePort = branchPersistencePort;
+        this.branchTopStockPersistencePort = branchTopStockPersistencePort;
+        this.inventoryStatsPersistencePort = inventoryStatsPersistencePort;
+        this.transactionPort = transactionPort;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Mono<ProductImportResult> importProducts(Long branchId, Flux<Product> products) {
+        return branchPersistencePort.findById(branchId)
+                .switchIfEmpty(Mono.error(new NotFoundException(TechnicalMessage.BRANCH_NOT_FOUND.getMessage())))
+                .thenMany(products.buffer(batchSize))
+                .concatMap(batch -> insertBatch(branchId, batch))
+                .reduce(ProductImportResult.empty(), ProductImportResult::plus);
+    }
+
+    private Mono<ProductImportResult> insertBatch(Long branchId, List<Product> batch) {
+        return transactionPort.transactional(
+                        productPersistencePort.insertIgnoringDuplicates(branchId, batch)
+                                .collectList()
+                                .flatMap(inserted -> refreshReadModels(branchId, inserted).thenReturn(inserted)))
+                .map(inserted -> new ProductImportResult(inserted.size(), batch.size() - inserted.size(), 0));
+    }
+
+    private Mono<Void> refreshReadModels(Long branchId, List<Product> inserted) {
+        if (inserted.isEmpty()) {
+            return Mono.empty();
+        }
+        InventoryStats delta = inserted.stream()
+                .map(product -> InventoryStats.delta(null, product.getStock()))
+                .reduce(InventoryStats::plus)
+                .orElseThrow();
+        return branchTopStockPersistencePort.refresh(branchId)
+                .then(inventoryStatsPersistencePort.apply(branchId, delta));
+    }
+}
@@ -0,0 +1,29 @@
+package com.pragma.franchise.domain.usecase.product;
+
+import com.pragma.franchise.domain.api.product.RebuildReadModelsServicePort;
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
+import reactor.core.publisher.Mono;
+
+public class RebuildReadModelsUseCase implements RebuildReadModelsServicePort {
+
+    private final BranchTopStockPersistencePort branchTopStockPersistencePort;
+    private final InventoryStatsPersistencePort inventoryStatsPersistencePort;
+    private final TransactionPort transactionPort;
+
+    public RebuildReadModelsUseCase(BranchTopStockPersistencePort branchTopStockPersistencePort,
+                                    InventoryStatsPersistencePort inventoryStatsPersistencePort,
+                                    TransactionPort transactionPort) {
+        this.branchTopStockPersistencePort = branchTopStockPersistencePort;
+        this.inventoryStatsPersistencePort = inventoryStatsPersistencePort;
+        this.transactionPort = transactionPort;
+    }
+
+    @Override
+    public Mono<Long> rebuildReadModels() {
+        return transactionPort.transactional(branchTopStockPersistencePort.rebuild()
+                .flatMap(topStockRows -> inventoryStatsPersistencePort.rebuild()
+                        .map(inventoryStatsRows -> topStockRows + inventoryStatsRows)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.pragma.franchise.domain.usecase.product;
+
+import com.pragma.franchise.domain.model.InventoryStats;
+import com.pragma.franchise.domain.model.StockUpdate;
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Actualiza los read models tras escribir el stock de varios productos en una sentencia: un refresco y un
+ * delta por sucursal, en orden de id. Cada sucursal se bloquea antes que sus filas de read models, así que
+ * cualquier escritura bloquea las sucursales en el mismo orden.
+ */
+final class StockUpdateReadModels {
+
+    private final BranchTopStockPersistencePort branchTopStockPersistencePort;
+    private final InventoryStatsPersistencePort inventoryStatsPersistencePort;
+
+    StockUpdateReadModels(BranchTopStockPersistencePort branchTopStockPersistencePort,
+                          InventoryStatsPersistencePort inventoryStatsPersistencePort) {
+        this.branchTopStockPersistencePort = branchTopStockPersistencePort;
+        this.inventoryStatsPersistencePort = inventoryStatsPersistencePort;
+    }
+
+    Mono<Void> refresh(List<StockUpdate> updates) {
+        Map<Long, InventoryStats> deltas = new TreeMap<>();
+        updates.forEach(update -> deltas.merge(update.getProduct().getBranchId(),
+                InventoryStats.delta(update.getPreviousStock(), update.getProduct().getStock()),
+                InventoryStats::plus));
+        // Una sucursal borrada mientras tanto no devuelve franquicia y no tiene agregados que actualizar
+        return Flux.fromIterable(deltas.entrySet())
+                .concatMap(branch -> branchTopStockPersistencePort.refresh(branch.getKey())
+                        .flatMap(franchiseId -> inventoryStatsPersistencePort.apply(
+                                branch.getKey(), branch.getValue())))
+                .then();
+    }
+}
@@ -1,20 +1,84 @@
 package com.pragma.franchise.domain.usecase.product;
 
 import com.pragma.franchise.domain.api.product.TopProductServicePort;
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.BadRequestException;
+import com.pragma.franchise.domain.model.TopStockChange;
 import com.pragma.franchise.domain.model.TopStockProduct;
 import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.domain.spi.TopStockChangePort;
 import reactor.core.publisher.Flux;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
 public class TopProductUseCase implements TopProductServicePort {
 
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1000;
+
+    private static final Comparator<TopStockProduct> RANKING = Comparator
+            .comparing(TopStockProduct::getStock)
+            .thenComparing(TopStockProduct::getProductId, Comparator.reverseOrder());
+
     private final ProductPersistencePort productPersistencePort;
+    private final TopStockChangePort topStockChangePort;
 
-    public TopProductUseCase(ProductPersistencePort productPersistencePort) {
+    public TopProductUseCase(ProductPersistencePort productPersistencePort, TopStockChangePort topStockChangePort) {
         this.productPersistencePort = productPersistencePort;
+        this.topStockChangePort = topStockChangePort;
     }
 
     @Override
     public Flux<TopStockProduct> getTopStockProducts(Long franchiseId) {
         return productPersistencePort.getTopStockProducts(franchiseId);
     }
+
+    @Override
+    public Flux<TopStockProduct> streamTopStockProducts(Long franchiseId) {
+        return productPersistencePort.streamTopStockProducts(franchiseId);
+    }
+
+    @Override
+    public Flux<TopStockProduct> getTopStockProducts(Long franchiseId, Integer perBranch, Integer limit) {
+        int resolvedLimit = limit != null ? limit : DEFAULT_LIMIT;
+        int resolvedPerBranch = perBranch != null ? perBranch : resolvedLimit;
+        if (!isInRange(resolvedLimit) || !isInRange(resolvedPerBranch)) {
+            return Flux.error(new BadRequestException(TechnicalMessage.INVALID_PARAMETERS.getMessage()));
+        }
+        return productPersistencePort.getTopStockProductsPerBranch(franchiseId, resolvedPerBranch)
+                .collect(() -> new PriorityQueue<>(resolvedLimit, RANKING),
+                        (heap, product) -> offer(heap, product, resolvedLimit))
+                .flatMapIterable(TopProductUseCase::sortDescending);
+    }
+
+    @Override
+    public Flux<TopStockChange> streamTopStockChanges(Long franchiseId) {
+        return topStockChangePort.listen(franchiseId);
+    }
+
+    private boolean isInRange(int value) {
+        return value > 0 && value <= MAX_LIMIT;
+    }
+
+    /**
+     * Mantiene en un min-heap solo los {@code limit} mejores productos vistos hasta ahora, de modo que
+     * la memoria es O(limit) sin importar cuántas sucursales tenga la franquicia.
+     */
+    private static void offer(PriorityQueue<TopStockProduct> heap, TopStockProduct product, int limit) {
+        if (heap.size() < limit) {
+            heap.offer(product);
+        } else if (RANKING.compare(product, heap.peek()) > 0) {
+            heap.poll();
+            heap.offer(product);
+        }
+    }
+
+    private static List<TopStockProduct> sortDescending(PriorityQueue<TopStockProduct> heap) {
+        List<TopStockProduct> products = new ArrayList<>(heap);
+        products.sort(RANKING.reversed());
+        return products;
+    }
 }
@@ -3,54 +3,102 @@ package com.pragma.franchise.domain.usecase.product;
 import com.pragma.franchise.domain.api.product.UpdateProductServicePort;
 import com.pragma.franchise.domain.enums.TechnicalMessage;
 import com.pragma.franchise.domain.exceptions.BadRequestException;
+import com.pragma.franchise.domain.exceptions.BusinessException;
 import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.exceptions.PreconditionFailedException;
+import com.pragma.franchise.domain.model.InventoryStats;
 import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.model.StockUpdate;
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
 import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
-
 public class UpdateProductUseCase implements UpdateProductServicePort {
 
     private final ProductPersistencePort productPersistencePort;
+    private final BranchTopStockPersistencePort branchTopStockPersistencePort;
+    private final InventoryStatsPersistencePort inventoryStatsPersistencePort;
+    private final TransactionPort transactionPort;
 
-    public UpdateProductUseCase(ProductPersistencePort productPersistencePort) {
+    public UpdateProductUseCase(ProductPersistencePort productPersistencePort,
+                                BranchTopStockPersistencePort branchTopStockPersistencePort,
+                                InventoryStatsPersistencePort inventoryStatsPersistencePort,
+                                TransactionPort transactionPort) {
         this.productPersistencePort = productPersistencePort;
+        this.branchTopStockPersistencePort = branchTopStockPersistencePort;
+        this.inventoryStatsPersistencePort = inventoryStatsPersistencePort;
+        this.transactionPort = transactionPort;
     }
 
     @Override
-    public Mono<Product> updateStockProduct(Long productId, Integer stock) {
+    public Mono<Product> updateStockProduct(Long productId, Integer stock, Long expectedVersion) {
         if (stock == null || stock < 0) {
             return Mono.error(new BadRequestException(TechnicalMessage.INVALID_PARAMETERS.getMessage()));
         }
-        return productPersistencePort.findById(productId)
-                .switchIfEmpty(Mono.error(new NotFoundException(TechnicalMessage.PRODUCT_NOT_FOUND.getMessage())))
-                .map(product -> modifyStock(product, stock))
-                .flatMap(productPersistencePort::save);
+        // Una sola sentencia bloquea, actualiza y devuelve el stock anterior para el delta del inventario
+        return transactionPort.transactional(
+                productPersistencePort.updateStock(productId, stock, expectedVersion)
+                        .switchIfEmpty(Mono.defer(() -> rejectConditionalWrite(productId, expectedVersion)))
+                        .flatMap(update -> refreshReadModels(update.getProduct(),
+                                InventoryStats.delta(update.getPreviousStock(), stock))));
     }
 
     @Override
-    public Mono<Product> updateNameProduct(Long productId, String name) {
+    public Mono<Product> adjustStockProduct(Long productId, Integer delta) {
+        if (delta == null) {
+            return Mono.error(new BadRequestException(TechnicalMessage.INVALID_PARAMETERS.getMessage()));
+        }
+        return transactionPort.transactional(
+                productPersistencePort.adjustStock(productId, delta)
+                        .switchIfEmpty(Mono.defer(() -> rejectAdjustment(productId, delta)))
+                        .flatMap(update -> refreshReadModels(update.getProduct(),
+                                InventoryStats.delta(update.getPreviousStock(), update.getProduct().getStock()))));
+    }
+
+    @Override
+    public Mono<Product> updateNameProduct(Long productId, String name, Long expectedVersion) {
         if (name == null || name.isEmpty()) {
             return Mono.error(new BadRequestException(TechnicalMessage.INVALID_PARAMETERS.getMessage()));
         }
-        return productPersistencePort
-                .findById(productId)
-                .switchIfEmpty(Mono.error(new NotFoundException(TechnicalMessage.PRODUCT_NOT_FOUND.getMessage())))
-                .map(product -> modifyName(product, name))
-                .flatMap(productPersistencePort::save);
+        return productPersistencePort.updateName(productId, name.trim(), expectedVersion)
+                .switchIfEmpty(Mono.defer(() -> rejectConditionalWrite(productId, expectedVersion)));
     }
 
-    private Product modifyStock(Product product, Integer stock) {
-        product.setStock(stock);
-        product.setUpdatedAt(LocalDateTime.now());
-        return product;
+    /**
+     * La escritura condicional no devuelve fila si el producto no existe o si cambió de versión; solo con
+     * una versión esperada se consulta el producto para distinguir ambos errores.
+     */
+    private <T> Mono<T> rejectConditionalWrite(Long productId, Long expectedVersion) {
+        Mono<T> notFound = Mono.error(new NotFoundException(TechnicalMessage.PRODUCT_NOT_FOUND.getMessage()));
+        if (expectedVersion == null) {
+            return notFound;
+        }
+        return productPersistencePort.findById(productId)
+                .flatMap(product -> Mono.<T>error(new PreconditionFailedException(TechnicalMessage.VERSION_MISMATCH.getMessage())))
+                .switchIfEmpty(notFound);
     }
 
-    private Product modifyName(Product product, String name) {
-        product.setName(name.trim());
-        product.setUpdatedAt(LocalDateTime.now());
-        return product;
+    /**
+     * El ajuste no devuelve fila si el producto no existe o si dejaría el stock en negativo; solo en ese
+     * caso se consulta el producto para distinguir ambos errores.
+     */
+    /**
+     * Si el producto existe, el ajuste se rechazó por salirse del rango: por debajo de cero si el delta es
+     * negativo, por encima del máximo de un INT si es positivo.
+     */
+    private Mono<StockUpdate> rejectAdjustment(Long productId, Integer delta) {
+        return productPersistencePort.findById(productId)
+                .flatMap(product -> Mono.<StockUpdate>error(delta < 0
+                        ? new BusinessException(TechnicalMessage.PRODUCT_INSUFFICIENT_STOCK)
+                        : new BadRequestException(TechnicalMessage.PRODUCT_STOCK_OUT_OF_RANGE.getMessage())))
+                .switchIfEmpty(Mono.error(new NotFoundException(TechnicalMessage.PRODUCT_NOT_FOUND.getMessage())));
     }
 
+    private Mono<Product> refreshReadModels(Product product, InventoryStats delta) {
+        return branchTopStockPersistencePort.refresh(product.getBranchId())
+                .then(inventoryStatsPersistencePort.apply(product.getBranchId(), delta))
+                .thenReturn(product);
+    }
 }
@@ -0,0 +1,8 @@
+package com.pragma.franchise.infrastructure.adapters.idempotency;
+
+/**
+ * Idempotency-Key acotada al cliente que la envía: dos clientes pueden usar la misma clave sin recibir
+ * la respuesta del otro.
+ */
+public record IdempotencyKey(String clientId, String key) {
+}
@@ -0,0 +1,13 @@
+package com.pragma.franchise.infrastructure.adapters.idempotency;
+
+import reactor.core.publisher.Mono;
+
+public interface IdempotencyStore {
+
+    /**
+     * Devuelve la respuesta guardada para la clave, o vacío si no hay ninguna o ya expiró.
+     */
+    Mono<IdempotentResponse> find(IdempotencyKey key);
+
+    Mono<Void> save(IdempotencyKey key, IdempotentResponse response);
+}
@@ -0,0 +1,29 @@
+package com.pragma.franchise.infrastructure.adapters.idempotency;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Respuesta guardada para una Idempotency-Key. Conserva el método, la ruta y el hash del cuerpo de la petición
+ * original para rechazar la misma clave usada en otra operación o con otro cuerpo.
+ */
+@Getter
+@Builder
+public class IdempotentResponse {
+
+    private final String method;
+    private final String path;
+    private final String requestHash;
+    private final int statusCode;
+    private final String contentType;
+    private final String eTag;
+    private final byte[] body;
+
+    public boolean matches(String method, String path) {
+        return this.method.equals(method) && this.path.equals(path);
+    }
+
+    public boolean matchesBody(String requestHash) {
+        return this.requestHash.equals(requestHash);
+    }
+}
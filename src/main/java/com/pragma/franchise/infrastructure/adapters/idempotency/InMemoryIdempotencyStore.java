@@ -0,0 +1,25 @@
+package com.pragma.franchise.infrastructure.adapters.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Almacén local acotado por tamaño y con expiración por escritura; cubre los reintentos que llegan a la
+ * misma instancia.
+ */
+@AllArgsConstructor
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<IdempotencyKey, IdempotentResponse> responses;
+
+    @Override
+    public Mono<IdempotentResponse> find(IdempotencyKey key) {
+        return Mono.fromSupplier(() -> responses.getIfPresent(key));
+    }
+
+    @Override
+    public Mono<Void> save(IdempotencyKey key, IdempotentResponse response) {
+        return Mono.fromRunnable(() -> responses.put(key, response));
+    }
+}
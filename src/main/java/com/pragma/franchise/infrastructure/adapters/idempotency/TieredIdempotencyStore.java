@@ -0,0 +1,38 @@
+package com.pragma.franchise.infrastructure.adapters.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Consulta primero la memoria local y después el almacén compartido, que cubre los reintentos que el balanceador
+ * envía a otra instancia. Un fallo del almacén compartido no falla la petición: se trata como un fallo de caché.
+ */
+@Slf4j
+@AllArgsConstructor
+public class TieredIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyStore local;
+    private final IdempotencyStore shared;
+
+    @Override
+    public Mono<IdempotentResponse> find(IdempotencyKey key) {
+        return local.find(key)
+                .switchIfEmpty(Mono.defer(() -> shared.find(key)
+                        .onErrorResume(error -> {
+                            log.warn("Could not read idempotency key from the shared store: {}", error.getMessage());
+                            return Mono.empty();
+                        })
+                        .flatMap(response -> local.save(key, response).thenReturn(response))));
+    }
+
+    @Override
+    public Mono<Void> save(IdempotencyKey key, IdempotentResponse response) {
+        return local.save(key, response)
+                .then(shared.save(key, response)
+                        .onErrorResume(error -> {
+                            log.warn("Could not write idempotency key to the shared store: {}", error.getMessage());
+                            return Mono.empty();
+                        }));
+    }
+}
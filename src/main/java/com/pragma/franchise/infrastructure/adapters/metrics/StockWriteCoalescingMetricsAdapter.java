@@ -0,0 +1,39 @@
+package com.pragma.franchise.infrastructure.adapters.metrics;
+
+import com.pragma.franchise.domain.spi.StockWriteCoalescingMetricsPort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+
+/**
+ * Publica en Micrometer el tamaño de cada grupo de actualizaciones de stock (su media es la tasa de
+ * agrupación: peticiones por escritura) y la latencia que añade la ventana a cada petición.
+ */
+public class StockWriteCoalescingMetricsAdapter implements StockWriteCoalescingMetricsPort {
+
+    private final DistributionSummary coalescedRequests;
+    private final Timer delay;
+
+    public StockWriteCoalescingMetricsAdapter(MeterRegistry meterRegistry) {
+        this.coalescedRequests = DistributionSummary.builder("franchise.stock.coalescing.requests")
+                .description("Stock update requests resolved by a single database write")
+                .baseUnit("requests")
+                .register(meterRegistry);
+        this.delay = Timer.builder("franchise.stock.coalescing.delay")
+                .description("Time a stock update waited in the coalescing window before its write started")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordWrite(int requests) {
+        coalescedRequests.record(requests);
+    }
+
+    @Override
+    public void recordDelay(Duration duration) {
+        delay.record(duration);
+    }
+}
@@ -1,13 +1,19 @@
 package com.pragma.franchise.infrastructure.adapters.persistenceadapter;
 
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
 import com.pragma.franchise.domain.model.Branch;
 import com.pragma.franchise.domain.spi.BranchPersistencePort;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.mapper.BranchEntityMapper;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.BranchRepository;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.resilience.ResilienceHelper;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.routing.ReadRouting;
 import lombok.AllArgsConstructor;
 import reactor.core.publisher.Mono;
 
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ConstraintViolations.FK_BRANCH_FRANCHISE;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ConstraintViolations.violates;
+
 @AllArgsConstructor
 public class BranchPersistenceAdapter implements BranchPersistencePort {
 
@@ -16,16 +22,44 @@ public class BranchPersistenceAdapter implements BranchPersistencePort {
     private final ResilienceHelper resilienceHelper;
 
     @Override
-    public Mono<Branch> save(Branch branch) {
+    public Mono<Branch> insertIfAbsent(Branch branch) {
         return resilienceHelper.applyResilience(
-                branchRepository.save(branchEntityMapper.toEntity(branch))
-                        .map(branchEntityMapper::toModel));
+                branchRepository.insertIfAbsent(branch.getName(), branch.getFranchiseId())
+                        .map(branchEntityMapper::toModel)
+                        .onErrorMap(violates(FK_BRANCH_FRANCHISE),
+                                error -> new NotFoundException(TechnicalMessage.FRANCHISE_NOT_FOUND.getMessage())));
     }
 
     @Override
     public Mono<Branch> findById(Long id) {
-        return resilienceHelper.applyResilience(
+        return resilienceHelper.applyResilience(ReadRouting.onReplica(
                 branchRepository.findById(id)
+                        .map(branchEntityMapper::toModel)));
+    }
+
+    @Override
+    public Mono<Long> findVersionById(Long id) {
+        return resilienceHelper.applyResilience(branchRepository.findVersionById(id));
+    }
+
+    @Override
+    public Mono<Branch> updateName(Long id, String name, Long expectedVersion) {
+        return resilienceHelper.applyResilience(
+                branchRepository.updateName(id, name, expectedVersion)
+                        .map(branchEntityMapper::toModel));
+    }
+
+    @Override
+    public Mono<Void> lockForDelete(Long id) {
+        return resilienceHelper.applyResilience(branchRepository.lockProductsForDelete(id))
+                .then(resilienceHelper.applyResilience(branchRepository.lockForDelete(id)))
+                .then();
+    }
+
+    @Override
+    public Mono<Branch> deleteByIdReturning(Long id) {
+        return resilienceHelper.applyResilience(
+                branchRepository.deleteByIdReturning(id)
                         .map(branchEntityMapper::toModel));
     }
 }
@@ -0,0 +1,29 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter;
+
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.BranchTopStockRepository;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.resilience.ResilienceHelper;
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@AllArgsConstructor
+public class BranchTopStockPersistenceAdapter implements BranchTopStockPersistencePort {
+
+    private final BranchTopStockRepository branchTopStockRepository;
+    private final ResilienceHelper resilienceHelper;
+
+    @Override
+    public Mono<Long> refresh(Long branchId) {
+        return resilienceHelper.applyResilience(branchTopStockRepository.lockBranch(branchId))
+                .flatMap(franchiseId -> resilienceHelper.applyResilience(branchTopStockRepository.refresh(branchId))
+                        .filter(Boolean::booleanValue)
+                        .flatMap(changed -> resilienceHelper.applyResilience(
+                                branchTopStockRepository.notifyChange(branchId)))
+                        .thenReturn(franchiseId));
+    }
+
+    @Override
+    public Mono<Long> rebuild() {
+        return branchTopStockRepository.rebuild();
+    }
+}
@@ -1,37 +1,76 @@
 package com.pragma.franchise.infrastructure.adapters.persistenceadapter;
 
 import com.pragma.franchise.domain.model.Franchise;
+import com.pragma.franchise.domain.model.FranchiseTreeRow;
 import com.pragma.franchise.domain.spi.FranchisePersistencePort;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.mapper.FranchiseEntityMapper;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.FranchiseRepository;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.resilience.ResilienceHelper;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.routing.ReadRouting;
 import lombok.AllArgsConstructor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 @AllArgsConstructor
 public class FranchisePersistenceAdapter implements FranchisePersistencePort {
 
+    private static final String TREE_BULKHEAD_NAME = "treeStreamBH";
+
     private final FranchiseRepository franchiseRepository;
     private final FranchiseEntityMapper franchiseEntityMapper;
     private final ResilienceHelper resilienceHelper;
+    private final int treeFetchSize;
+    private final Duration treeMaxDuration;
 
     @Override
-    public Mono<Franchise> save(Franchise franchise) {
+    public Mono<Franchise> insertIfAbsent(Franchise franchise) {
         return resilienceHelper.applyResilience(
-                franchiseRepository.save(franchiseEntityMapper.toEntity(franchise))
+                franchiseRepository.insertIfAbsent(franchise.getName())
                         .map(franchiseEntityMapper::toModel));
     }
 
     @Override
-    public Mono<Boolean> existByName(String name) {
+    public Mono<Franchise> findById(Long id) {
+        return resilienceHelper.applyResilience(ReadRouting.onReplica(
+                franchiseRepository.findById(id)
+                        .map(franchiseEntityMapper::toModel)));
+    }
+
+    @Override
+    public Mono<Long> findVersionById(Long id) {
+        return resilienceHelper.applyResilience(franchiseRepository.findVersionById(id));
+    }
+
+    @Override
+    public Mono<Franchise> updateName(Long id, String name, Long expectedVersion) {
         return resilienceHelper.applyResilience(
-                franchiseRepository.existsByName(name));
+                franchiseRepository.updateName(id, name, expectedVersion)
+                        .map(franchiseEntityMapper::toModel));
     }
 
     @Override
-    public Mono<Franchise> findById(Long id) {
+    public Mono<Void> lockForDelete(Long id) {
+        return resilienceHelper.applyResilience(franchiseRepository.lockProductsForDelete(id))
+                .thenMany(resilienceHelper.applyResilience(franchiseRepository.lockBranchesForDelete(id)))
+                .then();
+    }
+
+    @Override
+    public Mono<Franchise> deleteByIdReturning(Long id) {
         return resilienceHelper.applyResilience(
-                franchiseRepository.findById(id)
+                franchiseRepository.deleteByIdReturning(id)
                         .map(franchiseEntityMapper::toModel));
     }
+
+    /**
+     * El árbol de una franquicia grande tarda mucho más en descargarse que el top de stock, así que tiene su
+     * propio bulkhead y su propia duración máxima.
+     */
+    @Override
+    public Flux<FranchiseTreeRow> streamTree(Long franchiseId) {
+        return resilienceHelper.applyStreamResilience(franchiseRepository.streamTree(franchiseId, treeFetchSize),
+                TREE_BULKHEAD_NAME, treeMaxDuration);
+    }
 }
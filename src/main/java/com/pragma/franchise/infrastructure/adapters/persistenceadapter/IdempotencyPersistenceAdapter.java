@@ -0,0 +1,76 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter;
+
+import com.pragma.franchise.infrastructure.adapters.idempotency.IdempotencyKey;
+import com.pragma.franchise.infrastructure.adapters.idempotency.IdempotencyStore;
+import com.pragma.franchise.infrastructure.adapters.idempotency.IdempotentResponse;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity.IdempotentResponseEntity;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.IdempotentResponseRepository;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.resilience.ResilienceHelper;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Almacén de Idempotency-Key compartido entre instancias. Las filas expiradas dejan de leerse en cuanto
+ * vencen y se purgan en segundo plano.
+ */
+@Slf4j
+public class IdempotencyPersistenceAdapter implements IdempotencyStore, AutoCloseable {
+
+    private final IdempotentResponseRepository idempotentResponseRepository;
+    private final ResilienceHelper resilienceHelper;
+    private final Duration ttl;
+    private final Disposable purge;
+
+    public IdempotencyPersistenceAdapter(IdempotentResponseRepository idempotentResponseRepository,
+                                         ResilienceHelper resilienceHelper,
+                                         Duration ttl,
+                                         Duration purgeInterval) {
+        this.idempotentResponseRepository = idempotentResponseRepository;
+        this.resilienceHelper = resilienceHelper;
+        this.ttl = ttl;
+        this.purge = Flux.interval(purgeInterval, purgeInterval)
+                .concatMap(tick -> idempotentResponseRepository.purgeExpired()
+                        .onErrorResume(error -> {
+                            log.warn("Could not purge expired idempotency keys: {}", error.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public Mono<IdempotentResponse> find(IdempotencyKey key) {
+        return resilienceHelper.applyResilience(
+                idempotentResponseRepository.findUnexpired(key.clientId(), key.key())
+                        .map(this::toResponse));
+    }
+
+    @Override
+    public Mono<Void> save(IdempotencyKey key, IdempotentResponse response) {
+        return resilienceHelper.applyResilience(
+                        idempotentResponseRepository.saveResponse(key.clientId(), key.key(), response.getMethod(),
+                                response.getPath(), response.getRequestHash(), response.getStatusCode(),
+                                response.getContentType(), response.getETag(), response.getBody(), ttl.toSeconds()))
+                .then();
+    }
+
+    @Override
+    public void close() {
+        purge.dispose();
+    }
+
+    private IdempotentResponse toResponse(IdempotentResponseEntity entity) {
+        return IdempotentResponse.builder()
+                .method(entity.getRequestMethod())
+                .path(entity.getRequestPath())
+                .requestHash(entity.getRequestHash())
+                .statusCode(entity.getStatusCode())
+                .contentType(entity.getContentType())
+                .eTag(entity.getEtag())
+                .body(entity.getBody())
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter;
+
+import com.pragma.franchise.domain.model.InventoryStats;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.mapper.InventoryStatsEntityMapper;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.BranchInventoryStatsRepository;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.resilience.ResilienceHelper;
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@AllArgsConstructor
+public class InventoryStatsPersistenceAdapter implements InventoryStatsPersistencePort {
+
+    private final BranchInventoryStatsRepository branchInventoryStatsRepository;
+    private final InventoryStatsEntityMapper inventoryStatsEntityMapper;
+    private final ResilienceHelper resilienceHelper;
+
+    @Override
+    public Mono<Void> apply(Long branchId, InventoryStats delta) {
+        if (delta.isEmpty()) {
+            return Mono.empty();
+        }
+        return resilienceHelper.applyResilience(
+                        branchInventoryStatsRepository.applyDelta(branchId, delta.getTotalStock(), delta.getSkuCount(),
+                                delta.getZeroStockCount(), delta.getStock1To9Count(), delta.getStock10To99Count(),
+                                delta.getStock100To999Count(), delta.getStock1000PlusCount()))
+                .then();
+    }
+
+    @Override
+    public Flux<InventoryStats> findBranchStatsByFranchiseId(Long franchiseId) {
+        return resilienceHelper.applyResilience(
+                branchInventoryStatsRepository.findAllByFranchiseId(franchiseId)
+                        .map(inventoryStatsEntityMapper::toModel));
+    }
+
+    @Override
+    public Mono<Long> rebuild() {
+        return branchInventoryStatsRepository.rebuild();
+    }
+}
@@ -1,23 +1,35 @@
 package com.pragma.franchise.infrastructure.adapters.persistenceadapter;
 
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.BusinessException;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
 import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.model.StockLevel;
+import com.pragma.franchise.domain.model.StockUpdate;
 import com.pragma.franchise.domain.model.TopStockProduct;
 import com.pragma.franchise.domain.spi.ProductPersistencePort;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.mapper.ProductEntityMapper;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ProductRepository;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.resilience.ResilienceHelper;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.routing.ReadRouting;
 import lombok.AllArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ConstraintViolations.FK_PRODUCT_BRANCH;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ConstraintViolations.UK_PRODUCT_NAME_BRANCH;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ConstraintViolations.violates;
+
 @AllArgsConstructor
 public class ProductPersistenceAdapter implements ProductPersistencePort {
 
     private final ProductRepository productRepository;
     private final ProductEntityMapper productEntityMapper;
     private final ResilienceHelper resilienceHelper;
+    private final int streamFetchSize;
 
     /**
      * Contador de llamadas para simular fallos en getTopStockProducts.
@@ -29,34 +41,88 @@ public class ProductPersistenceAdapter implements ProductPersistencePort {
     public Mono<Product> save(Product product) {
         return resilienceHelper.applyResilience(
                 productRepository.save(productEntityMapper.toEntity(product))
+                        .map(productEntityMapper::toModel)
+                        .onErrorMap(violates(FK_PRODUCT_BRANCH),
+                                error -> new NotFoundException(TechnicalMessage.BRANCH_NOT_FOUND.getMessage()))
+                        .onErrorMap(violates(UK_PRODUCT_NAME_BRANCH),
+                                error -> new BusinessException(TechnicalMessage.PRODUCT_ALREADY_EXISTS)));
+    }
+
+    @Override
+    public Mono<Product> findById(Long id) {
+        return resilienceHelper.applyResilience(ReadRouting.onReplica(
+                productRepository.findById(id)
+                        .map(productEntityMapper::toModel)));
+    }
+
+    @Override
+    public Mono<Long> findVersionById(Long id) {
+        return resilienceHelper.applyResilience(productRepository.findVersionById(id));
+    }
+
+    @Override
+    public Mono<StockUpdate> updateStock(Long id, Integer stock, Long expectedVersion) {
+        return resilienceHelper.applyResilience(
+                productRepository.updateStock(id, stock, expectedVersion)
+                        .map(row -> new StockUpdate(productEntityMapper.toModel(row), row.getPreviousStock())));
+    }
+
+    @Override
+    public Mono<Product> updateName(Long id, String name, Long expectedVersion) {
+        return resilienceHelper.applyResilience(
+                productRepository.updateName(id, name, expectedVersion)
                         .map(productEntityMapper::toModel));
     }
 
     @Override
-    public Mono<Boolean> existsByNameAndBranchId(String name, Long branchId) {
+    public Mono<StockUpdate> adjustStock(Long id, Integer delta) {
         return resilienceHelper.applyResilience(
-                productRepository.existsByNameAndBranchId(name, branchId));
+                productRepository.adjustStock(id, delta)
+                        .map(row -> new StockUpdate(productEntityMapper.toModel(row), row.getPreviousStock())));
     }
 
     @Override
-    public Mono<Product> findById(Long id) {
+    public Flux<StockUpdate> updateStocks(List<StockLevel> stockLevels) {
+        Long[] ids = stockLevels.stream().map(StockLevel::getProductId).toArray(Long[]::new);
+        Integer[] stocks = stockLevels.stream().map(StockLevel::getStock).toArray(Integer[]::new);
         return resilienceHelper.applyResilience(
-                productRepository.findById(id)
+                productRepository.updateStocks(ids, stocks)
+                        .map(row -> new StockUpdate(productEntityMapper.toModel(row), row.getPreviousStock())));
+    }
+
+    @Override
+    public Flux<Product> insertIgnoringDuplicates(Long branchId, List<Product> products) {
+        String[] names = products.stream().map(Product::getName).toArray(String[]::new);
+        Integer[] stocks = products.stream().map(Product::getStock).toArray(Integer[]::new);
+        return resilienceHelper.applyResilience(
+                productRepository.insertIgnoringDuplicates(branchId, names, stocks)
                         .map(productEntityMapper::toModel));
     }
 
     @Override
-    public Mono<Void> deleteById(Long productId) {
+    public Mono<Product> deleteByIdReturning(Long id) {
         return resilienceHelper.applyResilience(
-                productRepository.deleteById(productId));
+                productRepository.deleteByIdReturning(id)
+                        .map(productEntityMapper::toModel));
     }
 
     @Override
     public Flux<TopStockProduct> getTopStockProducts(Long franchiseId) {
-        return resilienceHelper.applyResilience(
-                productRepository.findTopStockProductsByFranchise(franchiseId));
+        return resilienceHelper.applyResilience(ReadRouting.onReplica(
+                productRepository.findTopStockProductsByFranchise(franchiseId)));
     }
 
+    @Override
+    public Flux<TopStockProduct> streamTopStockProducts(Long franchiseId) {
+        return resilienceHelper.applyStreamResilience(ReadRouting.onReplica(
+                productRepository.streamTopStockProductsByFranchise(franchiseId, streamFetchSize)));
+    }
+
+    @Override
+    public Flux<TopStockProduct> getTopStockProductsPerBranch(Long franchiseId, int perBranch) {
+        return resilienceHelper.applyResilience(ReadRouting.onReplica(
+                productRepository.findTopStockProductsPerBranchByFranchise(franchiseId, perBranch)));
+    }
 
     /**
      * ============================================================
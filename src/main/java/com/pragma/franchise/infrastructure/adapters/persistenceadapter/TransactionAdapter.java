@@ -0,0 +1,23 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter;
+
+import com.pragma.franchise.domain.spi.TransactionPort;
+import lombok.AllArgsConstructor;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@AllArgsConstructor
+public class TransactionAdapter implements TransactionPort {
+
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    public <T> Mono<T> transactional(Mono<T> mono) {
+        return transactionalOperator.transactional(mono);
+    }
+
+    @Override
+    public <T> Flux<T> transactional(Flux<T> flux) {
+        return transactionalOperator.transactional(flux);
+    }
+}
@@ -0,0 +1,30 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter;
+
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+public final class TransactionSynchronizations {
+
+    private TransactionSynchronizations() {
+    }
+
+    /**
+     * Ejecuta la acción cuando termina la transacción reactiva en curso, o de inmediato si no hay
+     * ninguna. Evita que un lector vuelva a poblar una caché con datos previos al commit.
+     */
+    public static Mono<Void> afterCompletion(Runnable action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .doOnNext(manager -> manager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCompletion(int status) {
+                        return Mono.fromRunnable(action);
+                    }
+                }))
+                .switchIfEmpty(Mono.fromRunnable(action))
+                .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(action))
+                .then();
+    }
+}
@@ -0,0 +1,81 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pragma.franchise.domain.model.Branch;
+import com.pragma.franchise.domain.spi.BranchPersistencePort;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.TransactionSynchronizations;
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Cachea la búsqueda de sucursales por id, incluidas las que no existen. Un acierto se resuelve en memoria
+ * sin pasar por ResilienceHelper. Crear o renombrar actualiza la entrada y borrar la invalida al terminar la
+ * transacción; las sucursales borradas en cascada con su franquicia las invalida CachedFranchisePersistenceAdapter.
+ */
+@AllArgsConstructor
+public class CachedBranchPersistenceAdapter implements BranchPersistencePort {
+
+    private final BranchPersistencePort delegate;
+    private final Cache<Long, Optional<Branch>> branches;
+
+    @Override
+    public Mono<Branch> insertIfAbsent(Branch branch) {
+        return delegate.insertIfAbsent(branch)
+                .doOnNext(inserted -> ReferenceCaches.putIfNewer(
+                        branches, inserted.getId(), Optional.of(inserted), Branch::getVersion));
+    }
+
+    @Override
+    public Mono<Branch> findById(Long id) {
+        return Mono.defer(() -> {
+            Optional<Branch> cached = branches.getIfPresent(id);
+            if (cached != null) {
+                return Mono.justOrEmpty(cached);
+            }
+            return delegate.findById(id)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .doOnNext(branch -> ReferenceCaches.putIfNewer(branches, id, branch, Branch::getVersion))
+                    .flatMap(Mono::justOrEmpty);
+        });
+    }
+
+    /**
+     * La versión se lee siempre de la base. Si la entrada cacheada no coincide (otra instancia modificó o
+     * borró la sucursal), se descarta para que el siguiente findById la recargue.
+     */
+    @Override
+    public Mono<Long> findVersionById(Long id) {
+        return delegate.findVersionById(id)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .doOnNext(version -> {
+                    Optional<Branch> cached = branches.getIfPresent(id);
+                    if (cached != null && !cached.map(Branch::getVersion).equals(version)) {
+                        branches.invalidate(id);
+                    }
+                })
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    @Override
+    public Mono<Branch> updateName(Long id, String name, Long expectedVersion) {
+        return delegate.updateName(id, name, expectedVersion)
+                .doOnNext(updated -> ReferenceCaches.putIfNewer(branches, id, Optional.of(updated), Branch::getVersion))
+                .switchIfEmpty(Mono.fromRunnable(() -> branches.invalidate(id)));
+    }
+
+    @Override
+    public Mono<Void> lockForDelete(Long id) {
+        return delegate.lockForDelete(id);
+    }
+
+    @Override
+    public Mono<Branch> deleteByIdReturning(Long id) {
+        return delegate.deleteByIdReturning(id)
+                .flatMap(deleted -> TransactionSynchronizations.afterCompletion(() -> branches.invalidate(id))
+                        .thenReturn(deleted));
+    }
+}
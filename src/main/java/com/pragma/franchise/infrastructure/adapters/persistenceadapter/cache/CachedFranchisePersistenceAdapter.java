@@ -0,0 +1,96 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pragma.franchise.domain.model.Branch;
+import com.pragma.franchise.domain.model.Franchise;
+import com.pragma.franchise.domain.model.FranchiseTreeRow;
+import com.pragma.franchise.domain.spi.FranchisePersistencePort;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.TransactionSynchronizations;
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Cachea la búsqueda de franquicias por id, incluidas las que no existen. Un acierto se resuelve en memoria
+ * sin pasar por ResilienceHelper. Borrar una franquicia invalida también las sucursales cacheadas que se
+ * borran con ella; recorrer la caché de sucursales es aceptable porque los borrados son raros.
+ */
+@AllArgsConstructor
+public class CachedFranchisePersistenceAdapter implements FranchisePersistencePort {
+
+    private final FranchisePersistencePort delegate;
+    private final Cache<Long, Optional<Franchise>> franchises;
+    private final Cache<Long, Optional<Branch>> branches;
+
+    @Override
+    public Mono<Franchise> insertIfAbsent(Franchise franchise) {
+        return delegate.insertIfAbsent(franchise)
+                .doOnNext(inserted -> ReferenceCaches.putIfNewer(
+                        franchises, inserted.getId(), Optional.of(inserted), Franchise::getVersion));
+    }
+
+    @Override
+    public Mono<Franchise> findById(Long id) {
+        return Mono.defer(() -> {
+            Optional<Franchise> cached = franchises.getIfPresent(id);
+            if (cached != null) {
+                return Mono.justOrEmpty(cached);
+            }
+            return delegate.findById(id)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .doOnNext(franchise -> ReferenceCaches.putIfNewer(franchises, id, franchise, Franchise::getVersion))
+                    .flatMap(Mono::justOrEmpty);
+        });
+    }
+
+    /**
+     * La versión se lee siempre de la base. Si la entrada cacheada no coincide (otra instancia modificó o
+     * borró la franquicia), se descarta para que el siguiente findById la recargue.
+     */
+    @Override
+    public Mono<Long> findVersionById(Long id) {
+        return delegate.findVersionById(id)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .doOnNext(version -> {
+                    Optional<Franchise> cached = franchises.getIfPresent(id);
+                    if (cached != null && !cached.map(Franchise::getVersion).equals(version)) {
+                        franchises.invalidate(id);
+                    }
+                })
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    @Override
+    public Mono<Franchise> updateName(Long id, String name, Long expectedVersion) {
+        return delegate.updateName(id, name, expectedVersion)
+                .doOnNext(updated -> ReferenceCaches.putIfNewer(
+                        franchises, id, Optional.of(updated), Franchise::getVersion))
+                .switchIfEmpty(Mono.fromRunnable(() -> franchises.invalidate(id)));
+    }
+
+    @Override
+    public Mono<Void> lockForDelete(Long id) {
+        return delegate.lockForDelete(id);
+    }
+
+    @Override
+    public Mono<Franchise> deleteByIdReturning(Long id) {
+        return delegate.deleteByIdReturning(id)
+                .flatMap(deleted -> TransactionSynchronizations.afterCompletion(() -> {
+                            franchises.invalidate(id);
+                            branches.asMap().values().removeIf(branch -> branch
+                                    .map(cached -> id.equals(cached.getFranchiseId()))
+                                    .orElse(false));
+                        })
+                        .thenReturn(deleted));
+    }
+
+    @Override
+    public Flux<FranchiseTreeRow> streamTree(Long franchiseId) {
+        return delegate.streamTree(franchiseId);
+    }
+}
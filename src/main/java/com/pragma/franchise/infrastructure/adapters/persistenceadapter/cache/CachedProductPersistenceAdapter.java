@@ -0,0 +1,164 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pragma.franchise.domain.model.Branch;
+import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.model.StockLevel;
+import com.pragma.franchise.domain.model.StockUpdate;
+import com.pragma.franchise.domain.model.TopStockProduct;
+import com.pragma.franchise.domain.spi.BranchPersistencePort;
+import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.TransactionSynchronizations;
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Cachea el top de stock por franquicia y lo invalida cuando se escribe un producto de esa franquicia.
+ * La relación producto → sucursal → franquicia se resuelve con mapas de ids acotados; solo una
+ * sucursal desconocida cuesta una consulta. El renombrado y el borrado de sucursales o franquicias
+ * expiran por TTL.
+ * El modo streaming no pasa por la caché para no materializar franquicias grandes en memoria.
+ */
+@AllArgsConstructor
+public class CachedProductPersistenceAdapter implements ProductPersistencePort {
+
+    private final ProductPersistencePort delegate;
+    private final BranchPersistencePort branchPersistencePort;
+    private final AsyncCache<Long, List<TopStockProduct>> topStockCache;
+    private final Cache<Long, Long> productBranchIds;
+    private final Cache<Long, Long> branchFranchiseIds;
+
+    @Override
+    public Mono<Product> save(Product product) {
+        return delegate.save(product)
+                .flatMap(saved -> {
+                    productBranchIds.put(saved.getId(), saved.getBranchId());
+                    return invalidateBranch(saved.getBranchId()).thenReturn(saved);
+                });
+    }
+
+    @Override
+    public Mono<Product> findById(Long id) {
+        return delegate.findById(id)
+                .doOnNext(product -> productBranchIds.put(product.getId(), product.getBranchId()));
+    }
+
+    @Override
+    public Mono<Long> findVersionById(Long id) {
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public Mono<StockUpdate> updateStock(Long id, Integer stock, Long expectedVersion) {
+        return delegate.updateStock(id, stock, expectedVersion)
+                .flatMap(this::invalidateStockUpdate);
+    }
+
+    @Override
+    public Mono<Product> updateName(Long id, String name, Long expectedVersion) {
+        return delegate.updateName(id, name, expectedVersion)
+                .flatMap(product -> {
+                    productBranchIds.put(product.getId(), product.getBranchId());
+                    return invalidateBranch(product.getBranchId()).thenReturn(product);
+                });
+    }
+
+    @Override
+    public Mono<StockUpdate> adjustStock(Long id, Integer delta) {
+        return delegate.adjustStock(id, delta)
+                .flatMap(this::invalidateStockUpdate);
+    }
+
+    @Override
+    public Flux<StockUpdate> updateStocks(List<StockLevel> stockLevels) {
+        return delegate.updateStocks(stockLevels)
+                .collectList()
+                .flatMapMany(updates -> {
+                    Set<Long> branchIds = new LinkedHashSet<>();
+                    updates.forEach(update -> {
+                        Product product = update.getProduct();
+                        productBranchIds.put(product.getId(), product.getBranchId());
+                        branchIds.add(product.getBranchId());
+                    });
+                    return Flux.fromIterable(branchIds)
+                            .concatMap(this::invalidateBranch)
+                            .thenMany(Flux.fromIterable(updates));
+                });
+    }
+
+    @Override
+    public Flux<Product> insertIgnoringDuplicates(Long branchId, List<Product> products) {
+        return delegate.insertIgnoringDuplicates(branchId, products)
+                .collectList()
+                .flatMapMany(inserted -> {
+                    inserted.forEach(product -> productBranchIds.put(product.getId(), product.getBranchId()));
+                    return (inserted.isEmpty() ? Mono.<Void>empty() : invalidateBranch(branchId))
+                            .thenMany(Flux.fromIterable(inserted));
+                });
+    }
+
+    @Override
+    public Mono<Product> deleteByIdReturning(Long id) {
+        return delegate.deleteByIdReturning(id)
+                .flatMap(product -> {
+                    productBranchIds.invalidate(product.getId());
+                    return invalidateBranch(product.getBranchId()).thenReturn(product);
+                });
+    }
+
+    /**
+     * La carga se suscribe fuera de la cadena reactiva y sin el contexto de la petición, así que siempre lee
+     * de la primaria: una entrada cargada de una réplica retrasada tras una invalidación seguiría sirviendo el
+     * estado anterior a la escritura hasta el TTL, también a quien la hizo.
+     */
+    @Override
+    public Flux<TopStockProduct> getTopStockProducts(Long franchiseId) {
+        return Mono.fromFuture(() -> topStockCache.get(franchiseId, (id, executor) ->
+                                delegate.getTopStockProducts(id)
+                                        .doOnNext(top -> branchFranchiseIds.put(top.getBranchId(), id))
+                                        .collectList()
+                                        .toFuture()),
+                        true)
+                .flatMapIterable(products -> products);
+    }
+
+    @Override
+    public Flux<TopStockProduct> streamTopStockProducts(Long franchiseId) {
+        return delegate.streamTopStockProducts(franchiseId)
+                .doOnNext(top -> branchFranchiseIds.put(top.getBranchId(), franchiseId));
+    }
+
+    @Override
+    public Flux<TopStockProduct> getTopStockProductsPerBranch(Long franchiseId, int perBranch) {
+        return delegate.getTopStockProductsPerBranch(franchiseId, perBranch)
+                .doOnNext(top -> branchFranchiseIds.put(top.getBranchId(), franchiseId));
+    }
+
+    private Mono<StockUpdate> invalidateStockUpdate(StockUpdate update) {
+        Product product = update.getProduct();
+        productBranchIds.put(product.getId(), product.getBranchId());
+        return invalidateBranch(product.getBranchId()).thenReturn(update);
+    }
+
+    private Mono<Void> invalidateBranch(Long branchId) {
+        return resolveFranchiseId(branchId)
+                .flatMap(franchiseId -> TransactionSynchronizations.afterCompletion(
+                        () -> topStockCache.synchronous().invalidate(franchiseId)));
+    }
+
+    private Mono<Long> resolveFranchiseId(Long branchId) {
+        Long franchiseId = branchFranchiseIds.getIfPresent(branchId);
+        if (franchiseId != null) {
+            return Mono.just(franchiseId);
+        }
+        return branchPersistencePort.findById(branchId)
+                .map(Branch::getFranchiseId)
+                .doOnNext(id -> branchFranchiseIds.put(branchId, id));
+    }
+}
@@ -0,0 +1,62 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Function;
+
+public final class ReferenceCaches {
+
+    private static final Comparator<Long> VERSION_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private ReferenceCaches() {
+    }
+
+    /**
+     * Caché de búsquedas por id que también recuerda los ids que no existen. Los negativos viven menos para
+     * que un recurso recién creado en otra instancia se vea pronto.
+     */
+    public static <V> Cache<Long, Optional<V>> build(long maxSize, Duration ttl, Duration negativeTtl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<Long, Optional<V>>() {
+                    @Override
+                    public long expireAfterCreate(Long id, Optional<V> value, long currentTime) {
+                        return (value.isPresent() ? ttl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long id, Optional<V> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(id, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long id, Optional<V> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Guarda el valor salvo que la entrada actual sea más nueva, para que una carga lenta o un renombrado que
+     * terminan tarde no pisen lo que escribió otro antes. Entre dos recursos gana la versión mayor; un resultado
+     * vacío no descarta uno cacheado (si se borró en otra instancia, findVersionById lo invalida).
+     */
+    public static <V> void putIfNewer(Cache<Long, Optional<V>> cache, Long id, Optional<V> value,
+                                      Function<V, Long> version) {
+        cache.asMap().merge(id, value, (current, candidate) -> {
+            if (current.isEmpty() || candidate.isEmpty()) {
+                return current.isPresent() ? current : candidate;
+            }
+            return VERSION_ORDER.compare(version.apply(candidate.get()), version.apply(current.get())) >= 0
+                    ? candidate
+                    : current;
+        });
+    }
+}
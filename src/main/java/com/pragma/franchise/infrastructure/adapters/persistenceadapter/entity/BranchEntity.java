@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -27,4 +28,7 @@ public class BranchEntity {
 
     @Column("updated_at")
     private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
 }
@@ -0,0 +1,48 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Table(name = "branch_inventory_stats")
+@Getter
+@Setter
+@RequiredArgsConstructor
+public class BranchInventoryStatsEntity {
+
+    @Id
+    @Column("branch_id")
+    private Long branchId;
+
+    @Column("franchise_id")
+    private Long franchiseId;
+
+    @Column("total_stock")
+    private Long totalStock;
+
+    @Column("sku_count")
+    private Long skuCount;
+
+    @Column("zero_stock_count")
+    private Long zeroStockCount;
+
+    @Column("stock_1_9_count")
+    private Long stock1To9Count;
+
+    @Column("stock_10_99_count")
+    private Long stock10To99Count;
+
+    @Column("stock_100_999_count")
+    private Long stock100To999Count;
+
+    @Column("stock_1000_plus_count")
+    private Long stock1000PlusCount;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,30 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Table(name = "branch_top_stock")
+@Getter
+@Setter
+@RequiredArgsConstructor
+public class BranchTopStockEntity {
+
+    @Id
+    @Column("branch_id")
+    private Long branchId;
+
+    @Column("franchise_id")
+    private Long franchiseId;
+
+    @Column("max_stock")
+    private Integer maxStock;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
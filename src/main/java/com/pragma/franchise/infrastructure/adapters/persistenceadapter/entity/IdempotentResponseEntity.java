@@ -0,0 +1,40 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table(name = "idempotent_response")
+@Getter
+@Setter
+@RequiredArgsConstructor
+public class IdempotentResponseEntity {
+    @Column("client_id")
+    private String clientId;
+
+    @Id
+    @Column("idempotency_key")
+    private String idempotencyKey;
+
+    @Column("request_method")
+    private String requestMethod;
+
+    @Column("request_path")
+    private String requestPath;
+
+    @Column("request_hash")
+    private String requestHash;
+
+    @Column("status_code")
+    private Integer statusCode;
+
+    @Column("content_type")
+    private String contentType;
+
+    private String etag;
+
+    private byte[] body;
+}
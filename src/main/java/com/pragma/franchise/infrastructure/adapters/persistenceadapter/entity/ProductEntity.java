@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -31,4 +32,7 @@ public class ProductEntity {
 
     @Column("updated_at")
     private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
 }
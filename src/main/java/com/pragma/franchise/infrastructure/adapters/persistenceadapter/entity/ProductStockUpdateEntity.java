@@ -0,0 +1,37 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.relational.core.mapping.Column;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila devuelta por la actualización de stock: el producto actualizado más el stock que tenía antes.
+ */
+@Getter
+@Setter
+@RequiredArgsConstructor
+public class ProductStockUpdateEntity {
+
+    private Long id;
+
+    private String name;
+
+    private Integer stock;
+
+    @Column("branch_id")
+    private Long branchId;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+
+    private Long version;
+
+    @Column("previous_stock")
+    private Integer previousStock;
+}
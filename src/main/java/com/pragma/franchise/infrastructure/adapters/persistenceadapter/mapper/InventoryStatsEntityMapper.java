@@ -0,0 +1,14 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.mapper;
+
+import com.pragma.franchise.domain.model.InventoryStats;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity.BranchInventoryStatsEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring",
+        unmappedTargetPolicy = ReportingPolicy.IGNORE,
+        unmappedSourcePolicy = ReportingPolicy.IGNORE)
+public interface InventoryStatsEntityMapper {
+
+    InventoryStats toModel(BranchInventoryStatsEntity branchInventoryStatsEntity);
+}
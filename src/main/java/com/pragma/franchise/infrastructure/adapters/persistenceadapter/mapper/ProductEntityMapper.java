@@ -2,6 +2,7 @@ package com.pragma.franchise.infrastructure.adapters.persistenceadapter.mapper;
 
 import com.pragma.franchise.domain.model.Product;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity.ProductEntity;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity.ProductStockUpdateEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
@@ -13,4 +14,6 @@ public interface ProductEntityMapper {
     ProductEntity toEntity(Product product);
 
     Product toModel(ProductEntity productEntity);
+
+    Product toModel(ProductStockUpdateEntity stockUpdateEntity);
 }
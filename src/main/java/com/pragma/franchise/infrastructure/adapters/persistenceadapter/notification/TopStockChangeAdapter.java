@@ -0,0 +1,146 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.notification;
+
+import com.pragma.franchise.domain.model.TopStockChange;
+import com.pragma.franchise.domain.spi.TopStockChangePort;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ProductRepository;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.resilience.ResilienceHelper;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.TopStockQueries.TOP_STOCK_CHANNEL;
+
+/**
+ * Escucha el canal de cambios del top de stock con una única conexión dedicada (fuera del pool) y reparte
+ * los cambios a todos los suscriptores mediante un sink multicast. La conexión se abre con el primer
+ * suscriptor, se cierra cuando se va el último y se restablece con backoff si se pierde.
+ */
+@Slf4j
+public class TopStockChangeAdapter implements TopStockChangePort, AutoCloseable {
+
+    private static final Duration MAX_RECONNECT_DELAY = Duration.ofSeconds(30);
+    /** Un grupo por sucursal sin avisos durante este tiempo se cierra y se recrea con el siguiente aviso. */
+    private static final Duration BRANCH_IDLE_TIMEOUT = Duration.ofMinutes(1);
+
+    private final ConnectionFactory listenerConnectionFactory;
+    private final ProductRepository productRepository;
+    private final ResilienceHelper resilienceHelper;
+    private final Duration reconnectDelay;
+
+    private final Sinks.Many<TopStockChange> changes = Sinks.many().multicast().directBestEffort();
+    private int subscribers;
+    private Disposable listener;
+
+    public TopStockChangeAdapter(ConnectionFactory listenerConnectionFactory,
+                                 ProductRepository productRepository,
+                                 ResilienceHelper resilienceHelper,
+                                 Duration reconnectDelay) {
+        this.listenerConnectionFactory = listenerConnectionFactory;
+        this.productRepository = productRepository;
+        this.resilienceHelper = resilienceHelper;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    /**
+     * Cada suscriptor recibe solo los cambios de su franquicia. Si consume más lento de lo que llegan,
+     * por cada sucursal se conserva únicamente el último estado en lugar de acumular todos los cambios.
+     */
+    @Override
+    public Flux<TopStockChange> listen(Long franchiseId) {
+        return changes.asFlux()
+                .doOnSubscribe(subscription -> subscriberAdded())
+                .doFinally(signal -> subscriberRemoved())
+                .filter(change -> franchiseId.equals(change.getFranchiseId()))
+                .groupBy(TopStockChange::getBranchId)
+                .flatMap(branch -> branch
+                        .timeout(BRANCH_IDLE_TIMEOUT, Flux.empty())
+                        .onBackpressureLatest(), Integer.MAX_VALUE, 1);
+    }
+
+    @Override
+    public synchronized void close() {
+        subscribers = 0;
+        stopListening();
+    }
+
+    private synchronized void subscriberAdded() {
+        if (subscribers++ == 0) {
+            listener = notifications()
+                    .groupBy(BranchRef::branchId)
+                    .flatMap(branch -> branch
+                            .timeout(BRANCH_IDLE_TIMEOUT, Flux.empty())
+                            .onBackpressureLatest()
+                            .concatMap(this::loadChange, 1)
+                            .distinctUntilChanged(), Integer.MAX_VALUE, 1)
+                    .subscribe(changes::tryEmitNext);
+        }
+    }
+
+    private synchronized void subscriberRemoved() {
+        if (subscribers > 0 && --subscribers == 0) {
+            stopListening();
+        }
+    }
+
+    private void stopListening() {
+        if (listener != null) {
+            listener.dispose();
+            listener = null;
+            log.info("Stopped listening for top stock changes");
+        }
+    }
+
+    /**
+     * Los avisos de una misma sucursal se cargan en orden y, mientras una carga está en curso, los avisos
+     * siguientes se colapsan en uno: la carga lee el estado confirmado más reciente.
+     */
+    private Mono<TopStockChange> loadChange(BranchRef branch) {
+        return resilienceHelper.applyResilience(productRepository.findTopStockProductsByBranch(branch.branchId())
+                        .collectList())
+                .map(products -> TopStockChange.builder()
+                        .franchiseId(branch.franchiseId())
+                        .branchId(branch.branchId())
+                        .products(products)
+                        .build())
+                .onErrorResume(error -> {
+                    log.warn("Could not load top stock of branch {}: {}", branch.branchId(), error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Flux<BranchRef> notifications() {
+        return Flux.usingWhen(
+                        Mono.from(listenerConnectionFactory.create()).cast(PostgresqlConnection.class),
+                        connection -> connection.createStatement("LISTEN " + TOP_STOCK_CHANNEL)
+                                .execute()
+                                .flatMap(PostgresqlResult::getRowsUpdated)
+                                .doOnComplete(() -> log.info("Listening for top stock changes"))
+                                .thenMany(connection.getNotifications())
+                                .concatWith(Flux.error(new IllegalStateException("Listener connection closed"))),
+                        PostgresqlConnection::close)
+                .mapNotNull(Notification::getParameter)
+                .map(BranchRef::parse)
+                .doOnError(error -> log.warn("Top stock listener failed: {}", error.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, reconnectDelay)
+                        .maxBackoff(MAX_RECONNECT_DELAY)
+                        .transientErrors(true));
+    }
+
+    private record BranchRef(Long franchiseId, Long branchId) {
+
+        static BranchRef parse(String payload) {
+            int separator = payload.indexOf(':');
+            return new BranchRef(Long.valueOf(payload.substring(0, separator)),
+                    Long.valueOf(payload.substring(separator + 1)));
+        }
+    }
+}
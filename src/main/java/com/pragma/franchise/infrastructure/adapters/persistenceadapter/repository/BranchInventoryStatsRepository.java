@@ -0,0 +1,26 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
+
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity.BranchInventoryStatsEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.InventoryStatsQueries.APPLY_INVENTORY_STATS_DELTA;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.InventoryStatsQueries.BRANCH_INVENTORY_STATS_BY_FRANCHISE;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.InventoryStatsQueries.REBUILD_INVENTORY_STATS;
+
+public interface BranchInventoryStatsRepository extends ReactiveCrudRepository<BranchInventoryStatsEntity, Long> {
+
+    @Query(BRANCH_INVENTORY_STATS_BY_FRANCHISE)
+    Flux<BranchInventoryStatsEntity> findAllByFranchiseId(Long franchiseId);
+
+    @Modifying
+    @Query(APPLY_INVENTORY_STATS_DELTA)
+    Mono<Long> applyDelta(Long branchId, long totalStock, long skuCount, long zeroStockCount, long stock1To9Count,
+                          long stock10To99Count, long stock100To999Count, long stock1000PlusCount);
+
+    @Query(REBUILD_INVENTORY_STATS)
+    Mono<Long> rebuild();
+}
@@ -0,0 +1,65 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
+
+public final class BranchQueries {
+
+    /**
+     * Inserta la sucursal en un solo viaje. No devuelve nada si la franquicia ya tiene una sucursal con ese
+     * nombre; si la franquicia no existe falla con fk_branch_franchise.
+     */
+    public static final String INSERT_IF_ABSENT = """
+            INSERT INTO branch (name, franchise_id)
+            VALUES (:name, :franchiseId)
+            ON CONFLICT (name, franchise_id) DO NOTHING
+            RETURNING id, name, franchise_id, created_at, updated_at, version
+            """;
+
+    /**
+     * Renombra sin leer antes la fila. No devuelve nada si la sucursal no existe o, con :version, si la fila
+     * ya no está en esa versión.
+     */
+    public static final String UPDATE_NAME = """
+            UPDATE branch
+            SET name = :name, updated_at = NOW(), version = version + 1
+            WHERE id = :id AND (CAST(:version AS BIGINT) IS NULL OR version = :version)
+            RETURNING id, name, franchise_id, created_at, updated_at, version
+            """;
+
+    /**
+     * Bloquea los productos de la sucursal en orden de id. Va antes que LOCK_FOR_DELETE porque las escrituras de
+     * stock bloquean primero el producto y después la sucursal; si el borrado tomara antes la sucursal, su
+     * cascada esperaría por un producto cuya escritura espera por la sucursal.
+     */
+    public static final String LOCK_PRODUCTS_FOR_DELETE = """
+            SELECT id FROM product
+            WHERE branch_id = :id
+            ORDER BY id
+            FOR UPDATE
+            """;
+
+    public static final String LOCK_FOR_DELETE = """
+            SELECT id FROM branch
+            WHERE id = :id
+            FOR UPDATE
+            """;
+
+    /**
+     * Borra la sucursal y devuelve la fila borrada en el mismo viaje; no devuelve nada si no existía. Sus
+     * productos y sus filas de read models se borran con ella por ON DELETE CASCADE.
+     */
+    public static final String DELETE_RETURNING = """
+            DELETE FROM branch
+            WHERE id = :id
+            RETURNING id, name, franchise_id, created_at, updated_at, version
+            """;
+
+    /**
+     * Versión actual de la sucursal, para comparar con If-None-Match; no devuelve nada si no existe.
+     */
+    public static final String FIND_VERSION = """
+            SELECT version FROM branch
+            WHERE id = :id
+            """;
+
+    private BranchQueries() {
+    }
+}
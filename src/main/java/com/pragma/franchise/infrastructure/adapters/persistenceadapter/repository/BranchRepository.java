@@ -1,7 +1,35 @@
 package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
 
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity.BranchEntity;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.BranchQueries.DELETE_RETURNING;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.BranchQueries.FIND_VERSION;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.BranchQueries.INSERT_IF_ABSENT;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.BranchQueries.LOCK_FOR_DELETE;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.BranchQueries.LOCK_PRODUCTS_FOR_DELETE;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.BranchQueries.UPDATE_NAME;
 
 public interface BranchRepository extends ReactiveCrudRepository<BranchEntity, Long> {
+
+    @Query(INSERT_IF_ABSENT)
+    Mono<BranchEntity> insertIfAbsent(String name, Long franchiseId);
+
+    @Query(UPDATE_NAME)
+    Mono<BranchEntity> updateName(Long id, String name, Long version);
+
+    @Query(LOCK_PRODUCTS_FOR_DELETE)
+    Flux<Long> lockProductsForDelete(Long id);
+
+    @Query(LOCK_FOR_DELETE)
+    Mono<Long> lockForDelete(Long id);
+
+    @Query(DELETE_RETURNING)
+    Mono<BranchEntity> deleteByIdReturning(Long id);
+
+    @Query(FIND_VERSION)
+    Mono<Long> findVersionById(Long id);
 }
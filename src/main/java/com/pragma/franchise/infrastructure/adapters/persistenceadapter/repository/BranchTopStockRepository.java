@@ -0,0 +1,82 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
+
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity.BranchTopStockEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.TopStockQueries.NOTIFY_TOP_STOCK_CHANGE;
+
+public interface BranchTopStockRepository extends ReactiveCrudRepository<BranchTopStockEntity, Long> {
+
+    /**
+     * Serializa los refrescos concurrentes de una misma sucursal. Debe ejecutarse en la misma
+     * transacción y antes de {@link #refresh(Long)}, para que el MAX se calcule con un snapshot
+     * tomado después de obtener el bloqueo. Devuelve la franquicia de la sucursal.
+     */
+    @Query("SELECT franchise_id FROM branch WHERE id = :branchId FOR NO KEY UPDATE")
+    Mono<Long> lockBranch(Long branchId);
+
+    /**
+     * Recalcula el MAX de la sucursal y solo escribe la fila si cambió. Devuelve si el máximo cambió,
+     * para avisar a los suscriptores únicamente en ese caso; un producto que empata con el máximo sin
+     * moverlo no genera aviso.
+     */
+    @Query("""
+            WITH top AS (
+                SELECT
+                    b.id AS branch_id,
+                    b.franchise_id,
+                    (SELECT MAX(p.stock) FROM product p WHERE p.branch_id = b.id) AS max_stock
+                FROM branch b
+                WHERE b.id = :branchId
+            ), previous AS (
+                SELECT max_stock FROM branch_top_stock WHERE branch_id = :branchId
+            ), removed AS (
+                DELETE FROM branch_top_stock t
+                USING top
+                WHERE t.branch_id = top.branch_id
+                AND top.max_stock IS NULL
+                RETURNING t.branch_id
+            ), upserted AS (
+                INSERT INTO branch_top_stock (branch_id, franchise_id, max_stock, updated_at)
+                SELECT branch_id, franchise_id, max_stock, NOW()
+                FROM top
+                WHERE max_stock IS NOT NULL
+                AND max_stock IS DISTINCT FROM (SELECT max_stock FROM previous)
+                ON CONFLICT (branch_id) DO UPDATE
+                SET max_stock = EXCLUDED.max_stock,
+                    updated_at = EXCLUDED.updated_at
+                RETURNING branch_id
+            )
+            SELECT EXISTS (SELECT 1 FROM removed) OR EXISTS (SELECT 1 FROM upserted)
+            """)
+    Mono<Boolean> refresh(Long branchId);
+
+    @Query(NOTIFY_TOP_STOCK_CHANGE)
+    Mono<Long> notifyChange(Long branchId);
+
+    @Modifying
+    @Query("""
+            WITH top AS (
+                SELECT
+                    b.id AS branch_id,
+                    b.franchise_id,
+                    MAX(p.stock) AS max_stock
+                FROM branch b
+                JOIN product p ON p.branch_id = b.id
+                GROUP BY b.id, b.franchise_id
+            ), removed AS (
+                DELETE FROM branch_top_stock t
+                WHERE NOT EXISTS (SELECT 1 FROM top WHERE top.branch_id = t.branch_id)
+            )
+            INSERT INTO branch_top_stock (branch_id, franchise_id, max_stock, updated_at)
+            SELECT branch_id, franchise_id, max_stock, NOW()
+            FROM top
+            ON CONFLICT (branch_id) DO UPDATE
+            SET max_stock = EXCLUDED.max_stock,
+                updated_at = EXCLUDED.updated_at
+            """)
+    Mono<Long> rebuild();
+}
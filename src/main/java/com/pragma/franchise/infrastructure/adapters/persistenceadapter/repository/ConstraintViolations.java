@@ -0,0 +1,32 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
+
+import io.r2dbc.postgresql.api.PostgresqlException;
+
+import java.util.function.Predicate;
+
+/**
+ * Nombres de las restricciones del esquema y utilidades para reconocer su violación en los errores del driver,
+ * que Spring envuelve en sus propias excepciones.
+ */
+public final class ConstraintViolations {
+
+    public static final String FK_BRANCH_FRANCHISE = "fk_branch_franchise";
+    public static final String FK_PRODUCT_BRANCH = "fk_product_branch";
+    public static final String UK_PRODUCT_NAME_BRANCH = "uk_product_name_branch";
+
+    private ConstraintViolations() {
+    }
+
+    public static Predicate<Throwable> violates(String constraintName) {
+        return error -> {
+            for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+                if (cause instanceof PostgresqlException postgresqlException) {
+                    return postgresqlException.getErrorDetails().getConstraintName()
+                            .map(constraintName::equals)
+                            .orElse(false);
+                }
+            }
+            return false;
+        };
+    }
+}
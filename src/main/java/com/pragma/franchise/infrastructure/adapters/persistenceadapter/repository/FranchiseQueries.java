@@ -0,0 +1,81 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
+
+public final class FranchiseQueries {
+
+    /**
+     * Inserta la franquicia en un solo viaje. No devuelve nada si ya existe una con ese nombre.
+     */
+    public static final String INSERT_IF_ABSENT = """
+            INSERT INTO franchise (name)
+            VALUES (:name)
+            ON CONFLICT (name) DO NOTHING
+            RETURNING id, name, created_at, updated_at, version
+            """;
+
+    /**
+     * Renombra sin leer antes la fila. No devuelve nada si la franquicia no existe o, con :version, si la
+     * fila ya no está en esa versión.
+     */
+    public static final String UPDATE_NAME = """
+            UPDATE franchise
+            SET name = :name, updated_at = NOW(), version = version + 1
+            WHERE id = :id AND (CAST(:version AS BIGINT) IS NULL OR version = :version)
+            RETURNING id, name, created_at, updated_at, version
+            """;
+
+    /**
+     * Bloquea los productos de todas las sucursales de la franquicia y después las sucursales, ambos en orden
+     * de id: el mismo orden que las escrituras de stock (producto y después sucursal), para que la cascada del
+     * borrado no espere por filas que esas escrituras tienen tomadas.
+     */
+    public static final String LOCK_PRODUCTS_FOR_DELETE = """
+            SELECT p.id FROM product p
+            JOIN branch b ON b.id = p.branch_id
+            WHERE b.franchise_id = :id
+            ORDER BY p.id
+            FOR UPDATE OF p
+            """;
+
+    public static final String LOCK_BRANCHES_FOR_DELETE = """
+            SELECT id FROM branch
+            WHERE franchise_id = :id
+            ORDER BY id
+            FOR UPDATE
+            """;
+
+    /**
+     * Borra la franquicia y devuelve la fila borrada en el mismo viaje; no devuelve nada si no existía. Sus
+     * sucursales, productos y read models se borran con ella por ON DELETE CASCADE.
+     */
+    public static final String DELETE_RETURNING = """
+            DELETE FROM franchise
+            WHERE id = :id
+            RETURNING id, name, created_at, updated_at, version
+            """;
+
+    /**
+     * Versión actual de la franquicia, para comparar con If-None-Match; no devuelve nada si no existe.
+     */
+    public static final String FIND_VERSION = """
+            SELECT version FROM franchise
+            WHERE id = :id
+            """;
+
+    /**
+     * Franquicia, sucursales y productos en una sola consulta, ordenada para que las filas de cada sucursal
+     * lleguen seguidas. Los LEFT JOIN conservan las sucursales sin productos y la franquicia sin sucursales.
+     */
+    public static final String TREE = """
+            SELECT f.id AS franchise_id, f.name AS franchise_name,
+                b.id AS branch_id, b.name AS branch_name,
+                p.id AS product_id, p.name AS product_name, p.stock
+            FROM franchise f
+            LEFT JOIN branch b ON b.franchise_id = f.id
+            LEFT JOIN product p ON p.branch_id = b.id
+            WHERE f.id = :franchiseId
+            ORDER BY b.id, p.id
+            """;
+
+    private FranchiseQueries() {
+    }
+}
@@ -1,10 +1,35 @@
 package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
 
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity.FranchiseEntity;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public interface FranchiseRepository extends ReactiveCrudRepository<FranchiseEntity, Long> {
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.FranchiseQueries.DELETE_RETURNING;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.FranchiseQueries.FIND_VERSION;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.FranchiseQueries.INSERT_IF_ABSENT;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.FranchiseQueries.LOCK_BRANCHES_FOR_DELETE;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.FranchiseQueries.LOCK_PRODUCTS_FOR_DELETE;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.FranchiseQueries.UPDATE_NAME;
 
-    Mono<Boolean> existsByName(String name);
+public interface FranchiseRepository extends ReactiveCrudRepository<FranchiseEntity, Long>, FranchiseTreeRepository {
+
+    @Query(INSERT_IF_ABSENT)
+    Mono<FranchiseEntity> insertIfAbsent(String name);
+
+    @Query(UPDATE_NAME)
+    Mono<FranchiseEntity> updateName(Long id, String name, Long version);
+
+    @Query(LOCK_PRODUCTS_FOR_DELETE)
+    Flux<Long> lockProductsForDelete(Long id);
+
+    @Query(LOCK_BRANCHES_FOR_DELETE)
+    Flux<Long> lockBranchesForDelete(Long id);
+
+    @Query(DELETE_RETURNING)
+    Mono<FranchiseEntity> deleteByIdReturning(Long id);
+
+    @Query(FIND_VERSION)
+    Mono<Long> findVersionById(Long id);
 }
@@ -0,0 +1,9 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
+
+import com.pragma.franchise.domain.model.FranchiseTreeRow;
+import reactor.core.publisher.Flux;
+
+public interface FranchiseTreeRepository {
+
+    Flux<FranchiseTreeRow> streamTree(Long franchiseId, int fetchSize);
+}
@@ -0,0 +1,34 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
+
+import com.pragma.franchise.domain.model.FranchiseTreeRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.FranchiseQueries.TREE;
+
+@RequiredArgsConstructor
+public class FranchiseTreeRepositoryImpl implements FranchiseTreeRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Igual que el top de stock en streaming: con fetchSize el cursor avanza al ritmo en que se escribe la respuesta.
+     */
+    @Override
+    public Flux<FranchiseTreeRow> streamTree(Long franchiseId, int fetchSize) {
+        return databaseClient.sql(TREE)
+                .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)))
+                .bind("franchiseId", franchiseId)
+                .map((row, metadata) -> FranchiseTreeRow.builder()
+                        .franchiseId(row.get("franchise_id", Long.class))
+                        .franchiseName(row.get("franchise_name", String.class))
+                        .branchId(row.get("branch_id", Long.class))
+                        .branchName(row.get("branch_name", String.class))
+                        .productId(row.get("product_id", Long.class))
+                        .productName(row.get("product_name", String.class))
+                        .stock(row.get("stock", Integer.class))
+                        .build())
+                .all();
+    }
+}
@@ -0,0 +1,41 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
+
+public final class IdempotentResponseQueries {
+
+    public static final String FIND_UNEXPIRED = """
+            SELECT client_id, idempotency_key, request_method, request_path, request_hash, status_code, content_type,
+                etag, body
+            FROM idempotent_response
+            WHERE client_id = :clientId AND idempotency_key = :key AND expires_at > NOW()
+            """;
+
+    /**
+     * Una clave vigente no se sobrescribe: si dos instancias guardan la misma clave gana la primera. Una clave
+     * expirada que aún no se ha purgado se reutiliza.
+     */
+    public static final String SAVE = """
+            INSERT INTO idempotent_response AS r (client_id, idempotency_key, request_method, request_path,
+                request_hash, status_code, content_type, etag, body, expires_at)
+            VALUES (:clientId, :key, :method, :path, :requestHash, :statusCode, :contentType, :etag, :body,
+                NOW() + CAST(:ttlSeconds AS BIGINT) * INTERVAL '1 second')
+            ON CONFLICT (client_id, idempotency_key) DO UPDATE
+            SET request_method = EXCLUDED.request_method,
+                request_path = EXCLUDED.request_path,
+                request_hash = EXCLUDED.request_hash,
+                status_code = EXCLUDED.status_code,
+                content_type = EXCLUDED.content_type,
+                etag = EXCLUDED.etag,
+                body = EXCLUDED.body,
+                created_at = NOW(),
+                expires_at = EXCLUDED.expires_at
+            WHERE r.expires_at <= NOW()
+            """;
+
+    public static final String PURGE_EXPIRED = """
+            DELETE FROM idempotent_response
+            WHERE expires_at <= NOW()
+            """;
+
+    private IdempotentResponseQueries() {
+    }
+}
@@ -0,0 +1,26 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
+
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity.IdempotentResponseEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.IdempotentResponseQueries.FIND_UNEXPIRED;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.IdempotentResponseQueries.PURGE_EXPIRED;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.IdempotentResponseQueries.SAVE;
+
+public interface IdempotentResponseRepository extends ReactiveCrudRepository<IdempotentResponseEntity, String> {
+
+    @Query(FIND_UNEXPIRED)
+    Mono<IdempotentResponseEntity> findUnexpired(String clientId, String key);
+
+    @Modifying
+    @Query(SAVE)
+    Mono<Long> saveResponse(String clientId, String key, String method, String path, String requestHash,
+                            int statusCode, String contentType, String etag, byte[] body, long ttlSeconds);
+
+    @Modifying
+    @Query(PURGE_EXPIRED)
+    Mono<Long> purgeExpired();
+}
@@ -0,0 +1,73 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
+
+public final class InventoryStatsQueries {
+
+    /**
+     * Suma el delta a la fila de la sucursal. El incremento se aplica sobre el valor actual de la fila, así que
+     * escrituras concurrentes no se pisan. Los totales de la franquicia no se guardan: se suman al leerlos.
+     */
+    public static final String APPLY_INVENTORY_STATS_DELTA = """
+            INSERT INTO branch_inventory_stats AS s (branch_id, franchise_id, total_stock, sku_count,
+                zero_stock_count, stock_1_9_count, stock_10_99_count, stock_100_999_count,
+                stock_1000_plus_count, updated_at)
+            SELECT b.id, b.franchise_id, :totalStock, :skuCount, :zeroStockCount, :stock1To9Count,
+                :stock10To99Count, :stock100To999Count, :stock1000PlusCount, NOW()
+            FROM branch b
+            WHERE b.id = :branchId
+            ON CONFLICT (branch_id) DO UPDATE
+            SET total_stock = s.total_stock + EXCLUDED.total_stock,
+                sku_count = s.sku_count + EXCLUDED.sku_count,
+                zero_stock_count = s.zero_stock_count + EXCLUDED.zero_stock_count,
+                stock_1_9_count = s.stock_1_9_count + EXCLUDED.stock_1_9_count,
+                stock_10_99_count = s.stock_10_99_count + EXCLUDED.stock_10_99_count,
+                stock_100_999_count = s.stock_100_999_count + EXCLUDED.stock_100_999_count,
+                stock_1000_plus_count = s.stock_1000_plus_count + EXCLUDED.stock_1000_plus_count,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    public static final String BRANCH_INVENTORY_STATS_BY_FRANCHISE = """
+            SELECT *
+            FROM branch_inventory_stats
+            WHERE franchise_id = :franchiseId
+            ORDER BY branch_id
+            """;
+
+    /**
+     * Recalcula todos los agregados desde product; corrige cualquier desviación acumulada por los deltas.
+     */
+    public static final String REBUILD_INVENTORY_STATS = """
+            WITH branch_stats AS (
+                INSERT INTO branch_inventory_stats AS s (branch_id, franchise_id, total_stock, sku_count,
+                    zero_stock_count, stock_1_9_count, stock_10_99_count, stock_100_999_count,
+                    stock_1000_plus_count, updated_at)
+                SELECT
+                    b.id,
+                    b.franchise_id,
+                    COALESCE(SUM(p.stock), 0),
+                    COUNT(p.id),
+                    COUNT(*) FILTER (WHERE p.stock = 0),
+                    COUNT(*) FILTER (WHERE p.stock BETWEEN 1 AND 9),
+                    COUNT(*) FILTER (WHERE p.stock BETWEEN 10 AND 99),
+                    COUNT(*) FILTER (WHERE p.stock BETWEEN 100 AND 999),
+                    COUNT(*) FILTER (WHERE p.stock >= 1000),
+                    NOW()
+                FROM branch b
+                LEFT JOIN product p ON p.branch_id = b.id
+                GROUP BY b.id, b.franchise_id
+                ON CONFLICT (branch_id) DO UPDATE
+                SET total_stock = EXCLUDED.total_stock,
+                    sku_count = EXCLUDED.sku_count,
+                    zero_stock_count = EXCLUDED.zero_stock_count,
+                    stock_1_9_count = EXCLUDED.stock_1_9_count,
+                    stock_10_99_count = EXCLUDED.stock_10_99_count,
+                    stock_100_999_count = EXCLUDED.stock_100_999_count,
+                    stock_1000_plus_count = EXCLUDED.stock_1000_plus_count,
+                    updated_at = EXCLUDED.updated_at
+                RETURNING s.branch_id
+            )
+            SELECT COUNT(*) FROM branch_stats
+            """;
+
+    private InventoryStatsQueries() {
+    }
+}
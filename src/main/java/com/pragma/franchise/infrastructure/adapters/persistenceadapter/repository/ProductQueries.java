@@ -0,0 +1,98 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
+
+public final class ProductQueries {
+
+    /**
+     * Actualiza el stock en un solo viaje a la base de datos y devuelve también el stock anterior. El CTE
+     * bloquea la fila antes de leerla, así que dos actualizaciones concurrentes del mismo producto se
+     * ejecutan en orden y cada una ve el stock que dejó la otra. Con :version solo se actualiza si la fila
+     * sigue en esa versión (If-Match).
+     */
+    public static final String UPDATE_STOCK = """
+            WITH previous AS (
+                SELECT id, stock FROM product
+                WHERE id = :id AND (CAST(:version AS BIGINT) IS NULL OR version = :version)
+                FOR UPDATE
+            )
+            UPDATE product p
+            SET stock = :stock, updated_at = NOW(), version = p.version + 1
+            FROM previous
+            WHERE p.id = previous.id
+            RETURNING p.id, p.name, p.stock, p.branch_id, p.created_at, p.updated_at, p.version,
+                previous.stock AS previous_stock
+            """;
+
+    /**
+     * Ajuste relativo del stock. El incremento se calcula sobre el valor actual de la fila y el suelo de cero
+     * se comprueba en la misma sentencia, así que ajustes concurrentes se encolan en el bloqueo de la fila
+     * sin perderse ni reintentarse. El stock anterior se deduce del nuevo. El rango se comprueba en BIGINT:
+     * un ajuste que se saldría de INT no actualiza la fila en lugar de fallar con un desbordamiento.
+     */
+    public static final String ADJUST_STOCK = """
+            UPDATE product
+            SET stock = stock + :delta, updated_at = NOW(), version = version + 1
+            WHERE id = :id AND stock + CAST(:delta AS BIGINT) BETWEEN 0 AND 2147483647
+            RETURNING id, name, stock, branch_id, created_at, updated_at, version, stock - :delta AS previous_stock
+            """;
+
+    /**
+     * Actualización masiva con arrays paralelos de ids y stocks. Las filas se bloquean en orden de id, así
+     * que dos lotes concurrentes que comparten productos no se bloquean mutuamente.
+     */
+    public static final String UPDATE_STOCKS = """
+            WITH input AS (
+                SELECT * FROM unnest(CAST(:ids AS BIGINT[]), CAST(:stocks AS INT[])) AS i(id, stock)
+            ),
+            previous AS (
+                SELECT p.id, p.stock FROM product p JOIN input i ON i.id = p.id ORDER BY p.id FOR UPDATE OF p
+            )
+            UPDATE product p
+            SET stock = i.stock, updated_at = NOW(), version = p.version + 1
+            FROM input i JOIN previous ON previous.id = i.id
+            WHERE p.id = i.id
+            RETURNING p.id, p.name, p.stock, p.branch_id, p.created_at, p.updated_at, p.version,
+                previous.stock AS previous_stock
+            """;
+
+    // Las filas repetidas dentro del mismo lote también se omiten: solo se inserta la primera
+    public static final String INSERT_IGNORING_DUPLICATES = """
+            INSERT INTO product (name, stock, branch_id)
+            SELECT i.name, i.stock, :branchId
+            FROM unnest(CAST(:names AS VARCHAR[]), CAST(:stocks AS INT[])) WITH ORDINALITY AS i(name, stock, position)
+            ORDER BY i.position
+            ON CONFLICT (name, branch_id) DO NOTHING
+            RETURNING id, name, stock, branch_id, created_at, updated_at, version
+            """;
+
+    /**
+     * Renombra sin leer antes la fila. No devuelve nada si el producto no existe o, con :version, si la fila
+     * ya no está en esa versión.
+     */
+    public static final String UPDATE_NAME = """
+            UPDATE product
+            SET name = :name, updated_at = NOW(), version = version + 1
+            WHERE id = :id AND (CAST(:version AS BIGINT) IS NULL OR version = :version)
+            RETURNING id, name, stock, branch_id, created_at, updated_at, version
+            """;
+
+    /**
+     * Borra el producto y devuelve la fila borrada en el mismo viaje; no devuelve nada si no existía.
+     */
+    public static final String DELETE_RETURNING = """
+            DELETE FROM product
+            WHERE id = :id
+            RETURNING id, name, stock, branch_id, created_at, updated_at, version
+            """;
+
+    /**
+     * Lee solo la versión para responder a If-None-Match sin traer ni mapear la fila completa. No devuelve
+     * nada si el producto no existe.
+     */
+    public static final String FIND_VERSION = """
+            SELECT version FROM product
+            WHERE id = :id
+            """;
+
+    private ProductQueries() {
+    }
+}
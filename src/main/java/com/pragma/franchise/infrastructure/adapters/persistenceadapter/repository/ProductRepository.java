@@ -2,31 +2,52 @@ package com.pragma.franchise.infrastructure.adapters.persistenceadapter.reposito
 
 import com.pragma.franchise.domain.model.TopStockProduct;
 import com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity.ProductEntity;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.entity.ProductStockUpdateEntity;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public interface ProductRepository extends ReactiveCrudRepository<ProductEntity, Long> {
-
-    Mono<Boolean> existsByNameAndBranchId(String name, Long branchId);
-
-    @Query("""
-            SELECT 
-                b.id AS branch_id,
-                b.name AS branch_name,
-                p.id AS product_id,
-                p.name AS product_name,
-                p.stock
-            FROM product p
-            JOIN branch b ON p.branch_id = b.id
-            WHERE b.franchise_id = :franchiseId
-            AND p.stock = (
-                SELECT MAX(p2.stock)
-                FROM product p2
-                WHERE p2.branch_id = b.id
-            )
-            ORDER BY p.stock DESC
-            """)
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ProductQueries.DELETE_RETURNING;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ProductQueries.FIND_VERSION;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ProductQueries.ADJUST_STOCK;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ProductQueries.INSERT_IGNORING_DUPLICATES;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ProductQueries.UPDATE_NAME;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ProductQueries.UPDATE_STOCK;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ProductQueries.UPDATE_STOCKS;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.TopStockQueries.TOP_K_STOCK_PER_BRANCH_BY_FRANCHISE;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.TopStockQueries.TOP_STOCK_BY_BRANCH;
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.TopStockQueries.TOP_STOCK_BY_FRANCHISE;
+
+public interface ProductRepository extends ReactiveCrudRepository<ProductEntity, Long>, ProductStreamRepository {
+
+    @Query(UPDATE_STOCK)
+    Mono<ProductStockUpdateEntity> updateStock(Long id, Integer stock, Long version);
+
+    @Query(UPDATE_NAME)
+    Mono<ProductEntity> updateName(Long id, String name, Long version);
+
+    @Query(ADJUST_STOCK)
+    Mono<ProductStockUpdateEntity> adjustStock(Long id, Integer delta);
+
+    @Query(UPDATE_STOCKS)
+    Flux<ProductStockUpdateEntity> updateStocks(Long[] ids, Integer[] stocks);
+
+    @Query(INSERT_IGNORING_DUPLICATES)
+    Flux<ProductEntity> insertIgnoringDuplicates(Long branchId, String[] names, Integer[] stocks);
+
+    @Query(TOP_STOCK_BY_FRANCHISE)
     Flux<TopStockProduct> findTopStockProductsByFranchise(Long franchiseId);
+
+    @Query(TOP_STOCK_BY_BRANCH)
+    Flux<TopStockProduct> findTopStockProductsByBranch(Long branchId);
+
+    @Query(TOP_K_STOCK_PER_BRANCH_BY_FRANCHISE)
+    Flux<TopStockProduct> findTopStockProductsPerBranchByFranchise(Long franchiseId, int perBranch);
+
+    @Query(DELETE_RETURNING)
+    Mono<ProductEntity> deleteByIdReturning(Long id);
+
+    @Query(FIND_VERSION)
+    Mono<Long> findVersionById(Long id);
 }
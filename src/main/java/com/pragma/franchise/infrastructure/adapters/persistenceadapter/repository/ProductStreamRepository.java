@@ -0,0 +1,9 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
+
+import com.pragma.franchise.domain.model.TopStockProduct;
+import reactor.core.publisher.Flux;
+
+public interface ProductStreamRepository {
+
+    Flux<TopStockProduct> streamTopStockProductsByFranchise(Long franchiseId, int fetchSize);
+}
@@ -0,0 +1,33 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
+
+import com.pragma.franchise.domain.model.TopStockProduct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import static com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.TopStockQueries.TOP_STOCK_BY_FRANCHISE;
+
+@RequiredArgsConstructor
+public class ProductStreamRepositoryImpl implements ProductStreamRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Con fetchSize el driver lee el resultado por lotes desde un portal, de modo que la demanda
+     * del suscriptor se propaga hasta el cursor de la base de datos.
+     */
+    @Override
+    public Flux<TopStockProduct> streamTopStockProductsByFranchise(Long franchiseId, int fetchSize) {
+        return databaseClient.sql(TOP_STOCK_BY_FRANCHISE)
+                .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)))
+                .bind("franchiseId", franchiseId)
+                .map((row, metadata) -> TopStockProduct.builder()
+                        .branchId(row.get("branch_id", Long.class))
+                        .branchName(row.get("branch_name", String.class))
+                        .productId(row.get("product_id", Long.class))
+                        .productName(row.get("product_name", String.class))
+                        .stock(row.get("stock", Integer.class))
+                        .build())
+                .all();
+    }
+}
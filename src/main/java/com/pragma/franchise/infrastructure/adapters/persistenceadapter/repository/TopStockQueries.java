@@ -0,0 +1,67 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
+
+public final class TopStockQueries {
+
+    public static final String TOP_STOCK_CHANNEL = "top_stock_changes";
+
+    /**
+     * NOTIFY es transaccional: el aviso "franchiseId:branchId" solo se entrega si la escritura confirma.
+     */
+    public static final String NOTIFY_TOP_STOCK_CHANGE = "WITH notified AS ("
+            + " SELECT pg_notify('" + TOP_STOCK_CHANNEL + "', b.franchise_id || ':' || b.id)"
+            + " FROM branch b WHERE b.id = :branchId"
+            + ") SELECT COUNT(*) FROM notified";
+
+    public static final String TOP_STOCK_BY_FRANCHISE = """
+            SELECT
+                b.id AS branch_id,
+                b.name AS branch_name,
+                p.id AS product_id,
+                p.name AS product_name,
+                p.stock
+            FROM branch_top_stock t
+            JOIN branch b ON b.id = t.branch_id
+            JOIN product p ON p.branch_id = t.branch_id AND p.stock = t.max_stock
+            WHERE t.franchise_id = :franchiseId
+            ORDER BY p.stock DESC
+            """;
+
+    public static final String TOP_STOCK_BY_BRANCH = """
+            SELECT
+                b.id AS branch_id,
+                b.name AS branch_name,
+                p.id AS product_id,
+                p.name AS product_name,
+                p.stock
+            FROM branch_top_stock t
+            JOIN branch b ON b.id = t.branch_id
+            JOIN product p ON p.branch_id = t.branch_id AND p.stock = t.max_stock
+            WHERE t.branch_id = :branchId
+            ORDER BY p.id
+            """;
+
+    /**
+     * Top K por sucursal. El LATERAL con LIMIT recorre el índice product(branch_id, stock DESC) y lee
+     * solo K filas por sucursal, en lugar de numerar todos los productos con ROW_NUMBER().
+     */
+    public static final String TOP_K_STOCK_PER_BRANCH_BY_FRANCHISE = """
+            SELECT
+                b.id AS branch_id,
+                b.name AS branch_name,
+                top.id AS product_id,
+                top.name AS product_name,
+                top.stock
+            FROM branch b
+            CROSS JOIN LATERAL (
+                SELECT p.id, p.name, p.stock
+                FROM product p
+                WHERE p.branch_id = b.id
+                ORDER BY p.stock DESC, p.id
+                LIMIT :perBranch
+            ) top
+            WHERE b.franchise_id = :franchiseId
+            """;
+
+    private TopStockQueries() {
+    }
+}
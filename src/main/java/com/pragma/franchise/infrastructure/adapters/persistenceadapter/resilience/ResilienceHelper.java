@@ -1,5 +1,7 @@
 package com.pragma.franchise.infrastructure.adapters.persistenceadapter.resilience;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
 import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
@@ -10,6 +12,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 @AllArgsConstructor
@@ -18,9 +22,11 @@ public class ResilienceHelper {
     private static final Duration TIMEOUT = Duration.ofSeconds(2);
     private static final String CIRCUIT_BREAKER_NAME = "databaseCB";
     private static final String BULKHEAD_NAME = "databaseBH";
+    private static final String STREAM_BULKHEAD_NAME = "streamBH";
 
     private final CircuitBreakerRegistry circuitBreakerRegistry;
     private final BulkheadRegistry bulkheadRegistry;
+    private final Duration streamMaxDuration;
 
     public <T> Mono<T> applyResilience(Mono<T> mono) {
         return mono
@@ -35,4 +41,46 @@ public class ResilienceHelper {
                 .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(BULKHEAD_NAME)))
                 .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME)));
     }
+
+    /**
+     * Para cursores que el cliente consume a su ritmo. La conexión sigue ocupada hasta que el cliente lee la
+     * última fila, así que el stream retiene un permiso de databaseBH y otro de streamBH durante toda su vida:
+     * streamBH acota cuántas conexiones pueden quedarse los streams y el resto de peticiones recibe un 429 en
+     * lugar de agotar el pool. El timeout cubre solo hasta la primera fila, pero ningún stream dura más que
+     * {@code franchise.stream.max-duration}; ese límite queda fuera del circuit breaker porque un cliente lento no es un
+     * fallo de la base.
+     */
+    public <T> Flux<T> applyStreamResilience(Flux<T> flux) {
+        return applyStreamResilience(flux, STREAM_BULKHEAD_NAME, streamMaxDuration);
+    }
+
+    /**
+     * Igual que {@link #applyStreamResilience(Flux)}, con un bulkhead y una duración máxima propios, para que un
+     * tipo de stream pesado no ocupe los huecos de los demás.
+     */
+    public <T> Flux<T> applyStreamResilience(Flux<T> flux, String streamBulkheadName, Duration maxDuration) {
+        Bulkhead streamBulkhead = bulkheadRegistry.bulkhead(streamBulkheadName);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(BULKHEAD_NAME);
+        return Flux.defer(() -> {
+            if (!streamBulkhead.tryAcquirePermission()) {
+                return Flux.<T>error(BulkheadFullException.createBulkheadFullException(streamBulkhead));
+            }
+            if (!bulkhead.tryAcquirePermission()) {
+                streamBulkhead.onComplete();
+                return Flux.<T>error(BulkheadFullException.createBulkheadFullException(bulkhead));
+            }
+            AtomicBoolean expired = new AtomicBoolean();
+            return flux
+                    .timeout(Mono.delay(TIMEOUT), item -> Mono.never())
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME)))
+                    .takeUntilOther(Mono.delay(maxDuration).doOnNext(tick -> expired.set(true)))
+                    .concatWith(Mono.defer(() -> expired.get()
+                            ? Mono.error(new TimeoutException("Stream exceeded " + maxDuration))
+                            : Mono.empty()))
+                    .doFinally(signal -> {
+                        bulkhead.onComplete();
+                        streamBulkhead.onComplete();
+                    });
+        });
+    }
 }
@@ -0,0 +1,76 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.routing;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Envía a la réplica las lecturas que {@link ReadRouting} permite y el resto a la primaria. Las transacciones
+ * abren su conexión en la primaria y las consultas dentro de ellas la reutilizan, así que nunca se mezclan.
+ * Si no se puede obtener conexión de la réplica o su circuit breaker está abierto, la lectura usa la primaria.
+ */
+@Slf4j
+public class ReadReplicaRoutingConnectionFactory extends AbstractRoutingConnectionFactory implements AutoCloseable {
+
+    private final ConnectionPool primary;
+    private final ConnectionPool replica;
+
+    public ReadReplicaRoutingConnectionFactory(ConnectionPool primary, ConnectionPool replica,
+                                               CircuitBreaker replicaCircuitBreaker) {
+        this.primary = primary;
+        this.replica = replica;
+        setTargetConnectionFactories(Map.of(
+                Route.PRIMARY, primary,
+                Route.REPLICA, new ReplicaWithFallback(replica, primary, replicaCircuitBreaker)));
+        setDefaultTargetConnectionFactory(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> Mono.just(ReadRouting.useReplica(context) ? Route.REPLICA : Route.PRIMARY));
+    }
+
+    @Override
+    public void close() {
+        replica.dispose();
+        primary.dispose();
+    }
+
+    enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    /**
+     * El circuit breaker solo cuenta los fallos al obtener la conexión; los de las consultas ya los cuenta
+     * databaseCB en ResilienceHelper.
+     */
+    private record ReplicaWithFallback(ConnectionFactory replica, ConnectionFactory primary,
+                                       CircuitBreaker circuitBreaker) implements ConnectionFactory {
+
+        @Override
+        public Publisher<? extends Connection> create() {
+            return Mono.<Connection>defer(() -> Mono.from(replica.create()))
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                    .onErrorResume(error -> {
+                        log.debug("Read replica unavailable, using primary: {}", error.getMessage());
+                        return Mono.from(primary.create());
+                    });
+        }
+
+        @Override
+        public ConnectionFactoryMetadata getMetadata() {
+            return replica.getMetadata();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.routing;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Marcas en el contexto de Reactor que deciden si una consulta puede ir a la réplica. Hacen falta las dos:
+ * el adaptador marca la consulta como lectura apta y la petición HTTP permite la réplica (GET sin escritura
+ * reciente del cliente). Lo que se ejecuta fuera de una petición (listener, lotes de escritura) usa la primaria.
+ */
+public final class ReadRouting {
+
+    private static final String REPLICA_READ = ReadRouting.class.getName() + ".READ";
+    private static final String REPLICA_ALLOWED = ReadRouting.class.getName() + ".ALLOWED";
+
+    private ReadRouting() {
+    }
+
+    public static <T> Mono<T> onReplica(Mono<T> mono) {
+        return mono.contextWrite(context -> context.put(REPLICA_READ, true));
+    }
+
+    public static <T> Flux<T> onReplica(Flux<T> flux) {
+        return flux.contextWrite(context -> context.put(REPLICA_READ, true));
+    }
+
+    public static Context allowReplica(Context context) {
+        return context.put(REPLICA_ALLOWED, true);
+    }
+
+    public static boolean useReplica(ContextView context) {
+        return context.getOrDefault(REPLICA_READ, false) && context.getOrDefault(REPLICA_ALLOWED, false);
+    }
+}
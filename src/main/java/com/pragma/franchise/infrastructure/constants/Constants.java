@@ -7,6 +7,21 @@ public class Constants {
     public static final String BRANCH_ID = "Branch id";
     public static final String FRANCHISE_ID = "Franchise id";
     public static final String ID_FRANCHISE = "franchiseId";
+    public static final String PER_BRANCH = "perBranch";
+    public static final String LIMIT = "limit";
+
+    public static final String IMPORT_LINE_TOO_LONG = "Import line exceeds the maximum allowed size";
+    public static final String IF_MATCH_SINGLE_TAG = "If-Match must contain a single entity tag";
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final String IDEMPOTENCY_KEY_INVALID = "Idempotency-Key must have between 1 and 255 characters";
+    public static final String IDEMPOTENCY_KEY_REUSED = "Idempotency-Key was already used for a different request";
+    public static final String IDEMPOTENCY_KEY_BODY_MISMATCH = "Idempotency-Key was already used with a different request body";
+
+    public static final String PRIMARY_UNTIL_COOKIE = "primary-until";
+
+    public static final String REBUILD_READ_MODELS_OPTION = "rebuild-read-models";
 
     public static final String UNEXPECTED_ERROR = "Unexpected error";
     public static final String ERROR_MESSAGE = "Error processing request";
@@ -14,4 +29,11 @@ public class Constants {
     public static final String SERVICE_UNAVAILABLE ="Service temporarily unavailable, please try again later";
     public static final String REQUEST_TIMEOUT = "Request timed out, please try again later";
     public static final String CONCURRENCY_ERROR = "Too many concurrent requests, please try again later";
+    public static final String RESOURCE_ALREADY_EXISTS = "Resource already exists";
+    public static final String REFERENCED_RESOURCE_NOT_FOUND = "Referenced resource not found";
+    public static final String INVALID_DATA = "Data violates a database constraint";
+    public static final String INVALID_BODY = "Request body is malformed or has values out of range";
+
+    public static final String UNIQUE_VIOLATION = "23505";
+    public static final String FOREIGN_KEY_VIOLATION = "23503";
 }
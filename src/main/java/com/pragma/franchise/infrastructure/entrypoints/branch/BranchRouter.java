@@ -44,6 +44,32 @@ public class BranchRouter {
                             }
                     )
             ),
+            @RouterOperation(
+                    path = "/api/v1/branch/{id}",
+                    method = RequestMethod.GET,
+                    beanClass = BranchHandler.class,
+                    beanMethod = "getBranch",
+                    operation = @Operation(
+                            operationId = "getBranch",
+                            summary = "Get a branch",
+                            tags = {"Branch"},
+                            parameters = {
+                                    @Parameter(name = "id", in = ParameterIn.PATH, required = true,
+                                            schema = @Schema(type = "integer", format = "int64")),
+                                    @Parameter(name = "If-None-Match", in = ParameterIn.HEADER,
+                                            description = "ETag returned by a previous response; if the branch is "
+                                                    + "still at that version the response is 304 without a body",
+                                            schema = @Schema(type = "string", example = "\"3\""))
+                            },
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Branch found",
+                                            content = @Content(schema = @Schema(implementation = GenericResponse.class))),
+                                    @ApiResponse(responseCode = "304", description = "The branch has not changed"),
+                                    @ApiResponse(responseCode = "404", description = "Branch not found",
+                                            content = @Content(schema = @Schema(implementation = GenericResponse.class)))
+                            }
+                    )
+            ),
             @RouterOperation(
                     path = "/api/v1/branch/{id}",
                     method = RequestMethod.PATCH,
@@ -55,7 +81,11 @@ public class BranchRouter {
                             tags = {"Branch"},
                             parameters = {
                                     @Parameter(name = "id", in = ParameterIn.PATH, required = true,
-                                            schema = @Schema(type = "integer", format = "int64"))
+                                            schema = @Schema(type = "integer", format = "int64")),
+                                    @Parameter(name = "If-Match", in = ParameterIn.HEADER,
+                                            description = "ETag returned by a previous response; the update is "
+                                                    + "applied only if the branch is still at that version",
+                                            schema = @Schema(type = "string", example = "\"3\""))
                             },
                             requestBody = @RequestBody(
                                     required = true,
@@ -63,15 +93,38 @@ public class BranchRouter {
                             ),
                             responses = {
                                     @ApiResponse(responseCode = "200", description = "Branch updated successfully",
+                                            content = @Content(schema = @Schema(implementation = GenericResponse.class))),
+                                    @ApiResponse(responseCode = "412", description = "If-Match does not match the current version",
                                             content = @Content(schema = @Schema(implementation = GenericResponse.class)))
                             }
                     )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/branch/{id}",
+                    method = RequestMethod.DELETE,
+                    beanClass = BranchHandler.class,
+                    beanMethod = "deleteBranch",
+                    operation = @Operation(
+                            operationId = "deleteBranch",
+                            summary = "Delete a branch",
+                            description = "Deletes the branch and, through ON DELETE CASCADE, its products.",
+                            tags = {"Branch"},
+                            parameters = {
+                                    @Parameter(name = "id", in = ParameterIn.PATH, required = true,
+                                            schema = @Schema(type = "integer", format = "int64"))
+                            },
+                            responses = {
+                                    @ApiResponse(responseCode = "204", description = "Branch deleted successfully")
+                            }
+                    )
             )
     })
     public RouterFunction<ServerResponse> branchRouterFunction(BranchHandler handler) {
         return RouterFunctions.route()
                 .POST("/api/v1/branch", handler::createBranch)
+                .GET("/api/v1/branch/{id}", handler::getBranch)
                 .PATCH("/api/v1/branch/{id}", handler::updateNameBranch)
+                .DELETE("/api/v1/branch/{id}", handler::deleteBranch)
                 .build();
     }
 }
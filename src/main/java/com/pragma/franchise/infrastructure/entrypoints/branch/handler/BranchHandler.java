@@ -1,6 +1,8 @@
 package com.pragma.franchise.infrastructure.entrypoints.branch.handler;
 
 import com.pragma.franchise.domain.api.branch.CreateBranchServicePort;
+import com.pragma.franchise.domain.api.branch.DeleteBranchServicePort;
+import com.pragma.franchise.domain.api.branch.GetBranchServicePort;
 import com.pragma.franchise.domain.api.branch.UpdateBranchServicePort;
 import com.pragma.franchise.domain.enums.TechnicalMessage;
 import com.pragma.franchise.infrastructure.entrypoints.branch.dto.BranchRequestDTO;
@@ -9,6 +11,7 @@ import com.pragma.franchise.infrastructure.entrypoints.dto.GenericResponse;
 import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductRequestDTO;
 import com.pragma.franchise.infrastructure.utils.RequestParamExtractor;
 import com.pragma.franchise.infrastructure.utils.ValidatorHelper;
+import com.pragma.franchise.infrastructure.utils.VersionETag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -27,6 +30,8 @@ public class BranchHandler {
 
     private final CreateBranchServicePort createBranchServicePort;
     private final UpdateBranchServicePort updateBranchServicePort;
+    private final DeleteBranchServicePort deleteBranchServicePort;
+    private final GetBranchServicePort getBranchServicePort;
     private final BranchMapper mapper;
     private final ValidatorHelper validator;
 
@@ -37,6 +42,7 @@ public class BranchHandler {
                 .flatMap(createBranchServicePort::createBranch)
                 .flatMap(response -> ServerResponse
                         .status(HttpStatus.CREATED)
+                        .headers(VersionETag.toETag(response.getVersion()))
                         .bodyValue(GenericResponse.builder()
                                 .message(TechnicalMessage.BRANCH_CREATED.getMessage())
                                 .isSuccess(true)
@@ -48,11 +54,14 @@ public class BranchHandler {
     public Mono<ServerResponse> updateNameBranch(ServerRequest request) {
         return Mono.zip(
                         RequestParamExtractor.extractLongPathVariable(request.pathVariable(ID), BRANCH_ID),
+                        VersionETag.fromIfMatch(request),
                         request.bodyToMono(ProductRequestDTO.class)
                 )
-                .flatMap(tuple -> updateBranchServicePort.updateNameBranch(tuple.getT1(), tuple.getT2().name()))
+                .flatMap(tuple -> updateBranchServicePort.updateNameBranch(tuple.getT1(), tuple.getT3().name(),
+                        tuple.getT2().orElse(null)))
                 .flatMap(response -> ServerResponse
                         .status(HttpStatus.OK)
+                        .headers(VersionETag.toETag(response.getVersion()))
                         .bodyValue(GenericResponse.builder()
                                 .message(TechnicalMessage.BRANCH_UPDATED.getMessage())
                                 .isSuccess(true)
@@ -61,4 +70,28 @@ public class BranchHandler {
                                 .build())
                 );
     }
+
+    public Mono<ServerResponse> getBranch(ServerRequest request) {
+        return RequestParamExtractor
+                .extractLongPathVariable(request.pathVariable(ID), BRANCH_ID)
+                .flatMap(id -> VersionETag.notModifiedOr(request,
+                        () -> getBranchServicePort.getBranchVersion(id),
+                        () -> getBranchServicePort.getBranchById(id)
+                                .flatMap(response -> ServerResponse
+                                        .ok()
+                                        .headers(VersionETag.toETag(response.getVersion()))
+                                        .bodyValue(GenericResponse.builder()
+                                                .message(TechnicalMessage.BRANCH_FOUND.getMessage())
+                                                .isSuccess(true)
+                                                .statusCode(TechnicalMessage.BRANCH_FOUND.getCode())
+                                                .data(mapper.toResponseDto(response))
+                                                .build()))));
+    }
+
+    public Mono<ServerResponse> deleteBranch(ServerRequest request) {
+        return RequestParamExtractor
+                .extractLongPathVariable(request.pathVariable(ID), BRANCH_ID)
+                .flatMap(deleteBranchServicePort::deleteBranchById)
+                .then(ServerResponse.noContent().build());
+    }
 }
@@ -0,0 +1,35 @@
+package com.pragma.franchise.infrastructure.entrypoints.command;
+
+import com.pragma.franchise.domain.api.product.RebuildReadModelsServicePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import static com.pragma.franchise.infrastructure.constants.Constants.REBUILD_READ_MODELS_OPTION;
+
+/**
+ * Reconstruye los modelos de lectura (p. ej. branch_top_stock) a partir de la tabla product.
+ * Se ejecuta con {@code --rebuild-read-models}; al terminar cierra la aplicación.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RebuildReadModelsCommand implements ApplicationRunner {
+
+    private final RebuildReadModelsServicePort rebuildReadModelsServicePort;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(REBUILD_READ_MODELS_OPTION)) {
+            return;
+        }
+        Long rows = rebuildReadModelsServicePort.rebuildReadModels().block();
+        log.info("Read models rebuilt, {} rows written", rows);
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
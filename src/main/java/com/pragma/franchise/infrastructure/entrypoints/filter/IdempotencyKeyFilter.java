@@ -0,0 +1,275 @@
+package com.pragma.franchise.infrastructure.entrypoints.filter;
+
+import com.pragma.franchise.domain.exceptions.BadRequestException;
+import com.pragma.franchise.domain.exceptions.UnprocessableEntityException;
+import com.pragma.franchise.infrastructure.adapters.idempotency.IdempotencyKey;
+import com.pragma.franchise.infrastructure.adapters.idempotency.IdempotencyStore;
+import com.pragma.franchise.infrastructure.adapters.idempotency.IdempotentResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.InetSocketAddress;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.pragma.franchise.infrastructure.constants.Constants.IDEMPOTENCY_KEY_BODY_MISMATCH;
+import static com.pragma.franchise.infrastructure.constants.Constants.IDEMPOTENCY_KEY_HEADER;
+import static com.pragma.franchise.infrastructure.constants.Constants.IDEMPOTENCY_KEY_INVALID;
+import static com.pragma.franchise.infrastructure.constants.Constants.IDEMPOTENCY_KEY_REUSED;
+import static com.pragma.franchise.infrastructure.constants.Constants.IDEMPOTENT_REPLAYED_HEADER;
+
+/**
+ * Deduplica los POST y PATCH que traen Idempotency-Key. La primera petición con una clave se ejecuta y, si
+ * responde 2xx, su respuesta se guarda; los reintentos reciben esa respuesta sin pasar por los casos de uso.
+ * Los duplicados que llegan mientras la primera sigue en curso esperan a su resultado en lugar de ejecutarse.
+ * Los errores no se guardan: el siguiente reintento vuelve a ejecutar la petición.
+ * <p>
+ * Las claves son por cliente (cabecera configurable o, sin ella, la dirección remota) y la respuesta guarda el
+ * hash del cuerpo de la petición: un reintento con la misma clave y otro cuerpo recibe un 422.
+ */
+public class IdempotencyKeyFilter implements WebFilter {
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(HttpMethod.POST, HttpMethod.PATCH);
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final int maxBodySize;
+    private final String clientHeader;
+    private final ConcurrentMap<IdempotencyKey, Sinks.One<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyKeyFilter(IdempotencyStore store, int maxBodySize, String clientHeader) {
+        this.store = store;
+        this.maxBodySize = maxBodySize;
+        this.clientHeader = clientHeader;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String key = exchange.getRequest().getHeaders().getFirst(IDEMPOTENCY_KEY_HEADER);
+        if (key == null || !IDEMPOTENT_METHODS.contains(exchange.getRequest().getMethod())) {
+            return chain.filter(exchange);
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            return Mono.error(new BadRequestException(IDEMPOTENCY_KEY_INVALID));
+        }
+        HashingRequest request = new HashingRequest(exchange.getRequest());
+        return deduplicate(new IdempotencyKey(clientId(exchange), key),
+                exchange.mutate().request(request).build(), request, chain);
+    }
+
+    /**
+     * Solo quien registra la clave como en curso consulta el almacén y ejecuta; como la respuesta se guarda
+     * antes de liberar la clave, una petición que llega después siempre la encuentra.
+     */
+    private Mono<Void> deduplicate(IdempotencyKey key, ServerWebExchange exchange, HashingRequest request,
+                                   WebFilterChain chain) {
+        Sinks.One<IdempotentResponse> sink = Sinks.one();
+        Sinks.One<IdempotentResponse> running = inFlight.putIfAbsent(key, sink);
+        if (running != null) {
+            // Si la primera no deja respuesta (error o cancelación) el duplicado vuelve a competir por ejecutarse
+            return running.asMono()
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(response -> response.isPresent()
+                            ? replay(response.get(), exchange, request)
+                            : deduplicate(key, exchange, request, chain));
+        }
+        return store.find(key)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(stored -> {
+                    if (stored.isPresent()) {
+                        sink.tryEmitValue(stored.get());
+                        return replay(stored.get(), exchange, request);
+                    }
+                    return execute(key, exchange, request, chain, sink);
+                })
+                .doFinally(signal -> {
+                    inFlight.remove(key, sink);
+                    sink.tryEmitEmpty();
+                });
+    }
+
+    private Mono<Void> execute(IdempotencyKey key, ServerWebExchange exchange, HashingRequest request,
+                               WebFilterChain chain, Sinks.One<IdempotentResponse> sink) {
+        CapturingResponse response = new CapturingResponse(exchange, key, request, sink);
+        return chain.filter(exchange.mutate().response(response).build());
+    }
+
+    private Mono<Void> replay(IdempotentResponse stored, ServerWebExchange exchange, HashingRequest request) {
+        if (!stored.matches(method(exchange), path(exchange))) {
+            return Mono.error(new BadRequestException(IDEMPOTENCY_KEY_REUSED));
+        }
+        return request.bodyHash()
+                .flatMap(hash -> stored.matchesBody(hash)
+                        ? write(stored, exchange)
+                        : Mono.error(new UnprocessableEntityException(IDEMPOTENCY_KEY_BODY_MISMATCH)));
+    }
+
+    private Mono<Void> write(IdempotentResponse stored, ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(stored.getStatusCode()));
+        if (stored.getContentType() != null) {
+            response.getHeaders().setContentType(MediaType.parseMediaType(stored.getContentType()));
+        }
+        if (stored.getETag() != null) {
+            response.getHeaders().set(HttpHeaders.ETAG, stored.getETag());
+        }
+        response.getHeaders().set(IDEMPOTENT_REPLAYED_HEADER, Boolean.TRUE.toString());
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(stored.getBody())));
+    }
+
+    private String clientId(ServerWebExchange exchange) {
+        String clientId = exchange.getRequest().getHeaders().getFirst(clientHeader);
+        if (clientId != null && !clientId.isBlank()) {
+            return clientId;
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        return remoteAddress != null ? remoteAddress.getHostString() : "";
+    }
+
+    private static String method(ServerWebExchange exchange) {
+        return exchange.getRequest().getMethod().name();
+    }
+
+    private static String path(ServerWebExchange exchange) {
+        return exchange.getRequest().getPath().value();
+    }
+
+    /**
+     * Calcula el SHA-256 del cuerpo a medida que el handler lo lee, sin acumularlo en memoria. Si el handler no
+     * lo leyó, el cuerpo se consume al pedir el hash.
+     */
+    private static final class HashingRequest extends ServerHttpRequestDecorator {
+
+        private final MessageDigest digest = sha256();
+        private volatile String hash;
+
+        private HashingRequest(ServerHttpRequest delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return super.getBody()
+                    .doOnNext(buffer -> {
+                        try (DataBuffer.ByteBufferIterator buffers = buffer.readableByteBuffers()) {
+                            buffers.forEachRemaining(digest::update);
+                        }
+                    })
+                    .doOnComplete(() -> hash = HexFormat.of().formatHex(digest.digest()));
+        }
+
+        /**
+         * Vacío si el handler dejó el cuerpo a medio leer: sin el hash completo la respuesta no se guarda.
+         */
+        private Mono<String> bodyHash() {
+            if (hash != null) {
+                return Mono.just(hash);
+            }
+            return getBody()
+                    .doOnNext(DataBufferUtils::release)
+                    .then(Mono.fromSupplier(() -> hash))
+                    .onErrorResume(IllegalStateException.class, error -> Mono.empty());
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Guarda la respuesta antes de enviarla: cuando el cliente la recibe, un reintento ya la encuentra aunque la
+     * conexión se cierre enseguida. Las respuestas en streaming, las que no son 2xx y las que superan el tamaño
+     * máximo se envían igual pero no se guardan.
+     */
+    private final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final String method;
+        private final String path;
+        private final IdempotencyKey key;
+        private final HashingRequest request;
+        private final Sinks.One<IdempotentResponse> sink;
+        private boolean captured;
+
+        private CapturingResponse(ServerWebExchange exchange, IdempotencyKey key, HashingRequest request,
+                                  Sinks.One<IdempotentResponse> sink) {
+            super(exchange.getResponse());
+            this.method = method(exchange);
+            this.path = path(exchange);
+            this.key = key;
+            this.request = request;
+            this.sink = sink;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(Flux.from(body))
+                    .map(buffer -> {
+                        byte[] bytes = new byte[buffer.readableByteCount()];
+                        buffer.read(bytes);
+                        DataBufferUtils.release(buffer);
+                        return bytes;
+                    })
+                    .defaultIfEmpty(new byte[0])
+                    .flatMap(bytes -> save(bytes)
+                            .then(getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)))));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            captured = true;
+            return getDelegate().writeAndFlushWith(body);
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return save(new byte[0]).then(getDelegate().setComplete());
+        }
+
+        private Mono<Void> save(byte[] body) {
+            HttpStatusCode status = Optional.ofNullable(getStatusCode()).orElse(HttpStatusCode.valueOf(200));
+            if (captured || !status.is2xxSuccessful() || body.length > maxBodySize) {
+                return Mono.empty();
+            }
+            captured = true;
+            MediaType contentType = getHeaders().getContentType();
+            return request.bodyHash()
+                    .map(hash -> IdempotentResponse.builder()
+                            .method(method)
+                            .path(path)
+                            .requestHash(hash)
+                            .statusCode(status.value())
+                            .contentType(contentType != null ? contentType.toString() : null)
+                            .eTag(getHeaders().getETag())
+                            .body(body)
+                            .build())
+                    .flatMap(response -> store.save(key, response)
+                            .doOnSuccess(saved -> sink.tryEmitValue(response)));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.pragma.franchise.infrastructure.entrypoints.filter;
+
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.routing.ReadRouting;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+import static com.pragma.franchise.infrastructure.constants.Constants.PRIMARY_UNTIL_COOKIE;
+
+/**
+ * Decide qué peticiones pueden leer de la réplica. Solo los GET y HEAD la usan; una escritura correcta deja una
+ * cookie con el instante hasta el que las lecturas de ese cliente siguen en la primaria, para que vea su propia
+ * escritura aunque la réplica vaya retrasada. Los clientes que no devuelven cookies no tienen esa garantía.
+ */
+public class ReadRoutingFilter implements WebFilter {
+
+    private static final Set<HttpMethod> READ_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD);
+
+    private final Duration stickyWindow;
+    private final Clock clock;
+
+    public ReadRoutingFilter(Duration stickyWindow, Clock clock) {
+        this.stickyWindow = stickyWindow;
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!READ_METHODS.contains(exchange.getRequest().getMethod())) {
+            exchange.getResponse().beforeCommit(() -> Mono.fromRunnable(() -> stickToPrimary(exchange.getResponse())));
+            return chain.filter(exchange);
+        }
+        if (stickyUntil(exchange) > clock.millis()) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange).contextWrite(ReadRouting::allowReplica);
+    }
+
+    private void stickToPrimary(ServerHttpResponse response) {
+        HttpStatusCode status = response.getStatusCode();
+        if (status == null || !status.is2xxSuccessful()) {
+            return;
+        }
+        response.addCookie(ResponseCookie.from(PRIMARY_UNTIL_COOKIE, String.valueOf(clock.millis() + stickyWindow.toMillis()))
+                .path("/")
+                .maxAge(stickyWindow)
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build());
+    }
+
+    private long stickyUntil(ServerWebExchange exchange) {
+        HttpCookie cookie = exchange.getRequest().getCookies().getFirst(PRIMARY_UNTIL_COOKIE);
+        if (cookie == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
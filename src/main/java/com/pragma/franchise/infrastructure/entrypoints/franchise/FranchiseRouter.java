@@ -1,6 +1,7 @@
 package com.pragma.franchise.infrastructure.entrypoints.franchise;
 
 import com.pragma.franchise.infrastructure.entrypoints.dto.GenericResponse;
+import com.pragma.franchise.infrastructure.entrypoints.franchise.dto.FranchiseInventoryStatsResponseDTO;
 import com.pragma.franchise.infrastructure.entrypoints.franchise.dto.FranchiseRequestDTO;
 import com.pragma.franchise.infrastructure.entrypoints.franchise.handler.FranchiseHandler;
 import io.swagger.v3.oas.annotations.Operation;
@@ -58,6 +59,32 @@ public class FranchiseRouter {
                             }
                     )
             ),
+            @RouterOperation(
+                    path = "/api/v1/franchise/{id}",
+                    method = RequestMethod.GET,
+                    beanClass = FranchiseHandler.class,
+                    beanMethod = "getFranchise",
+                    operation = @Operation(
+                            operationId = "getFranchise",
+                            summary = "Get a franchise",
+                            tags = {"Franchise"},
+                            parameters = {
+                                    @Parameter(name = "id", in = ParameterIn.PATH, required = true,
+                                            schema = @Schema(type = "integer", format = "int64")),
+                                    @Parameter(name = "If-None-Match", in = ParameterIn.HEADER,
+                                            description = "ETag returned by a previous response; if the franchise is "
+                                                    + "still at that version the response is 304 without a body",
+                                            schema = @Schema(type = "string", example = "\"3\""))
+                            },
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Franchise found",
+                                            content = @Content(schema = @Schema(implementation = GenericResponse.class))),
+                                    @ApiResponse(responseCode = "304", description = "The franchise has not changed"),
+                                    @ApiResponse(responseCode = "404", description = "Franchise not found",
+                                            content = @Content(schema = @Schema(implementation = GenericResponse.class)))
+                            }
+                    )
+            ),
             @RouterOperation(
                     path = "/api/v1/franchise/{id}",
                     method = RequestMethod.PATCH,
@@ -69,7 +96,11 @@ public class FranchiseRouter {
                             tags = {"Franchise"},
                             parameters = {
                                     @Parameter(name = "id", in = ParameterIn.PATH, required = true,
-                                            schema = @Schema(type = "integer", format = "int64"))
+                                            schema = @Schema(type = "integer", format = "int64")),
+                                    @Parameter(name = "If-Match", in = ParameterIn.HEADER,
+                                            description = "ETag returned by a previous response; the update is "
+                                                    + "applied only if the franchise is still at that version",
+                                            schema = @Schema(type = "string", example = "\"3\""))
                             },
                             requestBody = @RequestBody(
                                     required = true,
@@ -77,6 +108,72 @@ public class FranchiseRouter {
                             ),
                             responses = {
                                     @ApiResponse(responseCode = "200", description = "Franchise updated successfully",
+                                            content = @Content(schema = @Schema(implementation = GenericResponse.class))),
+                                    @ApiResponse(responseCode = "412", description = "If-Match does not match the current version",
+                                            content = @Content(schema = @Schema(implementation = GenericResponse.class)))
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/franchise/{id}",
+                    method = RequestMethod.DELETE,
+                    beanClass = FranchiseHandler.class,
+                    beanMethod = "deleteFranchise",
+                    operation = @Operation(
+                            operationId = "deleteFranchise",
+                            summary = "Delete a franchise",
+                            description = "Deletes the franchise and, through ON DELETE CASCADE, its branches and products.",
+                            tags = {"Franchise"},
+                            parameters = {
+                                    @Parameter(name = "id", in = ParameterIn.PATH, required = true,
+                                            schema = @Schema(type = "integer", format = "int64"))
+                            },
+                            responses = {
+                                    @ApiResponse(responseCode = "204", description = "Franchise deleted successfully")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/franchises/{id}/inventory-stats",
+                    method = RequestMethod.GET,
+                    beanClass = FranchiseHandler.class,
+                    beanMethod = "getInventoryStats",
+                    operation = @Operation(
+                            operationId = "getInventoryStats",
+                            summary = "Get franchise inventory stats",
+                            description = "Total stock, SKU count, zero-stock count and stock-level histogram "
+                                    + "for the franchise and each of its branches.",
+                            tags = {"Franchise"},
+                            parameters = {
+                                    @Parameter(name = "id", in = ParameterIn.PATH, required = true,
+                                            schema = @Schema(type = "integer", format = "int64"))
+                            },
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Franchise inventory stats",
+                                            content = @Content(schema = @Schema(implementation = FranchiseInventoryStatsResponseDTO.class)))
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/franchises/{id}/tree",
+                    method = RequestMethod.GET,
+                    beanClass = FranchiseHandler.class,
+                    beanMethod = "getFranchiseTree",
+                    operation = @Operation(
+                            operationId = "getFranchiseTree",
+                            summary = "Get a franchise with all its branches and products",
+                            description = "data holds {id, name, branches: [{id, name, products: [{id, name, stock}]}]}. "
+                                    + "The body is written while the rows are read, so large franchises are not "
+                                    + "loaded into memory.",
+                            tags = {"Franchise"},
+                            parameters = {
+                                    @Parameter(name = "id", in = ParameterIn.PATH, required = true,
+                                            schema = @Schema(type = "integer", format = "int64"))
+                            },
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Franchise tree",
+                                            content = @Content(schema = @Schema(implementation = GenericResponse.class))),
+                                    @ApiResponse(responseCode = "404", description = "Franchise not found",
                                             content = @Content(schema = @Schema(implementation = GenericResponse.class)))
                             }
                     )
@@ -86,7 +183,11 @@ public class FranchiseRouter {
         return RouterFunctions.route()
                 .GET("/api/v1/health", handler::healthCheck)
                 .POST("/api/v1/franchise", handler::createFranchise)
+                .GET("/api/v1/franchise/{id}", handler::getFranchise)
                 .PATCH("/api/v1/franchise/{id}", handler::updateNameFranchise)
+                .DELETE("/api/v1/franchise/{id}", handler::deleteFranchise)
+                .GET("/api/v1/franchises/{id}/inventory-stats", handler::getInventoryStats)
+                .GET("/api/v1/franchises/{id}/tree", handler::getFranchiseTree)
                 .build();
     }
 }
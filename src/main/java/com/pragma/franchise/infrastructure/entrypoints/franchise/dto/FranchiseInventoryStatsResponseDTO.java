@@ -0,0 +1,9 @@
+package com.pragma.franchise.infrastructure.entrypoints.franchise.dto;
+
+import java.util.List;
+
+public record FranchiseInventoryStatsResponseDTO(
+        Long franchiseId,
+        InventoryStatsResponseDTO totals,
+        List<InventoryStatsResponseDTO> branches) {
+}
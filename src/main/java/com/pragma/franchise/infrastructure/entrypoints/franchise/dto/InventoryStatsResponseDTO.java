@@ -0,0 +1,11 @@
+package com.pragma.franchise.infrastructure.entrypoints.franchise.dto;
+
+import java.util.Map;
+
+public record InventoryStatsResponseDTO(
+        Long branchId,
+        Long totalStock,
+        Long skuCount,
+        Long zeroStockCount,
+        Map<String, Long> histogram) {
+}
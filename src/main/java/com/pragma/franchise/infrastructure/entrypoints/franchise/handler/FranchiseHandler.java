@@ -1,6 +1,10 @@
 package com.pragma.franchise.infrastructure.entrypoints.franchise.handler;
 
 import com.pragma.franchise.domain.api.franchise.CreateFranchiseServicePort;
+import com.pragma.franchise.domain.api.franchise.DeleteFranchiseServicePort;
+import com.pragma.franchise.domain.api.franchise.FranchiseTreeServicePort;
+import com.pragma.franchise.domain.api.franchise.GetFranchiseServicePort;
+import com.pragma.franchise.domain.api.franchise.InventoryStatsServicePort;
 import com.pragma.franchise.domain.api.franchise.UpdateFranchiseServicePort;
 import com.pragma.franchise.domain.enums.TechnicalMessage;
 import com.pragma.franchise.infrastructure.entrypoints.dto.GenericResponse;
@@ -8,10 +12,13 @@ import com.pragma.franchise.infrastructure.entrypoints.franchise.dto.FranchiseRe
 import com.pragma.franchise.infrastructure.entrypoints.franchise.mapper.FranchiseMapper;
 import com.pragma.franchise.infrastructure.utils.RequestParamExtractor;
 import com.pragma.franchise.infrastructure.utils.ValidatorHelper;
+import com.pragma.franchise.infrastructure.utils.VersionETag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
@@ -26,8 +33,13 @@ public class FranchiseHandler {
 
     private final CreateFranchiseServicePort createFranchiseServicePort;
     private final UpdateFranchiseServicePort updateFranchiseServicePort;
+    private final DeleteFranchiseServicePort deleteFranchiseServicePort;
+    private final GetFranchiseServicePort getFranchiseServicePort;
+    private final InventoryStatsServicePort inventoryStatsServicePort;
+    private final FranchiseTreeServicePort franchiseTreeServicePort;
     private final FranchiseMapper mapper;
     private final ValidatorHelper validator;
+    private final FranchiseTreeWriter treeWriter;
 
     public Mono<ServerResponse> createFranchise(ServerRequest request) {
         return request.bodyToMono(FranchiseRequestDTO.class)
@@ -36,6 +48,7 @@ public class FranchiseHandler {
                 .flatMap(createFranchiseServicePort::createFranchise)
                 .flatMap(response -> ServerResponse
                         .status(HttpStatus.CREATED)
+                        .headers(VersionETag.toETag(response.getVersion()))
                         .bodyValue(GenericResponse.builder()
                                 .message(TechnicalMessage.FRANCHISE_CREATED.getMessage())
                                 .isSuccess(true)
@@ -55,15 +68,18 @@ public class FranchiseHandler {
     }
 
     public Mono<ServerResponse> updateNameFranchise(ServerRequest request) {
-        return RequestParamExtractor
-                .extractLongPathVariable(request.pathVariable(ID), FRANCHISE_ID)
-                .flatMap(id ->
+        return Mono.zip(
+                        RequestParamExtractor.extractLongPathVariable(request.pathVariable(ID), FRANCHISE_ID),
+                        VersionETag.fromIfMatch(request)
+                )
+                .flatMap(tuple ->
                         request.bodyToMono(FranchiseRequestDTO.class)
                                 .flatMap(validator::validate)
-                                .flatMap(dto -> updateFranchiseServicePort.updateNameFranchise(id, dto.name()))
+                                .flatMap(dto -> updateFranchiseServicePort.updateNameFranchise(tuple.getT1(), dto.name(),
+                                        tuple.getT2().orElse(null)))
                 )
                 .flatMap(response ->
-                        ServerResponse.ok().bodyValue(
+                        ServerResponse.ok().headers(VersionETag.toETag(response.getVersion())).bodyValue(
                                 GenericResponse.builder()
                                         .message(TechnicalMessage.FRANCHISE_UPDATED.getMessage())
                                         .isSuccess(true)
@@ -74,4 +90,56 @@ public class FranchiseHandler {
                 );
     }
 
+    public Mono<ServerResponse> getInventoryStats(ServerRequest request) {
+        return RequestParamExtractor
+                .extractLongPathVariable(request.pathVariable(ID), FRANCHISE_ID)
+                .flatMap(inventoryStatsServicePort::getInventoryStats)
+                .flatMap(response ->
+                        ServerResponse.ok().bodyValue(
+                                GenericResponse.builder()
+                                        .message(TechnicalMessage.FRANCHISE_INVENTORY_STATS.getMessage())
+                                        .isSuccess(true)
+                                        .statusCode(TechnicalMessage.FRANCHISE_INVENTORY_STATS.getCode())
+                                        .data(mapper.toResponseDto(response))
+                                        .build()
+                        )
+                );
+    }
+
+    public Mono<ServerResponse> getFranchise(ServerRequest request) {
+        return RequestParamExtractor
+                .extractLongPathVariable(request.pathVariable(ID), FRANCHISE_ID)
+                .flatMap(id -> VersionETag.notModifiedOr(request,
+                        () -> getFranchiseServicePort.getFranchiseVersion(id),
+                        () -> getFranchiseServicePort.getFranchiseById(id)
+                                .flatMap(response -> ServerResponse
+                                        .ok()
+                                        .headers(VersionETag.toETag(response.getVersion()))
+                                        .bodyValue(GenericResponse.builder()
+                                                .message(TechnicalMessage.FRANCHISE_FOUND.getMessage())
+                                                .isSuccess(true)
+                                                .statusCode(TechnicalMessage.FRANCHISE_FOUND.getCode())
+                                                .data(mapper.toResponseDto(response))
+                                                .build()))));
+    }
+
+    /**
+     * El JSON se escribe a medida que llegan las filas de la consulta, sin cargar la franquicia en memoria.
+     */
+    public Mono<ServerResponse> getFranchiseTree(ServerRequest request) {
+        return RequestParamExtractor
+                .extractLongPathVariable(request.pathVariable(ID), FRANCHISE_ID)
+                .flatMap(id -> ServerResponse
+                        .ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(BodyInserters.fromDataBuffers(
+                                treeWriter.write(franchiseTreeServicePort.getFranchiseTree(id)))));
+    }
+
+    public Mono<ServerResponse> deleteFranchise(ServerRequest request) {
+        return RequestParamExtractor
+                .extractLongPathVariable(request.pathVariable(ID), FRANCHISE_ID)
+                .flatMap(deleteFranchiseServicePort::deleteFranchiseById)
+                .then(ServerResponse.noContent().build());
+    }
 }
@@ -0,0 +1,121 @@
+package com.pragma.franchise.infrastructure.entrypoints.franchise.handler;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.model.FranchiseTreeRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Escribe el árbol de una franquicia como JSON anidado a medida que llegan las filas, con la misma envoltura
+ * que GenericResponse. Cada fila solo abre o cierra los objetos que cambian respecto a la anterior, así que
+ * se retiene la sucursal en curso y el fragmento pendiente de enviar, nunca la franquicia completa. Los
+ * fragmentos se agrupan hasta {@code CHUNK_SIZE} bytes para no hacer una escritura en el socket por fila.
+ */
+@Component
+@RequiredArgsConstructor
+public class FranchiseTreeWriter {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public Flux<DataBuffer> write(Flux<FranchiseTreeRow> rows) {
+        return Flux.defer(() -> {
+                    TreeGenerator tree = new TreeGenerator();
+                    return rows.<byte[]>handle((row, sink) -> {
+                                tree.row(row);
+                                if (tree.pendingBytes() >= CHUNK_SIZE) {
+                                    sink.next(tree.flush());
+                                }
+                            })
+                            .concatWith(Mono.fromCallable(tree::end));
+                })
+                .map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+
+    private final class TreeGenerator {
+
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        private final JsonGenerator generator;
+        private boolean started;
+        private Long currentBranchId;
+
+        private TreeGenerator() {
+            try {
+                generator = objectMapper.getFactory().createGenerator(output);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void row(FranchiseTreeRow row) {
+            try {
+                if (!started) {
+                    started = true;
+                    generator.writeStartObject();
+                    generator.writeNumberField("statusCode", TechnicalMessage.FRANCHISE_TREE.getCode());
+                    generator.writeStringField("message", TechnicalMessage.FRANCHISE_TREE.getMessage());
+                    generator.writeObjectFieldStart("data");
+                    generator.writeNumberField("id", row.getFranchiseId());
+                    generator.writeStringField("name", row.getFranchiseName());
+                    generator.writeArrayFieldStart("branches");
+                }
+                if (row.getBranchId() != null && !row.getBranchId().equals(currentBranchId)) {
+                    closeBranch();
+                    currentBranchId = row.getBranchId();
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", row.getBranchId());
+                    generator.writeStringField("name", row.getBranchName());
+                    generator.writeArrayFieldStart("products");
+                }
+                if (row.getProductId() != null) {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", row.getProductId());
+                    generator.writeStringField("name", row.getProductName());
+                    generator.writeNumberField("stock", row.getStock());
+                    generator.writeEndObject();
+                }
+                generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private int pendingBytes() {
+            return output.size();
+        }
+
+        private byte[] end() throws IOException {
+            closeBranch();
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeBooleanField("success", true);
+            generator.writeEndObject();
+            generator.close();
+            return flush();
+        }
+
+        private void closeBranch() throws IOException {
+            if (currentBranchId != null) {
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }
+
+        private byte[] flush() {
+            byte[] fragment = output.toByteArray();
+            output.reset();
+            return fragment;
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.pragma.franchise.infrastructure.entrypoints.franchise.mapper;
 
 import com.pragma.franchise.domain.model.Franchise;
+import com.pragma.franchise.domain.model.FranchiseInventoryStats;
+import com.pragma.franchise.domain.model.InventoryStats;
+import com.pragma.franchise.infrastructure.entrypoints.franchise.dto.FranchiseInventoryStatsResponseDTO;
 import com.pragma.franchise.infrastructure.entrypoints.franchise.dto.FranchiseRequestDTO;
 import com.pragma.franchise.infrastructure.entrypoints.franchise.dto.FranchiseResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.franchise.dto.InventoryStatsResponseDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Mapper(componentModel = "spring",
         unmappedTargetPolicy = ReportingPolicy.IGNORE,
         unmappedSourcePolicy = ReportingPolicy.IGNORE)
@@ -14,4 +21,17 @@ public interface FranchiseMapper {
     Franchise toModel(FranchiseRequestDTO franchiseRequestDTO);
 
     FranchiseResponseDTO toResponseDto(Franchise franchise);
+
+    FranchiseInventoryStatsResponseDTO toResponseDto(FranchiseInventoryStats stats);
+
+    default InventoryStatsResponseDTO toResponseDto(InventoryStats stats) {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        histogram.put("0", stats.getZeroStockCount());
+        histogram.put("1-9", stats.getStock1To9Count());
+        histogram.put("10-99", stats.getStock10To99Count());
+        histogram.put("100-999", stats.getStock100To999Count());
+        histogram.put("1000+", stats.getStock1000PlusCount());
+        return new InventoryStatsResponseDTO(stats.getBranchId(), stats.getTotalStock(), stats.getSkuCount(),
+                stats.getZeroStockCount(), histogram);
+    }
 }
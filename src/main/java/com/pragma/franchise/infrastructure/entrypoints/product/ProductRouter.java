@@ -1,11 +1,19 @@
 package com.pragma.franchise.infrastructure.entrypoints.product;
 
 import com.pragma.franchise.infrastructure.entrypoints.dto.GenericResponse;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductImportResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductImportRowDTO;
 import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductRequestDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.BulkStockUpdateResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.StockAdjustmentRequestDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.StockLevelRequestDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.TopStockChangeResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.TopStockProductResponseDTO;
 import com.pragma.franchise.infrastructure.entrypoints.product.handler.ProductHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -43,6 +51,32 @@ public class ProductRouter {
                             }
                     )
             ),
+            @RouterOperation(
+                    path = "/api/v1/products/{id}",
+                    method = RequestMethod.GET,
+                    beanClass = ProductHandler.class,
+                    beanMethod = "getProduct",
+                    operation = @Operation(
+                            operationId = "getProduct",
+                            summary = "Get a product",
+                            tags = {"Product"},
+                            parameters = {
+                                    @Parameter(name = "id", in = ParameterIn.PATH, required = true,
+                                            schema = @Schema(type = "integer", format = "int64")),
+                                    @Parameter(name = "If-None-Match", in = ParameterIn.HEADER,
+                                            description = "ETag returned by a previous response; if the product is "
+                                                    + "still at that version the response is 304 without a body",
+                                            schema = @Schema(type = "string", example = "\"3\""))
+                            },
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Product found",
+                                            content = @Content(schema = @Schema(implementation = GenericResponse.class))),
+                                    @ApiResponse(responseCode = "304", description = "The product has not changed"),
+                                    @ApiResponse(responseCode = "404", description = "Product not found",
+                                            content = @Content(schema = @Schema(implementation = GenericResponse.class)))
+                            }
+                    )
+            ),
             @RouterOperation(
                     path = "/api/v1/products/{id}",
                     method = RequestMethod.DELETE,
@@ -72,7 +106,11 @@ public class ProductRouter {
                             tags = {"Product"},
                             parameters = {
                                     @Parameter(name = "id", in = ParameterIn.PATH, required = true,
-                                            schema = @Schema(type = "integer", format = "int64"))
+                                            schema = @Schema(type = "integer", format = "int64")),
+                                    @Parameter(name = "If-Match", in = ParameterIn.HEADER,
+                                            description = "ETag returned by a previous response; the update is "
+                                                    + "applied only if the product is still at that version",
+                                            schema = @Schema(type = "string", example = "\"3\""))
                             },
                             requestBody = @RequestBody(
                                     required = true,
@@ -80,10 +118,99 @@ public class ProductRouter {
                             ),
                             responses = {
                                     @ApiResponse(responseCode = "200", description = "Product stock updated",
+                                            content = @Content(schema = @Schema(implementation = GenericResponse.class))),
+                                    @ApiResponse(responseCode = "412", description = "If-Match does not match the current version",
                                             content = @Content(schema = @Schema(implementation = GenericResponse.class)))
                             }
                     )
             ),
+            @RouterOperation(
+                    path = "/api/v1/products/stock",
+                    method = RequestMethod.PATCH,
+                    beanClass = ProductHandler.class,
+                    beanMethod = "updateStockProducts",
+                    operation = @Operation(
+                            operationId = "updateStockProducts",
+                            summary = "Update the stock of many products",
+                            description = "Accepts a JSON array or NDJSON stream of {productId, stock} items and "
+                                    + "applies them in chunks. Unknown ids are returned in notFoundIds; items "
+                                    + "without id or with a null or negative stock are counted as invalid.",
+                            tags = {"Product"},
+                            requestBody = @RequestBody(
+                                    required = true,
+                                    content = {
+                                            @Content(mediaType = "application/json",
+                                                    array = @ArraySchema(schema = @Schema(implementation = StockLevelRequestDTO.class))),
+                                            @Content(mediaType = "application/x-ndjson",
+                                                    schema = @Schema(implementation = StockLevelRequestDTO.class))
+                                    }
+                            ),
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Products stock updated",
+                                            content = @Content(schema = @Schema(implementation = BulkStockUpdateResponseDTO.class)))
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/branches/{id}/products/import",
+                    method = RequestMethod.POST,
+                    beanClass = ProductHandler.class,
+                    beanMethod = "importProducts",
+                    operation = @Operation(
+                            operationId = "importProducts",
+                            summary = "Import the products of a branch",
+                            description = "Streams a CSV file (name,stock with an optional header) or an NDJSON "
+                                    + "stream of {name, stock} rows and inserts them in batches. Names that already "
+                                    + "exist in the branch are counted as duplicates; malformed rows and rows with an "
+                                    + "empty name or a null or negative stock are counted as invalid.",
+                            tags = {"Product"},
+                            parameters = {
+                                    @Parameter(name = "id", in = ParameterIn.PATH, required = true,
+                                            schema = @Schema(type = "integer", format = "int64"))
+                            },
+                            requestBody = @RequestBody(
+                                    required = true,
+                                    content = {
+                                            @Content(mediaType = "text/csv",
+                                                    schema = @Schema(type = "string", example = "name,stock\nProduct A,10")),
+                                            @Content(mediaType = "application/x-ndjson",
+                                                    schema = @Schema(implementation = ProductImportRowDTO.class))
+                                    }
+                            ),
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Products imported",
+                                            content = @Content(schema = @Schema(implementation = ProductImportResponseDTO.class))),
+                                    @ApiResponse(responseCode = "404", description = "Branch not found")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/products/{id}/stock/adjustments",
+                    method = RequestMethod.POST,
+                    beanClass = ProductHandler.class,
+                    beanMethod = "adjustStockProduct",
+                    operation = @Operation(
+                            operationId = "adjustStockProduct",
+                            summary = "Adjust product stock by a relative delta",
+                            description = "Adds the delta (negative for sales, positive for deliveries) to the "
+                                    + "current stock atomically. Fails with 409 if the stock would become negative.",
+                            tags = {"Product"},
+                            parameters = {
+                                    @Parameter(name = "id", in = ParameterIn.PATH, required = true,
+                                            schema = @Schema(type = "integer", format = "int64"))
+                            },
+                            requestBody = @RequestBody(
+                                    required = true,
+                                    content = @Content(schema = @Schema(implementation = StockAdjustmentRequestDTO.class))
+                            ),
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Product stock adjusted",
+                                            content = @Content(schema = @Schema(implementation = GenericResponse.class))),
+                                    @ApiResponse(responseCode = "404", description = "Product not found"),
+                                    @ApiResponse(responseCode = "409", description = "Insufficient stock")
+                            }
+                    )
+            ),
             @RouterOperation(
                     path = "/api/v1/products/{id}/name",
                     method = RequestMethod.PATCH,
@@ -95,7 +222,11 @@ public class ProductRouter {
                             tags = {"Product"},
                             parameters = {
                                     @Parameter(name = "id", in = ParameterIn.PATH, required = true,
-                                            schema = @Schema(type = "integer", format = "int64"))
+                                            schema = @Schema(type = "integer", format = "int64")),
+                                    @Parameter(name = "If-Match", in = ParameterIn.HEADER,
+                                            description = "ETag returned by a previous response; the update is "
+                                                    + "applied only if the product is still at that version",
+                                            schema = @Schema(type = "string", example = "\"3\""))
                             },
                             requestBody = @RequestBody(
                                     required = true,
@@ -103,6 +234,8 @@ public class ProductRouter {
                             ),
                             responses = {
                                     @ApiResponse(responseCode = "200", description = "Product name updated",
+                                            content = @Content(schema = @Schema(implementation = GenericResponse.class))),
+                                    @ApiResponse(responseCode = "412", description = "If-Match does not match the current version",
                                             content = @Content(schema = @Schema(implementation = GenericResponse.class)))
                             }
                     )
@@ -115,14 +248,52 @@ public class ProductRouter {
                     operation = @Operation(
                             operationId = "getTopStockProducts",
                             summary = "Get top stock products by franchise",
+                            description = "Without query parameters returns the products tied for the highest stock "
+                                    + "in each branch. With perBranch and/or limit returns the top perBranch products "
+                                    + "of each branch, merged into the franchise-wide top limit. Returns a JSON envelope "
+                                    + "by default; send Accept: application/x-ndjson or text/event-stream to stream rows.",
                             tags = {"Product"},
                             parameters = {
                                     @Parameter(name = "franchiseId", in = ParameterIn.PATH, required = true,
-                                            schema = @Schema(type = "integer", format = "int64"))
+                                            schema = @Schema(type = "integer", format = "int64")),
+                                    @Parameter(name = "perBranch", in = ParameterIn.QUERY,
+                                            schema = @Schema(type = "integer", minimum = "1", maximum = "1000")),
+                                    @Parameter(name = "limit", in = ParameterIn.QUERY,
+                                            schema = @Schema(type = "integer", minimum = "1", maximum = "1000"))
                             },
                             responses = {
                                     @ApiResponse(responseCode = "200", description = "Top stock products retrieved",
-                                            content = @Content(schema = @Schema(implementation = GenericResponse.class)))
+                                            content = {
+                                                    @Content(mediaType = "application/json",
+                                                            schema = @Schema(implementation = GenericResponse.class)),
+                                                    @Content(mediaType = "application/x-ndjson",
+                                                            schema = @Schema(implementation = TopStockProductResponseDTO.class)),
+                                                    @Content(mediaType = "text/event-stream",
+                                                            schema = @Schema(implementation = TopStockProductResponseDTO.class))
+                                            })
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/franchises/{id}/top-stock/stream",
+                    method = RequestMethod.GET,
+                    beanClass = ProductHandler.class,
+                    beanMethod = "streamTopStockChanges",
+                    operation = @Operation(
+                            operationId = "streamTopStockChanges",
+                            summary = "Stream top stock changes of a franchise",
+                            description = "Server-Sent Events stream. Emits a top-stock event with the current top "
+                                    + "products of a branch whenever they change; an empty product list means the "
+                                    + "branch has no products. Slow clients receive only the latest state of each branch.",
+                            tags = {"Product"},
+                            parameters = {
+                                    @Parameter(name = "id", in = ParameterIn.PATH, required = true,
+                                            schema = @Schema(type = "integer", format = "int64"))
+                            },
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Top stock change stream",
+                                            content = @Content(mediaType = "text/event-stream",
+                                                    schema = @Schema(implementation = TopStockChangeResponseDTO.class)))
                             }
                     )
             )
@@ -130,10 +301,15 @@ public class ProductRouter {
     public RouterFunction<ServerResponse> productsRouter(ProductHandler handler) {
         return RouterFunctions.route()
                 .POST("/api/v1/products", handler::createProduct)
+                .GET("/api/v1/products/{id}", handler::getProduct)
                 .DELETE("/api/v1/products/{id}", handler::deleteProduct)
+                .PATCH("/api/v1/products/stock", handler::updateStockProducts)
                 .PATCH("/api/v1/products/{id}/stock", handler::updateStockProduct)
+                .POST("/api/v1/products/{id}/stock/adjustments", handler::adjustStockProduct)
+                .POST("/api/v1/branches/{id}/products/import", handler::importProducts)
                 .PATCH("/api/v1/products/{id}/name", handler::updateNameProduct)
                 .GET("/api/v1/products/{franchiseId}/top-stock", handler::getTopStockProducts)
+                .GET("/api/v1/franchises/{id}/top-stock/stream", handler::streamTopStockChanges)
                 .build();
     }
 }
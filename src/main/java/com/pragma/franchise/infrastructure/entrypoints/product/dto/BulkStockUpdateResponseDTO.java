@@ -0,0 +1,10 @@
+package com.pragma.franchise.infrastructure.entrypoints.product.dto;
+
+import java.util.List;
+
+public record BulkStockUpdateResponseDTO(
+     long updatedCount,
+     List<Long> notFoundIds,
+     long invalidCount,
+     long notAppliedCount)
+{ }
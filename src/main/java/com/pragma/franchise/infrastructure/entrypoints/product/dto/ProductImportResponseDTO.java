@@ -0,0 +1,7 @@
+package com.pragma.franchise.infrastructure.entrypoints.product.dto;
+
+public record ProductImportResponseDTO(
+     long insertedCount,
+     long duplicateCount,
+     long invalidCount)
+{ }
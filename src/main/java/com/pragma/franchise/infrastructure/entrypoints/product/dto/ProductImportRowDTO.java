@@ -0,0 +1,12 @@
+package com.pragma.franchise.infrastructure.entrypoints.product.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+public record ProductImportRowDTO(
+        @NotNull @NotBlank @Size(max = 255) String name,
+        @NotNull @PositiveOrZero Integer stock
+) {
+}
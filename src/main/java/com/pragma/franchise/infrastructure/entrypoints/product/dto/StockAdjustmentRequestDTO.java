@@ -0,0 +1,8 @@
+package com.pragma.franchise.infrastructure.entrypoints.product.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public record StockAdjustmentRequestDTO(
+        @NotNull Integer delta
+) {
+}
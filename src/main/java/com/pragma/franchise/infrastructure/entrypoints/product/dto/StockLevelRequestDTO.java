@@ -0,0 +1,7 @@
+package com.pragma.franchise.infrastructure.entrypoints.product.dto;
+
+public record StockLevelRequestDTO(
+        Long productId,
+        Integer stock
+) {
+}
@@ -0,0 +1,9 @@
+package com.pragma.franchise.infrastructure.entrypoints.product.dto;
+
+import java.util.List;
+
+public record TopStockChangeResponseDTO(
+     Long franchiseId,
+     Long branchId,
+     List<TopStockProductResponseDTO> products)
+{ }
@@ -1,26 +1,47 @@
 package com.pragma.franchise.infrastructure.entrypoints.product.handler;
 
+import com.pragma.franchise.domain.api.product.BulkUpdateStockServicePort;
 import com.pragma.franchise.domain.api.product.CreateProductServicePort;
 import com.pragma.franchise.domain.api.product.DeleteProductServicePort;
+import com.pragma.franchise.domain.api.product.GetProductServicePort;
+import com.pragma.franchise.domain.api.product.ImportProductsServicePort;
 import com.pragma.franchise.domain.api.product.TopProductServicePort;
 import com.pragma.franchise.domain.api.product.UpdateProductServicePort;
 import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.model.TopStockProduct;
 import com.pragma.franchise.infrastructure.entrypoints.dto.GenericResponse;
 import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductRequestDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.StockAdjustmentRequestDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.StockLevelRequestDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.TopStockChangeResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.TopStockProductResponseDTO;
 import com.pragma.franchise.infrastructure.entrypoints.product.mapper.ProductMapper;
 import com.pragma.franchise.infrastructure.utils.RequestParamExtractor;
 import com.pragma.franchise.infrastructure.utils.ValidatorHelper;
+import com.pragma.franchise.infrastructure.utils.VersionETag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.pragma.franchise.infrastructure.constants.Constants.BRANCH_ID;
 import static com.pragma.franchise.infrastructure.constants.Constants.FRANCHISE_ID;
 import static com.pragma.franchise.infrastructure.constants.Constants.ID;
 import static com.pragma.franchise.infrastructure.constants.Constants.ID_FRANCHISE;
+import static com.pragma.franchise.infrastructure.constants.Constants.LIMIT;
+import static com.pragma.franchise.infrastructure.constants.Constants.PER_BRANCH;
 import static com.pragma.franchise.infrastructure.constants.Constants.PRODUCT_ID;
 
 @Component
@@ -28,12 +49,22 @@ import static com.pragma.franchise.infrastructure.constants.Constants.PRODUCT_ID
 @Slf4j
 public class ProductHandler {
 
+    private static final List<MediaType> STREAMING_TYPES =
+            List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+    private static final String TOP_STOCK_EVENT = "top-stock";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
     private final CreateProductServicePort createProductServicePort;
     private final DeleteProductServicePort deleteProductServicePort;
+    private final GetProductServicePort getProductServicePort;
     private final UpdateProductServicePort updateProductServicePort;
+    private final BulkUpdateStockServicePort bulkUpdateStockServicePort;
+    private final ImportProductsServicePort importProductsServicePort;
     private final TopProductServicePort topProductServicePort;
     private final ProductMapper mapper;
     private final ValidatorHelper validator;
+    private final ProductImportReader importReader;
 
     public Mono<ServerResponse> createProduct(ServerRequest request) {
         return request.bodyToMono(ProductRequestDTO.class)
@@ -42,6 +73,7 @@ public class ProductHandler {
                 .flatMap(createProductServicePort::createProduct)
                 .flatMap(response -> ServerResponse
                         .status(HttpStatus.CREATED)
+                        .headers(VersionETag.toETag(response.getVersion()))
                         .bodyValue(GenericResponse.builder()
                                 .message(TechnicalMessage.PRODUCT_CREATED.getMessage())
                                 .isSuccess(true)
@@ -50,6 +82,26 @@ public class ProductHandler {
                 );
     }
 
+    /**
+     * Con If-None-Match responde 304 si el cliente ya tiene la versión actual, sin leer el producto completo.
+     */
+    public Mono<ServerResponse> getProduct(ServerRequest request) {
+        return RequestParamExtractor
+                .extractLongPathVariable(request.pathVariable(ID), PRODUCT_ID)
+                .flatMap(id -> VersionETag.notModifiedOr(request,
+                        () -> getProductServicePort.getProductVersion(id),
+                        () -> getProductServicePort.getProductById(id)
+                                .flatMap(response -> ServerResponse
+                                        .ok()
+                                        .headers(VersionETag.toETag(response.getVersion()))
+                                        .bodyValue(GenericResponse.builder()
+                                                .message(TechnicalMessage.PRODUCT_FOUND.getMessage())
+                                                .isSuccess(true)
+                                                .statusCode(TechnicalMessage.PRODUCT_FOUND.getCode())
+                                                .data(mapper.toResponseDto(response))
+                                                .build()))));
+    }
+
     public Mono<ServerResponse> deleteProduct(ServerRequest request) {
         return RequestParamExtractor
                 .extractLongPathVariable(request.pathVariable(ID), PRODUCT_ID)
@@ -57,14 +109,20 @@ public class ProductHandler {
                 .then(ServerResponse.noContent().build());
     }
 
+    /**
+     * Con If-Match la escritura solo se aplica si el producto sigue en la versión indicada; si no, responde 412.
+     */
     public Mono<ServerResponse> updateStockProduct(ServerRequest request) {
         return Mono.zip(
                         RequestParamExtractor.extractLongPathVariable(request.pathVariable(ID), PRODUCT_ID),
+                        VersionETag.fromIfMatch(request),
                         request.bodyToMono(ProductRequestDTO.class)
                 )
-                .flatMap(tuple -> updateProductServicePort.updateStockProduct(tuple.getT1(), tuple.getT2().stock()))
+                .flatMap(tuple -> updateProductServicePort.updateStockProduct(tuple.getT1(), tuple.getT3().stock(),
+                        tuple.getT2().orElse(null)))
                 .flatMap(response -> ServerResponse
                         .status(HttpStatus.OK)
+                        .headers(VersionETag.toETag(response.getVersion()))
                         .bodyValue(GenericResponse.builder()
                                 .message(TechnicalMessage.PRODUCT_UPDATED.getMessage())
                                 .isSuccess(true)
@@ -74,14 +132,77 @@ public class ProductHandler {
                 );
     }
 
+    /**
+     * Acepta un array JSON o NDJSON; en ambos casos los elementos se leen en streaming y se aplican por bloques
+     * sin cargar el cuerpo completo en memoria.
+     */
+    public Mono<ServerResponse> updateStockProducts(ServerRequest request) {
+        return bulkUpdateStockServicePort.updateStockProducts(request.bodyToFlux(StockLevelRequestDTO.class)
+                        .map(mapper::toModel))
+                .flatMap(result -> ServerResponse
+                        .status(HttpStatus.OK)
+                        .bodyValue(GenericResponse.builder()
+                                .message(TechnicalMessage.PRODUCTS_STOCK_UPDATED.getMessage())
+                                .isSuccess(true)
+                                .statusCode(TechnicalMessage.PRODUCTS_STOCK_UPDATED.getCode())
+                                .data(mapper.toResponseDto(result))
+                                .build())
+                );
+    }
+
+    /**
+     * El cuerpo (CSV o NDJSON) se lee en streaming y se inserta por lotes; el contador de filas inválidas
+     * está completo cuando el caso de uso emite el resumen, porque este se emite al terminar el cuerpo.
+     */
+    public Mono<ServerResponse> importProducts(ServerRequest request) {
+        LongAdder invalidRows = new LongAdder();
+        return RequestParamExtractor
+                .extractLongPathVariable(request.pathVariable(ID), BRANCH_ID)
+                .flatMap(branchId -> importProductsServicePort.importProducts(branchId,
+                        importReader.read(request.body(BodyExtractors.toDataBuffers()),
+                                        request.headers().contentType().orElse(null), invalidRows)
+                                .map(mapper::toModel)))
+                .doOnNext(result -> result.setInvalidCount(invalidRows.sum()))
+                .flatMap(result -> ServerResponse
+                        .status(HttpStatus.OK)
+                        .bodyValue(GenericResponse.builder()
+                                .message(TechnicalMessage.PRODUCTS_IMPORTED.getMessage())
+                                .isSuccess(true)
+                                .statusCode(TechnicalMessage.PRODUCTS_IMPORTED.getCode())
+                                .data(mapper.toResponseDto(result))
+                                .build())
+                );
+    }
+
+    public Mono<ServerResponse> adjustStockProduct(ServerRequest request) {
+        return Mono.zip(
+                        RequestParamExtractor.extractLongPathVariable(request.pathVariable(ID), PRODUCT_ID),
+                        request.bodyToMono(StockAdjustmentRequestDTO.class).flatMap(validator::validate)
+                )
+                .flatMap(tuple -> updateProductServicePort.adjustStockProduct(tuple.getT1(), tuple.getT2().delta()))
+                .flatMap(response -> ServerResponse
+                        .status(HttpStatus.OK)
+                        .headers(VersionETag.toETag(response.getVersion()))
+                        .bodyValue(GenericResponse.builder()
+                                .message(TechnicalMessage.PRODUCT_STOCK_ADJUSTED.getMessage())
+                                .isSuccess(true)
+                                .statusCode(TechnicalMessage.PRODUCT_STOCK_ADJUSTED.getCode())
+                                .data(mapper.toResponseDto(response))
+                                .build())
+                );
+    }
+
     public Mono<ServerResponse> updateNameProduct(ServerRequest request) {
         return Mono.zip(
                         RequestParamExtractor.extractLongPathVariable(request.pathVariable(ID), PRODUCT_ID),
+                        VersionETag.fromIfMatch(request),
                         request.bodyToMono(ProductRequestDTO.class)
                 )
-                .flatMap(tuple -> updateProductServicePort.updateNameProduct(tuple.getT1(), tuple.getT2().name()))
+                .flatMap(tuple -> updateProductServicePort.updateNameProduct(tuple.getT1(), tuple.getT3().name(),
+                        tuple.getT2().orElse(null)))
                 .flatMap(response -> ServerResponse
                         .status(HttpStatus.OK)
+                        .headers(VersionETag.toETag(response.getVersion()))
                         .bodyValue(GenericResponse.builder()
                                 .message(TechnicalMessage.PRODUCT_UPDATED.getMessage())
                                 .isSuccess(true)
@@ -92,9 +213,54 @@ public class ProductHandler {
     }
 
     public Mono<ServerResponse> getTopStockProducts(ServerRequest request) {
+        MediaType streamingType = resolveStreamingType(request);
+        if (request.queryParam(PER_BRANCH).isPresent() || request.queryParam(LIMIT).isPresent()) {
+            return getRankedTopStockProducts(request, streamingType);
+        }
         return RequestParamExtractor
                 .extractLongPathVariable(request.pathVariable(ID_FRANCHISE), FRANCHISE_ID)
-                .flatMap(id ->topProductServicePort.getTopStockProducts(id).collectList())
+                .flatMap(id -> streamingType != null
+                        ? streamTopStockProducts(topProductServicePort.streamTopStockProducts(id), streamingType)
+                        : wrapTopStockProducts(topProductServicePort.getTopStockProducts(id)));
+    }
+
+    /**
+     * Emite un evento por cada cambio en el top de stock de una sucursal de la franquicia, más un comentario
+     * periódico que mantiene viva la conexión a través de proxies y balanceadores.
+     */
+    public Mono<ServerResponse> streamTopStockChanges(ServerRequest request) {
+        return RequestParamExtractor
+                .extractLongPathVariable(request.pathVariable(ID), FRANCHISE_ID)
+                .flatMap(id -> ServerResponse
+                        .ok()
+                        .contentType(MediaType.TEXT_EVENT_STREAM)
+                        .body(BodyInserters.fromServerSentEvents(Flux.merge(1,
+                                topProductServicePort.streamTopStockChanges(id)
+                                        .map(change -> ServerSentEvent.builder(mapper.toResponseDto(change))
+                                                .event(TOP_STOCK_EVENT)
+                                                .build()),
+                                Flux.interval(HEARTBEAT_INTERVAL)
+                                        .onBackpressureDrop()
+                                        .map(tick -> ServerSentEvent.<TopStockChangeResponseDTO>builder()
+                                                .comment(HEARTBEAT_COMMENT)
+                                                .build())))));
+    }
+
+    private Mono<ServerResponse> getRankedTopStockProducts(ServerRequest request, MediaType streamingType) {
+        return Mono.zip(
+                        RequestParamExtractor.extractLongPathVariable(request.pathVariable(ID_FRANCHISE), FRANCHISE_ID),
+                        RequestParamExtractor.extractOptionalIntQueryParam(request.queryParam(PER_BRANCH), PER_BRANCH),
+                        RequestParamExtractor.extractOptionalIntQueryParam(request.queryParam(LIMIT), LIMIT)
+                )
+                .map(tuple -> topProductServicePort.getTopStockProducts(
+                        tuple.getT1(), tuple.getT2().orElse(null), tuple.getT3().orElse(null)))
+                .flatMap(products -> streamingType != null
+                        ? streamTopStockProducts(products, streamingType)
+                        : wrapTopStockProducts(products));
+    }
+
+    private Mono<ServerResponse> wrapTopStockProducts(Flux<TopStockProduct> products) {
+        return products.collectList()
                 .flatMap(response -> ServerResponse
                         .status(HttpStatus.OK)
                         .bodyValue(GenericResponse.builder()
@@ -104,7 +270,21 @@ public class ProductHandler {
                                 .data(mapper.toResponseDto(response))
                                 .build())
                 );
+    }
+
+    private Mono<ServerResponse> streamTopStockProducts(Flux<TopStockProduct> products, MediaType streamingType) {
+        return ServerResponse
+                .ok()
+                .contentType(streamingType)
+                .body(products.map(mapper::toResponseDto), TopStockProductResponseDTO.class);
+    }
 
+    private MediaType resolveStreamingType(ServerRequest request) {
+        return request.headers().accept().stream()
+                .filter(type -> STREAMING_TYPES.stream().anyMatch(type::equalsTypeAndSubtype))
+                .findFirst()
+                .map(type -> new MediaType(type.getType(), type.getSubtype()))
+                .orElse(null);
     }
 
 }
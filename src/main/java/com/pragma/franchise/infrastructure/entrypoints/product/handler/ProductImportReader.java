@@ -0,0 +1,103 @@
+package com.pragma.franchise.infrastructure.entrypoints.product.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.franchise.domain.exceptions.BadRequestException;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductImportRowDTO;
+import com.pragma.franchise.infrastructure.utils.ValidatorHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.pragma.franchise.infrastructure.constants.Constants.IMPORT_LINE_TOO_LONG;
+
+/**
+ * Convierte el cuerpo de una importación en filas validadas a medida que llegan los DataBuffer: cada línea
+ * se decodifica en cuanto está completa y los buffers se liberan tras partirlos, por lo que solo se retiene
+ * la línea en curso. Admite CSV (columnas name,stock con cabecera opcional) y NDJSON. Las filas mal formadas
+ * o que no superan la validación se descartan y se cuentan en {@code invalidRows}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductImportReader {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final StringDecoder LINE_DECODER = StringDecoder.allMimeTypes(List.of("\n"), true);
+    private static final ResolvableType STRING_TYPE = ResolvableType.forClass(String.class);
+    private static final String CSV_HEADER = "name,stock";
+    private static final ProductImportRowDTO MALFORMED_ROW = new ProductImportRowDTO(null, null);
+
+    private final ObjectMapper objectMapper;
+    private final ValidatorHelper validator;
+
+    public Flux<ProductImportRowDTO> read(Flux<DataBuffer> body, MediaType contentType, LongAdder invalidRows) {
+        boolean csv = contentType != null && TEXT_CSV.equalsTypeAndSubtype(contentType);
+        return LINE_DECODER.decode(body, STRING_TYPE, contentType, Map.of())
+                .onErrorMap(DataBufferLimitException.class, error -> new BadRequestException(IMPORT_LINE_TOO_LONG))
+                .map(String::strip)
+                .filter(line -> !line.isEmpty())
+                .index()
+                .filter(line -> !(csv && line.getT1() == 0 && CSV_HEADER.equalsIgnoreCase(line.getT2().replace(" ", ""))))
+                .map(line -> csv ? parseCsv(line.getT2()) : parseJson(line.getT2()))
+                .concatMap(row -> validator.validate(row)
+                        .onErrorResume(BadRequestException.class, error -> {
+                            invalidRows.increment();
+                            return Mono.empty();
+                        }));
+    }
+
+    private ProductImportRowDTO parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, ProductImportRowDTO.class);
+        } catch (JsonProcessingException e) {
+            return MALFORMED_ROW;
+        }
+    }
+
+    private ProductImportRowDTO parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != 2) {
+            return MALFORMED_ROW;
+        }
+        try {
+            return new ProductImportRowDTO(fields.get(0).strip(), Integer.valueOf(fields.get(1).strip()));
+        } catch (NumberFormatException e) {
+            return MALFORMED_ROW;
+        }
+    }
+
+    // Campos separados por comas; entre comillas dobles pueden contener comas y "" representa una comilla
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted && c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                field.append('"');
+                i++;
+            } else if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -1,9 +1,18 @@
 package com.pragma.franchise.infrastructure.entrypoints.product.mapper;
 
+import com.pragma.franchise.domain.model.BulkStockUpdateResult;
 import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.model.ProductImportResult;
+import com.pragma.franchise.domain.model.StockLevel;
+import com.pragma.franchise.domain.model.TopStockChange;
 import com.pragma.franchise.domain.model.TopStockProduct;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.BulkStockUpdateResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductImportResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductImportRowDTO;
 import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductRequestDTO;
 import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.StockLevelRequestDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.TopStockChangeResponseDTO;
 import com.pragma.franchise.infrastructure.entrypoints.product.dto.TopStockProductResponseDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
@@ -19,5 +28,17 @@ public interface ProductMapper {
 
     ProductResponseDTO toResponseDto(Product product);
 
+    TopStockProductResponseDTO toResponseDto(TopStockProduct product);
+
     List<TopStockProductResponseDTO> toResponseDto(List<TopStockProduct> products);
+
+    TopStockChangeResponseDTO toResponseDto(TopStockChange change);
+
+    StockLevel toModel(StockLevelRequestDTO stockLevelRequestDTO);
+
+    BulkStockUpdateResponseDTO toResponseDto(BulkStockUpdateResult result);
+
+    Product toModel(ProductImportRowDTO productImportRowDTO);
+
+    ProductImportResponseDTO toResponseDto(ProductImportResult result);
 }
@@ -2,21 +2,27 @@ package com.pragma.franchise.infrastructure.exceptions;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pragma.franchise.domain.exceptions.BadRequestException;
+import com.pragma.franchise.domain.exceptions.BulkStockUpdateException;
 import com.pragma.franchise.domain.exceptions.BusinessException;
 import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.exceptions.PreconditionFailedException;
+import com.pragma.franchise.domain.exceptions.UnprocessableEntityException;
 import com.pragma.franchise.infrastructure.entrypoints.dto.GenericResponse;
 import io.github.resilience4j.bulkhead.BulkheadFullException;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.r2dbc.spi.R2dbcException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.web.reactive.error.ErrorWebExceptionHandler;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
 import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
@@ -27,10 +33,16 @@ import java.util.function.Function;
 
 import static com.pragma.franchise.infrastructure.constants.Constants.CONCURRENCY_ERROR;
 import static com.pragma.franchise.infrastructure.constants.Constants.ERROR_MESSAGE;
+import static com.pragma.franchise.infrastructure.constants.Constants.FOREIGN_KEY_VIOLATION;
 import static com.pragma.franchise.infrastructure.constants.Constants.INTERNAL_ERROR;
+import static com.pragma.franchise.infrastructure.constants.Constants.INVALID_BODY;
+import static com.pragma.franchise.infrastructure.constants.Constants.INVALID_DATA;
+import static com.pragma.franchise.infrastructure.constants.Constants.REFERENCED_RESOURCE_NOT_FOUND;
 import static com.pragma.franchise.infrastructure.constants.Constants.REQUEST_TIMEOUT;
+import static com.pragma.franchise.infrastructure.constants.Constants.RESOURCE_ALREADY_EXISTS;
 import static com.pragma.franchise.infrastructure.constants.Constants.SERVICE_UNAVAILABLE;
 import static com.pragma.franchise.infrastructure.constants.Constants.UNEXPECTED_ERROR;
+import static com.pragma.franchise.infrastructure.constants.Constants.UNIQUE_VIOLATION;
 
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
@@ -46,7 +58,12 @@ public final class GlobalExceptionHandler implements ErrorWebExceptionHandler {
             return Mono.error(ex);
         }
 
-        GenericResponse<Object> response = mapExceptionToErrorResponse(ex);
+        // Una actualización masiva interrumpida responde con el estado de su causa y el resumen de lo aplicado
+        BulkStockUpdateException partial = ex instanceof BulkStockUpdateException bulk ? bulk : null;
+        GenericResponse<Object> response = mapExceptionToErrorResponse(partial != null ? partial.getCause() : ex);
+        if (partial != null) {
+            response.setData(partial.getAppliedResult());
+        }
         exchange.getResponse().setStatusCode(HttpStatus.valueOf(response.getStatusCode()));
         exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
         DataBufferFactory bufferFactory = exchange.getResponse().bufferFactory();
@@ -67,9 +84,37 @@ public final class GlobalExceptionHandler implements ErrorWebExceptionHandler {
             TimeoutException.class, ex -> buildErrorResponse(HttpStatus.GATEWAY_TIMEOUT, REQUEST_TIMEOUT, ERROR_MESSAGE),
             BusinessException.class, ex -> buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), ERROR_MESSAGE),
             BadRequestException.class, ex -> buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), ERROR_MESSAGE),
-            NotFoundException.class, ex -> buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), ERROR_MESSAGE)
+            NotFoundException.class, ex -> buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), ERROR_MESSAGE),
+            PreconditionFailedException.class, ex -> buildErrorResponse(HttpStatus.PRECONDITION_FAILED, ex.getMessage(), ERROR_MESSAGE),
+            UnprocessableEntityException.class, ex -> buildErrorResponse(HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage(), ERROR_MESSAGE),
+            ServerWebInputException.class, ex -> buildErrorResponse(HttpStatus.BAD_REQUEST, INVALID_BODY, ERROR_MESSAGE),
+            DataIntegrityViolationException.class, this::constraintViolation
     );
 
+    /**
+     * Las violaciones que los adaptadores no traducen (p. ej. dos renombrados concurrentes al mismo nombre)
+     * responden como sus equivalentes de negocio en lugar de con un 500.
+     */
+    private GenericResponse<Object> constraintViolation(Throwable ex) {
+        String sqlState = sqlState(ex);
+        if (UNIQUE_VIOLATION.equals(sqlState)) {
+            return buildErrorResponse(HttpStatus.CONFLICT, RESOURCE_ALREADY_EXISTS, ERROR_MESSAGE);
+        }
+        if (FOREIGN_KEY_VIOLATION.equals(sqlState)) {
+            return buildErrorResponse(HttpStatus.NOT_FOUND, REFERENCED_RESOURCE_NOT_FOUND, ERROR_MESSAGE);
+        }
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, INVALID_DATA, ERROR_MESSAGE);
+    }
+
+    private String sqlState(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof R2dbcException r2dbcException) {
+                return r2dbcException.getSqlState();
+            }
+        }
+        return null;
+    }
+
     private GenericResponse<Object> mapExceptionToErrorResponse(final Throwable ex) {
         return EXCEPTION_HANDLERS.entrySet().stream()
                 .filter(entry -> entry.getKey().isInstance(ex))
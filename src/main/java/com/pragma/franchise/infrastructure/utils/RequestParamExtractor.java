@@ -3,6 +3,8 @@ package com.pragma.franchise.infrastructure.utils;
 import com.pragma.franchise.domain.exceptions.BadRequestException;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
+
 public final class RequestParamExtractor {
 
     private RequestParamExtractor() {
@@ -20,4 +22,15 @@ public final class RequestParamExtractor {
                     }
                 });
     }
+
+    public static Mono<Optional<Integer>> extractOptionalIntQueryParam(Optional<String> value, String fieldName) {
+        if (value.isEmpty()) {
+            return Mono.just(Optional.empty());
+        }
+        try {
+            return Mono.just(Optional.of(Integer.parseInt(value.get())));
+        } catch (NumberFormatException e) {
+            return Mono.error(new BadRequestException(fieldName + " must be a number"));
+        }
+    }
 }
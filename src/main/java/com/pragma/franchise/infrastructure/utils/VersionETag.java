@@ -0,0 +1,102 @@
+package com.pragma.franchise.infrastructure.utils;
+
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.BadRequestException;
+import com.pragma.franchise.domain.exceptions.PreconditionFailedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static com.pragma.franchise.infrastructure.constants.Constants.IF_MATCH_SINGLE_TAG;
+
+/**
+ * Traduce la columna version de los recursos a un ETag fuerte ({@code "3"}) y de vuelta desde If-Match e
+ * If-None-Match.
+ */
+public final class VersionETag {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String QUOTE = "\"";
+
+    private VersionETag() {
+    }
+
+    /**
+     * Sin If-Match (o con {@code *}) devuelve vacío y la escritura es incondicional. Una etiqueta débil o que
+     * no es una versión nunca coincide en comparación fuerte, así que se rechaza con 412 sin ir a la base.
+     */
+    public static Mono<Optional<Long>> fromIfMatch(ServerRequest request) {
+        List<String> tags = request.headers().asHttpHeaders().getIfMatch();
+        if (tags.isEmpty() || tags.contains(ANY)) {
+            return Mono.just(Optional.empty());
+        }
+        if (tags.size() > 1) {
+            return Mono.error(new BadRequestException(IF_MATCH_SINGLE_TAG));
+        }
+        String tag = tags.get(0);
+        if (tag.startsWith(WEAK_PREFIX) || !tag.startsWith(QUOTE) || !tag.endsWith(QUOTE) || tag.length() < 3) {
+            return versionMismatch();
+        }
+        try {
+            return Mono.just(Optional.of(Long.parseLong(tag.substring(1, tag.length() - 1))));
+        } catch (NumberFormatException e) {
+            return versionMismatch();
+        }
+    }
+
+    /**
+     * If-None-Match usa comparación débil, así que {@code W/"3"} también coincide con la versión 3. Las
+     * etiquetas que no son una versión, incluida {@code *}, se ignoran.
+     */
+    public static Set<Long> fromIfNoneMatch(ServerRequest request) {
+        Set<Long> versions = new HashSet<>();
+        for (String tag : request.headers().asHttpHeaders().getIfNoneMatch()) {
+            String opaqueTag = tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+            if (opaqueTag.startsWith(QUOTE) && opaqueTag.endsWith(QUOTE) && opaqueTag.length() >= 3) {
+                try {
+                    versions.add(Long.parseLong(opaqueTag.substring(1, opaqueTag.length() - 1)));
+                } catch (NumberFormatException e) {
+                    // No es un ETag emitido por la API: nunca coincide
+                }
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Lectura condicional: con If-None-Match se consulta primero solo la versión y, si el cliente ya la
+     * tiene, se responde 304 sin leer ni serializar el recurso. Si no, se devuelve {@code response}.
+     */
+    public static Mono<ServerResponse> notModifiedOr(ServerRequest request, Supplier<Mono<Long>> currentVersion,
+                                                     Supplier<Mono<ServerResponse>> response) {
+        Set<Long> knownVersions = fromIfNoneMatch(request);
+        if (knownVersions.isEmpty()) {
+            return response.get();
+        }
+        return currentVersion.get().flatMap(version -> knownVersions.contains(version)
+                ? ServerResponse.status(HttpStatus.NOT_MODIFIED).headers(toETag(version)).build()
+                : response.get());
+    }
+
+    public static Consumer<HttpHeaders> toETag(Long version) {
+        return headers -> {
+            if (version != null) {
+                headers.setETag(QUOTE + version + QUOTE);
+            }
+        };
+    }
+
+    private static Mono<Optional<Long>> versionMismatch() {
+        return Mono.error(new PreconditionFailedException(TechnicalMessage.VERSION_MISMATCH.getMessage()));
+    }
+}
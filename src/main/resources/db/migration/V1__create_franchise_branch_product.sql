@@ -24,4 +24,4 @@ CREATE TABLE IF NOT EXISTS product (
     updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
     CONSTRAINT fk_product_branch FOREIGN KEY (branch_id) REFERENCES branch(id) ON DELETE CASCADE,
     CONSTRAINT uk_product_name_branch UNIQUE (name, branch_id)
-);
\ No newline at end of file
+);
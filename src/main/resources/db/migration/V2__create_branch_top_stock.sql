@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS branch_top_stock (
+    branch_id BIGINT PRIMARY KEY,
+    franchise_id BIGINT NOT NULL,
+    max_stock INT NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    CONSTRAINT fk_branch_top_stock_branch FOREIGN KEY (branch_id) REFERENCES branch(id) ON DELETE CASCADE
+);
+
+INSERT INTO branch_top_stock (branch_id, franchise_id, max_stock, updated_at)
+SELECT b.id, b.franchise_id, MAX(p.stock), NOW()
+FROM branch b
+JOIN product p ON p.branch_id = b.id
+GROUP BY b.id, b.franchise_id
+ON CONFLICT (branch_id) DO UPDATE
+SET max_stock = EXCLUDED.max_stock,
+    updated_at = EXCLUDED.updated_at;
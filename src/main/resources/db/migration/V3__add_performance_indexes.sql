@@ -0,0 +1,12 @@
+-- Índices creados por el antiguo schema.sql, reemplazados por sus versiones cubrientes
+DROP INDEX IF EXISTS idx_product_branch_stock;
+DROP INDEX IF EXISTS idx_branch_top_stock_franchise;
+
+-- Sucursales de una franquicia (top K, árbol de franquicia)
+CREATE INDEX idx_branch_franchise ON branch (franchise_id) INCLUDE (name);
+
+-- Productos de una sucursal ordenados por stock; cubre el top de stock y el top K por sucursal
+CREATE INDEX idx_product_branch_stock ON product (branch_id, stock DESC) INCLUDE (id, name);
+
+-- Máximo por sucursal de una franquicia, sin visitar el heap
+CREATE INDEX idx_branch_top_stock_franchise ON branch_top_stock (franchise_id) INCLUDE (branch_id, max_stock);
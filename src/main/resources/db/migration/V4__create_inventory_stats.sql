@@ -0,0 +1,61 @@
+-- Agregados de inventario mantenidos con deltas por los casos de uso de producto.
+-- Histograma por nivel de stock: 0, 1-9, 10-99, 100-999 y 1000 o más (ver InventoryStats.delta).
+CREATE TABLE IF NOT EXISTS branch_inventory_stats (
+    branch_id BIGINT PRIMARY KEY,
+    franchise_id BIGINT NOT NULL,
+    total_stock BIGINT NOT NULL DEFAULT 0,
+    sku_count BIGINT NOT NULL DEFAULT 0,
+    zero_stock_count BIGINT NOT NULL DEFAULT 0,
+    stock_1_9_count BIGINT NOT NULL DEFAULT 0,
+    stock_10_99_count BIGINT NOT NULL DEFAULT 0,
+    stock_100_999_count BIGINT NOT NULL DEFAULT 0,
+    stock_1000_plus_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    CONSTRAINT fk_branch_inventory_stats_branch FOREIGN KEY (branch_id) REFERENCES branch(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_branch_inventory_stats_franchise ON branch_inventory_stats (franchise_id);
+
+CREATE TABLE IF NOT EXISTS franchise_inventory_stats (
+    franchise_id BIGINT PRIMARY KEY,
+    total_stock BIGINT NOT NULL DEFAULT 0,
+    sku_count BIGINT NOT NULL DEFAULT 0,
+    zero_stock_count BIGINT NOT NULL DEFAULT 0,
+    stock_1_9_count BIGINT NOT NULL DEFAULT 0,
+    stock_10_99_count BIGINT NOT NULL DEFAULT 0,
+    stock_100_999_count BIGINT NOT NULL DEFAULT 0,
+    stock_1000_plus_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    CONSTRAINT fk_franchise_inventory_stats_franchise FOREIGN KEY (franchise_id) REFERENCES franchise(id) ON DELETE CASCADE
+);
+
+INSERT INTO branch_inventory_stats (branch_id, franchise_id, total_stock, sku_count, zero_stock_count,
+                                    stock_1_9_count, stock_10_99_count, stock_100_999_count, stock_1000_plus_count)
+SELECT
+    b.id,
+    b.franchise_id,
+    COALESCE(SUM(p.stock), 0),
+    COUNT(p.id),
+    COUNT(*) FILTER (WHERE p.stock = 0),
+    COUNT(*) FILTER (WHERE p.stock BETWEEN 1 AND 9),
+    COUNT(*) FILTER (WHERE p.stock BETWEEN 10 AND 99),
+    COUNT(*) FILTER (WHERE p.stock BETWEEN 100 AND 999),
+    COUNT(*) FILTER (WHERE p.stock >= 1000)
+FROM branch b
+LEFT JOIN product p ON p.branch_id = b.id
+GROUP BY b.id, b.franchise_id;
+
+INSERT INTO franchise_inventory_stats (franchise_id, total_stock, sku_count, zero_stock_count,
+                                       stock_1_9_count, stock_10_99_count, stock_100_999_count, stock_1000_plus_count)
+SELECT
+    f.id,
+    COALESCE(SUM(s.total_stock), 0),
+    COALESCE(SUM(s.sku_count), 0),
+    COALESCE(SUM(s.zero_stock_count), 0),
+    COALESCE(SUM(s.stock_1_9_count), 0),
+    COALESCE(SUM(s.stock_10_99_count), 0),
+    COALESCE(SUM(s.stock_100_999_count), 0),
+    COALESCE(SUM(s.stock_1000_plus_count), 0)
+FROM franchise f
+LEFT JOIN branch_inventory_stats s ON s.franchise_id = f.id
+GROUP BY f.id;
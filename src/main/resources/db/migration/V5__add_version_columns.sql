@@ -0,0 +1,4 @@
+-- Versión para control de concurrencia optimista (ETag / If-Match); cada escritura de la fila la incrementa
+ALTER TABLE franchise ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE branch ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE product ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
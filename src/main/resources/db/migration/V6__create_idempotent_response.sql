@@ -0,0 +1,15 @@
+-- Respuestas guardadas por Idempotency-Key; almacén compartido entre instancias detrás del de memoria
+CREATE TABLE IF NOT EXISTS idempotent_response (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    request_method VARCHAR(10) NOT NULL,
+    request_path VARCHAR(2048) NOT NULL,
+    status_code INT NOT NULL,
+    content_type VARCHAR(255),
+    etag VARCHAR(255),
+    body BYTEA NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Purga periódica de las respuestas expiradas
+CREATE INDEX IF NOT EXISTS idx_idempotent_response_expires_at ON idempotent_response (expires_at);
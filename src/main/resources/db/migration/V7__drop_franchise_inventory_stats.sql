@@ -0,0 +1,3 @@
+-- Los totales de la franquicia se suman desde branch_inventory_stats al leerlos. Mantener una fila por
+-- franquicia obligaba a todas las escrituras de stock de la franquicia a esperar por el mismo bloqueo.
+DROP TABLE IF EXISTS franchise_inventory_stats;
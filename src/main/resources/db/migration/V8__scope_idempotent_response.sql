@@ -0,0 +1,9 @@
+-- Las claves pasan a ser por cliente y guardan el hash del cuerpo de la petición. Las respuestas guardadas
+-- hasta ahora no tienen ninguno de los dos datos y nadie podría reutilizarlas, así que se descartan.
+DELETE FROM idempotent_response;
+
+ALTER TABLE idempotent_response ADD COLUMN client_id VARCHAR(255) NOT NULL;
+ALTER TABLE idempotent_response ADD COLUMN request_hash VARCHAR(64) NOT NULL;
+
+ALTER TABLE idempotent_response DROP CONSTRAINT idempotent_response_pkey;
+ALTER TABLE idempotent_response ADD PRIMARY KEY (client_id, idempotency_key);
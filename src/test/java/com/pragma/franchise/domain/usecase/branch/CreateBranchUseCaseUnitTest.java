@@ -1,11 +1,10 @@
 package com.pragma.franchise.domain.usecase.branch;
 
 import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.BusinessException;
 import com.pragma.franchise.domain.exceptions.NotFoundException;
 import com.pragma.franchise.domain.model.Branch;
-import com.pragma.franchise.domain.model.Franchise;
 import com.pragma.franchise.domain.spi.BranchPersistencePort;
-import com.pragma.franchise.domain.spi.FranchisePersistencePort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,8 +15,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,22 +24,13 @@ class CreateBranchUseCaseUnitTest {
     @Mock
     private BranchPersistencePort branchPersistencePort;
 
-    @Mock
-    private FranchisePersistencePort franchisePersistencePort;
-
     @InjectMocks
     private CreateBranchUseCase createBranchUseCase;
 
     private Branch branch;
-    private Franchise franchise;
 
     @BeforeEach
     void setUp() {
-        franchise = Franchise.builder()
-                .id(1L)
-                .name("Test Franchise")
-                .build();
-
         branch = Branch.builder()
                 .id(1L)
                 .name("Test Branch")
@@ -51,12 +39,10 @@ class CreateBranchUseCaseUnitTest {
     }
 
     @Test
-    @DisplayName("Debe crear una sucursal cuando la franquicia existe")
+    @DisplayName("Debe crear una sucursal con un único insert")
     void createBranch_WhenFranchiseExists_ShouldReturnSavedBranch() {
         // Arrange
-        when(franchisePersistencePort.findById(branch.getFranchiseId()))
-                .thenReturn(Mono.just(franchise));
-        when(branchPersistencePort.save(branch))
+        when(branchPersistencePort.insertIfAbsent(branch))
                 .thenReturn(Mono.just(branch));
 
         // Act
@@ -70,18 +56,15 @@ class CreateBranchUseCaseUnitTest {
                         && savedBranch.getFranchiseId().equals(1L))
                 .verifyComplete();
 
-        verify(franchisePersistencePort).findById(branch.getFranchiseId());
-        verify(branchPersistencePort).save(branch);
+        verify(branchPersistencePort).insertIfAbsent(branch);
     }
 
     @Test
     @DisplayName("Debe lanzar NotFoundException cuando la franquicia no existe")
     void createBranch_WhenFranchiseNotFound_ShouldThrowNotFoundException() {
         // Arrange
-        when(franchisePersistencePort.findById(branch.getFranchiseId()))
-                .thenReturn(Mono.empty());
-        when(branchPersistencePort.save(any(Branch.class)))
-                .thenReturn(Mono.just(branch));
+        when(branchPersistencePort.insertIfAbsent(branch))
+                .thenReturn(Mono.error(new NotFoundException(TechnicalMessage.FRANCHISE_NOT_FOUND.getMessage())));
 
         // Act
         Mono<Branch> result = createBranchUseCase.createBranch(branch);
@@ -92,19 +75,14 @@ class CreateBranchUseCaseUnitTest {
                         throwable instanceof NotFoundException
                         && throwable.getMessage().equals(TechnicalMessage.FRANCHISE_NOT_FOUND.getMessage()))
                 .verify();
-
-        verify(franchisePersistencePort).findById(branch.getFranchiseId());
     }
 
     @Test
-    @DisplayName("Debe propagar error cuando findById falla")
-    void createBranch_WhenFindByIdFails_ShouldPropagateError() {
+    @DisplayName("Debe lanzar BusinessException cuando la sucursal ya existe en la franquicia")
+    void createBranch_WhenBranchAlreadyExists_ShouldThrowBusinessException() {
         // Arrange
-        RuntimeException dbError = new RuntimeException("Database connection error");
-        when(franchisePersistencePort.findById(anyLong()))
-                .thenReturn(Mono.error(dbError));
-        when(branchPersistencePort.save(any(Branch.class)))
-                .thenReturn(Mono.just(branch));
+        when(branchPersistencePort.insertIfAbsent(branch))
+                .thenReturn(Mono.empty());
 
         // Act
         Mono<Branch> result = createBranchUseCase.createBranch(branch);
@@ -112,22 +90,18 @@ class CreateBranchUseCaseUnitTest {
         // Assert
         StepVerifier.create(result)
                 .expectErrorMatches(throwable ->
-                        throwable instanceof RuntimeException
-                        && throwable.getMessage().equals("Database connection error"))
+                        throwable instanceof BusinessException
+                        && throwable.getMessage().equals(TechnicalMessage.BRANCH_ALREADY_EXISTS.getMessage()))
                 .verify();
-
-        verify(franchisePersistencePort).findById(branch.getFranchiseId());
     }
 
     @Test
-    @DisplayName("Debe propagar error cuando save falla")
-    void createBranch_WhenSaveFails_ShouldPropagateError() {
+    @DisplayName("Debe propagar error cuando el insert falla")
+    void createBranch_WhenInsertFails_ShouldPropagateError() {
         // Arrange
-        RuntimeException saveError = new RuntimeException("Save failed");
-        when(franchisePersistencePort.findById(branch.getFranchiseId()))
-                .thenReturn(Mono.just(franchise));
-        when(branchPersistencePort.save(branch))
-                .thenReturn(Mono.error(saveError));
+        RuntimeException dbError = new RuntimeException("Database connection error");
+        when(branchPersistencePort.insertIfAbsent(branch))
+                .thenReturn(Mono.error(dbError));
 
         // Act
         Mono<Branch> result = createBranchUseCase.createBranch(branch);
@@ -136,10 +110,7 @@ class CreateBranchUseCaseUnitTest {
         StepVerifier.create(result)
                 .expectErrorMatches(throwable ->
                         throwable instanceof RuntimeException
-                        && throwable.getMessage().equals("Save failed"))
+                        && throwable.getMessage().equals("Database connection error"))
                 .verify();
-
-        verify(franchisePersistencePort).findById(branch.getFranchiseId());
-        verify(branchPersistencePort).save(branch);
     }
 }
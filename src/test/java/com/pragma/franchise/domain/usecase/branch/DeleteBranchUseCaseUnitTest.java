@@ -0,0 +1,82 @@
+package com.pragma.franchise.domain.usecase.branch;
+
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.Branch;
+import com.pragma.franchise.domain.spi.BranchPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteBranchUseCaseUnitTest {
+
+    @Mock
+    private BranchPersistencePort branchPersistencePort;
+
+    @Mock
+    private TransactionPort transactionPort;
+
+    @InjectMocks
+    private DeleteBranchUseCase deleteBranchUseCase;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionPort.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(branchPersistencePort.lockForDelete(1L))
+                .thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("Should lock the branch rows and then delete the branch")
+    void deleteBranchById_WhenBranchExists_ShouldComplete() {
+        // Arrange
+        when(branchPersistencePort.deleteByIdReturning(1L))
+                .thenReturn(Mono.just(Branch.builder().id(1L).name("Branch").franchiseId(1L).build()));
+
+        // Act
+        Mono<Void> result = deleteBranchUseCase.deleteBranchById(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+
+        InOrder order = inOrder(branchPersistencePort);
+        order.verify(branchPersistencePort).lockForDelete(1L);
+        order.verify(branchPersistencePort).deleteByIdReturning(1L);
+        verify(transactionPort).transactional(any(Mono.class));
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when branch does not exist")
+    void deleteBranchById_WhenBranchNotFound_ShouldThrowNotFoundException() {
+        // Arrange
+        when(branchPersistencePort.deleteByIdReturning(1L))
+                .thenReturn(Mono.empty());
+
+        // Act
+        Mono<Void> result = deleteBranchUseCase.deleteBranchById(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable ->
+                        throwable instanceof NotFoundException
+                        && throwable.getMessage().equals(TechnicalMessage.BRANCH_NOT_FOUND.getMessage()))
+                .verify();
+    }
+}
@@ -0,0 +1,74 @@
+package com.pragma.franchise.domain.usecase.branch;
+
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.Branch;
+import com.pragma.franchise.domain.spi.BranchPersistencePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetBranchUseCaseUnitTest {
+
+    @Mock
+    private BranchPersistencePort branchPersistencePort;
+
+    @InjectMocks
+    private GetBranchUseCase getBranchUseCase;
+
+    @Test
+    @DisplayName("Should check the version in the database before reading the branch")
+    void getBranchById_WhenBranchExists_ShouldReadVersionFirst() {
+        // Arrange
+        Branch branch = Branch.builder().id(1L).name("Branch").franchiseId(1L).version(1L).build();
+        when(branchPersistencePort.findVersionById(1L))
+                .thenReturn(Mono.just(1L));
+        when(branchPersistencePort.findById(1L))
+                .thenReturn(Mono.just(branch));
+
+        // Act
+        Mono<Branch> result = getBranchUseCase.getBranchById(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(branch)
+                .verifyComplete();
+
+        InOrder order = inOrder(branchPersistencePort);
+        order.verify(branchPersistencePort).findVersionById(1L);
+        order.verify(branchPersistencePort).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException without reading the branch when it does not exist")
+    void getBranchById_WhenBranchNotFound_ShouldThrowNotFoundException() {
+        // Arrange
+        when(branchPersistencePort.findVersionById(1L))
+                .thenReturn(Mono.empty());
+
+        // Act
+        Mono<Branch> result = getBranchUseCase.getBranchById(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable ->
+                        throwable instanceof NotFoundException
+                        && throwable.getMessage().equals(TechnicalMessage.BRANCH_NOT_FOUND.getMessage()))
+                .verify();
+
+        verify(branchPersistencePort, never()).findById(anyLong());
+    }
+}
@@ -3,6 +3,7 @@ package com.pragma.franchise.domain.usecase.branch;
 import com.pragma.franchise.domain.enums.TechnicalMessage;
 import com.pragma.franchise.domain.exceptions.BadRequestException;
 import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.exceptions.PreconditionFailedException;
 import com.pragma.franchise.domain.model.Branch;
 import com.pragma.franchise.domain.spi.BranchPersistencePort;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +18,7 @@ import reactor.test.StepVerifier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -30,70 +32,65 @@ class UpdateBranchUseCaseUnitTest {
     @InjectMocks
     private UpdateBranchUseCase updateBranchUseCase;
 
-    private Branch existingBranch;
+    private Branch updatedBranch;
 
     @BeforeEach
     void setUp() {
-        existingBranch = Branch.builder()
+        updatedBranch = Branch.builder()
                 .id(1L)
-                .name("Old Branch Name")
+                .name("New Branch Name")
                 .franchiseId(1L)
+                .version(4L)
                 .build();
     }
 
     @Test
-    @DisplayName("Should update branch name when branch exists and name is valid")
+    @DisplayName("Should update branch name with a single conditional write")
     void updateNameBranch_WhenBranchExistsAndNameValid_ShouldReturnUpdatedBranch() {
         // Arrange
-        String newName = "New Branch Name";
-        when(branchPersistencePort.findById(1L))
-                .thenReturn(Mono.just(existingBranch));
-        when(branchPersistencePort.save(any(Branch.class)))
-                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(branchPersistencePort.updateName(1L, "New Branch Name", null))
+                .thenReturn(Mono.just(updatedBranch));
 
         // Act
-        Mono<Branch> result = updateBranchUseCase.updateNameBranch(1L, newName);
+        Mono<Branch> result = updateBranchUseCase.updateNameBranch(1L, "New Branch Name", null);
 
         // Assert
         StepVerifier.create(result)
                 .expectNextMatches(branch ->
                         branch.getName().equals("New Branch Name")
-                        && branch.getUpdatedAt() != null)
+                        && branch.getVersion() == 4L)
                 .verifyComplete();
 
-        verify(branchPersistencePort).findById(1L);
-        verify(branchPersistencePort).save(any(Branch.class));
+        verify(branchPersistencePort, never()).findById(anyLong());
     }
 
     @Test
     @DisplayName("Should trim branch name before saving")
     void updateNameBranch_WhenNameHasWhitespace_ShouldTrimAndSave() {
         // Arrange
-        String nameWithSpaces = "  Trimmed Name  ";
-        when(branchPersistencePort.findById(1L))
-                .thenReturn(Mono.just(existingBranch));
-        when(branchPersistencePort.save(any(Branch.class)))
-                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(branchPersistencePort.updateName(1L, "Trimmed Name", 3L))
+                .thenReturn(Mono.just(updatedBranch));
 
         // Act
-        Mono<Branch> result = updateBranchUseCase.updateNameBranch(1L, nameWithSpaces);
+        Mono<Branch> result = updateBranchUseCase.updateNameBranch(1L, "  Trimmed Name  ", 3L);
 
         // Assert
         StepVerifier.create(result)
-                .expectNextMatches(branch ->
-                        branch.getName().equals("Trimmed Name"))
+                .expectNext(updatedBranch)
                 .verifyComplete();
+
+        verify(branchPersistencePort).updateName(1L, "Trimmed Name", 3L);
     }
 
     @Test
     @DisplayName("Should throw NotFoundException when branch does not exist")
     void updateNameBranch_WhenBranchNotFound_ShouldThrowNotFoundException() {
         // Arrange
-        when(branchPersistencePort.findById(1L))
+        when(branchPersistencePort.updateName(1L, "New Name", null))
                 .thenReturn(Mono.empty());
 
         // Act
-        Mono<Branch> result = updateBranchUseCase.updateNameBranch(1L, "New Name");
+        Mono<Branch> result = updateBranchUseCase.updateNameBranch(1L, "New Name", null);
 
         // Assert
         StepVerifier.create(result)
@@ -102,36 +99,54 @@ class UpdateBranchUseCaseUnitTest {
                         && throwable.getMessage().equals(TechnicalMessage.BRANCH_NOT_FOUND.getMessage()))
                 .verify();
 
-        verify(branchPersistencePort).findById(1L);
-        verify(branchPersistencePort, never()).save(any(Branch.class));
+        verify(branchPersistencePort, never()).findById(anyLong());
     }
 
     @Test
-    @DisplayName("Should throw BadRequestException when name is null")
-    void updateNameBranch_WhenNameIsNull_ShouldThrowBadRequestException() {
-        // Arrange — no mocks needed, validation happens before any port call
+    @DisplayName("Should throw PreconditionFailedException when branch changed since the expected version")
+    void updateNameBranch_WhenVersionMismatch_ShouldThrowPreconditionFailedException() {
+        // Arrange
+        when(branchPersistencePort.updateName(1L, "New Name", 2L))
+                .thenReturn(Mono.empty());
+        when(branchPersistencePort.findById(1L))
+                .thenReturn(Mono.just(updatedBranch));
 
         // Act
-        Mono<Branch> result = updateBranchUseCase.updateNameBranch(1L, null);
+        Mono<Branch> result = updateBranchUseCase.updateNameBranch(1L, "New Name", 2L);
 
         // Assert
         StepVerifier.create(result)
                 .expectErrorMatches(throwable ->
-                        throwable instanceof BadRequestException
-                        && throwable.getMessage().equals(TechnicalMessage.INVALID_REQUEST.getMessage()))
+                        throwable instanceof PreconditionFailedException
+                        && throwable.getMessage().equals(TechnicalMessage.VERSION_MISMATCH.getMessage()))
                 .verify();
+    }
 
-        verify(branchPersistencePort, never()).findById(anyLong());
-        verify(branchPersistencePort, never()).save(any(Branch.class));
+    @Test
+    @DisplayName("Should throw NotFoundException when branch with expected version does not exist")
+    void updateNameBranch_WhenVersionGivenAndBranchNotFound_ShouldThrowNotFoundException() {
+        // Arrange
+        when(branchPersistencePort.updateName(1L, "New Name", 2L))
+                .thenReturn(Mono.empty());
+        when(branchPersistencePort.findById(1L))
+                .thenReturn(Mono.empty());
+
+        // Act
+        Mono<Branch> result = updateBranchUseCase.updateNameBranch(1L, "New Name", 2L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(NotFoundException.class)
+                .verify();
     }
 
     @Test
-    @DisplayName("Should throw BadRequestException when name is empty")
-    void updateNameBranch_WhenNameIsEmpty_ShouldThrowBadRequestException() {
+    @DisplayName("Should throw BadRequestException when name is null")
+    void updateNameBranch_WhenNameIsNull_ShouldThrowBadRequestException() {
         // Arrange — no mocks needed, validation happens before any port call
 
         // Act
-        Mono<Branch> result = updateBranchUseCase.updateNameBranch(1L, "");
+        Mono<Branch> result = updateBranchUseCase.updateNameBranch(1L, null, null);
 
         // Assert
         StepVerifier.create(result)
@@ -140,52 +155,45 @@ class UpdateBranchUseCaseUnitTest {
                         && throwable.getMessage().equals(TechnicalMessage.INVALID_REQUEST.getMessage()))
                 .verify();
 
-        verify(branchPersistencePort, never()).findById(anyLong());
-        verify(branchPersistencePort, never()).save(any(Branch.class));
+        verify(branchPersistencePort, never()).updateName(anyLong(), anyString(), any());
     }
 
     @Test
-    @DisplayName("Should propagate error when findById fails")
-    void updateNameBranch_WhenFindByIdFails_ShouldPropagateError() {
-        // Arrange
-        RuntimeException dbError = new RuntimeException("Database error");
-        when(branchPersistencePort.findById(1L))
-                .thenReturn(Mono.error(dbError));
+    @DisplayName("Should throw BadRequestException when name is empty")
+    void updateNameBranch_WhenNameIsEmpty_ShouldThrowBadRequestException() {
+        // Arrange — no mocks needed, validation happens before any port call
 
         // Act
-        Mono<Branch> result = updateBranchUseCase.updateNameBranch(1L, "New Name");
+        Mono<Branch> result = updateBranchUseCase.updateNameBranch(1L, "", null);
 
         // Assert
         StepVerifier.create(result)
                 .expectErrorMatches(throwable ->
-                        throwable instanceof RuntimeException
-                        && throwable.getMessage().equals("Database error"))
+                        throwable instanceof BadRequestException
+                        && throwable.getMessage().equals(TechnicalMessage.INVALID_REQUEST.getMessage()))
                 .verify();
 
-        verify(branchPersistencePort, never()).save(any(Branch.class));
+        verify(branchPersistencePort, never()).updateName(anyLong(), anyString(), any());
     }
 
     @Test
-    @DisplayName("Should propagate error when save fails")
-    void updateNameBranch_WhenSaveFails_ShouldPropagateError() {
+    @DisplayName("Should propagate error when update fails")
+    void updateNameBranch_WhenUpdateFails_ShouldPropagateError() {
         // Arrange
-        RuntimeException saveError = new RuntimeException("Save failed");
-        when(branchPersistencePort.findById(1L))
-                .thenReturn(Mono.just(existingBranch));
-        when(branchPersistencePort.save(any(Branch.class)))
-                .thenReturn(Mono.error(saveError));
+        RuntimeException dbError = new RuntimeException("Database error");
+        when(branchPersistencePort.updateName(1L, "New Name", null))
+                .thenReturn(Mono.error(dbError));
 
         // Act
-        Mono<Branch> result = updateBranchUseCase.updateNameBranch(1L, "New Name");
+        Mono<Branch> result = updateBranchUseCase.updateNameBranch(1L, "New Name", null);
 
         // Assert
         StepVerifier.create(result)
                 .expectErrorMatches(throwable ->
                         throwable instanceof RuntimeException
-                        && throwable.getMessage().equals("Save failed"))
+                        && throwable.getMessage().equals("Database error"))
                 .verify();
 
-        verify(branchPersistencePort).findById(1L);
-        verify(branchPersistencePort).save(any(Branch.class));
+        verify(branchPersistencePort, never()).findById(anyLong());
     }
 }
@@ -14,9 +14,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,12 +37,10 @@ class CreateFranchiseUseCaseUnitTest {
     }
 
     @Test
-    @DisplayName("Should create franchise when name does not exist")
+    @DisplayName("Should create franchise with a single insert when name does not exist")
     void createFranchise_WhenNameDoesNotExist_ShouldReturnSavedFranchise() {
         // Arrange
-        when(franchisePersistencePort.existByName(franchise.getName()))
-                .thenReturn(Mono.just(false));
-        when(franchisePersistencePort.save(franchise))
+        when(franchisePersistencePort.insertIfAbsent(franchise))
                 .thenReturn(Mono.just(franchise));
 
         // Act
@@ -58,16 +53,15 @@ class CreateFranchiseUseCaseUnitTest {
                         && saved.getName().equals("Test Franchise"))
                 .verifyComplete();
 
-        verify(franchisePersistencePort).existByName(franchise.getName());
-        verify(franchisePersistencePort).save(franchise);
+        verify(franchisePersistencePort).insertIfAbsent(franchise);
     }
 
     @Test
-    @DisplayName("Should throw BusinessException when franchise name already exists")
+    @DisplayName("Should throw BusinessException when the insert finds an existing name")
     void createFranchise_WhenNameAlreadyExists_ShouldThrowBusinessException() {
         // Arrange
-        when(franchisePersistencePort.existByName(franchise.getName()))
-                .thenReturn(Mono.just(true));
+        when(franchisePersistencePort.insertIfAbsent(franchise))
+                .thenReturn(Mono.empty());
 
         // Act
         Mono<Franchise> result = createFranchiseUseCase.createFranchise(franchise);
@@ -78,17 +72,14 @@ class CreateFranchiseUseCaseUnitTest {
                         throwable instanceof BusinessException
                         && throwable.getMessage().equals(TechnicalMessage.FRANCHISE_ALREADY_EXISTS.getMessage()))
                 .verify();
-
-        verify(franchisePersistencePort).existByName(franchise.getName());
-        verify(franchisePersistencePort, never()).save(any(Franchise.class));
     }
 
     @Test
-    @DisplayName("Should propagate error when existByName fails")
-    void createFranchise_WhenExistByNameFails_ShouldPropagateError() {
+    @DisplayName("Should propagate error when insert fails")
+    void createFranchise_WhenInsertFails_ShouldPropagateError() {
         // Arrange
         RuntimeException dbError = new RuntimeException("Database error");
-        when(franchisePersistencePort.existByName(anyString()))
+        when(franchisePersistencePort.insertIfAbsent(franchise))
                 .thenReturn(Mono.error(dbError));
 
         // Act
@@ -100,31 +91,5 @@ class CreateFranchiseUseCaseUnitTest {
                         throwable instanceof RuntimeException
                         && throwable.getMessage().equals("Database error"))
                 .verify();
-
-        verify(franchisePersistencePort, never()).save(any(Franchise.class));
-    }
-
-    @Test
-    @DisplayName("Should propagate error when save fails")
-    void createFranchise_WhenSaveFails_ShouldPropagateError() {
-        // Arrange
-        RuntimeException saveError = new RuntimeException("Save failed");
-        when(franchisePersistencePort.existByName(franchise.getName()))
-                .thenReturn(Mono.just(false));
-        when(franchisePersistencePort.save(franchise))
-                .thenReturn(Mono.error(saveError));
-
-        // Act
-        Mono<Franchise> result = createFranchiseUseCase.createFranchise(franchise);
-
-        // Assert
-        StepVerifier.create(result)
-                .expectErrorMatches(throwable ->
-                        throwable instanceof RuntimeException
-                        && throwable.getMessage().equals("Save failed"))
-                .verify();
-
-        verify(franchisePersistencePort).existByName(franchise.getName());
-        verify(franchisePersistencePort).save(franchise);
     }
 }
@@ -0,0 +1,85 @@
+package com.pragma.franchise.domain.usecase.franchise;
+
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.Franchise;
+import com.pragma.franchise.domain.spi.FranchisePersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteFranchiseUseCaseUnitTest {
+
+    @Mock
+    private FranchisePersistencePort franchisePersistencePort;
+
+    @Mock
+    private TransactionPort transactionPort;
+
+    @InjectMocks
+    private DeleteFranchiseUseCase deleteFranchiseUseCase;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionPort.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(franchisePersistencePort.lockForDelete(1L))
+                .thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("Should lock the franchise rows and then delete it with a single statement")
+    void deleteFranchiseById_WhenFranchiseExists_ShouldComplete() {
+        // Arrange
+        when(franchisePersistencePort.deleteByIdReturning(1L))
+                .thenReturn(Mono.just(Franchise.builder().id(1L).name("Franchise").build()));
+
+        // Act
+        Mono<Void> result = deleteFranchiseUseCase.deleteFranchiseById(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+
+        InOrder order = inOrder(franchisePersistencePort);
+        order.verify(franchisePersistencePort).lockForDelete(1L);
+        order.verify(franchisePersistencePort).deleteByIdReturning(1L);
+        verify(transactionPort).transactional(any(Mono.class));
+        verify(franchisePersistencePort, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when franchise does not exist")
+    void deleteFranchiseById_WhenFranchiseNotFound_ShouldThrowNotFoundException() {
+        // Arrange
+        when(franchisePersistencePort.deleteByIdReturning(1L))
+                .thenReturn(Mono.empty());
+
+        // Act
+        Mono<Void> result = deleteFranchiseUseCase.deleteFranchiseById(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable ->
+                        throwable instanceof NotFoundException
+                        && throwable.getMessage().equals(TechnicalMessage.FRANCHISE_NOT_FOUND.getMessage()))
+                .verify();
+    }
+}
@@ -0,0 +1,62 @@
+package com.pragma.franchise.domain.usecase.franchise;
+
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.FranchiseTreeRow;
+import com.pragma.franchise.domain.spi.FranchisePersistencePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FranchiseTreeUseCaseUnitTest {
+
+    @Mock
+    private FranchisePersistencePort franchisePersistencePort;
+
+    @InjectMocks
+    private FranchiseTreeUseCase franchiseTreeUseCase;
+
+    @Test
+    @DisplayName("Should pass the rows through as they are read")
+    void getFranchiseTree_WhenFranchiseExists_ShouldEmitRows() {
+        // Arrange
+        FranchiseTreeRow row = FranchiseTreeRow.builder().franchiseId(1L).franchiseName("Franchise")
+                .branchId(1L).branchName("Branch").productId(1L).productName("Product").stock(3).build();
+        when(franchisePersistencePort.streamTree(1L))
+                .thenReturn(Flux.just(row));
+
+        // Act
+        Flux<FranchiseTreeRow> result = franchiseTreeUseCase.getFranchiseTree(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(row)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when franchise does not exist")
+    void getFranchiseTree_WhenFranchiseNotFound_ShouldThrowNotFoundException() {
+        // Arrange
+        when(franchisePersistencePort.streamTree(1L))
+                .thenReturn(Flux.empty());
+
+        // Act
+        Flux<FranchiseTreeRow> result = franchiseTreeUseCase.getFranchiseTree(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable ->
+                        throwable instanceof NotFoundException
+                        && throwable.getMessage().equals(TechnicalMessage.FRANCHISE_NOT_FOUND.getMessage()))
+                .verify();
+    }
+}
@@ -0,0 +1,101 @@
+package com.pragma.franchise.domain.usecase.franchise;
+
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.Franchise;
+import com.pragma.franchise.domain.model.FranchiseInventoryStats;
+import com.pragma.franchise.domain.model.InventoryStats;
+import com.pragma.franchise.domain.spi.FranchisePersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryStatsUseCaseUnitTest {
+
+    @Mock
+    private InventoryStatsPersistencePort inventoryStatsPersistencePort;
+
+    @Mock
+    private FranchisePersistencePort franchisePersistencePort;
+
+    @InjectMocks
+    private InventoryStatsUseCase inventoryStatsUseCase;
+
+    @Test
+    @DisplayName("Should sum the franchise totals from its branch stats")
+    void getInventoryStats_WhenStatsExist_ShouldReturnTotalsAndBranches() {
+        // Arrange
+        InventoryStats firstBranch = InventoryStats.builder()
+                .franchiseId(1L).branchId(10L).totalStock(150).skuCount(3).zeroStockCount(1).stock10To99Count(2)
+                .build();
+        InventoryStats secondBranch = InventoryStats.builder()
+                .franchiseId(1L).branchId(20L).totalStock(1200).skuCount(2).stock100To999Count(1).stock1000PlusCount(1)
+                .build();
+
+        when(inventoryStatsPersistencePort.findBranchStatsByFranchiseId(1L))
+                .thenReturn(Flux.just(firstBranch, secondBranch));
+
+        // Act
+        Mono<FranchiseInventoryStats> result = inventoryStatsUseCase.getInventoryStats(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(stats -> stats.getFranchiseId().equals(1L)
+                        && stats.getTotals().equals(InventoryStats.builder()
+                                .franchiseId(1L).totalStock(1350).skuCount(5).zeroStockCount(1).stock10To99Count(2)
+                                .stock100To999Count(1).stock1000PlusCount(1)
+                                .build())
+                        && stats.getBranches().size() == 2
+                        && stats.getBranches().get(0).getBranchId().equals(10L))
+                .verifyComplete();
+
+        verify(franchisePersistencePort, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should return zeroed stats when franchise exists but has no products")
+    void getInventoryStats_WhenFranchiseHasNoStats_ShouldReturnZeros() {
+        // Arrange
+        when(inventoryStatsPersistencePort.findBranchStatsByFranchiseId(1L)).thenReturn(Flux.empty());
+        when(franchisePersistencePort.findById(1L))
+                .thenReturn(Mono.just(Franchise.builder().id(1L).name("Franchise").build()));
+
+        // Act
+        Mono<FranchiseInventoryStats> result = inventoryStatsUseCase.getInventoryStats(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(stats -> stats.getTotals().isEmpty() && stats.getBranches().isEmpty())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when franchise does not exist")
+    void getInventoryStats_WhenFranchiseNotFound_ShouldThrowNotFound() {
+        // Arrange
+        when(inventoryStatsPersistencePort.findBranchStatsByFranchiseId(1L)).thenReturn(Flux.empty());
+        when(franchisePersistencePort.findById(1L)).thenReturn(Mono.empty());
+
+        // Act
+        Mono<FranchiseInventoryStats> result = inventoryStatsUseCase.getInventoryStats(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(error -> error instanceof NotFoundException
+                        && error.getMessage().equals(TechnicalMessage.FRANCHISE_NOT_FOUND.getMessage()))
+                .verify();
+    }
+}
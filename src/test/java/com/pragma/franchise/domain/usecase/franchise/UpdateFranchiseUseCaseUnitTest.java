@@ -2,6 +2,7 @@ package com.pragma.franchise.domain.usecase.franchise;
 
 import com.pragma.franchise.domain.enums.TechnicalMessage;
 import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.exceptions.PreconditionFailedException;
 import com.pragma.franchise.domain.model.Franchise;
 import com.pragma.franchise.domain.spi.FranchisePersistencePort;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,7 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,69 +29,64 @@ class UpdateFranchiseUseCaseUnitTest {
     @InjectMocks
     private UpdateFranchiseUseCase updateFranchiseUseCase;
 
-    private Franchise existingFranchise;
+    private Franchise updatedFranchise;
 
     @BeforeEach
     void setUp() {
-        existingFranchise = Franchise.builder()
+        updatedFranchise = Franchise.builder()
                 .id(1L)
-                .name("Old Franchise Name")
+                .name("New Franchise Name")
+                .version(1L)
                 .build();
     }
 
     @Test
-    @DisplayName("Should update franchise name when franchise exists")
+    @DisplayName("Should update franchise name with a single conditional write")
     void updateNameFranchise_WhenFranchiseExists_ShouldReturnUpdatedFranchise() {
         // Arrange
-        String newName = "New Franchise Name";
-        when(franchisePersistencePort.findById(1L))
-                .thenReturn(Mono.just(existingFranchise));
-        when(franchisePersistencePort.save(any(Franchise.class)))
-                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(franchisePersistencePort.updateName(1L, "New Franchise Name", null))
+                .thenReturn(Mono.just(updatedFranchise));
 
         // Act
-        Mono<Franchise> result = updateFranchiseUseCase.updateNameFranchise(1L, newName);
+        Mono<Franchise> result = updateFranchiseUseCase.updateNameFranchise(1L, "New Franchise Name", null);
 
         // Assert
         StepVerifier.create(result)
                 .expectNextMatches(franchise ->
                         franchise.getName().equals("New Franchise Name")
-                        && franchise.getUpdatedAt() != null)
+                        && franchise.getVersion() == 1L)
                 .verifyComplete();
 
-        verify(franchisePersistencePort).findById(1L);
-        verify(franchisePersistencePort).save(any(Franchise.class));
+        verify(franchisePersistencePort, never()).findById(anyLong());
     }
 
     @Test
     @DisplayName("Should trim franchise name before saving")
     void updateNameFranchise_WhenNameHasWhitespace_ShouldTrimAndSave() {
         // Arrange
-        String nameWithSpaces = "  Trimmed Franchise  ";
-        when(franchisePersistencePort.findById(1L))
-                .thenReturn(Mono.just(existingFranchise));
-        when(franchisePersistencePort.save(any(Franchise.class)))
-                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(franchisePersistencePort.updateName(1L, "Trimmed Franchise", 0L))
+                .thenReturn(Mono.just(updatedFranchise));
 
         // Act
-        Mono<Franchise> result = updateFranchiseUseCase.updateNameFranchise(1L, nameWithSpaces);
+        Mono<Franchise> result = updateFranchiseUseCase.updateNameFranchise(1L, "  Trimmed Franchise  ", 0L);
 
         // Assert
         StepVerifier.create(result)
-                .expectNextMatches(franchise ->
-                        franchise.getName().equals("Trimmed Franchise"))
+                .expectNext(updatedFranchise)
                 .verifyComplete();
+
+        verify(franchisePersistencePort).updateName(1L, "Trimmed Franchise", 0L);
     }
 
     @Test
     @DisplayName("Should throw NotFoundException when franchise does not exist")
     void updateNameFranchise_WhenFranchiseNotFound_ShouldThrowNotFoundException() {
         // Arrange
-        when(franchisePersistencePort.findById(1L))
+        when(franchisePersistencePort.updateName(1L, "New Name", null))
                 .thenReturn(Mono.empty());
 
         // Act
-        Mono<Franchise> result = updateFranchiseUseCase.updateNameFranchise(1L, "New Name");
+        Mono<Franchise> result = updateFranchiseUseCase.updateNameFranchise(1L, "New Name", null);
 
         // Assert
         StepVerifier.create(result)
@@ -99,52 +95,45 @@ class UpdateFranchiseUseCaseUnitTest {
                         && throwable.getMessage().equals(TechnicalMessage.FRANCHISE_NOT_FOUND.getMessage()))
                 .verify();
 
-        verify(franchisePersistencePort).findById(1L);
-        verify(franchisePersistencePort, never()).save(any(Franchise.class));
+        verify(franchisePersistencePort, never()).findById(anyLong());
     }
 
     @Test
-    @DisplayName("Should propagate error when findById fails")
-    void updateNameFranchise_WhenFindByIdFails_ShouldPropagateError() {
+    @DisplayName("Should throw PreconditionFailedException when franchise changed since the expected version")
+    void updateNameFranchise_WhenVersionMismatch_ShouldThrowPreconditionFailedException() {
         // Arrange
-        RuntimeException dbError = new RuntimeException("Database error");
+        when(franchisePersistencePort.updateName(1L, "New Name", 0L))
+                .thenReturn(Mono.empty());
         when(franchisePersistencePort.findById(1L))
-                .thenReturn(Mono.error(dbError));
+                .thenReturn(Mono.just(updatedFranchise));
 
         // Act
-        Mono<Franchise> result = updateFranchiseUseCase.updateNameFranchise(1L, "New Name");
+        Mono<Franchise> result = updateFranchiseUseCase.updateNameFranchise(1L, "New Name", 0L);
 
         // Assert
         StepVerifier.create(result)
                 .expectErrorMatches(throwable ->
-                        throwable instanceof RuntimeException
-                        && throwable.getMessage().equals("Database error"))
+                        throwable instanceof PreconditionFailedException
+                        && throwable.getMessage().equals(TechnicalMessage.VERSION_MISMATCH.getMessage()))
                 .verify();
-
-        verify(franchisePersistencePort, never()).save(any(Franchise.class));
     }
 
     @Test
-    @DisplayName("Should propagate error when save fails")
-    void updateNameFranchise_WhenSaveFails_ShouldPropagateError() {
+    @DisplayName("Should propagate error when update fails")
+    void updateNameFranchise_WhenUpdateFails_ShouldPropagateError() {
         // Arrange
-        RuntimeException saveError = new RuntimeException("Save failed");
-        when(franchisePersistencePort.findById(1L))
-                .thenReturn(Mono.just(existingFranchise));
-        when(franchisePersistencePort.save(any(Franchise.class)))
-                .thenReturn(Mono.error(saveError));
+        RuntimeException dbError = new RuntimeException("Database error");
+        when(franchisePersistencePort.updateName(1L, "New Name", null))
+                .thenReturn(Mono.error(dbError));
 
         // Act
-        Mono<Franchise> result = updateFranchiseUseCase.updateNameFranchise(1L, "New Name");
+        Mono<Franchise> result = updateFranchiseUseCase.updateNameFranchise(1L, "New Name", null);
 
         // Assert
         StepVerifier.create(result)
                 .expectErrorMatches(throwable ->
                         throwable instanceof RuntimeException
-                        && throwable.getMessage().equals("Save failed"))
+                        && throwable.getMessage().equals("Database error"))
                 .verify();
-
-        verify(franchisePersistencePort).findById(1L);
-        verify(franchisePersistencePort).save(any(Franchise.class));
     }
 }
@@ -0,0 +1,217 @@
+package com.pragma.franchise.domain.usecase.product;
+
+import com.pragma.franchise.domain.exceptions.BulkStockUpdateException;
+import com.pragma.franchise.domain.model.BulkStockUpdateResult;
+import com.pragma.franchise.domain.model.InventoryStats;
+import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.model.StockLevel;
+import com.pragma.franchise.domain.model.StockUpdate;
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
+import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkUpdateStockUseCaseUnitTest {
+
+    @Mock
+    private ProductPersistencePort productPersistencePort;
+
+    @Mock
+    private BranchTopStockPersistencePort branchTopStockPersistencePort;
+
+    @Mock
+    private InventoryStatsPersistencePort inventoryStatsPersistencePort;
+
+    @Mock
+    private TransactionPort transactionPort;
+
+    private BulkUpdateStockUseCase bulkUpdateStockUseCase;
+
+    @BeforeEach
+    void setUp() {
+        bulkUpdateStockUseCase = new BulkUpdateStockUseCase(productPersistencePort, branchTopStockPersistencePort,
+                inventoryStatsPersistencePort, transactionPort, 2, 1);
+
+        lenient().when(transactionPort.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(branchTopStockPersistencePort.refresh(anyLong()))
+                .thenReturn(Mono.just(1L));
+        lenient().when(inventoryStatsPersistencePort.apply(anyLong(), any(InventoryStats.class)))
+                .thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("Should update in chunks and report ids that do not exist")
+    void updateStockProducts_WhenSomeProductsMissing_ShouldReportNotFoundIds() {
+        // Arrange
+        when(productPersistencePort.updateStocks(anyList()))
+                .thenReturn(Flux.just(stockUpdate(1L, 10L, 5, 0), stockUpdate(2L, 10L, 20, 15)))
+                .thenReturn(Flux.empty());
+
+        // Act
+        Mono<BulkStockUpdateResult> result = bulkUpdateStockUseCase.updateStockProducts(Flux.just(
+                new StockLevel(1L, 5), new StockLevel(2L, 20), new StockLevel(3L, 7)));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(summary -> summary.getUpdatedCount() == 2
+                        && summary.getNotFoundIds().equals(List.of(3L))
+                        && summary.getInvalidCount() == 0)
+                .verifyComplete();
+
+        verify(productPersistencePort, times(2)).updateStocks(anyList());
+        verify(transactionPort, times(2)).transactional(any(Mono.class));
+    }
+
+    @Test
+    @DisplayName("Should refresh read models once per branch with the summed inventory delta")
+    void updateStockProducts_WhenChunkTouchesOneBranch_ShouldApplySummedDelta() {
+        // Arrange
+        when(productPersistencePort.updateStocks(anyList()))
+                .thenReturn(Flux.just(stockUpdate(1L, 10L, 5, 0), stockUpdate(2L, 10L, 20, 15)));
+
+        // Act
+        Mono<BulkStockUpdateResult> result = bulkUpdateStockUseCase.updateStockProducts(Flux.just(
+                new StockLevel(1L, 5), new StockLevel(2L, 20)));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(branchTopStockPersistencePort, times(1)).refresh(10L);
+        verify(inventoryStatsPersistencePort).apply(10L,
+                InventoryStats.delta(0, 5).plus(InventoryStats.delta(15, 20)));
+    }
+
+    @Test
+    @DisplayName("Should update the read models branch by branch in id order")
+    void updateStockProducts_WhenBranchesBelongToDifferentFranchises_ShouldApplyDeltasInBranchOrder() {
+        // Arrange
+        when(branchTopStockPersistencePort.refresh(10L)).thenReturn(Mono.just(2L));
+        when(branchTopStockPersistencePort.refresh(20L)).thenReturn(Mono.just(1L));
+        when(productPersistencePort.updateStocks(anyList()))
+                .thenReturn(Flux.just(stockUpdate(1L, 10L, 5, 0), stockUpdate(2L, 20L, 20, 15)));
+
+        // Act
+        Mono<BulkStockUpdateResult> result = bulkUpdateStockUseCase.updateStockProducts(Flux.just(
+                new StockLevel(1L, 5), new StockLevel(2L, 20)));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextCount(1)
+                .verifyComplete();
+
+        InOrder inOrder = inOrder(branchTopStockPersistencePort, inventoryStatsPersistencePort);
+        inOrder.verify(branchTopStockPersistencePort).refresh(10L);
+        inOrder.verify(inventoryStatsPersistencePort).apply(eq(10L), any(InventoryStats.class));
+        inOrder.verify(branchTopStockPersistencePort).refresh(20L);
+        inOrder.verify(inventoryStatsPersistencePort).apply(eq(20L), any(InventoryStats.class));
+    }
+
+    @Test
+    @DisplayName("Should apply a product repeated in two chunks in input order")
+    void updateStockProducts_WhenProductRepeatsAcrossChunks_ShouldApplyLastValueLast() {
+        // Arrange
+        bulkUpdateStockUseCase = new BulkUpdateStockUseCase(productPersistencePort, branchTopStockPersistencePort,
+                inventoryStatsPersistencePort, transactionPort, 1, 2);
+        List<String> events = new CopyOnWriteArrayList<>();
+        when(productPersistencePort.updateStocks(anyList()))
+                .thenAnswer(invocation -> {
+                    List<StockLevel> levels = invocation.getArgument(0);
+                    int stock = levels.get(0).getStock();
+                    events.add("start " + stock);
+                    return Flux.just(stockUpdate(1L, 10L, stock, 0))
+                            .delayElements(Duration.ofMillis(stock == 5 ? 50 : 0))
+                            .doOnComplete(() -> events.add("end " + stock));
+                });
+
+        // Act
+        Mono<BulkStockUpdateResult> result = bulkUpdateStockUseCase.updateStockProducts(Flux.just(
+                new StockLevel(1L, 5), new StockLevel(1L, 7)));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(summary -> summary.getUpdatedCount() == 2)
+                .verifyComplete();
+
+        assertEquals(List.of("start 5", "end 5", "start 7", "end 7"), events);
+    }
+
+    @Test
+    @DisplayName("Should report what was already applied when a later chunk fails")
+    void updateStockProducts_WhenLaterChunkFails_ShouldReportAppliedItems() {
+        // Arrange
+        IllegalStateException failure = new IllegalStateException("Database error");
+        when(productPersistencePort.updateStocks(anyList()))
+                .thenReturn(Flux.just(stockUpdate(1L, 10L, 5, 0), stockUpdate(2L, 10L, 20, 15)))
+                .thenReturn(Flux.error(failure));
+
+        // Act
+        Mono<BulkStockUpdateResult> result = bulkUpdateStockUseCase.updateStockProducts(Flux.just(
+                new StockLevel(1L, 5), new StockLevel(2L, 20), new StockLevel(3L, 7), new StockLevel(4L, 8),
+                new StockLevel(5L, 9)));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable -> throwable instanceof BulkStockUpdateException partial
+                        && partial.getCause() == failure
+                        && partial.getAppliedResult().getUpdatedCount() == 2
+                        && partial.getAppliedResult().getNotAppliedCount() >= 2)
+                .verify();
+
+        verify(productPersistencePort, times(2)).updateStocks(anyList());
+    }
+
+    @Test
+    @DisplayName("Should count invalid items without sending them to the database")
+    void updateStockProducts_WhenItemsInvalid_ShouldCountThemAsInvalid() {
+        // Arrange — no mocks needed
+
+        // Act
+        Mono<BulkStockUpdateResult> result = bulkUpdateStockUseCase.updateStockProducts(Flux.just(
+                new StockLevel(null, 5), new StockLevel(2L, -1)));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(summary -> summary.getUpdatedCount() == 0
+                        && summary.getNotFoundIds().isEmpty()
+                        && summary.getInvalidCount() == 2)
+                .verifyComplete();
+
+        verify(productPersistencePort, never()).updateStocks(anyList());
+    }
+
+    private StockUpdate stockUpdate(Long productId, Long branchId, int stock, int previousStock) {
+        Product product = Product.builder().id(productId).name("Product " + productId)
+                .stock(stock).branchId(branchId).build();
+        return new StockUpdate(product, previousStock);
+    }
+}
@@ -0,0 +1,213 @@
+package com.pragma.franchise.domain.usecase.product;
+
+import com.pragma.franchise.domain.api.product.UpdateProductServicePort;
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.BadRequestException;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.spi.StockWriteCoalescingMetricsPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingUpdateProductUseCaseUnitTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(50);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final int CALLERS = 4;
+    private static final int TRIALS = 2000;
+
+    @Mock
+    private UpdateProductServicePort delegate;
+
+    @Mock
+    private StockWriteCoalescingMetricsPort metricsPort;
+
+    private CoalescingUpdateProductUseCase coalescingUpdateProductUseCase;
+
+    @BeforeEach
+    void setUp() {
+        coalescingUpdateProductUseCase = new CoalescingUpdateProductUseCase(delegate, metricsPort, WINDOW);
+    }
+
+    @Test
+    @DisplayName("Should write once with the last stock and complete every caller with the persisted product")
+    void updateStockProduct_WhenUpdatesArriveWithinWindow_ShouldWriteOnce() {
+        // Arrange
+        Product persisted = Product.builder().id(1L).name("Product A").stock(30).branchId(10L).build();
+        when(delegate.updateStockProduct(1L, 30, null)).thenReturn(Mono.just(persisted));
+
+        // Act
+        Mono<Product> first = coalescingUpdateProductUseCase.updateStockProduct(1L, 10, null);
+        Mono<Product> second = coalescingUpdateProductUseCase.updateStockProduct(1L, 20, null);
+        Mono<Product> third = coalescingUpdateProductUseCase.updateStockProduct(1L, 30, null);
+
+        // Assert
+        StepVerifier.create(Mono.zip(first, second, third))
+                .expectNextMatches(results -> results.getT1() == persisted
+                        && results.getT2() == persisted
+                        && results.getT3() == persisted)
+                .expectComplete()
+                .verify(TIMEOUT);
+
+        verify(delegate, times(1)).updateStockProduct(anyLong(), anyInt(), any());
+        verify(metricsPort).recordWrite(3);
+        verify(metricsPort, times(3)).recordDelay(any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Should propagate the write error to every coalesced caller")
+    void updateStockProduct_WhenWriteFails_ShouldFailEveryCaller() {
+        // Arrange
+        when(delegate.updateStockProduct(99L, 20, null))
+                .thenReturn(Mono.error(new NotFoundException(TechnicalMessage.PRODUCT_NOT_FOUND.getMessage())));
+
+        // Act
+        Mono<Product> first = coalescingUpdateProductUseCase.updateStockProduct(99L, 10, null)
+                .onErrorResume(NotFoundException.class, error -> Mono.empty());
+        Mono<Product> second = coalescingUpdateProductUseCase.updateStockProduct(99L, 20, null);
+
+        // Assert
+        StepVerifier.create(Mono.when(first, second))
+                .expectError(NotFoundException.class)
+                .verify(TIMEOUT);
+
+        verify(delegate, never()).updateStockProduct(99L, 10, null);
+    }
+
+    @Test
+    @DisplayName("Should write updates that arrive during an in-flight write after it completes")
+    void updateStockProduct_WhenWriteInFlight_ShouldQueueNextWrite() {
+        // Arrange
+        Sinks.One<Product> inFlight = Sinks.one();
+        Product firstWrite = Product.builder().id(1L).name("Product A").stock(10).branchId(10L).build();
+        Product secondWrite = Product.builder().id(1L).name("Product A").stock(25).branchId(10L).build();
+        when(delegate.updateStockProduct(1L, 10, null)).thenReturn(inFlight.asMono());
+        when(delegate.updateStockProduct(1L, 25, null)).thenReturn(Mono.just(secondWrite));
+
+        Mono<Product> first = coalescingUpdateProductUseCase.updateStockProduct(1L, 10, null).cache();
+        first.subscribe();
+
+        // Act & Assert
+        StepVerifier.create(Mono.delay(WINDOW.multipliedBy(3))
+                        .then(Mono.zip(
+                                coalescingUpdateProductUseCase.updateStockProduct(1L, 20, null),
+                                coalescingUpdateProductUseCase.updateStockProduct(1L, 25, null),
+                                Mono.delay(WINDOW.multipliedBy(3))
+                                        .doOnNext(tick -> inFlight.tryEmitValue(firstWrite)))))
+                .expectNextMatches(results -> results.getT1() == secondWrite && results.getT2() == secondWrite)
+                .expectComplete()
+                .verify(TIMEOUT);
+
+        StepVerifier.create(first)
+                .expectNext(firstWrite)
+                .expectComplete()
+                .verify(TIMEOUT);
+        verify(delegate, never()).updateStockProduct(1L, 20, null);
+    }
+
+    @Test
+    @DisplayName("Should send conditional writes straight to the delegate without coalescing")
+    void updateStockProduct_WhenExpectedVersionGiven_ShouldBypassCoalescing() {
+        // Arrange
+        Product persisted = Product.builder().id(1L).name("Product A").stock(10).branchId(10L).version(4L).build();
+        when(delegate.updateStockProduct(1L, 10, 3L)).thenReturn(Mono.just(persisted));
+
+        // Act
+        Mono<Product> result = coalescingUpdateProductUseCase.updateStockProduct(1L, 10, 3L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(persisted)
+                .verifyComplete();
+
+        verify(metricsPort, never()).recordWrite(anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid stock through the delegate without joining the slot")
+    void updateStockProduct_WhenStockNegative_ShouldBypassCoalescing() {
+        // Arrange
+        Product persisted = Product.builder().id(1L).name("Product A").stock(10).branchId(10L).build();
+        when(delegate.updateStockProduct(1L, -5, null))
+                .thenReturn(Mono.error(new BadRequestException(TechnicalMessage.INVALID_PARAMETERS.getMessage())));
+        when(delegate.updateStockProduct(1L, 10, null)).thenReturn(Mono.just(persisted));
+
+        // Act
+        Mono<Product> invalid = coalescingUpdateProductUseCase.updateStockProduct(1L, -5, null);
+        Mono<Product> valid = coalescingUpdateProductUseCase.updateStockProduct(1L, 10, null);
+
+        // Assert
+        StepVerifier.create(invalid)
+                .expectError(BadRequestException.class)
+                .verify(TIMEOUT);
+        StepVerifier.create(valid)
+                .expectNext(persisted)
+                .expectComplete()
+                .verify(TIMEOUT);
+
+        verify(metricsPort).recordWrite(1);
+    }
+
+    @Test
+    @DisplayName("Should complete every caller when several threads open the same slot at once")
+    void updateStockProduct_WhenCallersRaceOnEmptySlot_ShouldCompleteEveryCaller() throws Exception {
+        // Arrange
+        CoalescingUpdateProductUseCase useCase = new CoalescingUpdateProductUseCase(delegate, metricsPort,
+                Duration.ofMillis(1));
+        when(delegate.updateStockProduct(anyLong(), anyInt(), isNull()))
+                .thenAnswer(invocation -> Mono.just(Product.builder()
+                        .id(invocation.getArgument(0))
+                        .stock(invocation.getArgument(1))
+                        .build()));
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            for (long productId = 1; productId <= TRIALS; productId++) {
+                // Act
+                CyclicBarrier barrier = new CyclicBarrier(CALLERS);
+                List<Future<Product>> results = new ArrayList<>();
+                for (int caller = 0; caller < CALLERS; caller++) {
+                    long id = productId;
+                    int stock = caller;
+                    results.add(executor.submit(() -> {
+                        barrier.await();
+                        return useCase.updateStockProduct(id, stock, null).block(TIMEOUT);
+                    }));
+                }
+
+                // Assert
+                for (Future<Product> result : results) {
+                    assertEquals(productId, result.get().getId());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
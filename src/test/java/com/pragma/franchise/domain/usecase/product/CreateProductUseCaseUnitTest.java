@@ -3,10 +3,12 @@ package com.pragma.franchise.domain.usecase.product;
 import com.pragma.franchise.domain.enums.TechnicalMessage;
 import com.pragma.franchise.domain.exceptions.BusinessException;
 import com.pragma.franchise.domain.exceptions.NotFoundException;
-import com.pragma.franchise.domain.model.Branch;
+import com.pragma.franchise.domain.model.InventoryStats;
 import com.pragma.franchise.domain.model.Product;
-import com.pragma.franchise.domain.spi.BranchPersistencePort;
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
 import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,7 +21,8 @@ import reactor.test.StepVerifier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,21 +33,27 @@ class CreateProductUseCaseUnitTest {
     private ProductPersistencePort productPersistencePort;
 
     @Mock
-    private BranchPersistencePort branchPersistencePort;
+    private BranchTopStockPersistencePort branchTopStockPersistencePort;
+
+    @Mock
+    private InventoryStatsPersistencePort inventoryStatsPersistencePort;
+
+    @Mock
+    private TransactionPort transactionPort;
 
     @InjectMocks
     private CreateProductUseCase createProductUseCase;
 
     private Product product;
-    private Branch branch;
 
     @BeforeEach
     void setUp() {
-        branch = Branch.builder()
-                .id(1L)
-                .name("Test Branch")
-                .franchiseId(1L)
-                .build();
+        lenient().when(transactionPort.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(branchTopStockPersistencePort.refresh(anyLong()))
+                .thenReturn(Mono.empty());
+        lenient().when(inventoryStatsPersistencePort.apply(anyLong(), any(InventoryStats.class)))
+                .thenReturn(Mono.empty());
 
         product = Product.builder()
                 .id(1L)
@@ -55,13 +64,9 @@ class CreateProductUseCaseUnitTest {
     }
 
     @Test
-    @DisplayName("Should create product when branch exists and product name is unique")
+    @DisplayName("Should create product with a single insert and refresh the read models")
     void createProduct_WhenBranchExistsAndNameUnique_ShouldReturnSavedProduct() {
         // Arrange
-        when(branchPersistencePort.findById(1L))
-                .thenReturn(Mono.just(branch));
-        when(productPersistencePort.existsByNameAndBranchId("Test Product", 1L))
-                .thenReturn(Mono.just(false));
         when(productPersistencePort.save(product))
                 .thenReturn(Mono.just(product));
 
@@ -70,28 +75,20 @@ class CreateProductUseCaseUnitTest {
 
         // Assert
         StepVerifier.create(result)
-                .expectNextMatches(saved ->
-                        saved.getId().equals(1L)
-                        && saved.getName().equals("Test Product")
-                        && saved.getStock().equals(100)
-                        && saved.getBranchId().equals(1L))
+                .expectNextMatches(saved -> saved.getName().equals("Test Product")
+                        && saved.getStock().equals(100))
                 .verifyComplete();
 
-        verify(branchPersistencePort).findById(1L);
-        verify(productPersistencePort).existsByNameAndBranchId("Test Product", 1L);
-        verify(productPersistencePort).save(product);
+        verify(branchTopStockPersistencePort).refresh(1L);
+        verify(inventoryStatsPersistencePort).apply(1L, InventoryStats.delta(null, 100));
     }
 
     @Test
-    @DisplayName("Should throw NotFoundException when branch does not exist")
+    @DisplayName("Should throw NotFoundException when the insert reports a missing branch")
     void createProduct_WhenBranchNotFound_ShouldThrowNotFoundException() {
         // Arrange
-        when(branchPersistencePort.findById(1L))
-                .thenReturn(Mono.empty());
-        when(productPersistencePort.existsByNameAndBranchId(anyString(), anyLong()))
-                .thenReturn(Mono.just(false));
-        when(productPersistencePort.save(any(Product.class)))
-                .thenReturn(Mono.just(product));
+        when(productPersistencePort.save(product))
+                .thenReturn(Mono.error(new NotFoundException(TechnicalMessage.BRANCH_NOT_FOUND.getMessage())));
 
         // Act
         Mono<Product> result = createProductUseCase.createProduct(product);
@@ -103,19 +100,16 @@ class CreateProductUseCaseUnitTest {
                         && throwable.getMessage().equals(TechnicalMessage.BRANCH_NOT_FOUND.getMessage()))
                 .verify();
 
-        verify(branchPersistencePort).findById(1L);
+        verify(branchTopStockPersistencePort, never()).refresh(anyLong());
+        verify(inventoryStatsPersistencePort, never()).apply(anyLong(), any(InventoryStats.class));
     }
 
     @Test
-    @DisplayName("Should throw BusinessException when product name already exists in branch")
+    @DisplayName("Should throw BusinessException when the insert reports a duplicate name")
     void createProduct_WhenProductAlreadyExists_ShouldThrowBusinessException() {
         // Arrange
-        when(branchPersistencePort.findById(1L))
-                .thenReturn(Mono.just(branch));
-        when(productPersistencePort.existsByNameAndBranchId("Test Product", 1L))
-                .thenReturn(Mono.just(true));
-        when(productPersistencePort.save(any(Product.class)))
-                .thenReturn(Mono.just(product));
+        when(productPersistencePort.save(product))
+                .thenReturn(Mono.error(new BusinessException(TechnicalMessage.PRODUCT_ALREADY_EXISTS)));
 
         // Act
         Mono<Product> result = createProductUseCase.createProduct(product);
@@ -127,67 +121,15 @@ class CreateProductUseCaseUnitTest {
                         && throwable.getMessage().equals(TechnicalMessage.PRODUCT_ALREADY_EXISTS.getMessage()))
                 .verify();
 
-        verify(branchPersistencePort).findById(1L);
-        verify(productPersistencePort).existsByNameAndBranchId("Test Product", 1L);
-    }
-
-    @Test
-    @DisplayName("Should propagate error when findById fails")
-    void createProduct_WhenFindByIdFails_ShouldPropagateError() {
-        // Arrange
-        RuntimeException dbError = new RuntimeException("Database error");
-        when(branchPersistencePort.findById(1L))
-                .thenReturn(Mono.error(dbError));
-        when(productPersistencePort.existsByNameAndBranchId(anyString(), anyLong()))
-                .thenReturn(Mono.just(false));
-        when(productPersistencePort.save(any(Product.class)))
-                .thenReturn(Mono.just(product));
-
-        // Act
-        Mono<Product> result = createProductUseCase.createProduct(product);
-
-        // Assert
-        StepVerifier.create(result)
-                .expectErrorMatches(throwable ->
-                        throwable instanceof RuntimeException
-                        && throwable.getMessage().equals("Database error"))
-                .verify();
-    }
-
-    @Test
-    @DisplayName("Should propagate error when existsByNameAndBranchId fails")
-    void createProduct_WhenExistsByNameFails_ShouldPropagateError() {
-        // Arrange
-        RuntimeException dbError = new RuntimeException("Query error");
-        when(branchPersistencePort.findById(1L))
-                .thenReturn(Mono.just(branch));
-        when(productPersistencePort.existsByNameAndBranchId("Test Product", 1L))
-                .thenReturn(Mono.error(dbError));
-        when(productPersistencePort.save(any(Product.class)))
-                .thenReturn(Mono.just(product));
-
-        // Act
-        Mono<Product> result = createProductUseCase.createProduct(product);
-
-        // Assert
-        StepVerifier.create(result)
-                .expectErrorMatches(throwable ->
-                        throwable instanceof RuntimeException
-                        && throwable.getMessage().equals("Query error"))
-                .verify();
+        verify(branchTopStockPersistencePort, never()).refresh(anyLong());
     }
 
     @Test
     @DisplayName("Should propagate error when save fails")
     void createProduct_WhenSaveFails_ShouldPropagateError() {
         // Arrange
-        RuntimeException saveError = new RuntimeException("Save failed");
-        when(branchPersistencePort.findById(1L))
-                .thenReturn(Mono.just(branch));
-        when(productPersistencePort.existsByNameAndBranchId("Test Product", 1L))
-                .thenReturn(Mono.just(false));
         when(productPersistencePort.save(product))
-                .thenReturn(Mono.error(saveError));
+                .thenReturn(Mono.error(new RuntimeException("Save failed")));
 
         // Act
         Mono<Product> result = createProductUseCase.createProduct(product);
@@ -199,8 +141,6 @@ class CreateProductUseCaseUnitTest {
                         && throwable.getMessage().equals("Save failed"))
                 .verify();
 
-        verify(branchPersistencePort).findById(1L);
-        verify(productPersistencePort).existsByNameAndBranchId("Test Product", 1L);
-        verify(productPersistencePort).save(product);
+        verify(inventoryStatsPersistencePort, never()).apply(anyLong(), any(InventoryStats.class));
     }
 }
@@ -2,8 +2,12 @@ package com.pragma.franchise.domain.usecase.product;
 
 import com.pragma.franchise.domain.enums.TechnicalMessage;
 import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.InventoryStats;
 import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
 import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +18,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -23,6 +31,15 @@ class DeleteProductUseCaseUnitTest {
     @Mock
     private ProductPersistencePort productPersistencePort;
 
+    @Mock
+    private BranchTopStockPersistencePort branchTopStockPersistencePort;
+
+    @Mock
+    private InventoryStatsPersistencePort inventoryStatsPersistencePort;
+
+    @Mock
+    private TransactionPort transactionPort;
+
     @InjectMocks
     private DeleteProductUseCase deleteProductUseCase;
 
@@ -30,6 +47,13 @@ class DeleteProductUseCaseUnitTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(transactionPort.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(branchTopStockPersistencePort.refresh(anyLong()))
+                .thenReturn(Mono.empty());
+        lenient().when(inventoryStatsPersistencePort.apply(anyLong(), any(InventoryStats.class)))
+                .thenReturn(Mono.empty());
+
         product = Product.builder()
                 .id(1L)
                 .name("Test Product")
@@ -39,13 +63,11 @@ class DeleteProductUseCaseUnitTest {
     }
 
     @Test
-    @DisplayName("Should delete product when it exists")
+    @DisplayName("Should delete product and refresh read models with the deleted row")
     void deleteProductById_WhenProductExists_ShouldComplete() {
         // Arrange
-        when(productPersistencePort.findById(1L))
+        when(productPersistencePort.deleteByIdReturning(1L))
                 .thenReturn(Mono.just(product));
-        when(productPersistencePort.deleteById(1L))
-                .thenReturn(Mono.empty());
 
         // Act
         Mono<Void> result = deleteProductUseCase.deleteProductById(1L);
@@ -54,17 +76,17 @@ class DeleteProductUseCaseUnitTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(productPersistencePort).findById(1L);
-        verify(productPersistencePort).deleteById(1L);
+        verify(productPersistencePort).deleteByIdReturning(1L);
+        verify(productPersistencePort, never()).findById(anyLong());
+        verify(branchTopStockPersistencePort).refresh(1L);
+        verify(inventoryStatsPersistencePort).apply(1L, InventoryStats.delta(100, null));
     }
 
     @Test
     @DisplayName("Should throw NotFoundException when product does not exist")
     void deleteProductById_WhenProductNotFound_ShouldThrowNotFoundException() {
         // Arrange
-        when(productPersistencePort.findById(1L))
-                .thenReturn(Mono.empty());
-        when(productPersistencePort.deleteById(1L))
+        when(productPersistencePort.deleteByIdReturning(1L))
                 .thenReturn(Mono.empty());
 
         // Act
@@ -77,38 +99,16 @@ class DeleteProductUseCaseUnitTest {
                         && throwable.getMessage().equals(TechnicalMessage.PRODUCT_NOT_FOUND.getMessage()))
                 .verify();
 
-        verify(productPersistencePort).findById(1L);
-    }
-
-    @Test
-    @DisplayName("Should propagate error when findById fails")
-    void deleteProductById_WhenFindByIdFails_ShouldPropagateError() {
-        // Arrange
-        RuntimeException dbError = new RuntimeException("Database error");
-        when(productPersistencePort.findById(1L))
-                .thenReturn(Mono.error(dbError));
-        when(productPersistencePort.deleteById(1L))
-                .thenReturn(Mono.empty());
-
-        // Act
-        Mono<Void> result = deleteProductUseCase.deleteProductById(1L);
-
-        // Assert
-        StepVerifier.create(result)
-                .expectErrorMatches(throwable ->
-                        throwable instanceof RuntimeException
-                        && throwable.getMessage().equals("Database error"))
-                .verify();
+        verify(branchTopStockPersistencePort, never()).refresh(anyLong());
+        verify(inventoryStatsPersistencePort, never()).apply(anyLong(), any(InventoryStats.class));
     }
 
     @Test
-    @DisplayName("Should propagate error when deleteById fails")
+    @DisplayName("Should propagate error when delete fails")
     void deleteProductById_WhenDeleteFails_ShouldPropagateError() {
         // Arrange
         RuntimeException deleteError = new RuntimeException("Delete failed");
-        when(productPersistencePort.findById(1L))
-                .thenReturn(Mono.just(product));
-        when(productPersistencePort.deleteById(1L))
+        when(productPersistencePort.deleteByIdReturning(1L))
                 .thenReturn(Mono.error(deleteError));
 
         // Act
@@ -121,7 +121,6 @@ class DeleteProductUseCaseUnitTest {
                         && throwable.getMessage().equals("Delete failed"))
                 .verify();
 
-        verify(productPersistencePort).findById(1L);
-        verify(productPersistencePort).deleteById(1L);
+        verify(branchTopStockPersistencePort, never()).refresh(anyLong());
     }
 }
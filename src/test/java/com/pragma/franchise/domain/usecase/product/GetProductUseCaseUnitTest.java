@@ -0,0 +1,82 @@
+package com.pragma.franchise.domain.usecase.product;
+
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetProductUseCaseUnitTest {
+
+    @Mock
+    private ProductPersistencePort productPersistencePort;
+
+    @InjectMocks
+    private GetProductUseCase getProductUseCase;
+
+    @Test
+    @DisplayName("Should return the product when it exists")
+    void getProductById_WhenProductExists_ShouldReturnProduct() {
+        // Arrange
+        Product product = Product.builder().id(1L).name("Product A").stock(10).branchId(1L).version(2L).build();
+        when(productPersistencePort.findById(1L))
+                .thenReturn(Mono.just(product));
+
+        // Act
+        Mono<Product> result = getProductUseCase.getProductById(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(product)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should read only the version without loading the product")
+    void getProductVersion_WhenProductExists_ShouldNotLoadProduct() {
+        // Arrange
+        when(productPersistencePort.findVersionById(1L))
+                .thenReturn(Mono.just(2L));
+
+        // Act
+        Mono<Long> result = getProductUseCase.getProductVersion(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(2L)
+                .verifyComplete();
+
+        verify(productPersistencePort, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when product does not exist")
+    void getProductVersion_WhenProductNotFound_ShouldThrowNotFoundException() {
+        // Arrange
+        when(productPersistencePort.findVersionById(1L))
+                .thenReturn(Mono.empty());
+
+        // Act
+        Mono<Long> result = getProductUseCase.getProductVersion(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable ->
+                        throwable instanceof NotFoundException
+                        && throwable.getMessage().equals(TechnicalMessage.PRODUCT_NOT_FOUND.getMessage()))
+                .verify();
+    }
+}
@@ -0,0 +1,243 @@
+package com.pragma.franchise.domain.usecase.product;
+
+import com.pragma.franchise.domain.api.product.UpdateProductServicePort;
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.InventoryStats;
+import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.model.StockLevel;
+import com.pragma.franchise.domain.model.StockUpdate;
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
+import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitUpdateProductUseCaseUnitTest {
+
+    private static final Duration MAX_DELAY = Duration.ofMillis(50);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Mock
+    private UpdateProductServicePort delegate;
+
+    @Mock
+    private ProductPersistencePort productPersistencePort;
+
+    @Mock
+    private BranchTopStockPersistencePort branchTopStockPersistencePort;
+
+    @Mock
+    private InventoryStatsPersistencePort inventoryStatsPersistencePort;
+
+    @Mock
+    private TransactionPort transactionPort;
+
+    private GroupCommitUpdateProductUseCase groupCommitUpdateProductUseCase;
+
+    @BeforeEach
+    void setUp() {
+        groupCommitUpdateProductUseCase = new GroupCommitUpdateProductUseCase(delegate, productPersistencePort,
+                branchTopStockPersistencePort, inventoryStatsPersistencePort, transactionPort, 3, MAX_DELAY, 1);
+
+        lenient().when(transactionPort.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(branchTopStockPersistencePort.refresh(anyLong()))
+                .thenReturn(Mono.just(1L));
+        lenient().when(inventoryStatsPersistencePort.apply(anyLong(), any(InventoryStats.class)))
+                .thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("Should write concurrent updates in one statement and complete each caller individually")
+    void updateStockProduct_WhenConcurrentUpdates_ShouldWriteOneBatch() {
+        // Arrange
+        when(productPersistencePort.updateStocks(anyList()))
+                .thenReturn(Flux.just(stockUpdate(1L, 5, 0), stockUpdate(2L, 20, 15)));
+
+        // Act
+        Mono<Product> first = groupCommitUpdateProductUseCase.updateStockProduct(1L, 5, null);
+        Mono<Product> second = groupCommitUpdateProductUseCase.updateStockProduct(2L, 20, null);
+        Mono<Throwable> missing = groupCommitUpdateProductUseCase.updateStockProduct(3L, 7, null)
+                .flatMap(product -> Mono.<Throwable>empty())
+                .onErrorResume(Mono::just);
+
+        // Assert
+        StepVerifier.create(Mono.zip(first, second, missing))
+                .expectNextMatches(results -> results.getT1().getStock() == 5
+                        && results.getT2().getStock() == 20
+                        && results.getT3() instanceof NotFoundException)
+                .expectComplete()
+                .verify(TIMEOUT);
+
+        verify(productPersistencePort, times(1)).updateStocks(stocks(5, 20, 7));
+        verify(branchTopStockPersistencePort, times(1)).refresh(10L);
+    }
+
+    @Test
+    @DisplayName("Should retry each update separately when the batch fails")
+    void updateStockProduct_WhenBatchFails_ShouldIsolateErrors() {
+        // Arrange
+        when(productPersistencePort.updateStocks(anyList()))
+                .thenReturn(Flux.error(new IllegalStateException("Batch failed")));
+        when(delegate.updateStockProduct(1L, 5, null))
+                .thenReturn(Mono.just(stockUpdate(1L, 5, 0).getProduct()));
+        when(delegate.updateStockProduct(2L, 20, null))
+                .thenReturn(Mono.error(new NotFoundException(TechnicalMessage.PRODUCT_NOT_FOUND.getMessage())));
+
+        // Act
+        Mono<Product> first = groupCommitUpdateProductUseCase.updateStockProduct(1L, 5, null);
+        Mono<Throwable> second = groupCommitUpdateProductUseCase.updateStockProduct(2L, 20, null)
+                .flatMap(product -> Mono.<Throwable>empty())
+                .onErrorResume(Mono::just);
+
+        // Assert
+        StepVerifier.create(Mono.zip(first, second))
+                .expectNextMatches(results -> results.getT1().getStock() == 5
+                        && results.getT2() instanceof NotFoundException)
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("Should write repeated updates of a product in later statements in arrival order")
+    void updateStockProduct_WhenProductRepeated_ShouldSplitIntoRounds() {
+        // Arrange
+        when(productPersistencePort.updateStocks(stocks(5)))
+                .thenReturn(Flux.just(stockUpdate(1L, 5, 0)));
+        when(productPersistencePort.updateStocks(stocks(8)))
+                .thenReturn(Flux.just(stockUpdate(1L, 8, 5)));
+
+        // Act
+        Mono<Product> first = groupCommitUpdateProductUseCase.updateStockProduct(1L, 5, null);
+        Mono<Product> second = groupCommitUpdateProductUseCase.updateStockProduct(1L, 8, null);
+
+        // Assert
+        StepVerifier.create(Mono.zip(first, second))
+                .expectNextMatches(results -> results.getT1().getStock() == 5 && results.getT2().getStock() == 8)
+                .expectComplete()
+                .verify(TIMEOUT);
+
+        InOrder order = inOrder(productPersistencePort);
+        order.verify(productPersistencePort).updateStocks(stocks(5));
+        order.verify(productPersistencePort).updateStocks(stocks(8));
+    }
+
+    @Test
+    @DisplayName("Should not start a later batch of a product until its earlier batch commits")
+    void updateStockProduct_WhenProductInConsecutiveBatches_ShouldCommitInArrivalOrder() {
+        // Arrange
+        GroupCommitUpdateProductUseCase parallelUseCase = new GroupCommitUpdateProductUseCase(delegate,
+                productPersistencePort, branchTopStockPersistencePort, inventoryStatsPersistencePort, transactionPort,
+                1, MAX_DELAY, 2);
+        Sinks.One<StockUpdate> firstWrite = Sinks.one();
+        when(productPersistencePort.updateStocks(stocks(5)))
+                .thenReturn(firstWrite.asMono().flux());
+        when(productPersistencePort.updateStocks(stocks(8)))
+                .thenReturn(Flux.just(stockUpdate(1L, 8, 5)));
+
+        // Act
+        Mono<Product> first = parallelUseCase.updateStockProduct(1L, 5, null);
+        Mono<Product> second = parallelUseCase.updateStockProduct(1L, 8, null);
+
+        // Assert
+        StepVerifier.create(Mono.zip(first, second,
+                        Mono.delay(MAX_DELAY.multipliedBy(4))
+                                .doOnNext(tick -> verify(productPersistencePort, times(1)).updateStocks(anyList()))
+                                .doOnNext(tick -> firstWrite.tryEmitValue(stockUpdate(1L, 5, 0)))))
+                .expectNextMatches(results -> results.getT1().getStock() == 5 && results.getT2().getStock() == 8)
+                .expectComplete()
+                .verify(TIMEOUT);
+
+        InOrder order = inOrder(productPersistencePort);
+        order.verify(productPersistencePort).updateStocks(stocks(5));
+        order.verify(productPersistencePort).updateStocks(stocks(8));
+    }
+
+    @Test
+    @DisplayName("Should accept updates emitted concurrently from several threads")
+    void updateStockProduct_WhenEmittedFromManyThreads_ShouldCompleteEveryCaller() {
+        // Arrange
+        when(productPersistencePort.updateStocks(anyList()))
+                .thenAnswer(invocation -> {
+                    List<StockLevel> levels = invocation.getArgument(0);
+                    return Flux.fromIterable(levels)
+                            .map(level -> stockUpdate(level.getProductId(), level.getStock(), 0));
+                });
+
+        // Act
+        Mono<Long> completed = Flux.range(1, 200)
+                .parallel(8)
+                .runOn(Schedulers.parallel())
+                .flatMap(id -> groupCommitUpdateProductUseCase.updateStockProduct(id.longValue(), id, null))
+                .sequential()
+                .count();
+
+        // Assert
+        StepVerifier.create(completed)
+                .expectNext(200L)
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("Should fail the updates of a broken pipeline and keep serving later ones")
+    void updateStockProduct_WhenPipelineBreaks_ShouldResubscribe() {
+        // Arrange
+        IllegalStateException failure = new IllegalStateException("Pipeline failed");
+        when(transactionPort.transactional(any(Mono.class)))
+                .thenThrow(failure)
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(productPersistencePort.updateStocks(anyList()))
+                .thenReturn(Flux.just(stockUpdate(1L, 8, 5)));
+
+        // Act
+        Mono<Product> broken = groupCommitUpdateProductUseCase.updateStockProduct(1L, 5, null);
+
+        // Assert
+        StepVerifier.create(broken)
+                .expectErrorMatches(throwable -> throwable == failure)
+                .verify(TIMEOUT);
+
+        StepVerifier.create(groupCommitUpdateProductUseCase.updateStockProduct(1L, 8, null))
+                .expectNextMatches(product -> product.getStock() == 8)
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    private static List<StockLevel> stocks(Integer... stocks) {
+        return argThat(levels -> levels != null
+                && levels.stream().map(StockLevel::getStock).toList().equals(List.of(stocks)));
+    }
+
+    private StockUpdate stockUpdate(Long productId, int stock, int previousStock) {
+        Product product = Product.builder().id(productId).name("Product " + productId)
+                .stock(stock).branchId(10L).build();
+        return new StockUpdate(product, previousStock);
+    }
+}
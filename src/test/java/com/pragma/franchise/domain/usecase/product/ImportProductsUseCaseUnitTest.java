@@ -0,0 +1,136 @@
+package com.pragma.franchise.domain.usecase.product;
+
+import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.model.Branch;
+import com.pragma.franchise.domain.model.InventoryStats;
+import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.model.ProductImportResult;
+import com.pragma.franchise.domain.spi.BranchPersistencePort;
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
+import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportProductsUseCaseUnitTest {
+
+    @Mock
+    private ProductPersistencePort productPersistencePort;
+
+    @Mock
+    private BranchPersistencePort branchPersistencePort;
+
+    @Mock
+    private BranchTopStockPersistencePort branchTopStockPersistencePort;
+
+    @Mock
+    private InventoryStatsPersistencePort inventoryStatsPersistencePort;
+
+    @Mock
+    private TransactionPort transactionPort;
+
+    private ImportProductsUseCase importProductsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        importProductsUseCase = new ImportProductsUseCase(productPersistencePort, branchPersistencePort,
+                branchTopStockPersistencePort, inventoryStatsPersistencePort, transactionPort, 2);
+
+        lenient().when(transactionPort.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(branchTopStockPersistencePort.refresh(anyLong()))
+                .thenReturn(Mono.empty());
+        lenient().when(inventoryStatsPersistencePort.apply(anyLong(), any(InventoryStats.class)))
+                .thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("Should insert in batches and count names that already exist as duplicates")
+    void importProducts_WhenSomeNamesExist_ShouldCountDuplicates() {
+        // Arrange
+        when(branchPersistencePort.findById(1L))
+                .thenReturn(Mono.just(Branch.builder().id(1L).name("Branch A").franchiseId(1L).build()));
+        when(productPersistencePort.insertIgnoringDuplicates(eq(1L), anyList()))
+                .thenReturn(Flux.just(product(10L, "Product A", 5), product(11L, "Product B", 0)))
+                .thenReturn(Flux.empty());
+
+        // Act
+        Mono<ProductImportResult> result = importProductsUseCase.importProducts(1L, Flux.just(
+                product(null, "Product A", 5), product(null, "Product B", 0), product(null, "Product C", 7)));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(summary -> summary.getInsertedCount() == 2
+                        && summary.getDuplicateCount() == 1
+                        && summary.getInvalidCount() == 0)
+                .verifyComplete();
+
+        verify(branchPersistencePort, times(1)).findById(1L);
+        verify(productPersistencePort, times(2)).insertIgnoringDuplicates(eq(1L), anyList());
+        verify(transactionPort, times(2)).transactional(any(Mono.class));
+    }
+
+    @Test
+    @DisplayName("Should refresh read models once per batch with the summed inventory delta")
+    void importProducts_WhenBatchInserted_ShouldApplySummedDelta() {
+        // Arrange
+        when(branchPersistencePort.findById(1L))
+                .thenReturn(Mono.just(Branch.builder().id(1L).name("Branch A").franchiseId(1L).build()));
+        when(productPersistencePort.insertIgnoringDuplicates(eq(1L), anyList()))
+                .thenReturn(Flux.just(product(10L, "Product A", 5), product(11L, "Product B", 0)));
+
+        // Act
+        Mono<ProductImportResult> result = importProductsUseCase.importProducts(1L, Flux.just(
+                product(null, "Product A", 5), product(null, "Product B", 0)));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(branchTopStockPersistencePort, times(1)).refresh(1L);
+        verify(inventoryStatsPersistencePort).apply(1L,
+                InventoryStats.delta(null, 5).plus(InventoryStats.delta(null, 0)));
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException without reading products when branch does not exist")
+    void importProducts_WhenBranchNotFound_ShouldThrowNotFoundException() {
+        // Arrange
+        when(branchPersistencePort.findById(99L)).thenReturn(Mono.empty());
+
+        // Act
+        Mono<ProductImportResult> result = importProductsUseCase.importProducts(99L,
+                Flux.just(product(null, "Product A", 5)));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(NotFoundException.class)
+                .verify();
+
+        verify(productPersistencePort, never()).insertIgnoringDuplicates(anyLong(), anyList());
+    }
+
+    private Product product(Long id, String name, int stock) {
+        return Product.builder().id(id).name(name).stock(stock).branchId(id == null ? null : 1L).build();
+    }
+}
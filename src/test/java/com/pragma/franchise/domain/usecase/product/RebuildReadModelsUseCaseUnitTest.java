@@ -0,0 +1,79 @@
+package com.pragma.franchise.domain.usecase.product;
+
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RebuildReadModelsUseCaseUnitTest {
+
+    @Mock
+    private BranchTopStockPersistencePort branchTopStockPersistencePort;
+
+    @Mock
+    private InventoryStatsPersistencePort inventoryStatsPersistencePort;
+
+    @Mock
+    private TransactionPort transactionPort;
+
+    @InjectMocks
+    private RebuildReadModelsUseCase rebuildReadModelsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionPort.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Should rebuild top stock and inventory stats read models and return written rows")
+    void rebuildReadModels_WhenRebuildSucceeds_ShouldReturnRows() {
+        // Arrange
+        when(branchTopStockPersistencePort.rebuild())
+                .thenReturn(Mono.just(12L));
+        when(inventoryStatsPersistencePort.rebuild())
+                .thenReturn(Mono.just(5L));
+
+        // Act
+        Mono<Long> result = rebuildReadModelsUseCase.rebuildReadModels();
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(17L)
+                .verifyComplete();
+
+        verify(branchTopStockPersistencePort).rebuild();
+        verify(inventoryStatsPersistencePort).rebuild();
+    }
+
+    @Test
+    @DisplayName("Should propagate error when rebuild fails")
+    void rebuildReadModels_WhenRebuildFails_ShouldPropagateError() {
+        // Arrange
+        when(branchTopStockPersistencePort.rebuild())
+                .thenReturn(Mono.error(new RuntimeException("Rebuild failed")));
+
+        // Act
+        Mono<Long> result = rebuildReadModelsUseCase.rebuildReadModels();
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable ->
+                        throwable instanceof RuntimeException
+                        && throwable.getMessage().equals("Rebuild failed"))
+                .verify();
+    }
+}
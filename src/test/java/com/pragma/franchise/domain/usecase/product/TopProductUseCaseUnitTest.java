@@ -1,7 +1,11 @@
 package com.pragma.franchise.domain.usecase.product;
 
+import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.exceptions.BadRequestException;
+import com.pragma.franchise.domain.model.TopStockChange;
 import com.pragma.franchise.domain.model.TopStockProduct;
 import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.domain.spi.TopStockChangePort;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +15,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -20,6 +29,9 @@ class TopProductUseCaseUnitTest {
     @Mock
     private ProductPersistencePort productPersistencePort;
 
+    @Mock
+    private TopStockChangePort topStockChangePort;
+
     @InjectMocks
     private TopProductUseCase topProductUseCase;
 
@@ -88,4 +100,133 @@ class TopProductUseCaseUnitTest {
 
         verify(productPersistencePort).getTopStockProducts(1L);
     }
+
+    @Test
+    @DisplayName("Should stream top stock products from persistence port")
+    void streamTopStockProducts_WhenProductsExist_ShouldStreamProducts() {
+        // Arrange
+        TopStockProduct product = TopStockProduct.builder()
+                .branchId(1L).branchName("Branch A")
+                .productId(1L).productName("Product A").stock(200)
+                .build();
+
+        when(productPersistencePort.streamTopStockProducts(1L))
+                .thenReturn(Flux.just(product));
+
+        // Act
+        Flux<TopStockProduct> result = topProductUseCase.streamTopStockProducts(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(product)
+                .verifyComplete();
+
+        verify(productPersistencePort).streamTopStockProducts(1L);
+    }
+
+    @Test
+    @DisplayName("Should keep only the franchise-wide top products sorted by stock")
+    void getTopStockProducts_WhenLimitIsSmallerThanRows_ShouldReturnTopSorted() {
+        // Arrange
+        when(productPersistencePort.getTopStockProductsPerBranch(1L, 2))
+                .thenReturn(Flux.just(
+                        topProduct(1L, 10L, 50), topProduct(1L, 11L, 40),
+                        topProduct(2L, 20L, 90), topProduct(2L, 21L, 10),
+                        topProduct(3L, 30L, 70), topProduct(3L, 31L, 60)));
+
+        // Act
+        Flux<TopStockProduct> result = topProductUseCase.getTopStockProducts(1L, 2, 3);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(p -> p.getProductId().equals(20L))
+                .expectNextMatches(p -> p.getProductId().equals(30L))
+                .expectNextMatches(p -> p.getProductId().equals(31L))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should break stock ties by product id")
+    void getTopStockProducts_WhenStockTies_ShouldPreferLowerProductId() {
+        // Arrange
+        when(productPersistencePort.getTopStockProductsPerBranch(1L, 1))
+                .thenReturn(Flux.just(topProduct(1L, 12L, 50), topProduct(2L, 7L, 50)));
+
+        // Act
+        Flux<TopStockProduct> result = topProductUseCase.getTopStockProducts(1L, 1, 1);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(p -> p.getProductId().equals(7L))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should default products per branch to the limit when not provided")
+    void getTopStockProducts_WhenPerBranchIsNull_ShouldUseLimit() {
+        // Arrange
+        when(productPersistencePort.getTopStockProductsPerBranch(1L, 5))
+                .thenReturn(Flux.empty());
+
+        // Act
+        Flux<TopStockProduct> result = topProductUseCase.getTopStockProducts(1L, null, 5);
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+
+        verify(productPersistencePort).getTopStockProductsPerBranch(1L, 5);
+    }
+
+    @Test
+    @DisplayName("Should throw BadRequestException when limit is out of range")
+    void getTopStockProducts_WhenLimitOutOfRange_ShouldThrowBadRequestException() {
+        // Act
+        Flux<TopStockProduct> result = topProductUseCase.getTopStockProducts(1L, 5, 0);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable ->
+                        throwable instanceof BadRequestException
+                        && throwable.getMessage().equals(TechnicalMessage.INVALID_PARAMETERS.getMessage()))
+                .verify();
+
+        verify(productPersistencePort, never()).getTopStockProductsPerBranch(anyLong(), anyInt());
+    }
+
+    private TopStockProduct topProduct(Long branchId, Long productId, int stock) {
+        return TopStockProduct.builder()
+                .branchId(branchId).branchName("Branch " + branchId)
+                .productId(productId).productName("Product " + productId).stock(stock)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should stream top stock changes of the franchise")
+    void streamTopStockChanges_WhenBranchesChange_ShouldEmitChanges() {
+        // Arrange
+        TopStockProduct product = TopStockProduct.builder()
+                .branchId(1L).branchName("Branch A")
+                .productId(1L).productName("Product A").stock(200)
+                .build();
+        TopStockChange change = TopStockChange.builder()
+                .franchiseId(1L).branchId(1L).products(List.of(product))
+                .build();
+        TopStockChange emptied = TopStockChange.builder()
+                .franchiseId(1L).branchId(2L).products(List.of())
+                .build();
+
+        when(topStockChangePort.listen(1L)).thenReturn(Flux.just(change, emptied));
+
+        // Act
+        Flux<TopStockChange> result = topProductUseCase.streamTopStockChanges(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(change)
+                .expectNextMatches(c -> c.getBranchId().equals(2L) && c.getProducts().isEmpty())
+                .verifyComplete();
+
+        verify(topStockChangePort).listen(1L);
+    }
 }
@@ -2,21 +2,31 @@ package com.pragma.franchise.domain.usecase.product;
 
 import com.pragma.franchise.domain.enums.TechnicalMessage;
 import com.pragma.franchise.domain.exceptions.BadRequestException;
+import com.pragma.franchise.domain.exceptions.BusinessException;
 import com.pragma.franchise.domain.exceptions.NotFoundException;
+import com.pragma.franchise.domain.exceptions.PreconditionFailedException;
+import com.pragma.franchise.domain.model.InventoryStats;
 import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.model.StockUpdate;
+import com.pragma.franchise.domain.spi.BranchTopStockPersistencePort;
+import com.pragma.franchise.domain.spi.InventoryStatsPersistencePort;
 import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.domain.spi.TransactionPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,6 +37,15 @@ class UpdateProductUseCaseUnitTest {
     @Mock
     private ProductPersistencePort productPersistencePort;
 
+    @Mock
+    private BranchTopStockPersistencePort branchTopStockPersistencePort;
+
+    @Mock
+    private InventoryStatsPersistencePort inventoryStatsPersistencePort;
+
+    @Mock
+    private TransactionPort transactionPort;
+
     @InjectMocks
     private UpdateProductUseCase updateProductUseCase;
 
@@ -34,6 +53,13 @@ class UpdateProductUseCaseUnitTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(transactionPort.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(branchTopStockPersistencePort.refresh(anyLong()))
+                .thenReturn(Mono.empty());
+        lenient().when(inventoryStatsPersistencePort.apply(anyLong(), any(InventoryStats.class)))
+                .thenReturn(Mono.empty());
+
         existingProduct = Product.builder()
                 .id(1L)
                 .name("Old Product")
@@ -48,36 +74,56 @@ class UpdateProductUseCaseUnitTest {
     @DisplayName("Should update stock when product exists and stock is valid")
     void updateStockProduct_WhenProductExistsAndStockValid_ShouldReturnUpdated() {
         // Arrange
-        when(productPersistencePort.findById(1L))
-                .thenReturn(Mono.just(existingProduct));
-        when(productPersistencePort.save(any(Product.class)))
-                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(productPersistencePort.updateStock(1L, 200, null))
+                .thenReturn(Mono.just(stockUpdate(200, 50)));
 
         // Act
-        Mono<Product> result = updateProductUseCase.updateStockProduct(1L, 200);
+        Mono<Product> result = updateProductUseCase.updateStockProduct(1L, 200, null);
 
         // Assert
         StepVerifier.create(result)
-                .expectNextMatches(product ->
-                        product.getStock().equals(200)
-                        && product.getUpdatedAt() != null)
+                .expectNextMatches(product -> product.getStock().equals(200))
                 .verifyComplete();
 
-        verify(productPersistencePort).findById(1L);
-        verify(productPersistencePort).save(any(Product.class));
+        verify(productPersistencePort).updateStock(1L, 200, null);
+        verify(productPersistencePort, never()).findById(anyLong());
+        verify(productPersistencePort, never()).save(any(Product.class));
+        verify(branchTopStockPersistencePort).refresh(1L);
+        verify(inventoryStatsPersistencePort).apply(1L, InventoryStats.delta(50, 200));
+    }
+
+    @Test
+    @DisplayName("Should move product between stock levels in inventory stats when stock changes")
+    void updateStockProduct_WhenStockChanges_ShouldApplyInventoryDelta() {
+        // Arrange
+        when(productPersistencePort.updateStock(1L, 0, null))
+                .thenReturn(Mono.just(stockUpdate(0, 50)));
+        ArgumentCaptor<InventoryStats> delta = ArgumentCaptor.forClass(InventoryStats.class);
+
+        // Act
+        Mono<Product> result = updateProductUseCase.updateStockProduct(1L, 0, null);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(inventoryStatsPersistencePort).apply(anyLong(), delta.capture());
+        assertEquals(-50, delta.getValue().getTotalStock());
+        assertEquals(0, delta.getValue().getSkuCount());
+        assertEquals(1, delta.getValue().getZeroStockCount());
+        assertEquals(-1, delta.getValue().getStock10To99Count());
     }
 
     @Test
     @DisplayName("Should allow setting stock to zero")
     void updateStockProduct_WhenStockIsZero_ShouldReturnUpdated() {
         // Arrange
-        when(productPersistencePort.findById(1L))
-                .thenReturn(Mono.just(existingProduct));
-        when(productPersistencePort.save(any(Product.class)))
-                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(productPersistencePort.updateStock(1L, 0, null))
+                .thenReturn(Mono.just(stockUpdate(0, 50)));
 
         // Act
-        Mono<Product> result = updateProductUseCase.updateStockProduct(1L, 0);
+        Mono<Product> result = updateProductUseCase.updateStockProduct(1L, 0, null);
 
         // Assert
         StepVerifier.create(result)
@@ -91,7 +137,7 @@ class UpdateProductUseCaseUnitTest {
         // Arrange — no mocks needed
 
         // Act
-        Mono<Product> result = updateProductUseCase.updateStockProduct(1L, null);
+        Mono<Product> result = updateProductUseCase.updateStockProduct(1L, null, null);
 
         // Assert
         StepVerifier.create(result)
@@ -100,7 +146,7 @@ class UpdateProductUseCaseUnitTest {
                         && throwable.getMessage().equals(TechnicalMessage.INVALID_PARAMETERS.getMessage()))
                 .verify();
 
-        verify(productPersistencePort, never()).findById(anyLong());
+        verify(productPersistencePort, never()).updateStock(anyLong(), any(), any());
     }
 
     @Test
@@ -109,7 +155,7 @@ class UpdateProductUseCaseUnitTest {
         // Arrange — no mocks needed
 
         // Act
-        Mono<Product> result = updateProductUseCase.updateStockProduct(1L, -5);
+        Mono<Product> result = updateProductUseCase.updateStockProduct(1L, -5, null);
 
         // Assert
         StepVerifier.create(result)
@@ -118,18 +164,18 @@ class UpdateProductUseCaseUnitTest {
                         && throwable.getMessage().equals(TechnicalMessage.INVALID_PARAMETERS.getMessage()))
                 .verify();
 
-        verify(productPersistencePort, never()).findById(anyLong());
+        verify(productPersistencePort, never()).updateStock(anyLong(), any(), any());
     }
 
     @Test
     @DisplayName("Should throw NotFoundException when product not found for stock update")
     void updateStockProduct_WhenProductNotFound_ShouldThrowNotFoundException() {
         // Arrange
-        when(productPersistencePort.findById(1L))
+        when(productPersistencePort.updateStock(1L, 100, null))
                 .thenReturn(Mono.empty());
 
         // Act
-        Mono<Product> result = updateProductUseCase.updateStockProduct(1L, 100);
+        Mono<Product> result = updateProductUseCase.updateStockProduct(1L, 100, null);
 
         // Assert
         StepVerifier.create(result)
@@ -138,70 +184,194 @@ class UpdateProductUseCaseUnitTest {
                         && throwable.getMessage().equals(TechnicalMessage.PRODUCT_NOT_FOUND.getMessage()))
                 .verify();
 
-        verify(productPersistencePort, never()).save(any(Product.class));
+        verify(branchTopStockPersistencePort, never()).refresh(anyLong());
+        verify(inventoryStatsPersistencePort, never()).apply(anyLong(), any(InventoryStats.class));
+    }
+
+    @Test
+    @DisplayName("Should propagate error when stock update fails")
+    void updateStockProduct_WhenUpdateFails_ShouldPropagateError() {
+        // Arrange
+        when(productPersistencePort.updateStock(1L, 100, null))
+                .thenReturn(Mono.error(new RuntimeException("Update failed")));
+
+        // Act
+        Mono<Product> result = updateProductUseCase.updateStockProduct(1L, 100, null);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable ->
+                        throwable instanceof RuntimeException
+                        && throwable.getMessage().equals("Update failed"))
+                .verify();
     }
 
     @Test
-    @DisplayName("Should propagate error when save fails on stock update")
-    void updateStockProduct_WhenSaveFails_ShouldPropagateError() {
+    @DisplayName("Should throw PreconditionFailedException when product changed since the expected version")
+    void updateStockProduct_WhenVersionMismatch_ShouldThrowPreconditionFailedException() {
         // Arrange
+        when(productPersistencePort.updateStock(1L, 100, 3L))
+                .thenReturn(Mono.empty());
         when(productPersistencePort.findById(1L))
                 .thenReturn(Mono.just(existingProduct));
-        when(productPersistencePort.save(any(Product.class)))
-                .thenReturn(Mono.error(new RuntimeException("Save failed")));
 
         // Act
-        Mono<Product> result = updateProductUseCase.updateStockProduct(1L, 100);
+        Mono<Product> result = updateProductUseCase.updateStockProduct(1L, 100, 3L);
 
         // Assert
         StepVerifier.create(result)
                 .expectErrorMatches(throwable ->
-                        throwable instanceof RuntimeException
-                        && throwable.getMessage().equals("Save failed"))
+                        throwable instanceof PreconditionFailedException
+                        && throwable.getMessage().equals(TechnicalMessage.VERSION_MISMATCH.getMessage()))
                 .verify();
+
+        verify(branchTopStockPersistencePort, never()).refresh(anyLong());
+    }
+
+    // ==================== adjustStockProduct ====================
+
+    @Test
+    @DisplayName("Should apply relative delta and refresh read models when stock stays non-negative")
+    void adjustStockProduct_WhenStockSuffices_ShouldReturnAdjusted() {
+        // Arrange
+        when(productPersistencePort.adjustStock(1L, -3))
+                .thenReturn(Mono.just(stockUpdate(47, 50)));
+
+        // Act
+        Mono<Product> result = updateProductUseCase.adjustStockProduct(1L, -3);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(product -> product.getStock().equals(47))
+                .verifyComplete();
+
+        verify(productPersistencePort, never()).findById(anyLong());
+        verify(branchTopStockPersistencePort).refresh(1L);
+        verify(inventoryStatsPersistencePort).apply(1L, InventoryStats.delta(50, 47));
+    }
+
+    @Test
+    @DisplayName("Should throw BusinessException when adjustment would leave stock negative")
+    void adjustStockProduct_WhenStockInsufficient_ShouldThrowBusinessException() {
+        // Arrange
+        when(productPersistencePort.adjustStock(1L, -60))
+                .thenReturn(Mono.empty());
+        when(productPersistencePort.findById(1L))
+                .thenReturn(Mono.just(existingProduct));
+
+        // Act
+        Mono<Product> result = updateProductUseCase.adjustStockProduct(1L, -60);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable ->
+                        throwable instanceof BusinessException
+                        && throwable.getMessage().equals(TechnicalMessage.PRODUCT_INSUFFICIENT_STOCK.getMessage()))
+                .verify();
+
+        verify(branchTopStockPersistencePort, never()).refresh(anyLong());
+        verify(inventoryStatsPersistencePort, never()).apply(anyLong(), any(InventoryStats.class));
+    }
+
+    @Test
+    @DisplayName("Should throw BadRequestException when adjustment would exceed the maximum stock")
+    void adjustStockProduct_WhenStockWouldOverflow_ShouldThrowBadRequestException() {
+        // Arrange
+        when(productPersistencePort.adjustStock(1L, Integer.MAX_VALUE))
+                .thenReturn(Mono.empty());
+        when(productPersistencePort.findById(1L))
+                .thenReturn(Mono.just(existingProduct));
+
+        // Act
+        Mono<Product> result = updateProductUseCase.adjustStockProduct(1L, Integer.MAX_VALUE);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable ->
+                        throwable instanceof BadRequestException
+                        && throwable.getMessage().equals(TechnicalMessage.PRODUCT_STOCK_OUT_OF_RANGE.getMessage()))
+                .verify();
+
+        verify(branchTopStockPersistencePort, never()).refresh(anyLong());
+        verify(inventoryStatsPersistencePort, never()).apply(anyLong(), any(InventoryStats.class));
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when product not found for stock adjustment")
+    void adjustStockProduct_WhenProductNotFound_ShouldThrowNotFoundException() {
+        // Arrange
+        when(productPersistencePort.adjustStock(1L, 5))
+                .thenReturn(Mono.empty());
+        when(productPersistencePort.findById(1L))
+                .thenReturn(Mono.empty());
+
+        // Act
+        Mono<Product> result = updateProductUseCase.adjustStockProduct(1L, 5);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable ->
+                        throwable instanceof NotFoundException
+                        && throwable.getMessage().equals(TechnicalMessage.PRODUCT_NOT_FOUND.getMessage()))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should throw BadRequestException when delta is null")
+    void adjustStockProduct_WhenDeltaIsNull_ShouldThrowBadRequestException() {
+        // Arrange — no mocks needed
+
+        // Act
+        Mono<Product> result = updateProductUseCase.adjustStockProduct(1L, null);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(BadRequestException.class)
+                .verify();
+
+        verify(productPersistencePort, never()).adjustStock(anyLong(), any());
     }
 
     // ==================== updateNameProduct ====================
 
     @Test
-    @DisplayName("Should update name when product exists and name is valid")
+    @DisplayName("Should update name with a single conditional write")
     void updateNameProduct_WhenProductExistsAndNameValid_ShouldReturnUpdated() {
         // Arrange
-        when(productPersistencePort.findById(1L))
+        existingProduct.setName("New Product Name");
+        when(productPersistencePort.updateName(1L, "New Product Name", null))
                 .thenReturn(Mono.just(existingProduct));
-        when(productPersistencePort.save(any(Product.class)))
-                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
 
         // Act
-        Mono<Product> result = updateProductUseCase.updateNameProduct(1L, "New Product Name");
+        Mono<Product> result = updateProductUseCase.updateNameProduct(1L, "New Product Name", null);
 
         // Assert
         StepVerifier.create(result)
-                .expectNextMatches(product ->
-                        product.getName().equals("New Product Name")
-                        && product.getUpdatedAt() != null)
+                .expectNextMatches(product -> product.getName().equals("New Product Name"))
                 .verifyComplete();
 
-        verify(productPersistencePort).findById(1L);
-        verify(productPersistencePort).save(any(Product.class));
+        verify(productPersistencePort, never()).findById(anyLong());
+        verify(productPersistencePort, never()).save(any(Product.class));
+        verify(branchTopStockPersistencePort, never()).refresh(anyLong());
+        verify(inventoryStatsPersistencePort, never()).apply(anyLong(), any(InventoryStats.class));
     }
 
     @Test
     @DisplayName("Should trim product name before saving")
     void updateNameProduct_WhenNameHasWhitespace_ShouldTrimAndSave() {
         // Arrange
-        when(productPersistencePort.findById(1L))
+        when(productPersistencePort.updateName(1L, "Trimmed Name", 2L))
                 .thenReturn(Mono.just(existingProduct));
-        when(productPersistencePort.save(any(Product.class)))
-                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
 
         // Act
-        Mono<Product> result = updateProductUseCase.updateNameProduct(1L, "  Trimmed Name  ");
+        Mono<Product> result = updateProductUseCase.updateNameProduct(1L, "  Trimmed Name  ", 2L);
 
         // Assert
         StepVerifier.create(result)
-                .expectNextMatches(product -> product.getName().equals("Trimmed Name"))
+                .expectNext(existingProduct)
                 .verifyComplete();
+
+        verify(productPersistencePort).updateName(1L, "Trimmed Name", 2L);
     }
 
     @Test
@@ -210,7 +380,7 @@ class UpdateProductUseCaseUnitTest {
         // Arrange — no mocks needed
 
         // Act
-        Mono<Product> result = updateProductUseCase.updateNameProduct(1L, null);
+        Mono<Product> result = updateProductUseCase.updateNameProduct(1L, null, null);
 
         // Assert
         StepVerifier.create(result)
@@ -219,7 +389,7 @@ class UpdateProductUseCaseUnitTest {
                         && throwable.getMessage().equals(TechnicalMessage.INVALID_PARAMETERS.getMessage()))
                 .verify();
 
-        verify(productPersistencePort, never()).findById(anyLong());
+        verify(productPersistencePort, never()).updateName(anyLong(), any(), any());
     }
 
     @Test
@@ -228,7 +398,7 @@ class UpdateProductUseCaseUnitTest {
         // Arrange — no mocks needed
 
         // Act
-        Mono<Product> result = updateProductUseCase.updateNameProduct(1L, "");
+        Mono<Product> result = updateProductUseCase.updateNameProduct(1L, "", null);
 
         // Assert
         StepVerifier.create(result)
@@ -237,18 +407,18 @@ class UpdateProductUseCaseUnitTest {
                         && throwable.getMessage().equals(TechnicalMessage.INVALID_PARAMETERS.getMessage()))
                 .verify();
 
-        verify(productPersistencePort, never()).findById(anyLong());
+        verify(productPersistencePort, never()).updateName(anyLong(), any(), any());
     }
 
     @Test
     @DisplayName("Should throw NotFoundException when product not found for name update")
     void updateNameProduct_WhenProductNotFound_ShouldThrowNotFoundException() {
         // Arrange
-        when(productPersistencePort.findById(1L))
+        when(productPersistencePort.updateName(1L, "New Name", null))
                 .thenReturn(Mono.empty());
 
         // Act
-        Mono<Product> result = updateProductUseCase.updateNameProduct(1L, "New Name");
+        Mono<Product> result = updateProductUseCase.updateNameProduct(1L, "New Name", null);
 
         // Assert
         StepVerifier.create(result)
@@ -257,26 +427,47 @@ class UpdateProductUseCaseUnitTest {
                         && throwable.getMessage().equals(TechnicalMessage.PRODUCT_NOT_FOUND.getMessage()))
                 .verify();
 
-        verify(productPersistencePort, never()).save(any(Product.class));
+        verify(productPersistencePort, never()).findById(anyLong());
     }
 
     @Test
-    @DisplayName("Should propagate error when save fails on name update")
-    void updateNameProduct_WhenSaveFails_ShouldPropagateError() {
+    @DisplayName("Should throw PreconditionFailedException when name update targets a stale version")
+    void updateNameProduct_WhenVersionMismatch_ShouldThrowPreconditionFailedException() {
         // Arrange
+        when(productPersistencePort.updateName(1L, "New Name", 1L))
+                .thenReturn(Mono.empty());
         when(productPersistencePort.findById(1L))
                 .thenReturn(Mono.just(existingProduct));
-        when(productPersistencePort.save(any(Product.class)))
-                .thenReturn(Mono.error(new RuntimeException("Save failed")));
 
         // Act
-        Mono<Product> result = updateProductUseCase.updateNameProduct(1L, "New Name");
+        Mono<Product> result = updateProductUseCase.updateNameProduct(1L, "New Name", 1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(PreconditionFailedException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should propagate error when name update fails")
+    void updateNameProduct_WhenUpdateFails_ShouldPropagateError() {
+        // Arrange
+        when(productPersistencePort.updateName(1L, "New Name", null))
+                .thenReturn(Mono.error(new RuntimeException("Update failed")));
+
+        // Act
+        Mono<Product> result = updateProductUseCase.updateNameProduct(1L, "New Name", null);
 
         // Assert
         StepVerifier.create(result)
                 .expectErrorMatches(throwable ->
                         throwable instanceof RuntimeException
-                        && throwable.getMessage().equals("Save failed"))
+                        && throwable.getMessage().equals("Update failed"))
                 .verify();
     }
+
+    private StockUpdate stockUpdate(int stock, int previousStock) {
+        existingProduct.setStock(stock);
+        return new StockUpdate(existingProduct, previousStock);
+    }
 }
@@ -0,0 +1,135 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pragma.franchise.domain.model.Branch;
+import com.pragma.franchise.domain.spi.BranchPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedBranchPersistenceAdapterUnitTest {
+
+    @Mock
+    private BranchPersistencePort delegate;
+
+    private CachedBranchPersistenceAdapter adapter;
+
+    private Branch branch;
+
+    @BeforeEach
+    void setUp() {
+        Cache<Long, Optional<Branch>> branches = ReferenceCaches.build(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        adapter = new CachedBranchPersistenceAdapter(delegate, branches);
+        branch = Branch.builder().id(1L).name("Branch A").franchiseId(1L).version(0L).build();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from cache")
+    void findById_WhenCalledTwice_ShouldQueryDelegateOnce() {
+        // Arrange
+        when(delegate.findById(1L)).thenReturn(Mono.just(branch));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findById(1L)).expectNext(branch).verifyComplete();
+        StepVerifier.create(adapter.findById(1L)).expectNext(branch).verifyComplete();
+
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should remember branches that do not exist")
+    void findById_WhenBranchMissing_ShouldCacheNegativeResult() {
+        // Arrange
+        when(delegate.findById(2L)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(adapter.findById(2L)).verifyComplete();
+        StepVerifier.create(adapter.findById(2L)).verifyComplete();
+
+        verify(delegate, times(1)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("Should reload a cached branch whose version changed in the database")
+    void findVersionById_WhenCachedBranchIsStale_ShouldInvalidateIt() {
+        // Arrange
+        Branch renamed = Branch.builder().id(1L).name("Branch B").franchiseId(1L).version(1L).build();
+        when(delegate.findById(1L)).thenReturn(Mono.just(branch), Mono.just(renamed));
+        when(delegate.findVersionById(1L)).thenReturn(Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findById(1L)).expectNext(branch).verifyComplete();
+        StepVerifier.create(adapter.findVersionById(1L)).expectNext(1L).verifyComplete();
+        StepVerifier.create(adapter.findById(1L)).expectNext(renamed).verifyComplete();
+
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should replace the cached branch when it is renamed")
+    void updateName_WhenBranchCached_ShouldServeRenamedBranch() {
+        // Arrange
+        Branch renamed = Branch.builder().id(1L).name("Branch B").franchiseId(1L).version(1L).build();
+        when(delegate.findById(1L)).thenReturn(Mono.just(branch));
+        when(delegate.updateName(1L, "Branch B", null)).thenReturn(Mono.just(renamed));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findById(1L)).expectNext(branch).verifyComplete();
+        StepVerifier.create(adapter.updateName(1L, "Branch B", null)).expectNext(renamed).verifyComplete();
+        StepVerifier.create(adapter.findById(1L)).expectNext(renamed).verifyComplete();
+
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should keep the renamed branch when a slower lookup finishes after the rename")
+    void findById_WhenRenamedDuringLookup_ShouldKeepRenamedBranch() {
+        // Arrange
+        Branch renamed = Branch.builder().id(1L).name("Branch B").franchiseId(1L).version(1L).build();
+        Sinks.One<Branch> slowLookup = Sinks.one();
+        when(delegate.findById(1L)).thenReturn(slowLookup.asMono());
+        when(delegate.updateName(1L, "Branch B", null)).thenReturn(Mono.just(renamed));
+
+        // Act
+        StepVerifier.create(adapter.findById(1L))
+                .then(() -> {
+                    adapter.updateName(1L, "Branch B", null).block();
+                    slowLookup.tryEmitValue(branch);
+                })
+                .expectNext(branch)
+                .verifyComplete();
+
+        // Assert
+        StepVerifier.create(adapter.findById(1L)).expectNext(renamed).verifyComplete();
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should look the branch up again after it is deleted")
+    void deleteByIdReturning_WhenBranchCached_ShouldInvalidateEntry() {
+        // Arrange
+        when(delegate.findById(1L)).thenReturn(Mono.just(branch)).thenReturn(Mono.empty());
+        when(delegate.deleteByIdReturning(1L)).thenReturn(Mono.just(branch));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findById(1L)).expectNext(branch).verifyComplete();
+        StepVerifier.create(adapter.deleteByIdReturning(1L)).expectNext(branch).verifyComplete();
+        StepVerifier.create(adapter.findById(1L)).verifyComplete();
+
+        verify(delegate, times(2)).findById(1L);
+    }
+}
@@ -0,0 +1,102 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pragma.franchise.domain.model.Branch;
+import com.pragma.franchise.domain.model.Franchise;
+import com.pragma.franchise.domain.spi.FranchisePersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedFranchisePersistenceAdapterUnitTest {
+
+    @Mock
+    private FranchisePersistencePort delegate;
+
+    private Cache<Long, Optional<Branch>> branches;
+
+    private CachedFranchisePersistenceAdapter adapter;
+
+    private Franchise franchise;
+
+    @BeforeEach
+    void setUp() {
+        branches = ReferenceCaches.build(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        adapter = new CachedFranchisePersistenceAdapter(delegate,
+                ReferenceCaches.build(10, Duration.ofMinutes(1), Duration.ofMinutes(1)), branches);
+        franchise = Franchise.builder().id(1L).name("Franchise A").version(0L).build();
+    }
+
+    @Test
+    @DisplayName("Should serve a franchise created through the adapter without querying it")
+    void findById_WhenFranchiseWasInserted_ShouldNotQueryDelegate() {
+        // Arrange
+        Franchise request = Franchise.builder().name("Franchise A").build();
+        when(delegate.insertIfAbsent(request)).thenReturn(Mono.just(franchise));
+
+        // Act & Assert
+        StepVerifier.create(adapter.insertIfAbsent(request)).expectNext(franchise).verifyComplete();
+        StepVerifier.create(adapter.findById(1L)).expectNext(franchise).verifyComplete();
+
+        verify(delegate, never()).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should keep the renamed franchise when a slower lookup finishes after the rename")
+    void findById_WhenRenamedDuringLookup_ShouldKeepRenamedFranchise() {
+        // Arrange
+        Franchise renamed = Franchise.builder().id(1L).name("Franchise B").version(1L).build();
+        Sinks.One<Franchise> slowLookup = Sinks.one();
+        when(delegate.findById(1L)).thenReturn(slowLookup.asMono());
+        when(delegate.updateName(1L, "Franchise B", null)).thenReturn(Mono.just(renamed));
+
+        // Act
+        StepVerifier.create(adapter.findById(1L))
+                .then(() -> {
+                    adapter.updateName(1L, "Franchise B", null).block();
+                    slowLookup.tryEmitValue(franchise);
+                })
+                .expectNext(franchise)
+                .verifyComplete();
+
+        // Assert
+        StepVerifier.create(adapter.findById(1L)).expectNext(renamed).verifyComplete();
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should invalidate the franchise and its cached branches when it is deleted")
+    void deleteByIdReturning_WhenBranchesCached_ShouldInvalidateThem() {
+        // Arrange
+        branches.put(10L, Optional.of(Branch.builder().id(10L).franchiseId(1L).build()));
+        branches.put(20L, Optional.of(Branch.builder().id(20L).franchiseId(2L).build()));
+        when(delegate.findById(1L)).thenReturn(Mono.just(franchise)).thenReturn(Mono.empty());
+        when(delegate.deleteByIdReturning(1L)).thenReturn(Mono.just(franchise));
+
+        // Act
+        StepVerifier.create(adapter.findById(1L)).expectNext(franchise).verifyComplete();
+        StepVerifier.create(adapter.deleteByIdReturning(1L)).expectNext(franchise).verifyComplete();
+
+        // Assert
+        StepVerifier.create(adapter.findById(1L)).verifyComplete();
+        assertNull(branches.getIfPresent(10L));
+        assertNotNull(branches.getIfPresent(20L));
+    }
+}
@@ -0,0 +1,131 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.franchise.domain.model.Branch;
+import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.model.StockUpdate;
+import com.pragma.franchise.domain.model.TopStockProduct;
+import com.pragma.franchise.domain.spi.BranchPersistencePort;
+import com.pragma.franchise.domain.spi.ProductPersistencePort;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.routing.ReadRouting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedProductPersistenceAdapterUnitTest {
+
+    @Mock
+    private ProductPersistencePort delegate;
+
+    @Mock
+    private BranchPersistencePort branchPersistencePort;
+
+    private CachedProductPersistenceAdapter adapter;
+
+    private TopStockProduct topProduct;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachedProductPersistenceAdapter(delegate, branchPersistencePort,
+                Caffeine.newBuilder().maximumSize(10).buildAsync(),
+                Caffeine.newBuilder().maximumSize(10).build(),
+                Caffeine.newBuilder().maximumSize(10).build());
+        topProduct = TopStockProduct.builder()
+                .branchId(1L).branchName("Branch A")
+                .productId(1L).productName("Product A").stock(200)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated top stock reads from cache")
+    void getTopStockProducts_WhenCalledTwice_ShouldQueryDelegateOnce() {
+        // Arrange
+        when(delegate.getTopStockProducts(1L)).thenReturn(Flux.just(topProduct));
+
+        // Act & Assert
+        StepVerifier.create(adapter.getTopStockProducts(1L)).expectNext(topProduct).verifyComplete();
+        StepVerifier.create(adapter.getTopStockProducts(1L)).expectNext(topProduct).verifyComplete();
+
+        verify(delegate, times(1)).getTopStockProducts(1L);
+    }
+
+    @Test
+    @DisplayName("Should load top stock cache misses from the primary even when the request allows the replica")
+    void getTopStockProducts_WhenRequestAllowsReplica_ShouldLoadFromPrimary() {
+        // Arrange
+        when(delegate.getTopStockProducts(1L)).thenReturn(ReadRouting.onReplica(Flux.deferContextual(context ->
+                ReadRouting.useReplica(context) ? Flux.empty() : Flux.just(topProduct))));
+
+        // Act & Assert
+        StepVerifier.create(adapter.getTopStockProducts(1L).contextWrite(ReadRouting::allowReplica))
+                .expectNext(topProduct)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should invalidate franchise entry without branch lookup when branch is already mapped")
+    void save_WhenBranchIsMapped_ShouldInvalidateFranchiseWithoutQuery() {
+        // Arrange
+        Product product = Product.builder().id(1L).name("Product A").stock(300).branchId(1L).build();
+        when(delegate.getTopStockProducts(1L)).thenReturn(Flux.just(topProduct));
+        when(delegate.save(product)).thenReturn(Mono.just(product));
+
+        // Act
+        StepVerifier.create(adapter.getTopStockProducts(1L)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.save(product)).expectNext(product).verifyComplete();
+        StepVerifier.create(adapter.getTopStockProducts(1L)).expectNextCount(1).verifyComplete();
+
+        // Assert
+        verify(delegate, times(2)).getTopStockProducts(1L);
+        verify(branchPersistencePort, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should resolve franchise through branch port when branch is unknown")
+    void save_WhenBranchIsUnknown_ShouldResolveFranchiseOnce() {
+        // Arrange
+        Product product = Product.builder().id(5L).name("Product B").stock(10).branchId(2L).build();
+        when(delegate.save(product)).thenReturn(Mono.just(product));
+        when(branchPersistencePort.findById(2L))
+                .thenReturn(Mono.just(Branch.builder().id(2L).franchiseId(1L).build()));
+
+        // Act
+        StepVerifier.create(adapter.save(product)).expectNext(product).verifyComplete();
+        StepVerifier.create(adapter.save(product)).expectNext(product).verifyComplete();
+
+        // Assert
+        verify(branchPersistencePort, times(1)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("Should invalidate franchise entry when stock is updated")
+    void updateStock_WhenBranchIsMapped_ShouldInvalidateFranchise() {
+        // Arrange
+        Product product = Product.builder().id(1L).name("Product A").stock(300).branchId(1L).build();
+        StockUpdate update = new StockUpdate(product, 200);
+        when(delegate.getTopStockProducts(1L)).thenReturn(Flux.just(topProduct));
+        when(delegate.updateStock(1L, 300, null)).thenReturn(Mono.just(update));
+
+        // Act
+        StepVerifier.create(adapter.getTopStockProducts(1L)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.updateStock(1L, 300, null)).expectNext(update).verifyComplete();
+        StepVerifier.create(adapter.getTopStockProducts(1L)).expectNextCount(1).verifyComplete();
+
+        // Assert
+        verify(delegate, times(2)).getTopStockProducts(1L);
+        verify(branchPersistencePort, never()).findById(anyLong());
+    }
+}
@@ -0,0 +1,78 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.notification;
+
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository.ProductRepository;
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.resilience.ResilienceHelper;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class TopStockChangeAdapterUnitTest {
+
+    @Mock
+    private ConnectionFactory listenerConnectionFactory;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ResilienceHelper resilienceHelper;
+
+    private TopStockChangeAdapter adapter;
+
+    private final AtomicInteger opened = new AtomicInteger();
+    private final AtomicInteger released = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> Mono.never()
+                .doOnSubscribe(subscription -> opened.incrementAndGet())
+                .doOnCancel(released::incrementAndGet))
+                .when(listenerConnectionFactory).create();
+        adapter = new TopStockChangeAdapter(listenerConnectionFactory, productRepository, resilienceHelper,
+                Duration.ofMillis(10));
+    }
+
+    @Test
+    @DisplayName("Should share one listener connection and release it when the last subscriber leaves")
+    void listen_WhenLastSubscriberCancels_ShouldStopListening() {
+        // Act
+        Disposable first = adapter.listen(1L).subscribe();
+        Disposable second = adapter.listen(2L).subscribe();
+        first.dispose();
+
+        // Assert
+        assertEquals(1, opened.get());
+        assertEquals(0, released.get());
+
+        second.dispose();
+        assertEquals(1, released.get());
+    }
+
+    @Test
+    @DisplayName("Should open the listener again for a subscriber arriving after the last one left")
+    void listen_WhenSubscribingAfterStop_ShouldListenAgain() {
+        // Arrange
+        adapter.listen(1L).subscribe().dispose();
+
+        // Act
+        Disposable subscriber = adapter.listen(1L).subscribe();
+
+        // Assert
+        assertEquals(2, opened.get());
+        assertEquals(1, released.get());
+        subscriber.dispose();
+    }
+}
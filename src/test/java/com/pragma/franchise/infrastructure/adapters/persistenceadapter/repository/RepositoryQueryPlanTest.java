@@ -0,0 +1,188 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.data.r2dbc.repository.Query;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Ejecuta EXPLAIN sobre cada consulta de los repositorios contra un PostgreSQL local con un volumen
+ * de datos grande y falla si el plan contiene un Seq Scan. Se ejecuta con {@code ./gradlew queryPlanTest};
+ * la conexión se configura con las variables QUERY_PLAN_DB_URL, QUERY_PLAN_DB_USERNAME y QUERY_PLAN_DB_PASSWORD.
+ */
+@Tag("query-plan")
+class RepositoryQueryPlanTest {
+
+    private static final String SCHEMA = "query_plan";
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            ProductRepository.class,
+            BranchRepository.class,
+            FranchiseRepository.class,
+            BranchTopStockRepository.class,
+            BranchInventoryStatsRepository.class,
+            IdempotentResponseRepository.class);
+
+    // La reconstrucción completa de los read models recorre todas las tablas por diseño
+    private static final Set<String> FULL_SCAN_QUERIES = Set.of(
+            "BranchTopStockRepository.rebuild",
+            "BranchInventoryStatsRepository.rebuild");
+
+    private static final Map<String, String> PARAMETERS = Map.of(
+            ":franchiseId", "42",
+            ":branchId", "420",
+            ":perBranch", "5",
+            ":ids", "ARRAY[4200, 4201, 4202]",
+            ":stocks", "ARRAY[1, 2, 3]",
+            ":names", "ARRAY['product-1', 'new-product']",
+            ":clientId", "'client-42'",
+            ":key", "'key-42'",
+            ":body", "decode('7b7d', 'hex')");
+
+    private static final Pattern OTHER_PARAMETER = Pattern.compile("(?<!:):[A-Za-z]\\w*");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        String url = env("QUERY_PLAN_DB_URL", "jdbc:postgresql://localhost:5432/franchise_db");
+        String username = env("QUERY_PLAN_DB_USERNAME", "postgres");
+        String password = env("QUERY_PLAN_DB_PASSWORD", "123456");
+
+        connection = DriverManager.getConnection(url, username, password);
+        execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+
+        Flyway.configure()
+                .dataSource(url, username, password)
+                .schemas(SCHEMA)
+                .load()
+                .migrate();
+
+        execute("SET search_path TO " + SCHEMA);
+        seed();
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            connection.close();
+        }
+    }
+
+    @TestFactory
+    @DisplayName("Repository queries should not use sequential scans")
+    Stream<DynamicTest> repositoryQueriesShouldNotUseSequentialScans() {
+        return queries().entrySet().stream()
+                .map(query -> DynamicTest.dynamicTest(query.getKey(), () -> {
+                    String plan = explain(query.getValue());
+                    assertFalse(plan.contains("\"Seq Scan\""),
+                            () -> query.getKey() + " uses a sequential scan:\n" + plan);
+                }));
+    }
+
+    private static Map<String, String> queries() {
+        Map<String, String> queries = new LinkedHashMap<>();
+        for (Class<?> repository : REPOSITORIES) {
+            Arrays.stream(repository.getDeclaredMethods())
+                    .filter(method -> method.isAnnotationPresent(Query.class))
+                    .filter(method -> !FULL_SCAN_QUERIES.contains(name(method)))
+                    .forEach(method -> queries.put(name(method), bind(method.getAnnotation(Query.class).value())));
+        }
+
+        // Consultas derivadas y de ReactiveCrudRepository, con el SQL que genera Spring Data R2DBC
+        queries.put("ProductStreamRepository.streamTopStockProductsByFranchise", bind(TopStockQueries.TOP_STOCK_BY_FRANCHISE));
+        queries.put("FranchiseTreeRepository.streamTree", bind(FranchiseQueries.TREE));
+        queries.put("ProductRepository.findById", "SELECT product.* FROM product WHERE product.id = 4200");
+        queries.put("BranchRepository.findById", "SELECT branch.* FROM branch WHERE branch.id = 420");
+        queries.put("FranchiseRepository.findById", "SELECT franchise.* FROM franchise WHERE franchise.id = 42");
+        return queries;
+    }
+
+    private static void seed() throws SQLException {
+        execute("""
+                INSERT INTO franchise (name)
+                SELECT 'franchise-' || f FROM generate_series(1, 2000) f
+                """);
+        execute("""
+                INSERT INTO branch (name, franchise_id)
+                SELECT 'branch-' || b, f.id FROM franchise f, generate_series(1, 10) b
+                """);
+        execute("""
+                INSERT INTO product (name, stock, branch_id)
+                SELECT 'product-' || p, (random() * 10000)::int, b.id FROM branch b, generate_series(1, 20) p
+                """);
+        execute("""
+                INSERT INTO branch_top_stock (branch_id, franchise_id, max_stock)
+                SELECT b.id, b.franchise_id, MAX(p.stock)
+                FROM branch b JOIN product p ON p.branch_id = b.id
+                GROUP BY b.id, b.franchise_id
+                """);
+        execute(InventoryStatsQueries.REBUILD_INVENTORY_STATS);
+        execute("""
+                INSERT INTO idempotent_response (client_id, idempotency_key, request_method, request_path, request_hash,
+                    status_code, body, expires_at)
+                SELECT 'client-' || k % 100, 'key-' || k, 'POST', '/api/v1/products', md5(k::text), 201,
+                    decode('7b7d', 'hex'), NOW() + k * INTERVAL '1 second'
+                FROM generate_series(1, 50000) k
+                """);
+        execute("ANALYZE");
+    }
+
+    private static String explain(String sql) throws SQLException {
+        // EXPLAIN sin ANALYZE no ejecuta las sentencias de escritura
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN (FORMAT JSON) " + sql)) {
+            List<String> lines = new ArrayList<>();
+            while (resultSet.next()) {
+                lines.add(resultSet.getString(1));
+            }
+            return String.join("\n", lines);
+        }
+    }
+
+    private static String bind(String sql) {
+        String bound = sql;
+        for (Map.Entry<String, String> parameter : PARAMETERS.entrySet()) {
+            bound = bound.replace(parameter.getKey(), parameter.getValue());
+        }
+        // El resto de parámetros (p. ej. los deltas de inventario) no influyen en el plan
+        return OTHER_PARAMETER.matcher(bound).replaceAll("1");
+    }
+
+    private static String name(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
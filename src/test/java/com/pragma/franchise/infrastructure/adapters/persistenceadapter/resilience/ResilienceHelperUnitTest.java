@@ -0,0 +1,144 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResilienceHelperUnitTest {
+
+    private static final Duration STREAM_MAX_DURATION = Duration.ofSeconds(60);
+
+    private ResilienceHelper resilienceHelper;
+    private Bulkhead bulkhead;
+    private Bulkhead streamBulkhead;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(2)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        bulkhead = bulkheadRegistry.bulkhead("databaseBH");
+        streamBulkhead = bulkheadRegistry.bulkhead("streamBH", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        resilienceHelper = new ResilienceHelper(CircuitBreakerRegistry.ofDefaults(), bulkheadRegistry,
+                STREAM_MAX_DURATION);
+    }
+
+    @Test
+    @DisplayName("Should not cut off a stream whose consumer pauses after the first row")
+    void applyStreamResilience_WhenConsumerPausesAfterFirstRow_ShouldComplete() {
+        // Arrange
+        Flux<Integer> rows = Flux.range(1, 3);
+
+        // Act & Assert
+        StepVerifier.withVirtualTime(() -> resilienceHelper.applyStreamResilience(rows), 0)
+                .thenRequest(1)
+                .expectNext(1)
+                .thenAwait(Duration.ofSeconds(10))
+                .thenRequest(2)
+                .expectNext(2, 3)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should hold the stream and database permits until the stream ends")
+    void applyStreamResilience_WhenStreamIsOpen_ShouldHoldPermits() {
+        // Arrange
+        Flux<Integer> rows = Flux.range(1, 3);
+
+        // Act & Assert
+        StepVerifier.create(resilienceHelper.applyStreamResilience(rows), 0)
+                .thenRequest(1)
+                .expectNext(1)
+                .then(() -> {
+                    assertEquals(1, bulkhead.getMetrics().getAvailableConcurrentCalls());
+                    assertEquals(0, streamBulkhead.getMetrics().getAvailableConcurrentCalls());
+                })
+                .thenCancel()
+                .verify();
+
+        assertEquals(2, bulkhead.getMetrics().getAvailableConcurrentCalls());
+        assertEquals(1, streamBulkhead.getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    @DisplayName("Should reject a stream when the stream bulkhead is full without taking a database permit")
+    void applyStreamResilience_WhenStreamBulkheadIsFull_ShouldReject() {
+        // Arrange
+        Disposable open = resilienceHelper.applyStreamResilience(Flux.<Integer>never()).subscribe();
+
+        // Act & Assert
+        StepVerifier.create(resilienceHelper.applyStreamResilience(Flux.just(1)))
+                .expectError(BulkheadFullException.class)
+                .verify();
+
+        assertEquals(1, bulkhead.getMetrics().getAvailableConcurrentCalls());
+        open.dispose();
+        assertEquals(2, bulkhead.getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    @DisplayName("Should limit a named stream with its own bulkhead and maximum duration")
+    void applyStreamResilience_WhenNamedBulkheadIsGiven_ShouldNotUseStreamBulkhead() {
+        // Arrange
+        Flux<Integer> rows = Flux.concat(Flux.just(1), Flux.never());
+        Disposable open = resilienceHelper.applyStreamResilience(Flux.<Integer>never()).subscribe();
+
+        // Act & Assert
+        StepVerifier.withVirtualTime(() -> resilienceHelper.applyStreamResilience(rows, "treeStreamBH",
+                        Duration.ofSeconds(5)))
+                .expectNext(1)
+                .thenAwait(Duration.ofSeconds(5))
+                .expectError(TimeoutException.class)
+                .verify();
+
+        open.dispose();
+        assertEquals(1, streamBulkhead.getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    @DisplayName("Should time out when the first row does not arrive in time")
+    void applyStreamResilience_WhenFirstRowIsLate_ShouldTimeOut() {
+        // Act & Assert
+        StepVerifier.withVirtualTime(() -> resilienceHelper.applyStreamResilience(Flux.<Integer>never()))
+                .thenAwait(Duration.ofSeconds(3))
+                .expectError(TimeoutException.class)
+                .verify();
+
+        assertEquals(2, bulkhead.getMetrics().getAvailableConcurrentCalls());
+        assertEquals(1, streamBulkhead.getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    @DisplayName("Should end a stream that outlives its maximum duration")
+    void applyStreamResilience_WhenStreamOutlivesMaxDuration_ShouldTimeOut() {
+        // Arrange
+        Flux<Integer> rows = Flux.concat(Flux.just(1), Flux.never());
+
+        // Act & Assert
+        StepVerifier.withVirtualTime(() -> resilienceHelper.applyStreamResilience(rows))
+                .expectNext(1)
+                .thenAwait(STREAM_MAX_DURATION)
+                .expectError(TimeoutException.class)
+                .verify();
+
+        assertEquals(2, bulkhead.getMetrics().getAvailableConcurrentCalls());
+        assertEquals(1, streamBulkhead.getMetrics().getAvailableConcurrentCalls());
+    }
+}
@@ -0,0 +1,96 @@
+package com.pragma.franchise.infrastructure.adapters.persistenceadapter.routing;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRoutingConnectionFactoryUnitTest {
+
+    @Mock
+    private ConnectionPool primary;
+
+    @Mock
+    private ConnectionPool replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private CircuitBreaker circuitBreaker;
+    private ReadReplicaRoutingConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.ofDefaults("replicaCB");
+        connectionFactory = new ReadReplicaRoutingConnectionFactory(primary, replica, circuitBreaker);
+    }
+
+    @Test
+    @DisplayName("Should use the replica for a read marked by the adapter in a request that allows it")
+    void create_WhenReadAllowed_ShouldUseReplica() {
+        // Arrange
+        doReturn(Mono.just(replicaConnection)).when(replica).create();
+
+        // Act
+        Mono<Connection> result = ReadRouting.onReplica(Mono.from(connectionFactory.create()))
+                .contextWrite(ReadRouting::allowReplica);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(replicaConnection)
+                .verifyComplete();
+
+        verify(primary, never()).create();
+    }
+
+    @Test
+    @DisplayName("Should use the primary when the request does not allow the replica")
+    void create_WhenRequestDoesNotAllowReplica_ShouldUsePrimary() {
+        // Arrange
+        doReturn(Mono.just(primaryConnection)).when(primary).create();
+
+        // Act
+        Mono<Connection> result = ReadRouting.onReplica(Mono.from(connectionFactory.create()));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(primaryConnection)
+                .verifyComplete();
+
+        verify(replica, never()).create();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary without trying the replica while its circuit breaker is open")
+    void create_WhenReplicaCircuitBreakerOpen_ShouldUsePrimary() {
+        // Arrange
+        circuitBreaker.transitionToOpenState();
+        doReturn(Mono.just(primaryConnection)).when(primary).create();
+
+        // Act
+        Mono<Connection> result = ReadRouting.onReplica(Mono.from(connectionFactory.create()))
+                .contextWrite(ReadRouting::allowReplica);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(primaryConnection)
+                .verifyComplete();
+
+        verify(replica, never()).create();
+    }
+}
@@ -1,6 +1,8 @@
 package com.pragma.franchise.infrastructure.entrypoints.branch.handler;
 
 import com.pragma.franchise.domain.api.branch.CreateBranchServicePort;
+import com.pragma.franchise.domain.api.branch.DeleteBranchServicePort;
+import com.pragma.franchise.domain.api.branch.GetBranchServicePort;
 import com.pragma.franchise.domain.api.branch.UpdateBranchServicePort;
 import com.pragma.franchise.domain.enums.TechnicalMessage;
 import com.pragma.franchise.domain.model.Branch;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Mono;
 
@@ -30,6 +33,10 @@ class BranchHandlerUnitTest {
     @Mock
     private UpdateBranchServicePort updateBranchServicePort;
     @Mock
+    private DeleteBranchServicePort deleteBranchServicePort;
+    @Mock
+    private GetBranchServicePort getBranchServicePort;
+    @Mock
     private BranchMapper mapper;
     @Mock
     private ValidatorHelper validator;
@@ -39,7 +46,7 @@ class BranchHandlerUnitTest {
     @BeforeEach
     void setUp() {
         BranchHandler handler = new BranchHandler(
-                createBranchServicePort, updateBranchServicePort,
+                createBranchServicePort, updateBranchServicePort, deleteBranchServicePort, getBranchServicePort,
                 mapper, validator);
         BranchRouter router = new BranchRouter();
         webTestClient = WebTestClient
@@ -79,6 +86,30 @@ class BranchHandlerUnitTest {
                 .jsonPath("$.data.franchiseId").isEqualTo(1);
     }
 
+    // ==================== getBranch ====================
+
+    @Test
+    @DisplayName("Should return 200 with the version as ETag when branch exists")
+    void getBranch_WhenBranchExists_ShouldReturn200WithETag() {
+        // Arrange
+        Branch branch = Branch.builder().id(1L).name("Branch").franchiseId(1L).version(2L).build();
+        BranchResponseDTO responseDTO = new BranchResponseDTO(1L, "Branch", 1L);
+
+        when(getBranchServicePort.getBranchById(1L))
+                .thenReturn(Mono.just(branch));
+        when(mapper.toResponseDto(branch)).thenReturn(responseDTO);
+
+        // Act & Assert
+        webTestClient.get()
+                .uri("/api/v1/branch/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"2\"")
+                .expectBody()
+                .jsonPath("$.statusCode").isEqualTo(TechnicalMessage.BRANCH_FOUND.getCode())
+                .jsonPath("$.data.name").isEqualTo("Branch");
+    }
+
     // ==================== updateNameBranch ====================
 
     @Test
@@ -86,19 +117,21 @@ class BranchHandlerUnitTest {
     void updateNameBranch_WhenValid_ShouldReturn200() {
         // Arrange
         ProductRequestDTO requestDTO = new ProductRequestDTO("Updated Branch", 0, 1L);
-        Branch updatedBranch = Branch.builder().id(1L).name("Updated Branch").franchiseId(1L).build();
+        Branch updatedBranch = Branch.builder().id(1L).name("Updated Branch").franchiseId(1L).version(2L).build();
         BranchResponseDTO responseDTO = new BranchResponseDTO(1L, "Updated Branch", 1L);
 
-        when(updateBranchServicePort.updateNameBranch(1L, "Updated Branch"))
+        when(updateBranchServicePort.updateNameBranch(1L, "Updated Branch", 1L))
                 .thenReturn(Mono.just(updatedBranch));
         when(mapper.toResponseDto(updatedBranch)).thenReturn(responseDTO);
 
         // Act & Assert
         webTestClient.patch()
                 .uri("/api/v1/branch/1")
+                .header(HttpHeaders.IF_MATCH, "\"1\"")
                 .bodyValue(requestDTO)
                 .exchange()
                 .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"2\"")
                 .expectBody()
                 .jsonPath("$.statusCode").isEqualTo(TechnicalMessage.BRANCH_UPDATED.getCode())
                 .jsonPath("$.message").isEqualTo(TechnicalMessage.BRANCH_UPDATED.getMessage())
@@ -107,4 +140,20 @@ class BranchHandlerUnitTest {
                 .jsonPath("$.data.name").isEqualTo("Updated Branch")
                 .jsonPath("$.data.franchiseId").isEqualTo(1);
     }
+
+    // ==================== deleteBranch ====================
+
+    @Test
+    @DisplayName("Should return 204 when branch is deleted successfully")
+    void deleteBranch_WhenBranchExists_ShouldReturn204() {
+        // Arrange
+        when(deleteBranchServicePort.deleteBranchById(1L))
+                .thenReturn(Mono.empty());
+
+        // Act & Assert
+        webTestClient.delete()
+                .uri("/api/v1/branch/1")
+                .exchange()
+                .expectStatus().isNoContent();
+    }
 }
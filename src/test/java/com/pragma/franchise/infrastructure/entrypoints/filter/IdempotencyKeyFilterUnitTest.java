@@ -0,0 +1,194 @@
+package com.pragma.franchise.infrastructure.entrypoints.filter;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.franchise.domain.exceptions.BadRequestException;
+import com.pragma.franchise.domain.exceptions.UnprocessableEntityException;
+import com.pragma.franchise.infrastructure.adapters.idempotency.InMemoryIdempotencyStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.pragma.franchise.infrastructure.constants.Constants.IDEMPOTENCY_KEY_BODY_MISMATCH;
+import static com.pragma.franchise.infrastructure.constants.Constants.IDEMPOTENCY_KEY_HEADER;
+import static com.pragma.franchise.infrastructure.constants.Constants.IDEMPOTENCY_KEY_REUSED;
+import static com.pragma.franchise.infrastructure.constants.Constants.IDEMPOTENT_REPLAYED_HEADER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class IdempotencyKeyFilterUnitTest {
+
+    private static final String BODY = "{\"id\":1}";
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    private IdempotencyKeyFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyKeyFilter(
+                new InMemoryIdempotencyStore(Caffeine.newBuilder().maximumSize(100).build()), 1024, CLIENT_HEADER);
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should replay the stored response without executing the request again")
+    void filter_WhenKeyAlreadyCompleted_ShouldReplayStoredResponse() {
+        // Arrange
+        MockServerWebExchange first = exchange("/api/v1/products", "key-1");
+        MockServerWebExchange retry = exchange("/api/v1/products", "key-1");
+
+        // Act
+        filter.filter(first, created(Duration.ZERO)).block();
+        Mono<Void> result = filter.filter(retry, created(Duration.ZERO));
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+
+        assertEquals(1, executions.get());
+        assertEquals(HttpStatus.CREATED, retry.getResponse().getStatusCode());
+        assertEquals("\"0\"", retry.getResponse().getHeaders().getETag());
+        assertEquals("true", retry.getResponse().getHeaders().getFirst(IDEMPOTENT_REPLAYED_HEADER));
+        assertEquals(BODY, retry.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    @DisplayName("Should make concurrent duplicates wait for the in-flight execution")
+    void filter_WhenDuplicatesAreConcurrent_ShouldExecuteOnce() {
+        // Arrange
+        MockServerWebExchange first = exchange("/api/v1/products", "key-1");
+        MockServerWebExchange duplicate = exchange("/api/v1/products", "key-1");
+        WebFilterChain slowChain = created(Duration.ofMillis(100));
+
+        // Act
+        Mono<Void> result = Mono.when(filter.filter(first, slowChain), filter.filter(duplicate, slowChain));
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+
+        assertEquals(1, executions.get());
+        assertNull(first.getResponse().getHeaders().getFirst(IDEMPOTENT_REPLAYED_HEADER));
+        assertEquals("true", duplicate.getResponse().getHeaders().getFirst(IDEMPOTENT_REPLAYED_HEADER));
+        assertEquals(BODY, duplicate.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    @DisplayName("Should execute the request again when the first attempt failed")
+    void filter_WhenFirstAttemptFailed_ShouldNotStoreResponse() {
+        // Arrange
+        WebFilterChain failingChain = exchange -> {
+            executions.incrementAndGet();
+            return Mono.error(new IllegalStateException("Database error"));
+        };
+
+        // Act
+        StepVerifier.create(filter.filter(exchange("/api/v1/products", "key-1"), failingChain))
+                .verifyError(IllegalStateException.class);
+        Mono<Void> result = filter.filter(exchange("/api/v1/products", "key-1"), created(Duration.ZERO));
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different request")
+    void filter_WhenKeyReusedOnAnotherPath_ShouldReturnBadRequest() {
+        // Arrange
+        filter.filter(exchange("/api/v1/products", "key-1"), created(Duration.ZERO)).block();
+
+        // Act
+        Mono<Void> result = filter.filter(exchange("/api/v1/branch", "key-1"), created(Duration.ZERO));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable -> throwable instanceof BadRequestException
+                        && throwable.getMessage().equals(IDEMPOTENCY_KEY_REUSED))
+                .verify();
+
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different request body")
+    void filter_WhenKeyReusedWithAnotherBody_ShouldReturnUnprocessableEntity() {
+        // Arrange
+        filter.filter(exchange("/api/v1/products", "key-1"), created(Duration.ZERO)).block();
+
+        // Act
+        Mono<Void> result = filter.filter(exchange("/api/v1/products", "key-1", "client-1", "{\"stock\":5}"),
+                created(Duration.ZERO));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable -> throwable instanceof UnprocessableEntityException
+                        && throwable.getMessage().equals(IDEMPOTENCY_KEY_BODY_MISMATCH))
+                .verify();
+
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should keep the same key of different clients apart")
+    void filter_WhenAnotherClientUsesSameKey_ShouldExecuteAgain() {
+        // Arrange
+        filter.filter(exchange("/api/v1/products", "key-1"), created(Duration.ZERO)).block();
+        MockServerWebExchange other = exchange("/api/v1/products", "key-1", "client-2", "{}");
+
+        // Act
+        Mono<Void> result = filter.filter(other, created(Duration.ZERO));
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+
+        assertEquals(2, executions.get());
+        assertNull(other.getResponse().getHeaders().getFirst(IDEMPOTENT_REPLAYED_HEADER));
+    }
+
+    private MockServerWebExchange exchange(String path, String key) {
+        return exchange(path, key, "client-1", "{}");
+    }
+
+    private MockServerWebExchange exchange(String path, String key, String clientId, String body) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post(path)
+                .header(IDEMPOTENCY_KEY_HEADER, key)
+                .header(CLIENT_HEADER, clientId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body));
+    }
+
+    private WebFilterChain created(Duration delay) {
+        return exchange -> Mono.delay(delay)
+                .then(DataBufferUtils.join(exchange.getRequest().getBody()))
+                .doOnNext(DataBufferUtils::release)
+                .then(Mono.defer(() -> {
+                    executions.incrementAndGet();
+                    return write(exchange);
+                }));
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.CREATED);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        exchange.getResponse().getHeaders().setETag("\"0\"");
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory()
+                .wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -0,0 +1,102 @@
+package com.pragma.franchise.infrastructure.entrypoints.filter;
+
+import com.pragma.franchise.infrastructure.adapters.persistenceadapter.routing.ReadRouting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.pragma.franchise.infrastructure.constants.Constants.PRIMARY_UNTIL_COOKIE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadRoutingFilterUnitTest {
+
+    private static final long NOW = 1_000_000L;
+
+    private ReadRoutingFilter filter;
+    private AtomicBoolean replicaAllowed;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ReadRoutingFilter(Duration.ofSeconds(5), Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+        replicaAllowed = new AtomicBoolean();
+    }
+
+    @Test
+    @DisplayName("Should allow the replica for a read from a client without a recent write")
+    void filter_WhenReadWithoutCookie_ShouldAllowReplica() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/products/1"));
+
+        // Act
+        Mono<Void> result = filter.filter(exchange, recordRouting(HttpStatus.OK));
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+
+        assertTrue(replicaAllowed.get());
+    }
+
+    @Test
+    @DisplayName("Should keep reads on the primary during the window after the client's write")
+    void filter_WhenReadWithinStickyWindow_ShouldUsePrimary() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/products/1")
+                .cookie(new HttpCookie(PRIMARY_UNTIL_COOKIE, String.valueOf(NOW + 1000))));
+
+        // Act
+        Mono<Void> result = filter.filter(exchange, recordRouting(HttpStatus.OK));
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+
+        assertFalse(replicaAllowed.get());
+    }
+
+    @Test
+    @DisplayName("Should set the sticky cookie only when a write succeeds")
+    void filter_WhenWriteSucceeds_ShouldSetStickyCookie() {
+        // Arrange
+        MockServerWebExchange created = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/products"));
+        MockServerWebExchange rejected = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/products"));
+
+        // Act
+        filter.filter(created, recordRouting(HttpStatus.CREATED)).block();
+        filter.filter(rejected, recordRouting(HttpStatus.CONFLICT)).block();
+
+        // Assert
+        ResponseCookie cookie = created.getResponse().getCookies().getFirst(PRIMARY_UNTIL_COOKIE);
+        assertEquals(String.valueOf(NOW + 5000), cookie.getValue());
+        assertEquals(Duration.ofSeconds(5), cookie.getMaxAge());
+        assertFalse(replicaAllowed.get());
+        assertNull(rejected.getResponse().getCookies().getFirst(PRIMARY_UNTIL_COOKIE));
+    }
+
+    private WebFilterChain recordRouting(HttpStatus status) {
+        // Simula una lectura marcada por un adaptador y anota si iría a la réplica
+        return exchange -> ReadRouting.onReplica(Mono.deferContextual(context -> Mono.just(ReadRouting.useReplica(context))))
+                .doOnNext(replicaAllowed::set)
+                .then(Mono.defer(() -> {
+                    exchange.getResponse().setStatusCode(status);
+                    return exchange.getResponse().setComplete();
+                }));
+    }
+}
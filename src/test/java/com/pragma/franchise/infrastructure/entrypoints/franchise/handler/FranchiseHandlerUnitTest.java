@@ -1,12 +1,22 @@
 package com.pragma.franchise.infrastructure.entrypoints.franchise.handler;
 
 import com.pragma.franchise.domain.api.franchise.CreateFranchiseServicePort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.franchise.domain.api.franchise.DeleteFranchiseServicePort;
+import com.pragma.franchise.domain.api.franchise.FranchiseTreeServicePort;
+import com.pragma.franchise.domain.api.franchise.GetFranchiseServicePort;
+import com.pragma.franchise.domain.api.franchise.InventoryStatsServicePort;
 import com.pragma.franchise.domain.api.franchise.UpdateFranchiseServicePort;
 import com.pragma.franchise.domain.enums.TechnicalMessage;
 import com.pragma.franchise.domain.model.Franchise;
+import com.pragma.franchise.domain.model.FranchiseInventoryStats;
+import com.pragma.franchise.domain.model.FranchiseTreeRow;
+import com.pragma.franchise.domain.model.InventoryStats;
 import com.pragma.franchise.infrastructure.entrypoints.franchise.FranchiseRouter;
+import com.pragma.franchise.infrastructure.entrypoints.franchise.dto.FranchiseInventoryStatsResponseDTO;
 import com.pragma.franchise.infrastructure.entrypoints.franchise.dto.FranchiseRequestDTO;
 import com.pragma.franchise.infrastructure.entrypoints.franchise.dto.FranchiseResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.franchise.dto.InventoryStatsResponseDTO;
 import com.pragma.franchise.infrastructure.entrypoints.franchise.mapper.FranchiseMapper;
 import com.pragma.franchise.infrastructure.utils.ValidatorHelper;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,10 +25,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +47,14 @@ class FranchiseHandlerUnitTest {
     @Mock
     private UpdateFranchiseServicePort updateFranchiseServicePort;
     @Mock
+    private DeleteFranchiseServicePort deleteFranchiseServicePort;
+    @Mock
+    private GetFranchiseServicePort getFranchiseServicePort;
+    @Mock
+    private InventoryStatsServicePort inventoryStatsServicePort;
+    @Mock
+    private FranchiseTreeServicePort franchiseTreeServicePort;
+    @Mock
     private FranchiseMapper mapper;
     @Mock
     private ValidatorHelper validator;
@@ -38,8 +64,9 @@ class FranchiseHandlerUnitTest {
     @BeforeEach
     void setUp() {
         FranchiseHandler handler = new FranchiseHandler(
-                createFranchiseServicePort, updateFranchiseServicePort,
-                mapper, validator);
+                createFranchiseServicePort, updateFranchiseServicePort, deleteFranchiseServicePort,
+                getFranchiseServicePort, inventoryStatsServicePort, franchiseTreeServicePort, mapper, validator,
+                new FranchiseTreeWriter(new ObjectMapper()));
         FranchiseRouter router = new FranchiseRouter();
         webTestClient = WebTestClient
                 .bindToRouterFunction(router.franchiseRouterFunction(handler))
@@ -84,12 +111,12 @@ class FranchiseHandlerUnitTest {
     void updateNameFranchise_WhenValid_ShouldReturn200() {
         // Arrange
         FranchiseRequestDTO requestDTO = new FranchiseRequestDTO("Updated Franchise");
-        Franchise updatedFranchise = Franchise.builder().id(1L).name("Updated Franchise").build();
+        Franchise updatedFranchise = Franchise.builder().id(1L).name("Updated Franchise").version(1L).build();
         FranchiseResponseDTO responseDTO = new FranchiseResponseDTO(1L, "Updated Franchise");
 
         when(validator.validate(any(FranchiseRequestDTO.class)))
                 .thenReturn(Mono.just(requestDTO));
-        when(updateFranchiseServicePort.updateNameFranchise(1L, "Updated Franchise"))
+        when(updateFranchiseServicePort.updateNameFranchise(1L, "Updated Franchise", null))
                 .thenReturn(Mono.just(updatedFranchise));
         when(mapper.toResponseDto(updatedFranchise)).thenReturn(responseDTO);
 
@@ -99,6 +126,7 @@ class FranchiseHandlerUnitTest {
                 .bodyValue(requestDTO)
                 .exchange()
                 .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
                 .expectBody()
                 .jsonPath("$.statusCode").isEqualTo(TechnicalMessage.FRANCHISE_UPDATED.getCode())
                 .jsonPath("$.message").isEqualTo(TechnicalMessage.FRANCHISE_UPDATED.getMessage())
@@ -106,4 +134,108 @@ class FranchiseHandlerUnitTest {
                 .jsonPath("$.data.id").isEqualTo(1)
                 .jsonPath("$.data.name").isEqualTo("Updated Franchise");
     }
+
+    // ==================== getFranchise ====================
+
+    @Test
+    @DisplayName("Should return 304 without reading the franchise when If-None-Match has the current version")
+    void getFranchise_WhenVersionMatches_ShouldReturn304() {
+        // Arrange
+        when(getFranchiseServicePort.getFranchiseVersion(1L))
+                .thenReturn(Mono.just(5L));
+
+        // Act & Assert
+        webTestClient.get()
+                .uri("/api/v1/franchise/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"5\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"5\"");
+
+        verify(getFranchiseServicePort, never()).getFranchiseById(anyLong());
+    }
+
+    // ==================== deleteFranchise ====================
+
+    @Test
+    @DisplayName("Should return 204 when franchise is deleted successfully")
+    void deleteFranchise_WhenFranchiseExists_ShouldReturn204() {
+        // Arrange
+        when(deleteFranchiseServicePort.deleteFranchiseById(1L))
+                .thenReturn(Mono.empty());
+
+        // Act & Assert
+        webTestClient.delete()
+                .uri("/api/v1/franchise/1")
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+
+    // ==================== getInventoryStats ====================
+
+    @Test
+    @DisplayName("Should return 200 with franchise inventory stats")
+    void getInventoryStats_WhenFranchiseExists_ShouldReturn200() {
+        // Arrange
+        InventoryStats totals = InventoryStats.builder().franchiseId(1L).totalStock(150).skuCount(3).build();
+        FranchiseInventoryStats stats = FranchiseInventoryStats.builder()
+                .franchiseId(1L).totals(totals).branches(List.of())
+                .build();
+        FranchiseInventoryStatsResponseDTO responseDTO = new FranchiseInventoryStatsResponseDTO(1L,
+                new InventoryStatsResponseDTO(null, 150L, 3L, 0L, Map.of("0", 0L)), List.of());
+
+        when(inventoryStatsServicePort.getInventoryStats(1L)).thenReturn(Mono.just(stats));
+        when(mapper.toResponseDto(stats)).thenReturn(responseDTO);
+
+        // Act & Assert
+        webTestClient.get()
+                .uri("/api/v1/franchises/1/inventory-stats")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.statusCode").isEqualTo(TechnicalMessage.FRANCHISE_INVENTORY_STATS.getCode())
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data.franchiseId").isEqualTo(1)
+                .jsonPath("$.data.totals.totalStock").isEqualTo(150)
+                .jsonPath("$.data.totals.skuCount").isEqualTo(3);
+    }
+
+    // ==================== getFranchiseTree ====================
+
+    @Test
+    @DisplayName("Should nest the streamed rows into branches and products")
+    void getFranchiseTree_WhenFranchiseHasBranches_ShouldReturnNestedTree() {
+        // Arrange
+        FranchiseTreeRow first = treeRow(1L, "Branch A", 10L, "Product \"A\"", 5);
+        FranchiseTreeRow second = treeRow(1L, "Branch A", 11L, "Product B", 0);
+        FranchiseTreeRow empty = treeRow(2L, "Branch B", null, null, null);
+
+        when(franchiseTreeServicePort.getFranchiseTree(1L))
+                .thenReturn(Flux.just(first, second, empty));
+
+        // Act & Assert
+        webTestClient.get()
+                .uri("/api/v1/franchises/1/tree")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.statusCode").isEqualTo(TechnicalMessage.FRANCHISE_TREE.getCode())
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data.id").isEqualTo(1)
+                .jsonPath("$.data.name").isEqualTo("Franchise")
+                .jsonPath("$.data.branches.length()").isEqualTo(2)
+                .jsonPath("$.data.branches[0].products.length()").isEqualTo(2)
+                .jsonPath("$.data.branches[0].products[0].name").isEqualTo("Product \"A\"")
+                .jsonPath("$.data.branches[0].products[1].stock").isEqualTo(0)
+                .jsonPath("$.data.branches[1].name").isEqualTo("Branch B")
+                .jsonPath("$.data.branches[1].products.length()").isEqualTo(0);
+    }
+
+    private FranchiseTreeRow treeRow(Long branchId, String branchName, Long productId, String productName,
+                                     Integer stock) {
+        return FranchiseTreeRow.builder().franchiseId(1L).franchiseName("Franchise")
+                .branchId(branchId).branchName(branchName)
+                .productId(productId).productName(productName).stock(stock)
+                .build();
+    }
 }
@@ -1,31 +1,56 @@
 package com.pragma.franchise.infrastructure.entrypoints.product.handler;
 
+import com.pragma.franchise.domain.api.product.BulkUpdateStockServicePort;
 import com.pragma.franchise.domain.api.product.CreateProductServicePort;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pragma.franchise.domain.api.product.DeleteProductServicePort;
+import com.pragma.franchise.domain.api.product.GetProductServicePort;
+import com.pragma.franchise.domain.api.product.ImportProductsServicePort;
 import com.pragma.franchise.domain.api.product.TopProductServicePort;
 import com.pragma.franchise.domain.api.product.UpdateProductServicePort;
 import com.pragma.franchise.domain.enums.TechnicalMessage;
+import com.pragma.franchise.domain.model.BulkStockUpdateResult;
 import com.pragma.franchise.domain.model.Product;
+import com.pragma.franchise.domain.model.ProductImportResult;
+import com.pragma.franchise.domain.model.StockLevel;
+import com.pragma.franchise.domain.model.TopStockChange;
 import com.pragma.franchise.domain.model.TopStockProduct;
 import com.pragma.franchise.infrastructure.entrypoints.product.ProductRouter;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.BulkStockUpdateResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductImportResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductImportRowDTO;
 import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductRequestDTO;
 import com.pragma.franchise.infrastructure.entrypoints.product.dto.ProductResponseDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.StockAdjustmentRequestDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.StockLevelRequestDTO;
+import com.pragma.franchise.infrastructure.entrypoints.product.dto.TopStockChangeResponseDTO;
 import com.pragma.franchise.infrastructure.entrypoints.product.dto.TopStockProductResponseDTO;
 import com.pragma.franchise.infrastructure.entrypoints.product.mapper.ProductMapper;
 import com.pragma.franchise.infrastructure.utils.ValidatorHelper;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,8 +61,14 @@ class ProductHandlerUnitTest {
     @Mock
     private DeleteProductServicePort deleteProductServicePort;
     @Mock
+    private GetProductServicePort getProductServicePort;
+    @Mock
     private UpdateProductServicePort updateProductServicePort;
     @Mock
+    private BulkUpdateStockServicePort bulkUpdateStockServicePort;
+    @Mock
+    private ImportProductsServicePort importProductsServicePort;
+    @Mock
     private TopProductServicePort topProductServicePort;
     @Mock
     private ProductMapper mapper;
@@ -49,9 +80,11 @@ class ProductHandlerUnitTest {
     @BeforeEach
     void setUp() {
         ProductHandler handler = new ProductHandler(
-                createProductServicePort, deleteProductServicePort,
-                updateProductServicePort, topProductServicePort,
-                mapper, validator);
+                createProductServicePort, deleteProductServicePort, getProductServicePort,
+                updateProductServicePort, bulkUpdateStockServicePort, importProductsServicePort,
+                topProductServicePort, mapper, validator,
+                new ProductImportReader(new ObjectMapper(),
+                        new ValidatorHelper(Validation.buildDefaultValidatorFactory().getValidator())));
         ProductRouter router = new ProductRouter();
         webTestClient = WebTestClient
                 .bindToRouterFunction(router.productsRouter(handler))
@@ -89,6 +122,74 @@ class ProductHandlerUnitTest {
                 .jsonPath("$.data.name").isEqualTo("Product A");
     }
 
+    // ==================== getProduct ====================
+
+    @Test
+    @DisplayName("Should return 200 with the version as ETag when product exists")
+    void getProduct_WhenProductExists_ShouldReturn200WithETag() {
+        // Arrange
+        Product product = Product.builder().id(1L).name("Product A").stock(100).branchId(1L).version(3L).build();
+        ProductResponseDTO responseDTO = new ProductResponseDTO(1L, "Product A", 100, 1L);
+
+        when(getProductServicePort.getProductById(1L))
+                .thenReturn(Mono.just(product));
+        when(mapper.toResponseDto(product)).thenReturn(responseDTO);
+
+        // Act & Assert
+        webTestClient.get()
+                .uri("/api/v1/products/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"")
+                .expectBody()
+                .jsonPath("$.statusCode").isEqualTo(TechnicalMessage.PRODUCT_FOUND.getCode())
+                .jsonPath("$.data.id").isEqualTo(1)
+                .jsonPath("$.data.stock").isEqualTo(100);
+
+        verify(getProductServicePort, never()).getProductVersion(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should return 304 without reading the product when If-None-Match has the current version")
+    void getProduct_WhenVersionMatches_ShouldReturn304() {
+        // Arrange
+        when(getProductServicePort.getProductVersion(1L))
+                .thenReturn(Mono.just(3L));
+
+        // Act & Assert
+        webTestClient.get()
+                .uri("/api/v1/products/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"2\", W/\"3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"")
+                .expectBody().isEmpty();
+
+        verify(getProductServicePort, never()).getProductById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should return the product when If-None-Match has an older version")
+    void getProduct_WhenVersionChanged_ShouldReturn200() {
+        // Arrange
+        Product product = Product.builder().id(1L).name("Product A").stock(100).branchId(1L).version(4L).build();
+        ProductResponseDTO responseDTO = new ProductResponseDTO(1L, "Product A", 100, 1L);
+
+        when(getProductServicePort.getProductVersion(1L))
+                .thenReturn(Mono.just(4L));
+        when(getProductServicePort.getProductById(1L))
+                .thenReturn(Mono.just(product));
+        when(mapper.toResponseDto(product)).thenReturn(responseDTO);
+
+        // Act & Assert
+        webTestClient.get()
+                .uri("/api/v1/products/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"4\"");
+    }
+
     // ==================== deleteProduct ====================
 
     @Test
@@ -108,23 +209,25 @@ class ProductHandlerUnitTest {
     // ==================== updateStockProduct ====================
 
     @Test
-    @DisplayName("Should return 200 when stock is updated successfully")
+    @DisplayName("Should return 200 with the new ETag when stock is updated with If-Match")
     void updateStockProduct_WhenValid_ShouldReturn200() {
         // Arrange
         ProductRequestDTO requestDTO = new ProductRequestDTO("Product A", 200, 1L);
-        Product updatedProduct = Product.builder().id(1L).name("Product A").stock(200).branchId(1L).build();
+        Product updatedProduct = Product.builder().id(1L).name("Product A").stock(200).branchId(1L).version(4L).build();
         ProductResponseDTO responseDTO = new ProductResponseDTO(1L, "Product A", 200, 1L);
 
-        when(updateProductServicePort.updateStockProduct(1L, 200))
+        when(updateProductServicePort.updateStockProduct(1L, 200, 3L))
                 .thenReturn(Mono.just(updatedProduct));
         when(mapper.toResponseDto(updatedProduct)).thenReturn(responseDTO);
 
         // Act & Assert
         webTestClient.patch()
                 .uri("/api/v1/products/1/stock")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
                 .bodyValue(requestDTO)
                 .exchange()
                 .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"4\"")
                 .expectBody()
                 .jsonPath("$.statusCode").isEqualTo(TechnicalMessage.PRODUCT_UPDATED.getCode())
                 .jsonPath("$.message").isEqualTo(TechnicalMessage.PRODUCT_UPDATED.getMessage())
@@ -132,6 +235,147 @@ class ProductHandlerUnitTest {
                 .jsonPath("$.data.stock").isEqualTo(200);
     }
 
+    // ==================== updateStockProducts ====================
+
+    @Test
+    @DisplayName("Should return 200 with bulk summary when stock list is applied")
+    void updateStockProducts_WhenValid_ShouldReturn200WithSummary() {
+        // Arrange
+        BulkStockUpdateResult result = new BulkStockUpdateResult(1, List.of(99L), 0);
+        when(mapper.toModel(any(StockLevelRequestDTO.class)))
+                .thenAnswer(invocation -> {
+                    StockLevelRequestDTO item = invocation.getArgument(0);
+                    return new StockLevel(item.productId(), item.stock());
+                });
+        when(bulkUpdateStockServicePort.updateStockProducts(any()))
+                .thenAnswer(invocation -> {
+                    Flux<StockLevel> levels = invocation.getArgument(0);
+                    return levels.count().thenReturn(result);
+                });
+        when(mapper.toResponseDto(result))
+                .thenReturn(new BulkStockUpdateResponseDTO(1, List.of(99L), 0, 0));
+
+        // Act & Assert
+        webTestClient.patch()
+                .uri("/api/v1/products/stock")
+                .bodyValue(List.of(new StockLevelRequestDTO(1L, 10), new StockLevelRequestDTO(99L, 5)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.statusCode").isEqualTo(TechnicalMessage.PRODUCTS_STOCK_UPDATED.getCode())
+                .jsonPath("$.data.updatedCount").isEqualTo(1)
+                .jsonPath("$.data.notFoundIds[0]").isEqualTo(99);
+
+        verify(mapper, times(2)).toModel(any(StockLevelRequestDTO.class));
+    }
+
+    // ==================== importProducts ====================
+
+    @Test
+    @DisplayName("Should return 200 with import summary counting invalid CSV rows")
+    void importProducts_WhenCsvHasInvalidRows_ShouldReturn200WithSummary() {
+        // Arrange
+        mockImport();
+        String csv = """
+                name,stock
+                Product A,10
+                "Product, B",0
+                Product C,-1
+                Product D,abc
+
+                Product E
+                """;
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/branches/1/products/import")
+                .contentType(ProductImportReader.TEXT_CSV)
+                .bodyValue(csv)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.statusCode").isEqualTo(TechnicalMessage.PRODUCTS_IMPORTED.getCode())
+                .jsonPath("$.data.insertedCount").isEqualTo(2)
+                .jsonPath("$.data.duplicateCount").isEqualTo(0)
+                .jsonPath("$.data.invalidCount").isEqualTo(3);
+
+        verify(mapper).toModel(new ProductImportRowDTO("Product A", 10));
+        verify(mapper).toModel(new ProductImportRowDTO("Product, B", 0));
+    }
+
+    @Test
+    @DisplayName("Should read NDJSON rows and count malformed lines as invalid")
+    void importProducts_WhenNdjson_ShouldReturn200WithSummary() {
+        // Arrange
+        mockImport();
+        String ndjson = """
+                {"name":"Product A","stock":10}
+                {"name":"Product B"
+                {"name":"","stock":3}
+                {"name":"Product C","stock":7}
+                """;
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/branches/1/products/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(ndjson)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.insertedCount").isEqualTo(2)
+                .jsonPath("$.data.invalidCount").isEqualTo(2);
+
+        verify(importProductsServicePort, times(1)).importProducts(eq(1L), any());
+    }
+
+    private void mockImport() {
+        when(mapper.toModel(any(ProductImportRowDTO.class)))
+                .thenAnswer(invocation -> {
+                    ProductImportRowDTO row = invocation.getArgument(0);
+                    return Product.builder().name(row.name()).stock(row.stock()).build();
+                });
+        when(importProductsServicePort.importProducts(eq(1L), any()))
+                .thenAnswer(invocation -> {
+                    Flux<Product> products = invocation.getArgument(1);
+                    return products.count().map(count -> new ProductImportResult(count, 0, 0));
+                });
+        when(mapper.toResponseDto(any(ProductImportResult.class)))
+                .thenAnswer(invocation -> {
+                    ProductImportResult result = invocation.getArgument(0);
+                    return new ProductImportResponseDTO(result.getInsertedCount(), result.getDuplicateCount(),
+                            result.getInvalidCount());
+                });
+    }
+
+    // ==================== adjustStockProduct ====================
+
+    @Test
+    @DisplayName("Should return 200 when stock is adjusted successfully")
+    void adjustStockProduct_WhenValid_ShouldReturn200() {
+        // Arrange
+        StockAdjustmentRequestDTO requestDTO = new StockAdjustmentRequestDTO(-3);
+        Product adjustedProduct = Product.builder().id(1L).name("Product A").stock(97).branchId(1L).build();
+        ProductResponseDTO responseDTO = new ProductResponseDTO(1L, "Product A", 97, 1L);
+
+        when(validator.validate(any(StockAdjustmentRequestDTO.class)))
+                .thenReturn(Mono.just(requestDTO));
+        when(updateProductServicePort.adjustStockProduct(1L, -3))
+                .thenReturn(Mono.just(adjustedProduct));
+        when(mapper.toResponseDto(adjustedProduct)).thenReturn(responseDTO);
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/products/1/stock/adjustments")
+                .bodyValue(requestDTO)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.statusCode").isEqualTo(TechnicalMessage.PRODUCT_STOCK_ADJUSTED.getCode())
+                .jsonPath("$.message").isEqualTo(TechnicalMessage.PRODUCT_STOCK_ADJUSTED.getMessage())
+                .jsonPath("$.data.stock").isEqualTo(97);
+    }
+
     // ==================== updateNameProduct ====================
 
     @Test
@@ -142,7 +386,7 @@ class ProductHandlerUnitTest {
         Product updatedProduct = Product.builder().id(1L).name("New Name").stock(100).branchId(1L).build();
         ProductResponseDTO responseDTO = new ProductResponseDTO(1L, "New Name", 100, 1L);
 
-        when(updateProductServicePort.updateNameProduct(1L, "New Name"))
+        when(updateProductServicePort.updateNameProduct(1L, "New Name", null))
                 .thenReturn(Mono.just(updatedProduct));
         when(mapper.toResponseDto(updatedProduct)).thenReturn(responseDTO);
 
@@ -211,4 +455,126 @@ class ProductHandlerUnitTest {
                 .jsonPath("$.data").isArray()
                 .jsonPath("$.data.length()").isEqualTo(0);
     }
+
+    @Test
+    @DisplayName("Should stream top stock products as NDJSON when requested")
+    void getTopStockProducts_WhenAcceptIsNdjson_ShouldStreamRows() {
+        // Arrange
+        TopStockProduct topProduct = TopStockProduct.builder()
+                .branchId(1L).branchName("Branch A")
+                .productId(1L).productName("Product A").stock(500)
+                .build();
+        TopStockProductResponseDTO responseDTO = new TopStockProductResponseDTO(
+                1L, "Branch A", 1L, "Product A", 500);
+
+        when(topProductServicePort.streamTopStockProducts(1L))
+                .thenReturn(Flux.just(topProduct));
+        when(mapper.toResponseDto(topProduct)).thenReturn(responseDTO);
+
+        // Act & Assert
+        webTestClient.get()
+                .uri("/api/v1/products/1/top-stock")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(TopStockProductResponseDTO.class)
+                .contains(responseDTO)
+                .hasSize(1);
+
+        verify(topProductServicePort, never()).getTopStockProducts(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should stream top stock products as server-sent events when requested")
+    void getTopStockProducts_WhenAcceptIsEventStream_ShouldStreamEvents() {
+        // Arrange
+        TopStockProduct topProduct = TopStockProduct.builder()
+                .branchId(1L).branchName("Branch A")
+                .productId(1L).productName("Product A").stock(500)
+                .build();
+        TopStockProductResponseDTO responseDTO = new TopStockProductResponseDTO(
+                1L, "Branch A", 1L, "Product A", 500);
+
+        when(topProductServicePort.streamTopStockProducts(1L))
+                .thenReturn(Flux.just(topProduct));
+        when(mapper.toResponseDto(topProduct)).thenReturn(responseDTO);
+
+        // Act & Assert
+        webTestClient.get()
+                .uri("/api/v1/products/1/top-stock")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .returnResult(TopStockProductResponseDTO.class)
+                .getResponseBody()
+                .as(StepVerifier::create)
+                .expectNext(responseDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return ranked top stock products when perBranch and limit are provided")
+    @SuppressWarnings("unchecked")
+    void getTopStockProducts_WhenRankingParamsProvided_ShouldReturn200() {
+        // Arrange
+        TopStockProduct topProduct = TopStockProduct.builder()
+                .branchId(1L).branchName("Branch A")
+                .productId(1L).productName("Product A").stock(500)
+                .build();
+        TopStockProductResponseDTO responseDTO = new TopStockProductResponseDTO(
+                1L, "Branch A", 1L, "Product A", 500);
+
+        when(topProductServicePort.getTopStockProducts(1L, 5, 100))
+                .thenReturn(Flux.just(topProduct));
+        when(mapper.toResponseDto(any(List.class)))
+                .thenReturn(List.of(responseDTO));
+
+        // Act & Assert
+        webTestClient.get()
+                .uri("/api/v1/products/1/top-stock?perBranch=5&limit=100")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data[0].productName").isEqualTo("Product A");
+
+        verify(topProductServicePort, never()).getTopStockProducts(anyLong());
+    }
+
+    // ==================== streamTopStockChanges ====================
+
+    @Test
+    @DisplayName("Should stream top stock changes as server-sent events")
+    void streamTopStockChanges_WhenBranchChanges_ShouldEmitEvent() {
+        // Arrange
+        TopStockChange change = TopStockChange.builder()
+                .franchiseId(1L).branchId(1L)
+                .products(List.of(TopStockProduct.builder()
+                        .branchId(1L).branchName("Branch A")
+                        .productId(1L).productName("Product A").stock(500)
+                        .build()))
+                .build();
+        TopStockChangeResponseDTO responseDTO = new TopStockChangeResponseDTO(1L, 1L,
+                List.of(new TopStockProductResponseDTO(1L, "Branch A", 1L, "Product A", 500)));
+
+        when(topProductServicePort.streamTopStockChanges(1L)).thenReturn(Flux.just(change));
+        when(mapper.toResponseDto(change)).thenReturn(responseDTO);
+
+        // Act & Assert
+        webTestClient.get()
+                .uri("/api/v1/franchises/1/top-stock/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<TopStockChangeResponseDTO>>() {
+                })
+                .getResponseBody()
+                .as(StepVerifier::create)
+                .expectNextMatches(event -> "top-stock".equals(event.event()) && responseDTO.equals(event.data()))
+                .thenCancel()
+                .verify();
+    }
 }
@@ -0,0 +1,386 @@
+package com.pragma.franchise.loadtest;
+
+import com.pragma.franchise.domain.api.product.RebuildReadModelsServicePort;
+import io.netty.channel.ChannelOption;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba de carga de extremo a extremo: levanta la aplicación contra un PostgreSQL local, siembra
+ * N franquicias × M sucursales × K productos y lanza una mezcla de altas, PATCH de stock y consultas del top
+ * de stock a ritmo constante (modelo abierto: las peticiones salen a su hora aunque las anteriores no hayan
+ * terminado). La latencia se mide desde la hora programada, así que incluye la espera en cola.
+ * Se ejecuta con {@code ./gradlew loadTest}; se configura con las variables LOAD_TEST_*.
+ */
+@Tag("load-test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class FranchiseLoadTest {
+
+    private static final String SCHEMA = "load_test";
+
+    private static final String DB_URL = env("LOAD_TEST_DB_URL", "jdbc:postgresql://localhost:5432/franchise_db");
+    private static final String DB_USERNAME = env("LOAD_TEST_DB_USERNAME", "postgres");
+    private static final String DB_PASSWORD = env("LOAD_TEST_DB_PASSWORD", "123456");
+
+    private static final int FRANCHISES = intEnv("LOAD_TEST_FRANCHISES", 100);
+    private static final int BRANCHES_PER_FRANCHISE = intEnv("LOAD_TEST_BRANCHES", 10);
+    private static final int PRODUCTS_PER_BRANCH = intEnv("LOAD_TEST_PRODUCTS", 50);
+
+    private static final int RATE = intEnv("LOAD_TEST_RATE", 200);
+    private static final int WARMUP_SECONDS = intEnv("LOAD_TEST_WARMUP", 10);
+    private static final int DURATION_SECONDS = intEnv("LOAD_TEST_DURATION", 60);
+    private static final int MAX_CONNECTIONS = intEnv("LOAD_TEST_CONNECTIONS", 1000);
+    private static final String MIX = env("LOAD_TEST_MIX", "create:10,patch:60,top-stock:30");
+
+    private static final Duration TICK = Duration.ofMillis(1);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int CLIENT_ERROR = -1;
+    private static final Path REPORT = Path.of("build", "reports", "load-test", "summary.txt");
+
+    private static Connection connection;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RebuildReadModelsServicePort rebuildReadModelsServicePort;
+
+    @Autowired
+    private Environment environment;
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        String separator = DB_URL.contains("?") ? "&" : "?";
+        registry.add("spring.r2dbc.url", () -> DB_URL.replaceFirst("^jdbc:", "r2dbc:") + separator + "schema=" + SCHEMA);
+        registry.add("spring.r2dbc.username", () -> DB_USERNAME);
+        registry.add("spring.r2dbc.password", () -> DB_PASSWORD);
+        registry.add("spring.flyway.url", () -> DB_URL);
+        registry.add("spring.flyway.user", () -> DB_USERNAME);
+        registry.add("spring.flyway.password", () -> DB_PASSWORD);
+        registry.add("spring.flyway.schemas", () -> SCHEMA);
+    }
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        connection = DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
+        execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Drive a constant arrival rate of mixed requests and report latency percentiles")
+    void driveConstantArrivalRate() throws SQLException, IOException {
+        // Flyway ya creó el esquema al arrancar el contexto
+        seed();
+        rebuildReadModelsServicePort.rebuildReadModels().block();
+        IdRange franchises = idRange("franchise");
+        IdRange branches = idRange("branch");
+        IdRange products = idRange("product");
+
+        // El cliente usa sus propios event loops para no competir con los del servidor embebido
+        LoopResources loops = LoopResources.create("load-test-client");
+        ConnectionProvider provider = ConnectionProvider.builder("load-test")
+                .maxConnections(MAX_CONNECTIONS)
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(REQUEST_TIMEOUT)
+                .build();
+        WebClient client = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(provider)
+                        .runOn(loops)
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)))
+                .build();
+
+        Map<Operation, Integer> mix = parseMix(MIX);
+        Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+        Arrays.stream(Operation.values()).forEach(operation -> stats.put(operation, new Stats()));
+
+        long intervalNanos = 1_000_000_000L / RATE;
+        long warmupRequests = (long) RATE * WARMUP_SECONDS;
+        long totalRequests = warmupRequests + (long) RATE * DURATION_SECONDS;
+        SplittableRandom random = new SplittableRandom(42);
+        long[] next = {0};
+        long start = System.nanoTime();
+
+        Flux.interval(TICK)
+                .onBackpressureDrop()
+                .concatMapIterable(tick -> {
+                    // Emite todas las peticiones que ya deberían haber salido según el ritmo configurado
+                    long due = Math.min(totalRequests, (System.nanoTime() - start) / intervalNanos + 1);
+                    List<Request> requests = new ArrayList<>();
+                    for (; next[0] < due; next[0]++) {
+                        Operation operation = pick(mix, random);
+                        requests.add(new Request(next[0], operation, start + next[0] * intervalNanos,
+                                operation.target(random, franchises, branches, products)));
+                    }
+                    return requests;
+                })
+                .take(totalRequests)
+                .flatMap(request -> send(client, request)
+                        .doOnNext(status -> {
+                            if (request.sequence() >= warmupRequests) {
+                                stats.get(request.operation()).record(status, System.nanoTime() - request.scheduledAt());
+                            }
+                        }), Integer.MAX_VALUE)
+                .blockLast(Duration.ofSeconds(WARMUP_SECONDS + DURATION_SECONDS).plus(REQUEST_TIMEOUT.multipliedBy(2)));
+        provider.disposeLater().then(loops.disposeLater()).block();
+
+        // La tarea loadTest muestra el resumen al terminar
+        String report = report(stats);
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, report);
+
+        assertTrue(stats.values().stream().anyMatch(Stats::hasSuccess), "No request succeeded:\n" + report);
+    }
+
+    private Mono<Integer> send(WebClient client, Request request) {
+        return request.operation().call(client, request)
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()))
+                .timeout(REQUEST_TIMEOUT)
+                .onErrorReturn(CLIENT_ERROR);
+    }
+
+    private String report(Map<Operation, Stats> stats) {
+        StringBuilder report = new StringBuilder()
+                .append(String.format(Locale.ROOT, "Load test: %d req/s for %ds (warm-up %ds), mix %s%n",
+                        RATE, DURATION_SECONDS, WARMUP_SECONDS, MIX))
+                .append(String.format(Locale.ROOT, "Data: %d franchises x %d branches x %d products%n",
+                        FRANCHISES, BRANCHES_PER_FRANCHISE, PRODUCTS_PER_BRANCH))
+                .append(String.format(Locale.ROOT, "pool.max-size=%s databaseBH.max-concurrent-calls=%s%n%n",
+                        environment.getProperty("spring.r2dbc.pool.max-size"),
+                        environment.getProperty("resilience4j.bulkhead.instances.databaseBH.max-concurrent-calls")))
+                .append(String.format(Locale.ROOT, "%-10s %8s %9s %9s %9s %9s %9s %7s %6s %6s %6s %6s%n",
+                        "operation", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms",
+                        "2xx", "429", "503", "504", "other"));
+        Stats total = new Stats();
+        stats.forEach((operation, operationStats) -> {
+            report.append(operationStats.line(operation.label()));
+            total.addAll(operationStats);
+        });
+        return report.append(total.line("total")).toString();
+    }
+
+    private static Operation pick(Map<Operation, Integer> mix, SplittableRandom random) {
+        int weights = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int value = random.nextInt(weights);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty load test mix");
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] entry = part.trim().split(":");
+            mix.put(Operation.fromLabel(entry[0].trim()), Integer.parseInt(entry[1].trim()));
+        }
+        return mix;
+    }
+
+    private static void seed() throws SQLException {
+        execute("SET search_path TO " + SCHEMA);
+        execute("INSERT INTO franchise (name) SELECT 'franchise-' || f FROM generate_series(1, " + FRANCHISES + ") f");
+        execute("INSERT INTO branch (name, franchise_id) SELECT 'branch-' || b, f.id FROM franchise f, generate_series(1, "
+                + BRANCHES_PER_FRANCHISE + ") b");
+        execute("INSERT INTO product (name, stock, branch_id) SELECT 'product-' || p, (random() * 10000)::int, b.id "
+                + "FROM branch b, generate_series(1, " + PRODUCTS_PER_BRANCH + ") p");
+        execute("ANALYZE");
+    }
+
+    private static IdRange idRange(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT MIN(id), MAX(id) FROM " + table)) {
+            resultSet.next();
+            return new IdRange(resultSet.getLong(1), resultSet.getLong(2));
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    private static int intEnv(String name, int defaultValue) {
+        return Integer.parseInt(env(name, String.valueOf(defaultValue)));
+    }
+
+    private enum Operation {
+        CREATE("create") {
+            @Override
+            long target(SplittableRandom random, IdRange franchises, IdRange branches, IdRange products) {
+                return branches.pick(random);
+            }
+
+            @Override
+            WebClient.RequestHeadersSpec<?> call(WebClient client, Request request) {
+                return client.post().uri("/api/v1/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(Map.of("name", "load-product-" + request.sequence(),
+                                "stock", request.sequence() % 1000,
+                                "branchId", request.target()));
+            }
+        },
+        PATCH("patch") {
+            @Override
+            long target(SplittableRandom random, IdRange franchises, IdRange branches, IdRange products) {
+                return products.pick(random);
+            }
+
+            @Override
+            WebClient.RequestHeadersSpec<?> call(WebClient client, Request request) {
+                return client.patch().uri("/api/v1/products/{id}/stock", request.target())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(Map.of("stock", request.sequence() % 10000));
+            }
+        },
+        TOP_STOCK("top-stock") {
+            @Override
+            long target(SplittableRandom random, IdRange franchises, IdRange branches, IdRange products) {
+                return franchises.pick(random);
+            }
+
+            @Override
+            WebClient.RequestHeadersSpec<?> call(WebClient client, Request request) {
+                return client.get().uri("/api/v1/products/{franchiseId}/top-stock", request.target())
+                        .accept(MediaType.APPLICATION_JSON);
+            }
+        };
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+
+        String label() {
+            return label;
+        }
+
+        abstract long target(SplittableRandom random, IdRange franchises, IdRange branches, IdRange products);
+
+        abstract WebClient.RequestHeadersSpec<?> call(WebClient client, Request request);
+
+        static Operation fromLabel(String label) {
+            return Arrays.stream(values())
+                    .filter(operation -> operation.label.equals(label))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown load test operation: " + label));
+        }
+    }
+
+    private record Request(long sequence, Operation operation, long scheduledAt, long target) {
+    }
+
+    private record IdRange(long min, long max) {
+
+        long pick(SplittableRandom random) {
+            return random.nextLong(min, max + 1);
+        }
+    }
+
+    private static final class Stats {
+
+        private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        void record(int status, long latencyNanos) {
+            latencies.add(latencyNanos);
+            statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+
+        void addAll(Stats other) {
+            latencies.addAll(other.latencies);
+            other.statuses.forEach((status, count) ->
+                    statuses.computeIfAbsent(status, key -> new LongAdder()).add(count.sum()));
+        }
+
+        boolean hasSuccess() {
+            return count(status -> status >= 200 && status < 300) > 0;
+        }
+
+        String line(String label) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            long known = count(status -> (status >= 200 && status < 300) || status == 429 || status == 503 || status == 504);
+            return String.format(Locale.ROOT, "%-10s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %7d %6d %6d %6d %6d%n",
+                    label, sorted.length, (double) sorted.length / DURATION_SECONDS,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    percentile(sorted, 1.0),
+                    count(status -> status >= 200 && status < 300),
+                    count(status -> status == 429), count(status -> status == 503), count(status -> status == 504),
+                    sorted.length - known);
+        }
+
+        private long count(IntPredicate matches) {
+            return statuses.entrySet().stream()
+                    .filter(entry -> matches.test(entry.getKey()))
+                    .mapToLong(entry -> entry.getValue().sum())
+                    .sum();
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}